@@ -0,0 +1,123 @@
+package org.coldis.library.dto.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.coldis.library.dto.DtoBulkMapper;
+import org.coldis.library.dto.benchmark.model.MappingModel;
+import org.coldis.library.dto.benchmark.model.dto.MappingModelDto;
+import org.coldis.library.dto.benchmark.model.dto.MappingModelDtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DTO bulk mapping benchmark. Compares converting models one at a time into a
+ * growing list to the generated mapper bulk conversions (see
+ * {@link DtoBulkMapper}), both serial (pre-sized only) and parallel (enabled
+ * with {@link #PARALLEL_THRESHOLD}). Run with
+ * <code>java -jar target/benchmarks.jar DtoBulkMappingBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class DtoBulkMappingBenchmark {
+
+	/**
+	 * Parallel threshold of the bulk conversions.
+	 */
+	public static final int PARALLEL_THRESHOLD = 8192;
+
+	/**
+	 * Number of models.
+	 */
+	@Param({ "50000", "500000" })
+	public int count;
+
+	/**
+	 * Models list.
+	 */
+	private List<MappingModel> models;
+
+	/**
+	 * Models array.
+	 */
+	private MappingModel[] modelArray;
+
+	/**
+	 * Creates the models (and enables parallel bulk conversions).
+	 */
+	@Setup
+	public void setUp() {
+		DtoBulkMapper.setParallelThreshold(DtoBulkMappingBenchmark.PARALLEL_THRESHOLD);
+		this.models = IntStream.range(0, this.count).mapToObj(index -> {
+			final MappingModel model = new MappingModel();
+			model.setId((long) index);
+			model.setName("name" + index);
+			model.setTags(List.of("tag" + (index % 16)));
+			model.setScore(index / 3D);
+			return model;
+		}).toList();
+		this.modelArray = this.models.toArray(MappingModel[]::new);
+	}
+
+	/**
+	 * Converts the models one at a time (into a list that grows as needed).
+	 *
+	 * @return The DTOs.
+	 */
+	@Benchmark
+	public List<MappingModelDto> perElement() {
+		final List<MappingModelDto> dtos = new ArrayList<>();
+		for (final MappingModel model : this.models) {
+			dtos.add(MappingModelDtoMapper.toDto(model));
+		}
+		return dtos;
+	}
+
+	/**
+	 * Converts the models into a pre-sized list (serially).
+	 *
+	 * @return The DTOs.
+	 */
+	@Benchmark
+	public List<MappingModelDto> bulkSerial() {
+		return DtoBulkMapper.convertList(this.models, MappingModelDtoMapper::toDto, DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Converts the models list in bulk (in parallel above the enabled
+	 * threshold).
+	 *
+	 * @return The DTOs.
+	 */
+	@Benchmark
+	public List<MappingModelDto> bulkList() {
+		return MappingModelDtoMapper.toDtos(this.models);
+	}
+
+	/**
+	 * Converts the models array in bulk (in parallel above the enabled
+	 * threshold).
+	 *
+	 * @return The DTOs.
+	 */
+	@Benchmark
+	public MappingModelDto[] bulkArray() {
+		return MappingModelDtoMapper.toDtos(this.modelArray);
+	}
+
+}
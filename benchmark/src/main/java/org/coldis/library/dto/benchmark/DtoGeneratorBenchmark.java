@@ -0,0 +1,163 @@
+package org.coldis.library.dto.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.dto.DtoOutput;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DtoGenerator} benchmark. Runs the generator over synthetic models
+ * (see {@link SyntheticModels}) through an in memory compiler, with DTOs
+ * created through the {@link DtoOutput#FILER} (so nothing is written to disk).
+ *
+ * <p>The time per model is reported by the <code>models</code> secondary result
+ * and the allocation per model is the <code>gc.alloc.rate.norm</code> result
+ * (with <code>-prof gc</code>) divided by the model count.
+ * {@link #processWithoutGenerator(Models)} is the baseline for javac parsing
+ * and entering the sources. Run with
+ * <code>java -jar target/benchmarks.jar DtoGeneratorBenchmark -prof gc</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class DtoGeneratorBenchmark {
+
+	/**
+	 * Processed models counter.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Models {
+
+		/**
+		 * Processed models.
+		 */
+		public long models;
+
+		/**
+		 * Resets the counter.
+		 */
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.models = 0;
+		}
+
+	}
+
+	/**
+	 * Number of models.
+	 */
+	@Param({ "10", "100" })
+	public int count;
+
+	/**
+	 * Getters declared by each class in a model hierarchy.
+	 */
+	@Param({ "20" })
+	public int width;
+
+	/**
+	 * Classes in each model hierarchy.
+	 */
+	@Param({ "1", "3" })
+	public int depth;
+
+	/**
+	 * Generic nesting of the attribute referencing the next model.
+	 */
+	@Param({ "2" })
+	public int genericNesting;
+
+	/**
+	 * DTO contexts declared by each model.
+	 */
+	@Param({ "1", "3" })
+	public int contexts;
+
+	/**
+	 * DTO generator options (comma separated <code>key=value</code> pairs).
+	 */
+	@Param({ "" })
+	public String generatorOptions;
+
+	/**
+	 * Models sources.
+	 */
+	private List<InMemoryCompiler.Source> sources;
+
+	/**
+	 * Compiler options.
+	 */
+	private List<String> options;
+
+	/**
+	 * In memory compiler.
+	 */
+	private InMemoryCompiler compiler;
+
+	/**
+	 * Generates the models sources.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.sources = new SyntheticModels(this.count, this.width, this.depth, this.genericNesting, this.contexts).generate();
+		this.compiler = new InMemoryCompiler();
+		// Writes DTOs through the filer (in memory).
+		final List<String> generatorOptions = new ArrayList<>(
+				List.of("-A" + DtoGenerator.OUTPUT_OPTION + "=" + DtoOutput.FILER.name().toLowerCase()));
+		for (final String generatorOption : this.generatorOptions.split(",")) {
+			if (!generatorOption.isBlank()) {
+				generatorOptions.add("-A" + generatorOption.trim());
+			}
+		}
+		this.options = generatorOptions;
+	}
+
+	/**
+	 * Generates the DTOs for the models.
+	 *
+	 * @param  models Processed models counter.
+	 * @return        The generated files.
+	 */
+	@Benchmark
+	public Map<String, String> generate(
+			final Models models) {
+		final Map<String, String> generated = this.compiler.process(this.sources, List.of(DtoGenerator.class.getName()), this.options);
+		models.models += this.count;
+		return generated;
+	}
+
+	/**
+	 * Processes the models without the DTO generator (baseline).
+	 *
+	 * @param  models Processed models counter.
+	 * @return        The generated files (none).
+	 */
+	@Benchmark
+	public Map<String, String> processWithoutGenerator(
+			final Models models) {
+		final Map<String, String> generated = this.compiler.process(this.sources, List.of(), List.of());
+		models.models += this.count;
+		return generated;
+	}
+
+}
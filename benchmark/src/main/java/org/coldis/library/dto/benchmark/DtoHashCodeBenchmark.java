@@ -0,0 +1,160 @@
+package org.coldis.library.dto.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.coldis.library.dto.DtoType;
+import org.coldis.library.dto.benchmark.model.dto.CachedHashCodeModelDto;
+import org.coldis.library.dto.benchmark.model.dto.HashCodeModelDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * DTO hash code benchmark. Compares DTOs with computed hash codes to DTOs with
+ * cached hash codes (see {@link DtoType#cacheHashCode()}), both directly and as
+ * hash set elements, for DTOs that are not changed after they are filled. Run
+ * with <code>java -jar target/benchmarks.jar DtoHashCodeBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class DtoHashCodeBenchmark {
+
+	/**
+	 * Number of DTOs.
+	 */
+	@Param({ "1000" })
+	public int count;
+
+	/**
+	 * Tags and values in each DTO.
+	 */
+	@Param({ "4", "64" })
+	public int size;
+
+	/**
+	 * DTOs with computed hash code.
+	 */
+	private List<HashCodeModelDto> dtos;
+
+	/**
+	 * DTOs with cached hash code.
+	 */
+	private List<CachedHashCodeModelDto> cachedDtos;
+
+	/**
+	 * Set of DTOs with computed hash code.
+	 */
+	private Set<HashCodeModelDto> dtoSet;
+
+	/**
+	 * Set of DTOs with cached hash code.
+	 */
+	private Set<CachedHashCodeModelDto> cachedDtoSet;
+
+	/**
+	 * Gets the tags of a DTO.
+	 *
+	 * @param  index DTO index.
+	 * @return       The tags of the DTO.
+	 */
+	private List<String> getTags(
+			final int index) {
+		return IntStream.range(0, this.size).mapToObj(tag -> "tag" + index + "-" + tag).toList();
+	}
+
+	/**
+	 * Gets the values of a DTO.
+	 *
+	 * @param  index DTO index.
+	 * @return       The values of the DTO.
+	 */
+	private long[] getValues(
+			final int index) {
+		return LongStream.range(0, this.size).map(value -> value * index).toArray();
+	}
+
+	/**
+	 * Creates the DTOs.
+	 */
+	@Setup
+	public void setUp() {
+		this.dtos = IntStream.range(0, this.count).mapToObj(
+				index -> new HashCodeModelDto().withId((long) index).withName("name" + index).withTags(this.getTags(index)).withValues(this.getValues(index)))
+				.toList();
+		this.cachedDtos = IntStream.range(0, this.count).mapToObj(index -> new CachedHashCodeModelDto().withId((long) index).withName("name" + index)
+				.withTags(this.getTags(index)).withValues(this.getValues(index))).toList();
+		this.dtoSet = new HashSet<>(this.dtos);
+		this.cachedDtoSet = new HashSet<>(this.cachedDtos);
+	}
+
+	/**
+	 * Computes the DTOs hash codes.
+	 *
+	 * @param blackhole Blackhole.
+	 */
+	@Benchmark
+	public void computedHashCode(
+			final Blackhole blackhole) {
+		for (final HashCodeModelDto dto : this.dtos) {
+			blackhole.consume(dto.hashCode());
+		}
+	}
+
+	/**
+	 * Gets the DTOs cached hash codes.
+	 *
+	 * @param blackhole Blackhole.
+	 */
+	@Benchmark
+	public void cachedHashCode(
+			final Blackhole blackhole) {
+		for (final CachedHashCodeModelDto dto : this.cachedDtos) {
+			blackhole.consume(dto.hashCode());
+		}
+	}
+
+	/**
+	 * Looks the DTOs up in a hash set.
+	 *
+	 * @param blackhole Blackhole.
+	 */
+	@Benchmark
+	public void computedSetContains(
+			final Blackhole blackhole) {
+		for (final HashCodeModelDto dto : this.dtos) {
+			blackhole.consume(this.dtoSet.contains(dto));
+		}
+	}
+
+	/**
+	 * Looks the DTOs with cached hash code up in a hash set.
+	 *
+	 * @param blackhole Blackhole.
+	 */
+	@Benchmark
+	public void cachedSetContains(
+			final Blackhole blackhole) {
+		for (final CachedHashCodeModelDto dto : this.cachedDtos) {
+			blackhole.consume(this.cachedDtoSet.contains(dto));
+		}
+	}
+
+}
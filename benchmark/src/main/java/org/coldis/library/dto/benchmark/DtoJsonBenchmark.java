@@ -0,0 +1,172 @@
+package org.coldis.library.dto.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.coldis.library.dto.benchmark.model.dto.BenchmarkJsonDtoModule;
+import org.coldis.library.dto.benchmark.model.dto.JsonModelDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * DTO JSON benchmark. Compares the Jackson bean serializers to the generated
+ * DTO JSON serializers (see {@link BenchmarkJsonDtoModule}), writing and reading a list
+ * of DTOs, and creating a mapper and handling its first DTO (the warmup of
+ * every new mapper). Run with
+ * <code>java -jar target/benchmarks.jar DtoJsonBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class DtoJsonBenchmark {
+
+	/**
+	 * Number of DTOs.
+	 */
+	@Param({ "1", "100" })
+	public int count;
+
+	/**
+	 * DTOs.
+	 */
+	private List<JsonModelDto> dtos;
+
+	/**
+	 * DTOs JSON.
+	 */
+	private byte[] json;
+
+	/**
+	 * Bean serializers mapper.
+	 */
+	private ObjectMapper beanMapper;
+
+	/**
+	 * Generated serializers mapper.
+	 */
+	private ObjectMapper generatedMapper;
+
+	/**
+	 * Bean serializers list reader.
+	 */
+	private ObjectReader beanReader;
+
+	/**
+	 * Generated serializers list reader.
+	 */
+	private ObjectReader generatedReader;
+
+	/**
+	 * Creates the DTOs and mappers.
+	 *
+	 * @throws IOException If the DTOs cannot be written.
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		this.dtos = IntStream.range(0, this.count).mapToObj(index -> {
+			final JsonModelDto dto = new JsonModelDto();
+			dto.setId((long) index);
+			dto.setName("name" + index);
+			dto.setTags(List.of("tag" + (index % 16)));
+			dto.setScore(index / 3D);
+			dto.setActive((index % 2) == 0);
+			return dto;
+		}).toList();
+		this.beanMapper = new ObjectMapper();
+		this.generatedMapper = new ObjectMapper().registerModule(new BenchmarkJsonDtoModule());
+		this.beanReader = this.beanMapper.readerForListOf(JsonModelDto.class);
+		this.generatedReader = this.generatedMapper.readerForListOf(JsonModelDto.class);
+		this.json = this.beanMapper.writeValueAsBytes(this.dtos);
+	}
+
+	/**
+	 * Writes the DTOs with the bean serializers.
+	 *
+	 * @return             The DTOs JSON.
+	 * @throws IOException If the DTOs cannot be written.
+	 */
+	@Benchmark
+	public byte[] beanWrite() throws IOException {
+		return this.beanMapper.writeValueAsBytes(this.dtos);
+	}
+
+	/**
+	 * Writes the DTOs with the generated serializers.
+	 *
+	 * @return             The DTOs JSON.
+	 * @throws IOException If the DTOs cannot be written.
+	 */
+	@Benchmark
+	public byte[] generatedWrite() throws IOException {
+		return this.generatedMapper.writeValueAsBytes(this.dtos);
+	}
+
+	/**
+	 * Reads the DTOs with the bean deserializers.
+	 *
+	 * @return             The DTOs.
+	 * @throws IOException If the DTOs cannot be read.
+	 */
+	@Benchmark
+	public List<JsonModelDto> beanRead() throws IOException {
+		return this.beanReader.readValue(this.json);
+	}
+
+	/**
+	 * Reads the DTOs with the generated deserializers.
+	 *
+	 * @return             The DTOs.
+	 * @throws IOException If the DTOs cannot be read.
+	 */
+	@Benchmark
+	public List<JsonModelDto> generatedRead() throws IOException {
+		return this.generatedReader.readValue(this.json);
+	}
+
+	/**
+	 * Creates a mapper with the bean serializers and writes and reads a DTO.
+	 *
+	 * @return             The DTO.
+	 * @throws IOException If the DTO cannot be written or read.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Measurement(iterations = 50)
+	public JsonModelDto beanFirstRequest() throws IOException {
+		final ObjectMapper mapper = new ObjectMapper();
+		return mapper.readValue(mapper.writeValueAsBytes(this.dtos.get(0)), JsonModelDto.class);
+	}
+
+	/**
+	 * Creates a mapper with the generated serializers and writes and reads a
+	 * DTO.
+	 *
+	 * @return             The DTO.
+	 * @throws IOException If the DTO cannot be written or read.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Measurement(iterations = 50)
+	public JsonModelDto generatedFirstRequest() throws IOException {
+		final ObjectMapper mapper = new ObjectMapper().registerModule(new BenchmarkJsonDtoModule());
+		return mapper.readValue(mapper.writeValueAsBytes(this.dtos.get(0)), JsonModelDto.class);
+	}
+
+}
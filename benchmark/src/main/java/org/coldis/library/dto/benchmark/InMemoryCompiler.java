@@ -0,0 +1,174 @@
+package org.coldis.library.dto.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Runs annotation processors over in memory sources through
+ * {@link JavaCompiler}. Generated sources, resources and classes are kept in
+ * memory, so nothing is written to disk.
+ */
+public class InMemoryCompiler {
+
+	/**
+	 * In memory source file.
+	 */
+	public static class Source extends SimpleJavaFileObject {
+
+		/**
+		 * Source content.
+		 */
+		private final String content;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param qualifiedName Class qualified name.
+		 * @param content       Source content.
+		 */
+		public Source(final String qualifiedName, final String content) {
+			super(URI.create("memory:///" + qualifiedName.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.content = content;
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#getCharContent(boolean)
+		 */
+		@Override
+		public CharSequence getCharContent(
+				final boolean ignoreEncodingErrors) {
+			return this.content;
+		}
+
+	}
+
+	/**
+	 * In memory generated file.
+	 */
+	private static class Output extends SimpleJavaFileObject {
+
+		/**
+		 * Generated content.
+		 */
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param name File name.
+		 * @param kind File kind.
+		 */
+		Output(final String name, final Kind kind) {
+			super(URI.create("memory:///output/" + name), kind);
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#openOutputStream()
+		 */
+		@Override
+		public OutputStream openOutputStream() {
+			return this.content;
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#openInputStream()
+		 */
+		@Override
+		public InputStream openInputStream() {
+			return new ByteArrayInputStream(this.content.toByteArray());
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#getCharContent(boolean)
+		 */
+		@Override
+		public CharSequence getCharContent(
+				final boolean ignoreEncodingErrors) {
+			return this.content.toString(StandardCharsets.UTF_8);
+		}
+
+	}
+
+	/**
+	 * Java compiler.
+	 */
+	private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+	/**
+	 * Standard file manager (reused, as opening the platform classes is expensive).
+	 */
+	private final StandardJavaFileManager standardFileManager = this.compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+
+	/**
+	 * Runs annotation processing only (<code>-proc:only</code>) over the given
+	 * sources.
+	 *
+	 * @param  sources    Sources.
+	 * @param  processors Annotation processors class names (no processing if
+	 *                        empty).
+	 * @param  options    Additional compiler options (such as processor options).
+	 * @return            The generated files content by name.
+	 */
+	public Map<String, String> process(
+			final List<? extends JavaFileObject> sources,
+			final List<String> processors,
+			final List<String> options) {
+		// Generated files by name.
+		final Map<String, Output> outputs = new ConcurrentHashMap<>();
+		final JavaFileManager fileManager = new ForwardingJavaFileManager<>(this.standardFileManager) {
+
+			@Override
+			public JavaFileObject getJavaFileForOutput(
+					final Location location,
+					final String className,
+					final JavaFileObject.Kind kind,
+					final FileObject sibling) {
+				return outputs.computeIfAbsent(className + kind.extension, name -> new Output(className.replace('.', '/') + kind.extension, kind));
+			}
+
+			@Override
+			public FileObject getFileForOutput(
+					final Location location,
+					final String packageName,
+					final String relativeName,
+					final FileObject sibling) {
+				return outputs.computeIfAbsent(packageName + "/" + relativeName, name -> new Output(name, JavaFileObject.Kind.OTHER));
+			}
+
+		};
+		// Builds the compiler options.
+		final List<String> compilerOptions = new ArrayList<>(List.of("-proc:only", "-classpath", System.getProperty("java.class.path")));
+		if (!processors.isEmpty()) {
+			compilerOptions.addAll(List.of("-processor", String.join(",", processors)));
+		}
+		compilerOptions.addAll(options);
+		// Runs the compiler.
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		if (!this.compiler.getTask(null, fileManager, diagnostics, compilerOptions, null, sources).call()) {
+			throw new IllegalStateException("Sources not processed successfully: " + diagnostics.getDiagnostics());
+		}
+		// Returns the generated files.
+		final Map<String, String> generated = new ConcurrentHashMap<>();
+		outputs.forEach((name, output) -> generated.put(name, output.getCharContent(true).toString()));
+		return generated;
+	}
+
+}
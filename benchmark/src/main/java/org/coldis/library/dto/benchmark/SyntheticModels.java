@@ -0,0 +1,188 @@
+package org.coldis.library.dto.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.coldis.library.dto.DtoType;
+import org.coldis.library.dto.DtoTypes;
+
+/**
+ * Synthetic model sources generator. Each model is annotated with one
+ * {@link DtoType} per context and extends a chain of plain superclasses. Every
+ * class in the chain declares a set of simple getters, and the model also
+ * declares a getter for the next model nested in generic collections (so DTO
+ * types in attribute hierarchies are resolved).
+ */
+public class SyntheticModels {
+
+	/**
+	 * Models namespace.
+	 */
+	public static final String NAMESPACE = "org.coldis.library.dto.benchmark.model";
+
+	/**
+	 * Simple attribute types (cycled through by the generated getters).
+	 */
+	private static final String[] ATTRIBUTE_TYPES = { "String", "Integer", "int", "Long", "java.math.BigDecimal", "java.time.LocalDateTime",
+			"java.util.List<String>", "boolean" };
+
+	/**
+	 * Number of models.
+	 */
+	private final int count;
+
+	/**
+	 * Getters declared by each class in a model hierarchy.
+	 */
+	private final int width;
+
+	/**
+	 * Classes in each model hierarchy (the model itself included).
+	 */
+	private final int depth;
+
+	/**
+	 * Generic nesting of the attribute referencing the next model (0 for a plain
+	 * reference, 1 for <code>List&lt;Model&gt;</code>, 2 for
+	 * <code>Map&lt;String, List&lt;Model&gt;&gt;</code> and so on).
+	 */
+	private final int genericNesting;
+
+	/**
+	 * DTO contexts declared by each model.
+	 */
+	private final int contexts;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param count          Number of models.
+	 * @param width          Getters declared by each class in a model hierarchy.
+	 * @param depth          Classes in each model hierarchy (the model itself
+	 *                           included).
+	 * @param genericNesting Generic nesting of the attribute referencing the next
+	 *                           model.
+	 * @param contexts       DTO contexts declared by each model.
+	 */
+	public SyntheticModels(final int count, final int width, final int depth, final int genericNesting, final int contexts) {
+		super();
+		this.count = count;
+		this.width = width;
+		this.depth = Math.max(1, depth);
+		this.genericNesting = genericNesting;
+		this.contexts = Math.max(1, contexts);
+	}
+
+	/**
+	 * Gets the number of models.
+	 *
+	 * @return The number of models.
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Gets the DTO annotation for a model and context.
+	 *
+	 * @param  context Context index.
+	 * @return         The DTO annotation source.
+	 */
+	private String getDtoTypeSource(
+			final int context) {
+		return "@" + DtoType.class.getName() + "(context = \"context" + context + "\", namespace = \"" + SyntheticModels.NAMESPACE + ".dto.context" + context
+				+ "\")";
+	}
+
+	/**
+	 * Gets the default value for an attribute type.
+	 *
+	 * @param  attributeType Attribute type.
+	 * @return               The default value source.
+	 */
+	private static String getDefaultValue(
+			final String attributeType) {
+		return switch (attributeType) {
+			case "int" -> "0";
+			case "boolean" -> "false";
+			default -> "null";
+		};
+	}
+
+	/**
+	 * Gets the type of the attribute referencing another model.
+	 *
+	 * @param  modelName Referenced model name.
+	 * @return           The attribute type.
+	 */
+	private String getNestedModelType(
+			final String modelName) {
+		String nestedModelType = modelName;
+		for (int nesting = 0; nesting < this.genericNesting; nesting++) {
+			nestedModelType = ((nesting % 2) == 0) ? "java.util.List<" + nestedModelType + ">" : "java.util.Map<String, " + nestedModelType + ">";
+		}
+		return nestedModelType;
+	}
+
+	/**
+	 * Generates a class source.
+	 *
+	 * @param  model Model index.
+	 * @param  level Hierarchy level (0 for the model itself).
+	 * @return       The class source.
+	 */
+	private InMemoryCompiler.Source generateClass(
+			final int model,
+			final int level) {
+		final String className = "Model" + model + ((level == 0) ? "" : "Level" + level);
+		final StringBuilder source = new StringBuilder("package ").append(SyntheticModels.NAMESPACE).append(";\n\n");
+		// The model itself is annotated with every context.
+		if (level == 0) {
+			if (this.contexts == 1) {
+				source.append(this.getDtoTypeSource(0)).append('\n');
+			}
+			else {
+				source.append('@').append(DtoTypes.class.getName()).append("(types = {");
+				for (int context = 0; context < this.contexts; context++) {
+					source.append((context == 0) ? "" : ", ").append(this.getDtoTypeSource(context));
+				}
+				source.append("})\n");
+			}
+		}
+		source.append("public class ").append(className);
+		if (level < (this.depth - 1)) {
+			source.append(" extends Model").append(model).append("Level").append(level + 1);
+		}
+		source.append(" {\n");
+		// Declares the simple getters.
+		for (int getter = 0; getter < this.width; getter++) {
+			final String attributeType = SyntheticModels.ATTRIBUTE_TYPES[getter % SyntheticModels.ATTRIBUTE_TYPES.length];
+			final String attributeName = "Attribute" + level + "x" + getter;
+			source.append("\tpublic ").append(attributeType).append(" ").append("boolean".equals(attributeType) ? "is" : "get").append(attributeName)
+					.append("() { return ").append(SyntheticModels.getDefaultValue(attributeType)).append("; }\n");
+		}
+		// The model references the next model.
+		if (level == 0) {
+			source.append("\tpublic ").append(this.getNestedModelType("Model" + ((model + 1) % this.count))).append(" getNext() { return null; }\n");
+		}
+		source.append("}\n");
+		return new InMemoryCompiler.Source(SyntheticModels.NAMESPACE + "." + className, source.toString());
+	}
+
+	/**
+	 * Generates the models sources.
+	 *
+	 * @return The models sources.
+	 */
+	public List<InMemoryCompiler.Source> generate() {
+		final List<InMemoryCompiler.Source> sources = new ArrayList<>(this.count * this.depth);
+		// For each model and hierarchy level.
+		for (int model = 0; model < this.count; model++) {
+			for (int level = 0; level < this.depth; level++) {
+				sources.add(this.generateClass(model, level));
+			}
+		}
+		return sources;
+	}
+
+}
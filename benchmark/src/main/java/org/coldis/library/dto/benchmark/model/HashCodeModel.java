@@ -0,0 +1,52 @@
+package org.coldis.library.dto.benchmark.model;
+
+import java.util.List;
+
+import org.coldis.library.dto.DtoType;
+import org.coldis.library.dto.DtoTypes;
+
+/**
+ * Model for the hash code benchmark, with a plain DTO and a DTO with cached
+ * hash code (generated when the benchmarks are compiled).
+ */
+@DtoTypes(types = { @DtoType(namespace = "org.coldis.library.dto.benchmark.model.dto"),
+		@DtoType(namespace = "org.coldis.library.dto.benchmark.model.dto", context = "cached", name = "CachedHashCodeModelDto", cacheHashCode = true) })
+public class HashCodeModel {
+
+	/**
+	 * Gets the identifier.
+	 *
+	 * @return The identifier.
+	 */
+	public Long getId() {
+		return null;
+	}
+
+	/**
+	 * Gets the name.
+	 *
+	 * @return The name.
+	 */
+	public String getName() {
+		return null;
+	}
+
+	/**
+	 * Gets the tags.
+	 *
+	 * @return The tags.
+	 */
+	public List<String> getTags() {
+		return null;
+	}
+
+	/**
+	 * Gets the values.
+	 *
+	 * @return The values.
+	 */
+	public long[] getValues() {
+		return null;
+	}
+
+}
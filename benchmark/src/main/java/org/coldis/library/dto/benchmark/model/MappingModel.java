@@ -0,0 +1,110 @@
+package org.coldis.library.dto.benchmark.model;
+
+import java.util.List;
+
+import org.coldis.library.dto.DtoType;
+
+/**
+ * Model for the bulk mapping benchmark, with a generated DTO and mapper
+ * (generated when the benchmarks are compiled).
+ */
+@DtoType(namespace = "org.coldis.library.dto.benchmark.model.dto", mapper = true)
+public class MappingModel {
+
+	/**
+	 * Identifier.
+	 */
+	private Long id;
+
+	/**
+	 * Name.
+	 */
+	private String name;
+
+	/**
+	 * Tags.
+	 */
+	private List<String> tags;
+
+	/**
+	 * Score.
+	 */
+	private double score;
+
+	/**
+	 * Gets the identifier.
+	 *
+	 * @return The identifier.
+	 */
+	public Long getId() {
+		return this.id;
+	}
+
+	/**
+	 * Sets the identifier.
+	 *
+	 * @param id New identifier.
+	 */
+	public void setId(
+			final Long id) {
+		this.id = id;
+	}
+
+	/**
+	 * Gets the name.
+	 *
+	 * @return The name.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Sets the name.
+	 *
+	 * @param name New name.
+	 */
+	public void setName(
+			final String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Gets the tags.
+	 *
+	 * @return The tags.
+	 */
+	public List<String> getTags() {
+		return this.tags;
+	}
+
+	/**
+	 * Sets the tags.
+	 *
+	 * @param tags New tags.
+	 */
+	public void setTags(
+			final List<String> tags) {
+		this.tags = tags;
+	}
+
+	/**
+	 * Gets the score.
+	 *
+	 * @return The score.
+	 */
+	public double getScore() {
+		return this.score;
+	}
+
+	/**
+	 * Sets the score.
+	 *
+	 * @param score New score.
+	 */
+	public void setScore(
+			final double score) {
+		this.score = score;
+	}
+
+}
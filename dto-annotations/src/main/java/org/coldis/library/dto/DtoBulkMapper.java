@@ -0,0 +1,364 @@
+package org.coldis.library.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Bulk conversion of lists, arrays and map values (used by the generated
+ * mappers, see {@link DtoType#mapper()}, but usable with any element
+ * conversion). Outputs are pre-sized and the elements are converted serially
+ * by default. Parallel conversion is opt-in: with a parallel threshold (see
+ * {@link #PARALLEL_THRESHOLD_PROPERTY} and {@link #setParallelThreshold(int)}),
+ * bigger inputs are converted in the common fork join pool. Results keep the
+ * source order and are the same as the serial conversion (as long as the
+ * element conversion has no side effects).
+ */
+public final class DtoBulkMapper {
+
+	/**
+	 * System property with the default parallel threshold.
+	 */
+	public static final String PARALLEL_THRESHOLD_PROPERTY = "org.coldis.library.dto.bulk.parallelThreshold";
+
+	/**
+	 * Parallel threshold that disables parallel conversion.
+	 */
+	public static final int DISABLED_PARALLEL_THRESHOLD = Integer.MAX_VALUE;
+
+	/**
+	 * Default parallel threshold, when the system property is not set (parallel
+	 * conversion is disabled, as it competes with the application for the common
+	 * pool).
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD;
+
+	/**
+	 * Minimum number of elements converted by each parallel task.
+	 */
+	private static final int MINIMUM_BATCH_SIZE = 1024;
+
+	/**
+	 * Number of tasks per pool thread (so busier threads can be compensated).
+	 */
+	private static final int TASKS_PER_THREAD = 4;
+
+	/**
+	 * Default parallel threshold.
+	 */
+	private static volatile int parallelThreshold = Integer.getInteger(DtoBulkMapper.PARALLEL_THRESHOLD_PROPERTY,
+			DtoBulkMapper.DEFAULT_PARALLEL_THRESHOLD);
+
+	/**
+	 * No instances.
+	 */
+	private DtoBulkMapper() {
+		super();
+	}
+
+	/**
+	 * Gets the default parallel threshold.
+	 *
+	 * @return The default parallel threshold.
+	 */
+	public static int getParallelThreshold() {
+		return DtoBulkMapper.parallelThreshold;
+	}
+
+	/**
+	 * Sets the default parallel threshold (collections with at least this
+	 * number of elements are converted in parallel, 8192 being a reasonable
+	 * value for simple DTOs). {@link #DISABLED_PARALLEL_THRESHOLD} disables
+	 * parallel conversion.
+	 *
+	 * @param parallelThreshold New default parallel threshold.
+	 */
+	public static void setParallelThreshold(
+			final int parallelThreshold) {
+		DtoBulkMapper.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Converts a range of elements in parallel (each element by its index).
+	 */
+	private static final class ConversionTask extends RecursiveAction {
+
+		/**
+		 * Serial version.
+		 */
+		private static final long serialVersionUID = 4839245718102853296L;
+
+		/**
+		 * Element conversion (by index).
+		 */
+		private final IntConsumer elementConversion;
+
+		/**
+		 * First element (inclusive).
+		 */
+		private final int from;
+
+		/**
+		 * Last element (exclusive).
+		 */
+		private final int to;
+
+		/**
+		 * Elements converted by each task.
+		 */
+		private final int batchSize;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param elementConversion Element conversion (by index).
+		 * @param from              First element (inclusive).
+		 * @param to                Last element (exclusive).
+		 * @param batchSize         Elements converted by each task.
+		 */
+		private ConversionTask(
+				final IntConsumer elementConversion,
+				final int from,
+				final int to,
+				final int batchSize) {
+			super();
+			this.elementConversion = elementConversion;
+			this.from = from;
+			this.to = to;
+			this.batchSize = batchSize;
+		}
+
+		/**
+		 * @see RecursiveAction#compute()
+		 */
+		@Override
+		protected void compute() {
+			// If the range is small enough, converts it.
+			if ((this.to - this.from) <= this.batchSize) {
+				for (int index = this.from; index < this.to; index++) {
+					this.elementConversion.accept(index);
+				}
+			}
+			// Otherwise, splits the range in two.
+			else {
+				final int middle = (this.from + this.to) >>> 1;
+				ForkJoinTask.invokeAll(new ConversionTask(this.elementConversion, this.from, middle, this.batchSize),
+						new ConversionTask(this.elementConversion, middle, this.to, this.batchSize));
+			}
+		}
+
+	}
+
+	/**
+	 * Checks if a number of elements should be converted in parallel.
+	 *
+	 * @param  size      Number of elements.
+	 * @param  threshold Parallel threshold.
+	 * @return           If the elements should be converted in parallel.
+	 */
+	private static boolean isParallel(
+			final int size,
+			final int threshold) {
+		return (threshold != DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD) && (size >= threshold) && (ForkJoinPool.getCommonPoolParallelism() > 1);
+	}
+
+	/**
+	 * Converts elements in batches by the common pool.
+	 *
+	 * @param size              Number of elements.
+	 * @param elementConversion Element conversion (by index).
+	 */
+	private static void convertInParallel(
+			final int size,
+			final IntConsumer elementConversion) {
+		final int batchSize = Math.max(DtoBulkMapper.MINIMUM_BATCH_SIZE, size / (ForkJoinPool.getCommonPoolParallelism() * DtoBulkMapper.TASKS_PER_THREAD));
+		ForkJoinPool.commonPool().invoke(new ConversionTask(elementConversion, 0, size, batchSize));
+	}
+
+	/**
+	 * Converts a list (using the default parallel threshold).
+	 *
+	 * @param  <Source>   Source type.
+	 * @param  <Target>   Target type.
+	 * @param  sources    Sources.
+	 * @param  conversion Element conversion.
+	 * @return            The converted list (or null for null sources).
+	 */
+	public static <Source, Target> List<Target> convertList(
+			final List<? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion) {
+		return DtoBulkMapper.convertList(sources, conversion, DtoBulkMapper.parallelThreshold);
+	}
+
+	/**
+	 * Converts a list.
+	 *
+	 * @param  <Source>   Source type.
+	 * @param  <Target>   Target type.
+	 * @param  sources    Sources.
+	 * @param  conversion Element conversion.
+	 * @param  threshold  Parallel threshold.
+	 * @return            The converted list (or null for null sources).
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Source, Target> List<Target> convertList(
+			final List<? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion,
+			final int threshold) {
+		// Null lists are converted to null.
+		if (sources == null) {
+			return null;
+		}
+		// Small lists are converted directly into the pre-sized list.
+		final int size = sources.size();
+		if (!DtoBulkMapper.isParallel(size, threshold)) {
+			final List<Target> targets = new ArrayList<>(size);
+			if (sources instanceof RandomAccess) {
+				for (int index = 0; index < size; index++) {
+					targets.add(conversion.apply(sources.get(index)));
+				}
+			}
+			else {
+				for (final Source source : sources) {
+					targets.add(conversion.apply(source));
+				}
+			}
+			return targets;
+		}
+		// Bigger lists are converted in parallel, each element set directly into the
+		// pre-sized list (sources without random access are indexed first).
+		final List<? extends Source> indexedSources = (sources instanceof RandomAccess) ? sources
+				: (List<? extends Source>) Arrays.asList(sources.toArray());
+		final List<Target> targets = new ArrayList<>(size);
+		for (int index = 0; index < size; index++) {
+			targets.add(null);
+		}
+		DtoBulkMapper.convertInParallel(size, index -> targets.set(index, conversion.apply(indexedSources.get(index))));
+		return targets;
+	}
+
+	/**
+	 * Converts an array (using the default parallel threshold).
+	 *
+	 * @param  <Source>       Source type.
+	 * @param  <Target>       Target type.
+	 * @param  sources        Sources.
+	 * @param  conversion     Element conversion.
+	 * @param  arrayGenerator Target array generator.
+	 * @return                The converted array (or null for null sources).
+	 */
+	public static <Source, Target> Target[] convertArray(
+			final Source[] sources,
+			final Function<? super Source, ? extends Target> conversion,
+			final IntFunction<Target[]> arrayGenerator) {
+		return DtoBulkMapper.convertArray(sources, conversion, arrayGenerator, DtoBulkMapper.parallelThreshold);
+	}
+
+	/**
+	 * Converts an array.
+	 *
+	 * @param  <Source>       Source type.
+	 * @param  <Target>       Target type.
+	 * @param  sources        Sources.
+	 * @param  conversion     Element conversion.
+	 * @param  arrayGenerator Target array generator.
+	 * @param  threshold      Parallel threshold.
+	 * @return                The converted array (or null for null sources).
+	 */
+	public static <Source, Target> Target[] convertArray(
+			final Source[] sources,
+			final Function<? super Source, ? extends Target> conversion,
+			final IntFunction<Target[]> arrayGenerator,
+			final int threshold) {
+		// Null arrays are converted to null.
+		if (sources == null) {
+			return null;
+		}
+		// Converts the elements into the new array.
+		final Target[] targets = arrayGenerator.apply(sources.length);
+		if (!DtoBulkMapper.isParallel(sources.length, threshold)) {
+			for (int index = 0; index < sources.length; index++) {
+				targets[index] = conversion.apply(sources[index]);
+			}
+		}
+		else {
+			DtoBulkMapper.convertInParallel(sources.length, index -> targets[index] = conversion.apply(sources[index]));
+		}
+		return targets;
+	}
+
+	/**
+	 * Converts the values of a map (using the default parallel threshold).
+	 *
+	 * @param  <Key>      Key type.
+	 * @param  <Source>   Source type.
+	 * @param  <Target>   Target type.
+	 * @param  sources    Sources.
+	 * @param  conversion Value conversion.
+	 * @return            The map with the converted values, in the source
+	 *                    iteration order (or null for null sources).
+	 */
+	public static <Key, Source, Target> Map<Key, Target> convertValues(
+			final Map<Key, ? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion) {
+		return DtoBulkMapper.convertValues(sources, conversion, DtoBulkMapper.parallelThreshold);
+	}
+
+	/**
+	 * Converts the values of a map.
+	 *
+	 * @param  <Key>      Key type.
+	 * @param  <Source>   Source type.
+	 * @param  <Target>   Target type.
+	 * @param  sources    Sources.
+	 * @param  conversion Value conversion.
+	 * @param  threshold  Parallel threshold.
+	 * @return            The map with the converted values, in the source
+	 *                    iteration order (or null for null sources).
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Key, Source, Target> Map<Key, Target> convertValues(
+			final Map<Key, ? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion,
+			final int threshold) {
+		// Null maps are converted to null.
+		if (sources == null) {
+			return null;
+		}
+		// Small maps are converted directly into the pre-sized map.
+		final int size = sources.size();
+		final Map<Key, Target> targets = LinkedHashMap.newLinkedHashMap(size);
+		if (!DtoBulkMapper.isParallel(size, threshold)) {
+			for (final Entry<Key, ? extends Source> source : sources.entrySet()) {
+				targets.put(source.getKey(), conversion.apply(source.getValue()));
+			}
+			return targets;
+		}
+		// Bigger maps have their values converted in parallel (and are filled in
+		// the entries order).
+		final Object[] keys = new Object[size];
+		final Object[] values = new Object[size];
+		int index = 0;
+		for (final Entry<Key, ? extends Source> source : sources.entrySet()) {
+			keys[index] = source.getKey();
+			values[index++] = source.getValue();
+		}
+		final Object[] convertedValues = new Object[size];
+		DtoBulkMapper.convertInParallel(size, valueIndex -> convertedValues[valueIndex] = conversion.apply((Source) values[valueIndex]));
+		for (index = 0; index < size; index++) {
+			targets.put((Key) keys[index], (Target) convertedValues[index]);
+		}
+		return targets;
+	}
+
+}
@@ -0,0 +1,55 @@
+package org.coldis.library.dto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Direct field writes (used by the generated mappers, see
+ * {@link DtoType#mapper()}, to set read only attributes, that have no setter
+ * in the DTO).
+ */
+public final class DtoFieldWriter {
+
+	/**
+	 * No instances.
+	 */
+	private DtoFieldWriter() {
+		super();
+	}
+
+	/**
+	 * Finds the handle of a (possibly private) field of a type or of one of its
+	 * superclasses.
+	 *
+	 * @param  lookup                Caller lookup (with private access to the
+	 *                                   type, as the one of a class in the same
+	 *                                   module).
+	 * @param  type                  Type.
+	 * @param  name                  Field name.
+	 * @return                       The field handle.
+	 * @throws IllegalStateException If the field cannot be found or accessed.
+	 */
+	public static VarHandle find(
+			final Lookup lookup,
+			final Class<?> type,
+			final String name) {
+		// For the type and each superclass.
+		for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+			// Tries to get the field handle.
+			try {
+				return MethodHandles.privateLookupIn(currentType, lookup).unreflectVarHandle(currentType.getDeclaredField(name));
+			}
+			// If the field is not declared by the current type, tries the superclass.
+			catch (final NoSuchFieldException exception) {
+				continue;
+			}
+			// If the field cannot be accessed.
+			catch (final IllegalAccessException exception) {
+				throw new IllegalStateException("Field " + name + " of " + currentType.getName() + " cannot be accessed.", exception);
+			}
+		}
+		throw new IllegalStateException("Field " + name + " not found in " + type.getName() + ".");
+	}
+
+}
@@ -0,0 +1,219 @@
+package org.coldis.library.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Base for the generated DTO JSON deserializers (see
+ * {@link DtoType#jackson()}). Property names are dispatched by a generated
+ * switch and values are read straight from the parser (with the value
+ * deserializers resolved once, instead of through bean introspection and
+ * reflection).
+ *
+ * @param <Dto> DTO type.
+ */
+public abstract class DtoJsonDeserializer<Dto> extends StdDeserializer<Dto> implements ResolvableDeserializer {
+
+	/**
+	 * Serial version.
+	 */
+	private static final long serialVersionUID = 5126307981736209471L;
+
+	/**
+	 * Property raw types.
+	 */
+	private Class<?>[] rawTypes;
+
+	/**
+	 * Property value deserializers.
+	 */
+	private JsonDeserializer<Object>[] deserializers;
+
+	/**
+	 * Property type deserializers (for polymorphic types).
+	 */
+	private TypeDeserializer[] typeDeserializers;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param type DTO type.
+	 */
+	protected DtoJsonDeserializer(
+			final Class<Dto> type) {
+		super(type);
+	}
+
+	/**
+	 * Gets the property types (in the properties order).
+	 *
+	 * @param  typeFactory Type factory.
+	 * @return             The property types.
+	 */
+	protected abstract JavaType[] getPropertyTypes(
+			TypeFactory typeFactory);
+
+	/**
+	 * Reads the DTO properties (using the read methods for each property).
+	 *
+	 * @param  parser      JSON parser (at the first property name or at the
+	 *                         object end).
+	 * @param  context     Deserialization context.
+	 * @return             The DTO.
+	 * @throws IOException If a property cannot be read.
+	 */
+	protected abstract Dto readProperties(
+			JsonParser parser,
+			DeserializationContext context) throws IOException;
+
+	/**
+	 * @see ResolvableDeserializer#resolve(DeserializationContext)
+	 */
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void resolve(
+			final DeserializationContext context) throws JsonMappingException {
+		// Resolves the property types and deserializers.
+		final JavaType[] types = this.getPropertyTypes(context.getTypeFactory());
+		this.rawTypes = new Class<?>[types.length];
+		this.deserializers = new JsonDeserializer[types.length];
+		this.typeDeserializers = new TypeDeserializer[types.length];
+		for (int index = 0; index < types.length; index++) {
+			this.rawTypes[index] = types[index].getRawClass();
+			this.deserializers[index] = context.findContextualValueDeserializer(types[index], null);
+			this.typeDeserializers[index] = context.getFactory().findTypeDeserializer(context.getConfig(), types[index]);
+		}
+	}
+
+	/**
+	 * @see JsonDeserializer#isCachable()
+	 */
+	@Override
+	public boolean isCachable() {
+		return true;
+	}
+
+	/**
+	 * @see JsonDeserializer#logicalType()
+	 */
+	@Override
+	public LogicalType logicalType() {
+		return LogicalType.POJO;
+	}
+
+	/**
+	 * @see JsonDeserializer#deserialize(JsonParser, DeserializationContext)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Dto deserialize(
+			final JsonParser parser,
+			final DeserializationContext context) throws IOException {
+		// Moves to the first property (or to the object end).
+		final JsonToken token = parser.currentToken();
+		if (token == JsonToken.START_OBJECT) {
+			parser.nextToken();
+		}
+		// Other values than objects are handled by the context.
+		else if ((token != JsonToken.FIELD_NAME) && (token != JsonToken.END_OBJECT)) {
+			return (Dto) context.handleUnexpectedToken(this.handledType(), parser);
+		}
+		return this.readProperties(parser, context);
+	}
+
+	/**
+	 * @see StdDeserializer#deserializeWithType(JsonParser,
+	 *      DeserializationContext, TypeDeserializer)
+	 */
+	@Override
+	public Object deserializeWithType(
+			final JsonParser parser,
+			final DeserializationContext context,
+			final TypeDeserializer typeDeserializer) throws IOException {
+		return typeDeserializer.deserializeTypedFromObject(parser, context);
+	}
+
+	/**
+	 * Reads a property value (at the current token).
+	 *
+	 * @param  parser      JSON parser.
+	 * @param  context     Deserialization context.
+	 * @param  index       Property index.
+	 * @return             The property value.
+	 * @throws IOException If the value cannot be read.
+	 */
+	protected final Object readValue(
+			final JsonParser parser,
+			final DeserializationContext context,
+			final int index) throws IOException {
+		// Reads the most common scalar values directly.
+		final JsonToken token = parser.currentToken();
+		final Class<?> rawType = this.rawTypes[index];
+		switch (token) {
+			case VALUE_STRING:
+				if (rawType == String.class) {
+					return parser.getText();
+				}
+				break;
+			case VALUE_NUMBER_INT:
+				if ((rawType == Integer.class) || (rawType == Integer.TYPE)) {
+					return parser.getIntValue();
+				}
+				if ((rawType == Long.class) || (rawType == Long.TYPE)) {
+					return parser.getLongValue();
+				}
+				break;
+			case VALUE_NUMBER_FLOAT:
+				if ((rawType == Double.class) || (rawType == Double.TYPE)) {
+					return parser.getDoubleValue();
+				}
+				break;
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				if ((rawType == Boolean.class) || (rawType == Boolean.TYPE)) {
+					return token == JsonToken.VALUE_TRUE;
+				}
+				break;
+			default:
+				break;
+		}
+		// Other values are read by their deserializers.
+		final JsonDeserializer<Object> deserializer = this.deserializers[index];
+		if (token == JsonToken.VALUE_NULL) {
+			return deserializer.getNullValue(context);
+		}
+		final TypeDeserializer typeDeserializer = this.typeDeserializers[index];
+		return typeDeserializer == null ? deserializer.deserialize(parser, context)
+				: deserializer.deserializeWithType(parser, context, typeDeserializer);
+	}
+
+	/**
+	 * Handles an unknown property (at its value token, which is skipped unless
+	 * unknown properties fail).
+	 *
+	 * @param  parser      JSON parser.
+	 * @param  context     Deserialization context.
+	 * @param  dto         DTO (or null if not created yet).
+	 * @param  name        Property name.
+	 * @throws IOException If unknown properties fail.
+	 */
+	protected final void readUnknown(
+			final JsonParser parser,
+			final DeserializationContext context,
+			final Object dto,
+			final String name) throws IOException {
+		this.handleUnknownProperty(parser, context, dto, name);
+	}
+
+}
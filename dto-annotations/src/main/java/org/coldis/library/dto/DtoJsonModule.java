@@ -0,0 +1,135 @@
+package org.coldis.library.dto;
+
+import java.lang.annotation.Annotation;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Base for the generated Jackson modules (one per compilation, when enabled
+ * with the <code>dto.jsonModule</code> processor option, see
+ * {@link DtoType#jackson()}), which register the generated DTO serializers and
+ * deserializers. The modules are listed as services, so they are registered
+ * by {@code ObjectMapper.findAndRegisterModules()}.
+ *
+ * The generated serializers only know the DTO properties, so the regular bean
+ * serializers are kept whenever the mapper configuration might change the
+ * DTO JSON (as naming strategies, mix-ins, Jackson annotations on the DTO
+ * types or default typing).
+ */
+public abstract class DtoJsonModule extends Module {
+
+	/**
+	 * Creates the serializer for a DTO type.
+	 *
+	 * @param  type DTO type.
+	 * @return      The DTO serializer (or null if the type has none).
+	 */
+	protected abstract JsonSerializer<?> createSerializer(
+			Class<?> type);
+
+	/**
+	 * Creates the deserializer for a DTO type.
+	 *
+	 * @param  type DTO type.
+	 * @return      The DTO deserializer (or null if the type has none).
+	 */
+	protected abstract JsonDeserializer<?> createDeserializer(
+			Class<?> type);
+
+	/**
+	 * @see Module#getModuleName()
+	 */
+	@Override
+	public String getModuleName() {
+		return this.getClass().getName();
+	}
+
+	/**
+	 * @see Module#version()
+	 */
+	@Override
+	public Version version() {
+		return Version.unknownVersion();
+	}
+
+	/**
+	 * @see Module#setupModule(Module.SetupContext)
+	 */
+	@Override
+	public void setupModule(
+			final SetupContext context) {
+		context.addSerializers(new Serializers.Base() {
+
+			@Override
+			public JsonSerializer<?> findSerializer(
+					final SerializationConfig config,
+					final JavaType type,
+					final BeanDescription beanDescription) {
+				// Only the default and null/empty skipping inclusions are supported.
+				final JsonSerializer<?> serializer = DtoJsonModule.this.createSerializer(type.getRawClass());
+				final JsonInclude.Include inclusion = serializer == null ? null
+						: config.getDefaultPropertyInclusion(type.getRawClass()).getValueInclusion();
+				return (serializer == null) || (inclusion == JsonInclude.Include.NON_DEFAULT) || (inclusion == JsonInclude.Include.CUSTOM)
+						|| !DtoJsonModule.isSupported(config, beanDescription) ? null : serializer;
+			}
+
+		});
+		context.addDeserializers(new Deserializers.Base() {
+
+			@Override
+			public JsonDeserializer<?> findBeanDeserializer(
+					final JavaType type,
+					final DeserializationConfig config,
+					final BeanDescription beanDescription) {
+				// Property names must be matched exactly.
+				final JsonDeserializer<?> deserializer = DtoJsonModule.this.createDeserializer(type.getRawClass());
+				return (deserializer == null) || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+						|| !DtoJsonModule.isSupported(config, beanDescription) ? null : deserializer;
+			}
+
+		});
+	}
+
+	/**
+	 * Gets if the generated serializers can be used with the mapper
+	 * configuration for a type.
+	 *
+	 * @param  config          Mapper configuration.
+	 * @param  beanDescription Type bean description.
+	 * @return                 If the generated serializers can be used.
+	 */
+	private static boolean isSupported(
+			final MapperConfig<?> config,
+			final BeanDescription beanDescription) {
+		// The mapper must keep the property names, order and types.
+		final Class<?> type = beanDescription.getBeanClass();
+		if ((config.getPropertyNamingStrategy() != null) || config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+				|| config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY) || (config.findMixInClassFor(type) != null)
+				|| (config.getDefaultTyper(config.constructType(Object.class)) != null)) {
+			return false;
+		}
+		// And the type must not have Jackson annotations.
+		for (final Annotation annotation : type.getAnnotations()) {
+			if (annotation.annotationType().isAnnotationPresent(JacksonAnnotation.class)
+					|| annotation.annotationType().isAnnotationPresent(JacksonAnnotationsInside.class)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,399 @@
+package org.coldis.library.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Base for the generated DTO JSON serializers (see {@link DtoType#jackson()}).
+ * Properties are written straight to the generator, in declaration order and
+ * with precomputed names. Value serializers are resolved once per runtime
+ * type (instead of through bean introspection and reflection), and the
+ * default property inclusion of the mapper is respected.
+ *
+ * @param <Dto> DTO type.
+ */
+public abstract class DtoJsonSerializer<Dto> extends StdSerializer<Dto> implements ResolvableSerializer {
+
+	/**
+	 * Serial version.
+	 */
+	private static final long serialVersionUID = -2963021852637590731L;
+
+	/**
+	 * Property value serializer (for the last runtime type of the property).
+	 */
+	private static final class PropertySerializer {
+
+		/**
+		 * Value runtime type.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * Value serializer.
+		 */
+		private final JsonSerializer<Object> serializer;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param type       Value runtime type.
+		 * @param serializer Value serializer.
+		 */
+		private PropertySerializer(
+				final Class<?> type,
+				final JsonSerializer<Object> serializer) {
+			super();
+			this.type = type;
+			this.serializer = serializer;
+		}
+
+	}
+
+	/**
+	 * Property names (pre-encoded).
+	 */
+	private final SerializedString[] names;
+
+	/**
+	 * Property types.
+	 */
+	private JavaType[] types;
+
+	/**
+	 * Property type serializers (for polymorphic types).
+	 */
+	private TypeSerializer[] typeSerializers;
+
+	/**
+	 * Property value serializers.
+	 */
+	private PropertySerializer[] serializers;
+
+	/**
+	 * If null values are skipped.
+	 */
+	private boolean skipNulls;
+
+	/**
+	 * If empty values are skipped.
+	 */
+	private boolean skipEmpty;
+
+	/**
+	 * If absent (empty reference type) values are skipped.
+	 */
+	private boolean skipAbsent;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param type  DTO type.
+	 * @param names Property names (in the properties order).
+	 */
+	protected DtoJsonSerializer(
+			final Class<Dto> type,
+			final String... names) {
+		super(type);
+		this.names = new SerializedString[names.length];
+		for (int index = 0; index < names.length; index++) {
+			this.names[index] = new SerializedString(names[index]);
+		}
+	}
+
+	/**
+	 * Gets the property types (in the properties order).
+	 *
+	 * @param  typeFactory Type factory.
+	 * @return             The property types.
+	 */
+	protected abstract JavaType[] getPropertyTypes(
+			TypeFactory typeFactory);
+
+	/**
+	 * Writes the DTO properties (using the write methods for each property).
+	 *
+	 * @param  dto         DTO.
+	 * @param  generator   JSON generator.
+	 * @param  provider    Serializer provider.
+	 * @throws IOException If a property cannot be written.
+	 */
+	protected abstract void writeProperties(
+			Dto dto,
+			JsonGenerator generator,
+			SerializerProvider provider) throws IOException;
+
+	/**
+	 * @see ResolvableSerializer#resolve(SerializerProvider)
+	 */
+	@Override
+	public void resolve(
+			final SerializerProvider provider) throws JsonMappingException {
+		// Resolves the property types and type serializers.
+		this.types = this.getPropertyTypes(provider.getTypeFactory());
+		this.typeSerializers = new TypeSerializer[this.types.length];
+		this.serializers = new PropertySerializer[this.types.length];
+		for (int index = 0; index < this.types.length; index++) {
+			if (!this.types[index].isPrimitive()) {
+				this.typeSerializers[index] = provider.findTypeSerializer(this.types[index]);
+			}
+		}
+		// Resolves which values are skipped.
+		final JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(this.handledType()).getValueInclusion();
+		this.skipNulls = (inclusion != JsonInclude.Include.ALWAYS) && (inclusion != JsonInclude.Include.USE_DEFAULTS);
+		this.skipEmpty = inclusion == JsonInclude.Include.NON_EMPTY;
+		this.skipAbsent = this.skipEmpty || (inclusion == JsonInclude.Include.NON_ABSENT);
+	}
+
+	/**
+	 * @see StdSerializer#serialize(Object, JsonGenerator, SerializerProvider)
+	 */
+	@Override
+	public void serialize(
+			final Dto value,
+			final JsonGenerator generator,
+			final SerializerProvider provider) throws IOException {
+		generator.writeStartObject(value);
+		this.writeIncludedProperties(value, generator, provider);
+		generator.writeEndObject();
+	}
+
+	/**
+	 * @see JsonSerializer#serializeWithType(Object, JsonGenerator,
+	 *      SerializerProvider, TypeSerializer)
+	 */
+	@Override
+	public void serializeWithType(
+			final Dto value,
+			final JsonGenerator generator,
+			final SerializerProvider provider,
+			final TypeSerializer typeSerializer) throws IOException {
+		final WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+		this.writeIncludedProperties(value, generator, provider);
+		typeSerializer.writeTypeSuffix(generator, typeId);
+	}
+
+	/**
+	 * Writes the DTO properties, unless they are all excluded by the active
+	 * view (as the DTO properties have no views).
+	 *
+	 * @param  dto         DTO.
+	 * @param  generator   JSON generator.
+	 * @param  provider    Serializer provider.
+	 * @throws IOException If a property cannot be written.
+	 */
+	private void writeIncludedProperties(
+			final Dto dto,
+			final JsonGenerator generator,
+			final SerializerProvider provider) throws IOException {
+		if ((provider.getActiveView() == null) || provider.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION)) {
+			this.writeProperties(dto, generator, provider);
+		}
+	}
+
+	/**
+	 * Writes a null property (unless nulls are skipped).
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  provider    Serializer provider.
+	 * @param  index       Property index.
+	 * @throws IOException If the property cannot be written.
+	 */
+	private void writeNull(
+			final JsonGenerator generator,
+			final SerializerProvider provider,
+			final int index) throws IOException {
+		if (!this.skipNulls) {
+			generator.writeFieldName(this.names[index]);
+			provider.defaultSerializeNull(generator);
+		}
+	}
+
+	/**
+	 * Writes a string property.
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  provider    Serializer provider.
+	 * @param  index       Property index.
+	 * @param  value       Property value.
+	 * @throws IOException If the property cannot be written.
+	 */
+	protected final void writeString(
+			final JsonGenerator generator,
+			final SerializerProvider provider,
+			final int index,
+			final String value) throws IOException {
+		if (value == null) {
+			this.writeNull(generator, provider, index);
+		}
+		else if (!this.skipEmpty || !value.isEmpty()) {
+			generator.writeFieldName(this.names[index]);
+			generator.writeString(value);
+		}
+	}
+
+	/**
+	 * Writes an int property.
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  index       Property index.
+	 * @param  value       Property value.
+	 * @throws IOException If the property cannot be written.
+	 */
+	protected final void writeInt(
+			final JsonGenerator generator,
+			final int index,
+			final int value) throws IOException {
+		generator.writeFieldName(this.names[index]);
+		generator.writeNumber(value);
+	}
+
+	/**
+	 * Writes a long property.
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  index       Property index.
+	 * @param  value       Property value.
+	 * @throws IOException If the property cannot be written.
+	 */
+	protected final void writeLong(
+			final JsonGenerator generator,
+			final int index,
+			final long value) throws IOException {
+		generator.writeFieldName(this.names[index]);
+		generator.writeNumber(value);
+	}
+
+	/**
+	 * Writes a float property.
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  index       Property index.
+	 * @param  value       Property value.
+	 * @throws IOException If the property cannot be written.
+	 */
+	protected final void writeFloat(
+			final JsonGenerator generator,
+			final int index,
+			final float value) throws IOException {
+		generator.writeFieldName(this.names[index]);
+		generator.writeNumber(value);
+	}
+
+	/**
+	 * Writes a double property.
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  index       Property index.
+	 * @param  value       Property value.
+	 * @throws IOException If the property cannot be written.
+	 */
+	protected final void writeDouble(
+			final JsonGenerator generator,
+			final int index,
+			final double value) throws IOException {
+		generator.writeFieldName(this.names[index]);
+		generator.writeNumber(value);
+	}
+
+	/**
+	 * Writes a boolean property.
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  index       Property index.
+	 * @param  value       Property value.
+	 * @throws IOException If the property cannot be written.
+	 */
+	protected final void writeBoolean(
+			final JsonGenerator generator,
+			final int index,
+			final boolean value) throws IOException {
+		generator.writeFieldName(this.names[index]);
+		generator.writeBoolean(value);
+	}
+
+	/**
+	 * Writes any other property (with the serializer for its runtime type).
+	 *
+	 * @param  generator   JSON generator.
+	 * @param  provider    Serializer provider.
+	 * @param  index       Property index.
+	 * @param  value       Property value.
+	 * @throws IOException If the property cannot be written.
+	 */
+	protected final void writeValue(
+			final JsonGenerator generator,
+			final SerializerProvider provider,
+			final int index,
+			final Object value) throws IOException {
+		// Null values are written by the null serializer.
+		if (value == null) {
+			this.writeNull(generator, provider, index);
+			return;
+		}
+		// Empty (or absent) values might be skipped.
+		final JsonSerializer<Object> serializer = this.findSerializer(provider, index, value.getClass());
+		if ((this.skipEmpty || (this.skipAbsent && this.types[index].isReferenceType())) && serializer.isEmpty(provider, value)) {
+			return;
+		}
+		// Writes the value (with its type information, if polymorphic).
+		generator.writeFieldName(this.names[index]);
+		final TypeSerializer typeSerializer = this.typeSerializers[index];
+		if (typeSerializer == null) {
+			serializer.serialize(value, generator, provider);
+		}
+		else {
+			serializer.serializeWithType(value, generator, provider, typeSerializer);
+		}
+	}
+
+	/**
+	 * Finds the value serializer for a property runtime type.
+	 *
+	 * @param  provider             Serializer provider.
+	 * @param  index                Property index.
+	 * @param  valueType            Value runtime type.
+	 * @return                      The value serializer.
+	 * @throws JsonMappingException If the serializer cannot be found.
+	 */
+	private JsonSerializer<Object> findSerializer(
+			final SerializerProvider provider,
+			final int index,
+			final Class<?> valueType) throws JsonMappingException {
+		// Uses the last serializer if the runtime type is the same.
+		final PropertySerializer lastSerializer = this.serializers[index];
+		if ((lastSerializer != null) && (lastSerializer.type == valueType)) {
+			return lastSerializer.serializer;
+		}
+		// Otherwise, finds the serializer for the runtime type (keeping the
+		// declared type parameters).
+		final JavaType declaredType = this.types[index];
+		final JsonSerializer<Object> serializer;
+		if (declaredType.getRawClass() == valueType) {
+			serializer = provider.findValueSerializer(declaredType, null);
+		}
+		else if (declaredType.hasGenericTypes()) {
+			serializer = provider.findValueSerializer(provider.constructSpecializedType(declaredType, valueType), null);
+		}
+		else {
+			serializer = provider.findValueSerializer(valueType, null);
+		}
+		this.serializers[index] = new PropertySerializer(valueType, serializer);
+		return serializer;
+	}
+
+}
@@ -0,0 +1,285 @@
+package org.coldis.library.dto;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy conversion of streams, iterators and spliterators (used by the
+ * generated mappers, see {@link DtoType#mapper()}, but usable with any element
+ * conversion). Sources are read and converted in bounded batches only as the
+ * targets are consumed, so memory use does not depend on the number of
+ * elements. Batches may be converted by virtual threads (one per element),
+ * for conversions that block (as enrichment calls). Targets keep the source
+ * order either way.
+ */
+public final class DtoStreamMapper {
+
+	/**
+	 * Default batch size.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1024;
+
+	/**
+	 * No instances.
+	 */
+	private DtoStreamMapper() {
+		super();
+	}
+
+	/**
+	 * Converts a spliterator lazily, one batch at a time (not split, as it is
+	 * meant to be consumed sequentially).
+	 *
+	 * @param <Source> Source type.
+	 * @param <Target> Target type.
+	 */
+	private static final class ConversionSpliterator<Source, Target> implements Spliterator<Target> {
+
+		/**
+		 * Sources.
+		 */
+		private final Spliterator<? extends Source> sources;
+
+		/**
+		 * Element conversion.
+		 */
+		private final Function<? super Source, ? extends Target> conversion;
+
+		/**
+		 * If batches are converted by virtual threads.
+		 */
+		private final boolean virtualThreads;
+
+		/**
+		 * Current batch (sources are replaced by targets when converted, and
+		 * targets are released when consumed).
+		 */
+		private final Object[] batch;
+
+		/**
+		 * Current batch size.
+		 */
+		private int batchSize;
+
+		/**
+		 * Next target in the current batch.
+		 */
+		private int position;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param sources        Sources.
+		 * @param conversion     Element conversion.
+		 * @param batchSize      Maximum batch size.
+		 * @param virtualThreads If batches are converted by virtual threads.
+		 */
+		private ConversionSpliterator(
+				final Spliterator<? extends Source> sources,
+				final Function<? super Source, ? extends Target> conversion,
+				final int batchSize,
+				final boolean virtualThreads) {
+			super();
+			this.sources = sources;
+			this.conversion = conversion;
+			this.virtualThreads = virtualThreads;
+			this.batch = new Object[Math.max(1, batchSize)];
+		}
+
+		/**
+		 * Reads and converts the next batch (if any conversion fails, the whole batch
+		 * is discarded).
+		 *
+		 * @return If there are elements in the batch.
+		 */
+		@SuppressWarnings("unchecked")
+		private boolean convertBatch() {
+			// Reads the next sources.
+			this.position = 0;
+			this.batchSize = 0;
+			final Consumer<Source> batchReader = source -> this.batch[this.batchSize++] = source;
+			while ((this.batchSize < this.batch.length) && this.sources.tryAdvance(batchReader)) {
+				// Reads until the batch is full or the sources end.
+			}
+			// Converts the batch.
+			try {
+				// Converts the sources serially.
+				if (!this.virtualThreads || (this.batchSize <= 1)) {
+					for (int index = 0; index < this.batchSize; index++) {
+						this.batch[index] = this.conversion.apply((Source) this.batch[index]);
+					}
+				}
+				// Or by one virtual thread each (waiting for all of them).
+				else {
+					final Future<?>[] conversions = new Future<?>[this.batchSize];
+					try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+						for (int index = 0; index < this.batchSize; index++) {
+							final Source source = (Source) this.batch[index];
+							conversions[index] = executor.submit(() -> this.conversion.apply(source));
+						}
+					}
+					for (int index = 0; index < this.batchSize; index++) {
+						// If the conversion has failed, rethrows its exception.
+						if (conversions[index].state() != Future.State.SUCCESS) {
+							final Throwable exception = conversions[index].exceptionNow();
+							if (exception instanceof final RuntimeException runtimeException) {
+								throw runtimeException;
+							}
+							if (exception instanceof final Error error) {
+								throw error;
+							}
+							throw new CompletionException(exception);
+						}
+						this.batch[index] = conversions[index].resultNow();
+					}
+				}
+			}
+			// If a conversion fails, the batch is discarded (so no source is consumed as a
+			// target) and the exception is rethrown.
+			catch (final Throwable exception) {
+				Arrays.fill(this.batch, 0, this.batchSize, null);
+				this.position = 0;
+				this.batchSize = 0;
+				throw exception;
+			}
+			return this.batchSize > 0;
+		}
+
+		/**
+		 * @see Spliterator#tryAdvance(Consumer)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean tryAdvance(
+				final Consumer<? super Target> action) {
+			// If the current batch has been consumed, converts the next one.
+			if ((this.position == this.batchSize) && !this.convertBatch()) {
+				return false;
+			}
+			// Consumes the next target (releasing it from the batch).
+			final Target target = (Target) this.batch[this.position];
+			this.batch[this.position++] = null;
+			action.accept(target);
+			return true;
+		}
+
+		/**
+		 * @see Spliterator#trySplit()
+		 */
+		@Override
+		public Spliterator<Target> trySplit() {
+			return null;
+		}
+
+		/**
+		 * @see Spliterator#estimateSize()
+		 */
+		@Override
+		public long estimateSize() {
+			final long sourcesSize = this.sources.estimateSize();
+			return sourcesSize == Long.MAX_VALUE ? sourcesSize : sourcesSize + (this.batchSize - this.position);
+		}
+
+		/**
+		 * @see Spliterator#characteristics()
+		 */
+		@Override
+		public int characteristics() {
+			return this.sources.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED);
+		}
+
+	}
+
+	/**
+	 * Converts a spliterator lazily.
+	 *
+	 * @param  <Source>       Source type.
+	 * @param  <Target>       Target type.
+	 * @param  sources        Sources.
+	 * @param  conversion     Element conversion.
+	 * @param  batchSize      Maximum number of elements read and converted at
+	 *                            once.
+	 * @param  virtualThreads If batches are converted by virtual threads.
+	 * @return                The targets spliterator (or null for null sources).
+	 */
+	public static <Source, Target> Spliterator<Target> convert(
+			final Spliterator<? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion,
+			final int batchSize,
+			final boolean virtualThreads) {
+		return sources == null ? null : new ConversionSpliterator<>(sources, conversion, batchSize, virtualThreads);
+	}
+
+	/**
+	 * Converts an iterator lazily.
+	 *
+	 * @param  <Source>       Source type.
+	 * @param  <Target>       Target type.
+	 * @param  sources        Sources.
+	 * @param  conversion     Element conversion.
+	 * @param  batchSize      Maximum number of elements read and converted at
+	 *                            once.
+	 * @param  virtualThreads If batches are converted by virtual threads.
+	 * @return                The targets iterator (or null for null sources).
+	 */
+	public static <Source, Target> Iterator<Target> convert(
+			final Iterator<? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion,
+			final int batchSize,
+			final boolean virtualThreads) {
+		return sources == null ? null
+				: Spliterators.iterator(DtoStreamMapper.<Source, Target> convert(Spliterators.spliteratorUnknownSize(sources, Spliterator.ORDERED),
+						conversion, batchSize, virtualThreads));
+	}
+
+	/**
+	 * Converts a stream lazily (closing the targets stream closes the sources
+	 * one).
+	 *
+	 * @param  <Source>       Source type.
+	 * @param  <Target>       Target type.
+	 * @param  sources        Sources.
+	 * @param  conversion     Element conversion.
+	 * @param  batchSize      Maximum number of elements read and converted at
+	 *                            once.
+	 * @param  virtualThreads If batches are converted by virtual threads.
+	 * @return                The (sequential) targets stream (or null for null
+	 *                        sources).
+	 */
+	public static <Source, Target> Stream<Target> convert(
+			final Stream<? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion,
+			final int batchSize,
+			final boolean virtualThreads) {
+		return sources == null ? null
+				: StreamSupport.stream(DtoStreamMapper.<Source, Target> convert(sources.spliterator(), conversion, batchSize, virtualThreads), false)
+						.onClose(sources::close);
+	}
+
+	/**
+	 * Converts a stream lazily, serially and with the default batch size.
+	 *
+	 * @param  <Source>   Source type.
+	 * @param  <Target>   Target type.
+	 * @param  sources    Sources.
+	 * @param  conversion Element conversion.
+	 * @return            The (sequential) targets stream (or null for null
+	 *                    sources).
+	 */
+	public static <Source, Target> Stream<Target> convert(
+			final Stream<? extends Source> sources,
+			final Function<? super Source, ? extends Target> conversion) {
+		return DtoStreamMapper.convert(sources, conversion, DtoStreamMapper.DEFAULT_BATCH_SIZE, false);
+	}
+
+}
@@ -0,0 +1,26 @@
+package org.coldis.library.dto;
+
+/**
+ * Generated DTO style.
+ */
+public enum DtoStyle {
+
+	/**
+	 * Mutable JavaBean, with a no arguments constructor, setters and withers that
+	 * change the DTO.
+	 */
+	BEAN,
+
+	/**
+	 * Immutable final class, with final attributes set by an all attributes
+	 * constructor and withers that return updated copies. Collection attributes
+	 * are copied into unmodifiable collections and array attributes are copied
+	 * when set and got. Read only attributes have no withers, default values are
+	 * used when constructor arguments are null (primitive attributes with
+	 * default values are boxed in the constructor) and the model hierarchy is
+	 * flattened (as final classes cannot be extended). Only applies to the
+	 * default template.
+	 */
+	IMMUTABLE;
+
+}
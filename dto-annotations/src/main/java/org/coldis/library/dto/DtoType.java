@@ -25,6 +25,17 @@ public @interface DtoType {
 	 */
 	public static final Class<?>[] DEFAULT_INTERFACES = {};
 
+	/**
+	 * Default template relative path (from resources).
+	 */
+	public static final String DEFAULT_TEMPLATE_PATH = "dto/template/JavaDto.java";
+
+	/**
+	 * Immutable DTOs template relative path (from resources), used instead of the
+	 * default template for {@link DtoStyle#IMMUTABLE}.
+	 */
+	public static final String IMMUTABLE_TEMPLATE_PATH = "dto/template/JavaImmutableDto.java";
+
 	/**
 	 * Context is used to identify types and attributes that should be bound
 	 * together.
@@ -39,7 +50,7 @@ public @interface DtoType {
 	/**
 	 * Template relative path (from resources).
 	 */
-	public String templatePath() default "dto/template/JavaDto.java";
+	public String templatePath() default DtoType.DEFAULT_TEMPLATE_PATH;
 
 	/**
 	 * The DTO file extension.
@@ -93,4 +104,50 @@ public @interface DtoType {
 	 */
 	public String dtoClassName() default "";
 
+	/**
+	 * If the generated DTO memoizes its hash code. Only the contribution of the
+	 * DTO own attributes is cached, and it is reset by the generated setters and
+	 * withers, so hash codes are the same as without the cache (as long as
+	 * nested values are not changed after being hashed). DTOs whose attributes
+	 * are all read only or final never reset the cache. Ignored when a static
+	 * attribute is used in comparison.
+	 */
+	public boolean cacheHashCode() default false;
+
+	/**
+	 * Generated DTO style. Default is {@link DtoStyle#BEAN}.
+	 */
+	public DtoStyle style() default DtoStyle.BEAN;
+
+	/**
+	 * If a <code>&lt;DtoName&gt;Mapper</code> should be generated next to the
+	 * (Java) DTO, converting models to DTOs (<code>toDto</code>) and back
+	 * (<code>toModel</code>, only when the model has a public no arguments
+	 * constructor) with direct getter and setter calls. Nested types are
+	 * converted by their own mappers (so they should also enable it), and
+	 * arrays, lists, sets and maps of them are converted element by element.
+	 * Read only attributes (without DTO setters) are written directly (see
+	 * {@link DtoFieldWriter}). Attributes whose DTO type is not derived from the
+	 * model type (apart from boxing) are not mapped. Lists, arrays and map
+	 * values are also converted in bulk (<code>toDtos</code> and
+	 * <code>toModels</code>, see {@link DtoBulkMapper}), and streams lazily (see
+	 * {@link DtoStreamMapper}).
+	 */
+	public boolean mapper() default false;
+
+	/**
+	 * If a <code>&lt;DtoName&gt;Json</code> class with a Jackson serializer and
+	 * deserializer should be generated next to the (Java) DTO (see
+	 * {@link DtoJsonSerializer} and {@link DtoJsonDeserializer}). With the
+	 * <code>dto.jsonModule</code> processor option, a module registering them
+	 * is also generated (listed as a Jackson module service, see
+	 * {@link DtoJsonModule}). Properties are written and read with direct
+	 * getter, setter and constructor calls instead of bean introspection. Only
+	 * DTOs without a parent DTO, interfaces or Jackson annotated attributes are
+	 * supported (others keep the bean serializers), and the deserializer is
+	 * only generated when every attribute can be set. Requires
+	 * <code>jackson-databind</code> at runtime.
+	 */
+	public boolean jackson() default false;
+
 }
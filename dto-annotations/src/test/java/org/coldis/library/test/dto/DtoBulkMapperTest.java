@@ -0,0 +1,102 @@
+package org.coldis.library.test.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.coldis.library.dto.DtoBulkMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO bulk mapper test.
+ */
+public class DtoBulkMapperTest {
+
+	/**
+	 * Number of elements (enough to be split in several parallel tasks).
+	 */
+	private static final int SIZE = 50_000;
+
+	/**
+	 * Element conversion (keeping nulls).
+	 */
+	private static final Function<Integer, String> CONVERSION = value -> value == null ? null : "value" + value;
+
+	/**
+	 * Gets the sources (with a null element).
+	 *
+	 * @return The sources.
+	 */
+	private static List<Integer> getSources() {
+		final List<Integer> sources = new ArrayList<>(IntStream.range(0, DtoBulkMapperTest.SIZE).boxed().toList());
+		sources.set(DtoBulkMapperTest.SIZE / 2, null);
+		return sources;
+	}
+
+	/**
+	 * Tests that lists are converted in parallel in the same order as serially.
+	 */
+	@Test
+	public void testConvertList() {
+		// Parallel conversion is disabled by default.
+		Assertions.assertEquals(DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD, DtoBulkMapper.getParallelThreshold());
+		final List<Integer> sources = DtoBulkMapperTest.getSources();
+		final List<String> serialTargets = DtoBulkMapper.convertList(sources, DtoBulkMapperTest.CONVERSION, DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD);
+		Assertions.assertEquals(DtoBulkMapperTest.SIZE, serialTargets.size());
+		Assertions.assertEquals("value1", serialTargets.get(1));
+		Assertions.assertNull(serialTargets.get(DtoBulkMapperTest.SIZE / 2));
+		Assertions.assertEquals(serialTargets, DtoBulkMapper.convertList(sources, DtoBulkMapperTest.CONVERSION, 1));
+		Assertions.assertEquals(serialTargets,
+				DtoBulkMapper.convertList(new LinkedList<>(sources), DtoBulkMapperTest.CONVERSION, DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD));
+		Assertions.assertEquals(serialTargets, DtoBulkMapper.convertList(new LinkedList<>(sources), DtoBulkMapperTest.CONVERSION, 1));
+		// Converted lists can be changed.
+		final List<String> parallelTargets = DtoBulkMapper.convertList(sources, DtoBulkMapperTest.CONVERSION, 1);
+		parallelTargets.add("other");
+		Assertions.assertEquals("other", parallelTargets.getLast());
+		// Empty and null lists are also converted.
+		Assertions.assertEquals(List.of(), DtoBulkMapper.convertList(List.of(), DtoBulkMapperTest.CONVERSION, 0));
+		Assertions.assertNull(DtoBulkMapper.convertList(null, DtoBulkMapperTest.CONVERSION));
+	}
+
+	/**
+	 * Tests that arrays are converted in parallel in the same order as serially.
+	 */
+	@Test
+	public void testConvertArray() {
+		final Integer[] sources = DtoBulkMapperTest.getSources().toArray(Integer[]::new);
+		final String[] serialTargets = DtoBulkMapper.convertArray(sources, DtoBulkMapperTest.CONVERSION, String[]::new,
+				DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD);
+		Assertions.assertEquals(String.class, serialTargets.getClass().getComponentType());
+		Assertions.assertEquals("value1", serialTargets[1]);
+		Assertions.assertArrayEquals(serialTargets, DtoBulkMapper.convertArray(sources, DtoBulkMapperTest.CONVERSION, String[]::new, 1));
+		Assertions.assertNull(DtoBulkMapper.convertArray(null, DtoBulkMapperTest.CONVERSION, String[]::new));
+	}
+
+	/**
+	 * Tests that map values are converted in parallel in the same order as
+	 * serially.
+	 */
+	@Test
+	public void testConvertValues() {
+		final Map<String, Integer> sources = new LinkedHashMap<>();
+		// Keys are added in reverse order (so the iteration order is checked).
+		final List<Integer> values = DtoBulkMapperTest.getSources();
+		for (int index = DtoBulkMapperTest.SIZE - 1; index >= 0; index--) {
+			sources.put("key" + index, values.get(index));
+		}
+		final Map<String, String> serialTargets = DtoBulkMapper.convertValues(sources, DtoBulkMapperTest.CONVERSION,
+				DtoBulkMapper.DISABLED_PARALLEL_THRESHOLD);
+		Assertions.assertEquals("value1", serialTargets.get("key1"));
+		Assertions.assertEquals(List.copyOf(sources.keySet()), List.copyOf(serialTargets.keySet()));
+		final Map<String, String> parallelTargets = DtoBulkMapper.convertValues(sources, DtoBulkMapperTest.CONVERSION, 1);
+		Assertions.assertEquals(serialTargets, parallelTargets);
+		Assertions.assertEquals(List.copyOf(serialTargets.keySet()), List.copyOf(parallelTargets.keySet()));
+		Assertions.assertNull(DtoBulkMapper.convertValues(null, DtoBulkMapperTest.CONVERSION));
+	}
+
+}
@@ -0,0 +1,133 @@
+package org.coldis.library.test.dto;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.coldis.library.dto.DtoStreamMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO stream mapper test.
+ */
+public class DtoStreamMapperTest {
+
+	/**
+	 * Number of elements.
+	 */
+	private static final int SIZE = 1000;
+
+	/**
+	 * Batch size.
+	 */
+	private static final int BATCH_SIZE = 64;
+
+	/**
+	 * Tests that streams are converted lazily, in batches.
+	 */
+	@Test
+	public void testConvertStream() {
+		final AtomicInteger conversions = new AtomicInteger();
+		final AtomicBoolean closed = new AtomicBoolean();
+		try (Stream<String> targets = DtoStreamMapper.convert(IntStream.range(0, DtoStreamMapperTest.SIZE).boxed().onClose(() -> closed.set(true)),
+				value -> "value" + conversions.incrementAndGet(), DtoStreamMapperTest.BATCH_SIZE, false)) {
+			final Iterator<String> targetsIterator = targets.iterator();
+			// Nothing is converted until the first target is consumed.
+			Assertions.assertEquals(0, conversions.get());
+			Assertions.assertEquals("value1", targetsIterator.next());
+			Assertions.assertEquals(DtoStreamMapperTest.BATCH_SIZE, conversions.get());
+			// The next batch is only converted when the current one is consumed.
+			for (int index = 1; index < DtoStreamMapperTest.BATCH_SIZE; index++) {
+				targetsIterator.next();
+			}
+			Assertions.assertEquals(DtoStreamMapperTest.BATCH_SIZE, conversions.get());
+			Assertions.assertEquals("value" + (DtoStreamMapperTest.BATCH_SIZE + 1), targetsIterator.next());
+			Assertions.assertEquals(DtoStreamMapperTest.BATCH_SIZE * 2, conversions.get());
+		}
+		// Closing the targets closes the sources.
+		Assertions.assertTrue(closed.get());
+		// Every element is converted (also for sizes that are not batch size
+		// multiples).
+		Assertions.assertEquals(IntStream.range(0, DtoStreamMapperTest.SIZE).mapToObj(value -> "value" + value).toList(),
+				DtoStreamMapper.convert(IntStream.range(0, DtoStreamMapperTest.SIZE).boxed(), value -> "value" + value).toList());
+		Assertions.assertEquals(List.of(), DtoStreamMapper.convert(Stream.<Integer>empty(), value -> "value" + value).toList());
+		Assertions.assertNull(DtoStreamMapper.convert((Stream<Integer>) null, value -> "value" + value));
+	}
+
+	/**
+	 * Tests that batches converted by virtual threads keep the source order.
+	 */
+	@Test
+	public void testConvertStreamWithVirtualThreads() {
+		final List<Integer> sources = IntStream.range(0, DtoStreamMapperTest.SIZE).boxed().toList();
+		final List<String> targets = DtoStreamMapper.convert(sources.stream(), value -> {
+			// Blocks for a random time (so conversions end in a random order).
+			try {
+				Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+			}
+			catch (final InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+			return Thread.currentThread().isVirtual() + "-" + value;
+		}, DtoStreamMapperTest.BATCH_SIZE, true).toList();
+		Assertions.assertEquals(sources.stream().map(value -> "true-" + value).toList(), targets);
+		// Conversion exceptions are thrown by the targets stream.
+		Assertions.assertThrows(IllegalArgumentException.class, () -> DtoStreamMapper.convert(sources.stream(), value -> {
+			if (value == (DtoStreamMapperTest.SIZE / 2)) {
+				throw new IllegalArgumentException();
+			}
+			return value;
+		}, DtoStreamMapperTest.BATCH_SIZE, true).toList());
+	}
+
+	/**
+	 * Tests that a batch whose conversion fails is discarded (and that its
+	 * sources are never consumed as targets).
+	 */
+	@Test
+	public void testConvertFailure() {
+		final List<Integer> sources = IntStream.range(0, DtoStreamMapperTest.SIZE).boxed().toList();
+		for (final boolean virtualThreads : new boolean[] { false, true }) {
+			final Spliterator<Object> targets = DtoStreamMapper.convert(sources.spliterator(), value -> {
+				if (value == (DtoStreamMapperTest.BATCH_SIZE / 2)) {
+					throw new IllegalArgumentException();
+				}
+				return "value" + value;
+			}, DtoStreamMapperTest.BATCH_SIZE, virtualThreads);
+			Assertions.assertThrows(IllegalArgumentException.class, () -> targets.tryAdvance(target -> {}));
+			// The next targets come from the next batch.
+			final List<Object> nextTargets = new ArrayList<>();
+			Assertions.assertTrue(targets.tryAdvance(nextTargets::add));
+			Assertions.assertEquals(List.of("value" + DtoStreamMapperTest.BATCH_SIZE), nextTargets);
+			Assertions.assertEquals(DtoStreamMapperTest.SIZE - DtoStreamMapperTest.BATCH_SIZE - 1, targets.getExactSizeIfKnown());
+		}
+	}
+
+	/**
+	 * Tests that iterators and spliterators are converted lazily.
+	 */
+	@Test
+	public void testConvertIterators() {
+		final List<Integer> sources = IntStream.range(0, DtoStreamMapperTest.SIZE).boxed().toList();
+		final Iterator<String> targets = DtoStreamMapper.convert(sources.iterator(), value -> "value" + value, DtoStreamMapperTest.BATCH_SIZE, false);
+		for (final Integer source : sources) {
+			Assertions.assertEquals("value" + source, targets.next());
+		}
+		Assertions.assertFalse(targets.hasNext());
+		// Sized spliterators keep their size.
+		final Spliterator<String> targetsSpliterator = DtoStreamMapper.convert(sources.spliterator(), value -> "value" + value,
+				DtoStreamMapperTest.BATCH_SIZE, false);
+		Assertions.assertTrue(targetsSpliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED));
+		Assertions.assertEquals(DtoStreamMapperTest.SIZE, targetsSpliterator.getExactSizeIfKnown());
+		targetsSpliterator.tryAdvance(target -> Assertions.assertEquals("value0", target));
+		Assertions.assertEquals(DtoStreamMapperTest.SIZE - 1, targetsSpliterator.getExactSizeIfKnown());
+	}
+
+}
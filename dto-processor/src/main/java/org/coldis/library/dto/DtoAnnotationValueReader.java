@@ -0,0 +1,212 @@
+package org.coldis.library.dto;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Reads <code>Class&lt;?&gt;</code> members of context-bound annotations (such
+ * as {@link DtoType#interfaces()} or {@link DtoAttribute#type()}) from the
+ * element annotation mirrors. Reading them through the annotation proxy
+ * throws a <code>MirroredTypeException</code> (with a full stack trace) per
+ * lookup; reading the mirrors does not. Values are cached per element.
+ */
+public class DtoAnnotationValueReader {
+
+	/**
+	 * Annotation context member name.
+	 */
+	private static final String CONTEXT_MEMBER = "context";
+
+	/**
+	 * Class names values by element and by annotation, context and member.
+	 */
+	private final Map<Element, Map<String, List<String>>> values = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the qualified name of an annotation mirror type.
+	 *
+	 * @param  annotation Annotation mirror.
+	 * @return            The qualified name of the annotation type.
+	 */
+	private static String getAnnotationTypeName(
+			final AnnotationMirror annotation) {
+		return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	/**
+	 * Gets an annotation member value, falling back to the member default value.
+	 *
+	 * @param  annotation Annotation mirror.
+	 * @param  member     Member name.
+	 * @return            The annotation member value (or <code>null</code> if the
+	 *                    member does not exist).
+	 */
+	private static AnnotationValue getMemberValue(
+			final AnnotationMirror annotation,
+			final String member) {
+		// Explicitly set values.
+		for (final Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation.getElementValues().entrySet()) {
+			if (value.getKey().getSimpleName().contentEquals(member)) {
+				return value.getValue();
+			}
+		}
+		// Default values.
+		for (final ExecutableElement annotationMember : ElementFilter.methodsIn(annotation.getAnnotationType().asElement().getEnclosedElements())) {
+			if (annotationMember.getSimpleName().contentEquals(member)) {
+				return annotationMember.getDefaultValue();
+			}
+		}
+		// If the member does not exist.
+		return null;
+	}
+
+	/**
+	 * Finds the annotation mirror for a context, either directly on the element or
+	 * inside a container annotation (such as {@link DtoTypes}). Follows the same
+	 * precedence used for the annotation proxies: the direct annotation wins, and
+	 * the last matching contained annotation is used otherwise.
+	 *
+	 * @param  element        Element.
+	 * @param  annotationType Annotation type.
+	 * @param  containerType  Container annotation type.
+	 * @param  context        Context.
+	 * @return                The annotation mirror for the context (or
+	 *                        <code>null</code> if there is none).
+	 */
+	private static AnnotationMirror findAnnotation(
+			final Element element,
+			final Class<? extends Annotation> annotationType,
+			final Class<? extends Annotation> containerType,
+			final String context) {
+		AnnotationMirror containedAnnotation = null;
+		// For each annotation on the element.
+		for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			final String annotationTypeName = DtoAnnotationValueReader.getAnnotationTypeName(annotation);
+			// If it is the annotation itself and the context matches, returns it.
+			if (annotationTypeName.equals(annotationType.getName())) {
+				if (Objects.equals(context, DtoAnnotationValueReader.getMemberValue(annotation, DtoAnnotationValueReader.CONTEXT_MEMBER).getValue())) {
+					return annotation;
+				}
+			}
+			// If it is the container annotation, looks for the context inside it.
+			else if (annotationTypeName.equals(containerType.getName())) {
+				for (final AnnotationValue containerValue : annotation.getElementValues().values()) {
+					if (containerValue.getValue() instanceof List) {
+						for (final Object currentValue : (List<?>) containerValue.getValue()) {
+							if ((((AnnotationValue) currentValue).getValue() instanceof final AnnotationMirror currentAnnotation)
+									&& DtoAnnotationValueReader.getAnnotationTypeName(currentAnnotation).equals(annotationType.getName())
+									&& Objects.equals(context,
+											DtoAnnotationValueReader.getMemberValue(currentAnnotation, DtoAnnotationValueReader.CONTEXT_MEMBER).getValue())) {
+								containedAnnotation = currentAnnotation;
+							}
+						}
+					}
+				}
+			}
+		}
+		// Returns the contained annotation.
+		return containedAnnotation;
+	}
+
+	/**
+	 * Reads the class names of a class (or class array) member.
+	 *
+	 * @param  element        Element.
+	 * @param  annotationType Annotation type.
+	 * @param  containerType  Container annotation type.
+	 * @param  context        Context.
+	 * @param  member         Member name.
+	 * @return                The class names (or <code>null</code> if there is no
+	 *                        annotation for the context).
+	 */
+	private static List<String> readClassesValue(
+			final Element element,
+			final Class<? extends Annotation> annotationType,
+			final Class<? extends Annotation> containerType,
+			final String context,
+			final String member) {
+		// Gets the annotation for the context.
+		final AnnotationMirror annotation = DtoAnnotationValueReader.findAnnotation(element, annotationType, containerType, context);
+		final AnnotationValue value = (annotation == null ? null : DtoAnnotationValueReader.getMemberValue(annotation, member));
+		// If there is no value, returns null.
+		if (value == null) {
+			return null;
+		}
+		// Converts the class (or classes) into names. Classes that cannot be resolved
+		// are skipped.
+		final List<String> classNames = new ArrayList<>();
+		for (final Object currentValue : (value.getValue() instanceof List) ? (List<?>) value.getValue() : List.of(value)) {
+			if (((AnnotationValue) currentValue).getValue() instanceof final TypeMirror currentClass) {
+				classNames.add(currentClass.toString());
+			}
+		}
+		return List.copyOf(classNames);
+	}
+
+	/**
+	 * Gets the class names of a class array member (such as
+	 * {@link DtoType#interfaces()}).
+	 *
+	 * @param  element        Element.
+	 * @param  annotationType Annotation type.
+	 * @param  containerType  Container annotation type.
+	 * @param  context        Context.
+	 * @param  member         Member name.
+	 * @return                The class names (or <code>null</code> if there is no
+	 *                        annotation for the context).
+	 */
+	public List<String> getClassesValue(
+			final Element element,
+			final Class<? extends Annotation> annotationType,
+			final Class<? extends Annotation> containerType,
+			final String context,
+			final String member) {
+		final Map<String, List<String>> elementValues = this.values.computeIfAbsent(element, key -> new ConcurrentHashMap<>());
+		final String valueKey = annotationType.getName() + "#" + context + "#" + member;
+		// Null values (no annotation for the context) are not cached, as they are
+		// not expected on the hot path.
+		List<String> value = elementValues.get(valueKey);
+		if (value == null) {
+			value = DtoAnnotationValueReader.readClassesValue(element, annotationType, containerType, context, member);
+			if (value != null) {
+				elementValues.put(valueKey, value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the class name of a class member (such as {@link DtoType#dtoClass()}).
+	 *
+	 * @param  element        Element.
+	 * @param  annotationType Annotation type.
+	 * @param  containerType  Container annotation type.
+	 * @param  context        Context.
+	 * @param  member         Member name.
+	 * @return                The class name (or <code>null</code> if there is no
+	 *                        annotation for the context).
+	 */
+	public String getClassValue(
+			final Element element,
+			final Class<? extends Annotation> annotationType,
+			final Class<? extends Annotation> containerType,
+			final String context,
+			final String member) {
+		final List<String> value = this.getClassesValue(element, annotationType, containerType, context, member);
+		return (value == null) || value.isEmpty() ? null : value.get(0);
+	}
+
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
@@ -18,6 +19,12 @@ public class DtoAttributeMetadata implements Serializable {
 	 */
 	private static final long serialVersionUID = 6528596189706828445L;
 
+	/**
+	 * Wrapper class by primitive type.
+	 */
+	private static final Map<String, String> PRIMITIVE_WRAPPERS = Map.of("boolean", "Boolean", "byte", "Byte", "char", "Character", "short", "Short", "int",
+			"Integer", "long", "Long", "float", "Float", "double", "Double");
+
 	/**
 	 * Attribute modifiers.
 	 */
@@ -68,6 +75,37 @@ public class DtoAttributeMetadata implements Serializable {
 	 */
 	private String annotations;
 
+	/**
+	 * Original type getter name.
+	 */
+	private String originalGetterName;
+
+	/**
+	 * Original type setter name ({@code null} if the original type has no setter
+	 * for the attribute).
+	 */
+	private String originalSetterName;
+
+	/**
+	 * Expression converting the original attribute value (from the
+	 * <code>model</code> getter) to the DTO attribute type ({@code null} if the
+	 * attribute is not mapped).
+	 */
+	private String toDtoExpression;
+
+	/**
+	 * Expression converting the DTO attribute value (from the <code>dto</code>
+	 * getter) to the original attribute type ({@code null} if the attribute is
+	 * not mapped).
+	 */
+	private String toModelExpression;
+
+	/**
+	 * If any of the copied annotations is a Jackson annotation (so the attribute
+	 * JSON depends on it).
+	 */
+	private Boolean jacksonAnnotated;
+
 	/**
 	 * Complete constructor.
 	 *
@@ -321,6 +359,188 @@ public class DtoAttributeMetadata implements Serializable {
 		this.annotations = annotations;
 	}
 
+	/**
+	 * Gets the original type getter name.
+	 *
+	 * @return The original type getter name.
+	 */
+	public String getOriginalGetterName() {
+		return this.originalGetterName;
+	}
+
+	/**
+	 * Sets the original type getter name.
+	 *
+	 * @param originalGetterName New original type getter name.
+	 */
+	public void setOriginalGetterName(
+			final String originalGetterName) {
+		this.originalGetterName = originalGetterName;
+	}
+
+	/**
+	 * Gets the original type setter name.
+	 *
+	 * @return The original type setter name.
+	 */
+	public String getOriginalSetterName() {
+		return this.originalSetterName;
+	}
+
+	/**
+	 * Sets the original type setter name.
+	 *
+	 * @param originalSetterName New original type setter name.
+	 */
+	public void setOriginalSetterName(
+			final String originalSetterName) {
+		this.originalSetterName = originalSetterName;
+	}
+
+	/**
+	 * Gets the expression converting the original attribute value to the DTO
+	 * attribute type.
+	 *
+	 * @return The expression converting the original attribute value to the DTO
+	 *         attribute type.
+	 */
+	public String getToDtoExpression() {
+		return this.toDtoExpression;
+	}
+
+	/**
+	 * Sets the expression converting the original attribute value to the DTO
+	 * attribute type.
+	 *
+	 * @param toDtoExpression New expression converting the original attribute
+	 *                            value to the DTO attribute type.
+	 */
+	public void setToDtoExpression(
+			final String toDtoExpression) {
+		this.toDtoExpression = toDtoExpression;
+	}
+
+	/**
+	 * Gets the expression converting the DTO attribute value to the original
+	 * attribute type.
+	 *
+	 * @return The expression converting the DTO attribute value to the original
+	 *         attribute type.
+	 */
+	public String getToModelExpression() {
+		return this.toModelExpression;
+	}
+
+	/**
+	 * Sets the expression converting the DTO attribute value to the original
+	 * attribute type.
+	 *
+	 * @param toModelExpression New expression converting the DTO attribute value
+	 *                              to the original attribute type.
+	 */
+	public void setToModelExpression(
+			final String toModelExpression) {
+		this.toModelExpression = toModelExpression;
+	}
+
+	/**
+	 * Gets if any of the copied annotations is a Jackson annotation.
+	 *
+	 * @return If any of the copied annotations is a Jackson annotation.
+	 */
+	public Boolean getJacksonAnnotated() {
+		return this.jacksonAnnotated;
+	}
+
+	/**
+	 * Sets if any of the copied annotations is a Jackson annotation.
+	 *
+	 * @param jacksonAnnotated If any of the copied annotations is a Jackson
+	 *                             annotation.
+	 */
+	public void setJacksonAnnotated(
+			final Boolean jacksonAnnotated) {
+		this.jacksonAnnotated = jacksonAnnotated;
+	}
+
+	/**
+	 * Gets the wrapper class simple name for primitive attributes.
+	 *
+	 * @return The wrapper class simple name (or null if the attribute is not
+	 *         primitive).
+	 */
+	public String getPrimitiveWrapper() {
+		return DtoAttributeMetadata.PRIMITIVE_WRAPPERS.get(this.getType());
+	}
+
+	/**
+	 * Gets the attribute type in the immutable DTO constructor. Primitive
+	 * attributes with a default value are boxed, so missing (null) arguments
+	 * can be replaced by the default value.
+	 *
+	 * @return The attribute constructor type.
+	 */
+	public String getConstructorType() {
+		final String wrapper = this.getPrimitiveWrapper();
+		return (wrapper == null) || StringUtils.isEmpty(this.getDefaultValue()) ? this.getType() : "java.lang." + wrapper;
+	}
+
+	/**
+	 * Gets the expression that hashes the attribute. Primitive attributes are
+	 * hashed by their wrapper class static <code>hashCode</code> (the same value as
+	 * the boxed attribute hash code, without boxing) and arrays by content.
+	 *
+	 * @return The attribute hash code expression.
+	 */
+	public String getHashCodeExpression() {
+		final String wrapper = this.getPrimitiveWrapper();
+		return (wrapper == null ? (this.getType().endsWith("[]") ? "Arrays" : "Objects") : wrapper) + ".hashCode(" + this.getName() + ")";
+	}
+
+	/**
+	 * Gets the expression that is true when the attribute is not equal to the
+	 * same attribute of another DTO (<code>other</code>). Primitive attributes are
+	 * compared with <code>==</code> (floating point attributes with their wrapper
+	 * class <code>compare</code>, as the boxed attributes equals) and arrays by
+	 * content.
+	 *
+	 * @return The attribute not equals expression.
+	 */
+	public String getNotEqualsExpression() {
+		final String wrapper = this.getPrimitiveWrapper();
+		if (wrapper == null) {
+			return "!" + (this.getType().endsWith("[]") ? "Arrays" : "Objects") + ".equals(" + this.getName() + ", other." + this.getName() + ")";
+		}
+		else if ("float".equals(this.getType()) || "double".equals(this.getType())) {
+			return wrapper + ".compare(" + this.getName() + ", other." + this.getName() + ") != 0";
+		}
+		else {
+			return this.getName() + " != other." + this.getName();
+		}
+	}
+
+	/**
+	 * Gets the expression that copies the attribute for immutable DTOs.
+	 * Collections are copied into unmodifiable collections and arrays are cloned
+	 * (other values are not copied).
+	 *
+	 * @return The attribute copy expression.
+	 */
+	public String getCopyExpression() {
+		// Arrays (also of generic types) are cloned.
+		if (this.getType().endsWith("[]")) {
+			return "(" + this.getName() + " == null ? null : " + this.getName() + ".clone())";
+		}
+		// Collections are copied.
+		final String copy = switch (StringUtils.substringBefore(this.getType(), "<")) {
+			case "java.util.Collection", "java.util.List" -> "java.util.Collections.unmodifiableList(new java.util.ArrayList<>(" + this.getName() + "))";
+			case "java.util.Set" -> "java.util.Collections.unmodifiableSet(new java.util.LinkedHashSet<>(" + this.getName() + "))";
+			case "java.util.Map" -> "java.util.Collections.unmodifiableMap(new java.util.LinkedHashMap<>(" + this.getName() + "))";
+			default -> null;
+		};
+		return copy == null ? this.getName() : "(" + this.getName() + " == null ? null : " + copy + ")";
+	}
+
 	/**
 	 * @see java.lang.Object#hashCode()
 	 */
@@ -0,0 +1,893 @@
+package org.coldis.library.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.lang.model.SourceVersion;
+
+import org.apache.commons.lang3.StringUtils;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Class file emitter for DTOs using the default template
+ * ({@link DtoType#DEFAULT_TEMPLATE_PATH}). Writes the same fields, accessors,
+ * withers, <code>equals</code>/<code>hashCode</code> and {@link DtoOrigin} as
+ * the template straight as bytecode, so generated DTOs do not have to be
+ * compiled. DTOs with anything that only exists as source in their metadata
+ * (copied annotations, default values or types that cannot be parsed) are not
+ * emitted, and should be generated as sources instead.
+ */
+public class DtoClassEmitter {
+
+	/**
+	 * Attribute modifiers supported in class files (and their access flags).
+	 */
+	private static final Map<String, Integer> MODIFIERS = Map.of("static", Opcodes.ACC_STATIC, "final", Opcodes.ACC_FINAL, "transient", Opcodes.ACC_TRANSIENT,
+			"volatile", Opcodes.ACC_VOLATILE);
+
+	/**
+	 * Primitive types descriptors.
+	 */
+	private static final Map<String, String> PRIMITIVES = Map.of("boolean", "Z", "byte", "B", "char", "C", "short", "S", "int", "I", "long", "J", "float",
+			"F", "double", "D");
+
+	/**
+	 * Wrapper classes internal names by primitive type descriptor.
+	 */
+	private static final Map<Integer, String> WRAPPERS = Map.of(Type.BOOLEAN, "java/lang/Boolean", Type.BYTE, "java/lang/Byte", Type.CHAR,
+			"java/lang/Character", Type.SHORT, "java/lang/Short", Type.INT, "java/lang/Integer", Type.LONG, "java/lang/Long", Type.FLOAT, "java/lang/Float",
+			Type.DOUBLE, "java/lang/Double");
+
+	/**
+	 * Object class internal name.
+	 */
+	private static final String OBJECT = "java/lang/Object";
+
+	/**
+	 * Cached hash code field name (see {@link DtoType#cacheHashCode()}).
+	 */
+	private static final String CACHED_HASH_CODE = "cachedHashCode";
+
+	/**
+	 * Java type (as parsed from the DTO metadata).
+	 *
+	 * @param descriptor Type descriptor (erased).
+	 * @param signature  Type generic signature.
+	 */
+	private static record JavaType(String descriptor, String signature) {
+
+		/**
+		 * Gets the ASM type.
+		 *
+		 * @return The ASM type.
+		 */
+		Type getType() {
+			return Type.getType(this.descriptor);
+		}
+
+		/**
+		 * Gets the generic signature (if different from the descriptor).
+		 *
+		 * @return The generic signature, or <code>null</code> if not generic.
+		 */
+		String getGenericSignature() {
+			return this.descriptor.equals(this.signature) ? null : this.signature;
+		}
+
+	}
+
+	/**
+	 * Java type parser (for types as written in the DTO metadata).
+	 */
+	private class JavaTypeParser {
+
+		/**
+		 * Source type.
+		 */
+		private final String source;
+
+		/**
+		 * Current position.
+		 */
+		private int position;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param source Source type.
+		 */
+		JavaTypeParser(final String source) {
+			this.source = source;
+		}
+
+		/**
+		 * Skips whitespace.
+		 */
+		private void skipWhitespace() {
+			while ((this.position < this.source.length()) && Character.isWhitespace(this.source.charAt(this.position))) {
+				this.position++;
+			}
+		}
+
+		/**
+		 * Checks and consumes a token.
+		 *
+		 * @param  token Token.
+		 * @return       If the token was consumed.
+		 */
+		private boolean consume(
+				final String token) {
+			this.skipWhitespace();
+			if (this.source.startsWith(token, this.position)) {
+				this.position += token.length();
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Reads a (qualified) name.
+		 *
+		 * @return The name.
+		 */
+		private String readName() {
+			this.skipWhitespace();
+			final int start = this.position;
+			while ((this.position < this.source.length())
+					&& (Character.isJavaIdentifierPart(this.source.charAt(this.position)) || (this.source.charAt(this.position) == '.'))) {
+				this.position++;
+			}
+			if (start == this.position) {
+				throw new IllegalArgumentException("Type name expected at " + start + " in '" + this.source + "'.");
+			}
+			return this.source.substring(start, this.position);
+		}
+
+		/**
+		 * Parses a type argument.
+		 *
+		 * @return The type argument signature.
+		 */
+		private String parseTypeArgument() {
+			// Wildcards.
+			if (this.consume("?")) {
+				if (this.consume("extends ")) {
+					return "+" + this.parseType().signature();
+				}
+				else if (this.consume("super ")) {
+					return "-" + this.parseType().signature();
+				}
+				return "*";
+			}
+			return this.parseType().signature();
+		}
+
+		/**
+		 * Parses a type.
+		 *
+		 * @return The type.
+		 */
+		JavaType parseType() {
+			final String name = this.readName();
+			String descriptor;
+			String signature;
+			// Primitive types.
+			if (DtoClassEmitter.PRIMITIVES.containsKey(name)) {
+				descriptor = DtoClassEmitter.PRIMITIVES.get(name);
+				signature = descriptor;
+			}
+			// Class types (and their type arguments).
+			else {
+				final String internalName = DtoClassEmitter.this.getInternalName(name);
+				descriptor = "L" + internalName + ";";
+				signature = descriptor;
+				if (this.consume("<")) {
+					final StringBuilder typeArguments = new StringBuilder();
+					do {
+						typeArguments.append(this.parseTypeArgument());
+					}
+					while (this.consume(","));
+					if (!this.consume(">")) {
+						throw new IllegalArgumentException("Type arguments not closed in '" + this.source + "'.");
+					}
+					signature = "L" + internalName + "<" + typeArguments + ">;";
+				}
+			}
+			// Array types.
+			while (this.consume("[")) {
+				if (!this.consume("]")) {
+					throw new IllegalArgumentException("Array type not closed in '" + this.source + "'.");
+				}
+				descriptor = "[" + descriptor;
+				signature = "[" + signature;
+			}
+			return new JavaType(descriptor, signature);
+		}
+
+		/**
+		 * Parses the whole source type.
+		 *
+		 * @return The type.
+		 */
+		JavaType parse() {
+			final JavaType type = this.parseType();
+			this.skipWhitespace();
+			if (this.position != this.source.length()) {
+				throw new IllegalArgumentException("Unexpected '" + this.source.substring(this.position) + "' in type '" + this.source + "'.");
+			}
+			return type;
+		}
+
+	}
+
+	/**
+	 * Class file version.
+	 */
+	private final int classVersion;
+
+	/**
+	 * Binary name resolver (for qualified names of known types, returns
+	 * <code>null</code> for unknown types).
+	 */
+	private final Function<String, String> binaryNameResolver;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param classVersion       Class file version.
+	 * @param binaryNameResolver Binary name resolver (for qualified names of
+	 *                               known types, returns <code>null</code> for
+	 *                               unknown types).
+	 */
+	public DtoClassEmitter(final int classVersion, final Function<String, String> binaryNameResolver) {
+		super();
+		this.classVersion = classVersion;
+		this.binaryNameResolver = binaryNameResolver;
+	}
+
+	/**
+	 * Gets the class file version for a source version (at least Java 8, at most
+	 * Java 21).
+	 *
+	 * @param  sourceVersion Source version.
+	 * @return               The class file version.
+	 */
+	public static int getClassVersion(
+			final SourceVersion sourceVersion) {
+		return Math.min(Opcodes.V21, Math.max(Opcodes.V1_8, 44 + sourceVersion.ordinal()));
+	}
+
+	/**
+	 * Gets the internal name of a type. Known types are resolved by the binary
+	 * name resolver. Simple names are taken from <code>java.lang</code>, and other
+	 * unknown types (such as DTOs generated in the same round) are assumed to
+	 * follow the naming conventions (packages in lower case and nested classes
+	 * after the first class).
+	 *
+	 * @param  qualifiedName Type qualified (or simple) name.
+	 * @return               The type internal name.
+	 */
+	private String getInternalName(
+			final String qualifiedName) {
+		// Simple names are from java.lang.
+		final String actualQualifiedName = qualifiedName.contains(".") ? qualifiedName : "java.lang." + qualifiedName;
+		// Tries to resolve the binary name.
+		final String binaryName = (this.binaryNameResolver == null) ? null : this.binaryNameResolver.apply(actualQualifiedName);
+		if (binaryName != null) {
+			return binaryName.replace('.', '/');
+		}
+		// Otherwise, uses the naming conventions.
+		final String[] nameParts = actualQualifiedName.split("\\.");
+		final StringBuilder internalName = new StringBuilder();
+		boolean nestedClass = false;
+		for (int namePartIndex = 0; namePartIndex < nameParts.length; namePartIndex++) {
+			if (namePartIndex > 0) {
+				internalName.append(nestedClass ? '$' : '/');
+			}
+			internalName.append(nameParts[namePartIndex]);
+			nestedClass = nestedClass || Character.isUpperCase(nameParts[namePartIndex].charAt(0));
+		}
+		return internalName.toString();
+	}
+
+	/**
+	 * Parses a type from the DTO metadata.
+	 *
+	 * @param  type Type (as written in the DTO metadata).
+	 * @return      The parsed type.
+	 */
+	private JavaType parseType(
+			final String type) {
+		return new JavaTypeParser(type).parse();
+	}
+
+	/**
+	 * Gets the access flags of an attribute field.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           The access flags.
+	 */
+	private static int getFieldAccess(
+			final DtoAttributeMetadata attribute) {
+		int access = Opcodes.ACC_PRIVATE;
+		if (attribute.getModifiers() != null) {
+			for (final String modifier : attribute.getModifiers()) {
+				if (!DtoClassEmitter.MODIFIERS.containsKey(modifier)) {
+					throw new IllegalArgumentException("Modifier '" + modifier + "' not supported in class files.");
+				}
+				access |= DtoClassEmitter.MODIFIERS.get(modifier);
+			}
+		}
+		return access;
+	}
+
+	/**
+	 * Checks if an attribute is static.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           If the attribute is static.
+	 */
+	private static boolean isStatic(
+			final DtoAttributeMetadata attribute) {
+		return (attribute.getModifiers() != null) && attribute.getModifiers().contains("static");
+	}
+
+	/**
+	 * Gets the reason a DTO cannot be emitted as a class file. Only the default
+	 * template is supported, and attributes cannot have copied annotations or
+	 * default values (which only exist as source).
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     The reason the DTO cannot be emitted as a class file, or
+	 *             <code>null</code> if it can.
+	 */
+	public String getUnsupportedReason(
+			final DtoTypeMetadata dto) {
+		// If the DTO uses a custom template.
+		if (!DtoType.DEFAULT_TEMPLATE_PATH.equals(dto.getTemplatePath()) || !"java".equals(dto.getFileExtension())) {
+			return "custom template";
+		}
+		// If any attribute has copied annotations.
+		if (dto.getAttributes().stream().anyMatch(attribute -> StringUtils.isNotBlank(attribute.getAnnotations()))) {
+			return "copied annotations";
+		}
+		// If any attribute has a default value.
+		if (dto.getAttributes().stream().anyMatch(attribute -> StringUtils.isNotEmpty(attribute.getDefaultValue()))) {
+			return "default values";
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if a DTO can be emitted as a class file (see
+	 * {@link #getUnsupportedReason(DtoTypeMetadata)}).
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     If the DTO can be emitted as a class file.
+	 */
+	public boolean isSupported(
+			final DtoTypeMetadata dto) {
+		return this.getUnsupportedReason(dto) == null;
+	}
+
+	/**
+	 * Loads an attribute value.
+	 *
+	 * @param method        Method.
+	 * @param owner         DTO internal name.
+	 * @param attribute     Attribute metadata.
+	 * @param attributeType Attribute type.
+	 * @param objectLocal   Local holding the DTO (for instance attributes).
+	 */
+	private static void loadAttribute(
+			final MethodVisitor method,
+			final String owner,
+			final DtoAttributeMetadata attribute,
+			final JavaType attributeType,
+			final int objectLocal) {
+		if (DtoClassEmitter.isStatic(attribute)) {
+			method.visitFieldInsn(Opcodes.GETSTATIC, owner, attribute.getName(), attributeType.descriptor());
+		}
+		else {
+			method.visitVarInsn(Opcodes.ALOAD, objectLocal);
+			method.visitFieldInsn(Opcodes.GETFIELD, owner, attribute.getName(), attributeType.descriptor());
+		}
+	}
+
+	/**
+	 * Gets the {@link java.util.Arrays} method parameter descriptor for an array
+	 * type (primitive arrays have their own overloads, other arrays use
+	 * <code>Object[]</code>).
+	 *
+	 * @param  arrayType Array type.
+	 * @return           The parameter descriptor.
+	 */
+	private static String getArraysParameter(
+			final Type arrayType) {
+		return ((arrayType.getDimensions() == 1) && (arrayType.getElementType().getSort() != Type.OBJECT)) ? arrayType.getDescriptor()
+				: "[Ljava/lang/Object;";
+	}
+
+	/**
+	 * Hashes the value on the top of the stack: primitive values by their wrapper
+	 * class static <code>hashCode</code> (the same value as the boxed value hash
+	 * code, without boxing), arrays by content and other values by
+	 * {@link java.util.Objects#hashCode(Object)}.
+	 *
+	 * @param method Method.
+	 * @param type   Value type.
+	 */
+	private static void hashValue(
+			final MethodVisitor method,
+			final Type type) {
+		final String wrapper = DtoClassEmitter.WRAPPERS.get(type.getSort());
+		if (wrapper != null) {
+			method.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "hashCode", "(" + type.getDescriptor() + ")I", false);
+		}
+		else if (type.getSort() == Type.ARRAY) {
+			method.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Arrays", "hashCode", "(" + DtoClassEmitter.getArraysParameter(type) + ")I", false);
+		}
+		else {
+			method.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Objects", "hashCode", "(Ljava/lang/Object;)I", false);
+		}
+	}
+
+	/**
+	 * Emits the class declaration, {@link DtoOrigin} and serial version.
+	 *
+	 * @param dto         DTO type metadata.
+	 * @param classWriter Class writer.
+	 * @param owner       DTO internal name.
+	 * @param superName   Super class internal name.
+	 */
+	private void emitClassDeclaration(
+			final DtoTypeMetadata dto,
+			final ClassWriter classWriter,
+			final String owner,
+			final String superName) {
+		// Root DTOs are serializable, hierarchical DTOs extend the parent DTO.
+		final List<String> interfaces = new ArrayList<>();
+		if (!dto.isHasParentDto()) {
+			interfaces.add("java/io/Serializable");
+		}
+		for (final String interfaceName : dto.getImplementedInterfaceNames()) {
+			interfaces.add(this.getInternalName(interfaceName));
+		}
+		classWriter.visit(this.classVersion, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, owner, null, superName, interfaces.toArray(String[]::new));
+		classWriter.visitSource(dto.getName() + ".java", null);
+		// Adds the DTO origin.
+		final AnnotationVisitor dtoOrigin = classWriter.visitAnnotation("Lorg/coldis/library/dto/DtoOrigin;", true);
+		dtoOrigin.visit("originalClassName", dto.getOriginalClassName());
+		dtoOrigin.visitEnd();
+		// Adds the serial version.
+		classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, "serialVersionUID", "J", null, (long) dto.getName().hashCode())
+				.visitEnd();
+	}
+
+	/**
+	 * Emits the no arguments constructor.
+	 *
+	 * @param classWriter Class writer.
+	 * @param superName   Super class internal name.
+	 */
+	private static void emitConstructor(
+			final ClassWriter classWriter,
+			final String superName) {
+		final MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		method.visitCode();
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false);
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	/**
+	 * Emits an attribute getter.
+	 *
+	 * @param classWriter    Class writer.
+	 * @param owner          DTO internal name.
+	 * @param attribute      Attribute metadata.
+	 * @param attributeType  Attribute type.
+	 * @param attributeTypes Every DTO attribute type by name.
+	 * @param attributes     Every DTO attribute by name.
+	 */
+	private static void emitGetter(
+			final ClassWriter classWriter,
+			final String owner,
+			final DtoAttributeMetadata attribute,
+			final JavaType attributeType,
+			final Map<String, JavaType> attributeTypes,
+			final Map<String, DtoAttributeMetadata> attributes) {
+		final boolean staticAttribute = DtoClassEmitter.isStatic(attribute);
+		final MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC | (staticAttribute ? Opcodes.ACC_STATIC : 0),
+				"get" + attribute.getCapitalizedName(), "()" + attributeType.descriptor(),
+				(attributeType.getGenericSignature() == null) ? null : "()" + attributeType.signature(), null);
+		method.visitCode();
+		// The value may come from the first non null other attribute.
+		if (attribute.hasValueFromOtherAttributes()) {
+			if (attributeType.getType().getSort() < Type.ARRAY) {
+				throw new IllegalArgumentException("Primitive attribute '" + attribute.getName() + "' cannot have its value from other attributes.");
+			}
+			for (final String otherAttributeName : attribute.getValueFromOtherAttributes()) {
+				final DtoAttributeMetadata otherAttribute = attributes.get(otherAttributeName);
+				final JavaType otherAttributeType = attributeTypes.get(otherAttributeName);
+				if ((otherAttribute == null) || (otherAttributeType.getType().getSort() < Type.ARRAY) || (staticAttribute && !DtoClassEmitter.isStatic(otherAttribute))) {
+					throw new IllegalArgumentException("Attribute '" + otherAttributeName + "' cannot be used as the value of '" + attribute.getName() + "'.");
+				}
+				final Label nullOtherAttribute = new Label();
+				DtoClassEmitter.loadAttribute(method, owner, otherAttribute, otherAttributeType, 0);
+				method.visitInsn(Opcodes.DUP);
+				method.visitJumpInsn(Opcodes.IFNULL, nullOtherAttribute);
+				method.visitTypeInsn(Opcodes.CHECKCAST, attributeType.getType().getInternalName());
+				method.visitInsn(Opcodes.ARETURN);
+				method.visitLabel(nullOtherAttribute);
+				method.visitInsn(Opcodes.POP);
+			}
+			method.visitInsn(Opcodes.ACONST_NULL);
+			method.visitInsn(Opcodes.ARETURN);
+		}
+		// Otherwise, returns the attribute.
+		else {
+			DtoClassEmitter.loadAttribute(method, owner, attribute, attributeType, 0);
+			method.visitInsn(attributeType.getType().getOpcode(Opcodes.IRETURN));
+		}
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	/**
+	 * Emits an attribute setter and wither.
+	 *
+	 * @param dto           DTO type metadata.
+	 * @param classWriter   Class writer.
+	 * @param owner         DTO internal name.
+	 * @param attribute     Attribute metadata.
+	 * @param attributeType Attribute type.
+	 */
+	private static void emitSetterAndWither(
+			final DtoTypeMetadata dto,
+			final ClassWriter classWriter,
+			final String owner,
+			final DtoAttributeMetadata attribute,
+			final JavaType attributeType) {
+		final boolean staticAttribute = DtoClassEmitter.isStatic(attribute);
+		final String setterName = "set" + attribute.getCapitalizedName();
+		final String setterDescriptor = "(" + attributeType.descriptor() + ")V";
+		final String setterSignature = (attributeType.getGenericSignature() == null) ? null : "(" + attributeType.signature() + ")V";
+		// Emits the setter.
+		final MethodVisitor setter = classWriter.visitMethod(Opcodes.ACC_PUBLIC | (staticAttribute ? Opcodes.ACC_STATIC : 0), setterName, setterDescriptor,
+				setterSignature, null);
+		setter.visitCode();
+		if (staticAttribute) {
+			setter.visitVarInsn(attributeType.getType().getOpcode(Opcodes.ILOAD), 0);
+			setter.visitFieldInsn(Opcodes.PUTSTATIC, owner, attribute.getName(), attributeType.descriptor());
+		}
+		else {
+			setter.visitVarInsn(Opcodes.ALOAD, 0);
+			setter.visitVarInsn(attributeType.getType().getOpcode(Opcodes.ILOAD), 1);
+			setter.visitFieldInsn(Opcodes.PUTFIELD, owner, attribute.getName(), attributeType.descriptor());
+			// Resets the cached hash code.
+			if (dto.isHashCodeCached()) {
+				setter.visitVarInsn(Opcodes.ALOAD, 0);
+				setter.visitInsn(Opcodes.ICONST_0);
+				setter.visitFieldInsn(Opcodes.PUTFIELD, owner, DtoClassEmitter.CACHED_HASH_CODE, "I");
+			}
+		}
+		setter.visitInsn(Opcodes.RETURN);
+		setter.visitMaxs(0, 0);
+		setter.visitEnd();
+		// Emits the wither.
+		final MethodVisitor wither = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "with" + attribute.getCapitalizedName(),
+				"(" + attributeType.descriptor() + ")L" + owner + ";", (setterSignature == null) ? null : "(" + attributeType.signature() + ")L" + owner + ";",
+				null);
+		wither.visitCode();
+		if (staticAttribute) {
+			wither.visitVarInsn(attributeType.getType().getOpcode(Opcodes.ILOAD), 1);
+			wither.visitMethodInsn(Opcodes.INVOKESTATIC, owner, setterName, setterDescriptor, false);
+		}
+		else {
+			wither.visitVarInsn(Opcodes.ALOAD, 0);
+			wither.visitVarInsn(attributeType.getType().getOpcode(Opcodes.ILOAD), 1);
+			wither.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, setterName, setterDescriptor, false);
+		}
+		wither.visitVarInsn(Opcodes.ALOAD, 0);
+		wither.visitInsn(Opcodes.ARETURN);
+		wither.visitMaxs(0, 0);
+		wither.visitEnd();
+	}
+
+	/**
+	 * Emits the hash code method (the same values as the default template).
+	 *
+	 * @param dto            DTO type metadata.
+	 * @param classWriter    Class writer.
+	 * @param owner          DTO internal name.
+	 * @param superName      Super class internal name.
+	 * @param attributeTypes Every DTO attribute type by name.
+	 */
+	private static void emitHashCode(
+			final DtoTypeMetadata dto,
+			final ClassWriter classWriter,
+			final String owner,
+			final String superName,
+			final Map<String, JavaType> attributeTypes) {
+		final MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "hashCode", "()I", null, null);
+		method.visitCode();
+		// The own attributes hash code may be cached (and computed from the initial
+		// value).
+		final boolean cached = dto.isHashCodeCached();
+		final int attributesHash = cached ? 1 : 2;
+		final Label computed = new Label();
+		if (cached) {
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitFieldInsn(Opcodes.GETFIELD, owner, DtoClassEmitter.CACHED_HASH_CODE, "I");
+			method.visitVarInsn(Opcodes.ISTORE, 1);
+			method.visitVarInsn(Opcodes.ILOAD, 1);
+			method.visitJumpInsn(Opcodes.IFNE, computed);
+		}
+		// Initializes the result.
+		else if (dto.isHasParentDto()) {
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "hashCode", "()I", false);
+			method.visitVarInsn(Opcodes.ISTORE, 1);
+		}
+		else {
+			method.visitInsn(Opcodes.ICONST_1);
+			method.visitVarInsn(Opcodes.ISTORE, 1);
+		}
+		method.visitInsn(Opcodes.ICONST_1);
+		method.visitVarInsn(Opcodes.ISTORE, attributesHash);
+		// Non array attributes are hashed in sequence (the same values as
+		// Objects.hash).
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			final JavaType attributeType = attributeTypes.get(attribute.getName());
+			if (Boolean.TRUE.equals(attribute.getUsedInComparison()) && (attributeType.getType().getSort() != Type.ARRAY)) {
+				method.visitIntInsn(Opcodes.BIPUSH, 31);
+				method.visitVarInsn(Opcodes.ILOAD, attributesHash);
+				method.visitInsn(Opcodes.IMUL);
+				DtoClassEmitter.loadAttribute(method, owner, attribute, attributeType, 0);
+				DtoClassEmitter.hashValue(method, attributeType.getType());
+				method.visitInsn(Opcodes.IADD);
+				method.visitVarInsn(Opcodes.ISTORE, attributesHash);
+			}
+		}
+		if (!cached) {
+			method.visitIntInsn(Opcodes.BIPUSH, 31);
+			method.visitVarInsn(Opcodes.ILOAD, 1);
+			method.visitInsn(Opcodes.IMUL);
+			method.visitVarInsn(Opcodes.ILOAD, attributesHash);
+			method.visitInsn(Opcodes.IADD);
+			method.visitVarInsn(Opcodes.ISTORE, 1);
+		}
+		// Array attributes are hashed by content.
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			final JavaType attributeType = attributeTypes.get(attribute.getName());
+			if (Boolean.TRUE.equals(attribute.getUsedInComparison()) && (attributeType.getType().getSort() == Type.ARRAY)) {
+				method.visitIntInsn(Opcodes.BIPUSH, 31);
+				method.visitVarInsn(Opcodes.ILOAD, 1);
+				method.visitInsn(Opcodes.IMUL);
+				DtoClassEmitter.loadAttribute(method, owner, attribute, attributeType, 0);
+				DtoClassEmitter.hashValue(method, attributeType.getType());
+				method.visitInsn(Opcodes.IADD);
+				method.visitVarInsn(Opcodes.ISTORE, 1);
+			}
+		}
+		// The cached hash code is combined with the parent (or initial) one.
+		if (cached) {
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitVarInsn(Opcodes.ILOAD, 1);
+			method.visitFieldInsn(Opcodes.PUTFIELD, owner, DtoClassEmitter.CACHED_HASH_CODE, "I");
+			method.visitLabel(computed);
+			method.visitLdcInsn(dto.getHashCodeMultiplier());
+			if (dto.isHasParentDto()) {
+				method.visitVarInsn(Opcodes.ALOAD, 0);
+				method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "hashCode", "()I", false);
+				method.visitInsn(Opcodes.IMUL);
+			}
+			method.visitVarInsn(Opcodes.ILOAD, 1);
+			method.visitInsn(Opcodes.IADD);
+		}
+		else {
+			method.visitVarInsn(Opcodes.ILOAD, 1);
+		}
+		method.visitInsn(Opcodes.IRETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	/**
+	 * Emits a return false if the value on the top of the stack is zero.
+	 *
+	 * @param method Method.
+	 */
+	private static void returnFalseIfZero(
+			final MethodVisitor method) {
+		final Label notZero = new Label();
+		method.visitJumpInsn(Opcodes.IFNE, notZero);
+		method.visitInsn(Opcodes.ICONST_0);
+		method.visitInsn(Opcodes.IRETURN);
+		method.visitLabel(notZero);
+	}
+
+	/**
+	 * Emits the equals method.
+	 *
+	 * @param dto            DTO type metadata.
+	 * @param classWriter    Class writer.
+	 * @param owner          DTO internal name.
+	 * @param superName      Super class internal name.
+	 * @param attributeTypes Every DTO attribute type by name.
+	 */
+	private static void emitEquals(
+			final DtoTypeMetadata dto,
+			final ClassWriter classWriter,
+			final String owner,
+			final String superName,
+			final Map<String, JavaType> attributeTypes) {
+		final MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "equals", "(Ljava/lang/Object;)Z", null, null);
+		method.visitCode();
+		// The same object is equal.
+		final Label notSame = new Label();
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitJumpInsn(Opcodes.IF_ACMPNE, notSame);
+		method.visitInsn(Opcodes.ICONST_1);
+		method.visitInsn(Opcodes.IRETURN);
+		method.visitLabel(notSame);
+		// Hierarchical DTOs compare the parent DTO first.
+		if (dto.isHasParentDto()) {
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitVarInsn(Opcodes.ALOAD, 1);
+			method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "equals", "(Ljava/lang/Object;)Z", false);
+			DtoClassEmitter.returnFalseIfZero(method);
+		}
+		// Root DTOs compare the classes.
+		else {
+			final Label notNull = new Label();
+			method.visitVarInsn(Opcodes.ALOAD, 1);
+			method.visitJumpInsn(Opcodes.IFNONNULL, notNull);
+			method.visitInsn(Opcodes.ICONST_0);
+			method.visitInsn(Opcodes.IRETURN);
+			method.visitLabel(notNull);
+			final Label sameClass = new Label();
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, DtoClassEmitter.OBJECT, "getClass", "()Ljava/lang/Class;", false);
+			method.visitVarInsn(Opcodes.ALOAD, 1);
+			method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, DtoClassEmitter.OBJECT, "getClass", "()Ljava/lang/Class;", false);
+			method.visitJumpInsn(Opcodes.IF_ACMPEQ, sameClass);
+			method.visitInsn(Opcodes.ICONST_0);
+			method.visitInsn(Opcodes.IRETURN);
+			method.visitLabel(sameClass);
+		}
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitTypeInsn(Opcodes.CHECKCAST, owner);
+		method.visitVarInsn(Opcodes.ASTORE, 2);
+		// Compares each attribute.
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			if (Boolean.TRUE.equals(attribute.getUsedInComparison())) {
+				final JavaType attributeType = attributeTypes.get(attribute.getName());
+				final int sort = attributeType.getType().getSort();
+				DtoClassEmitter.loadAttribute(method, owner, attribute, attributeType, 0);
+				DtoClassEmitter.loadAttribute(method, owner, attribute, attributeType, 2);
+				// Arrays are compared by content.
+				if (sort == Type.ARRAY) {
+					final String arraysParameter = DtoClassEmitter.getArraysParameter(attributeType.getType());
+					method.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Arrays", "equals", "(" + arraysParameter + arraysParameter + ")Z", false);
+					DtoClassEmitter.returnFalseIfZero(method);
+				}
+				// Objects are compared by equals.
+				else if (sort == Type.OBJECT) {
+					method.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Objects", "equals", "(Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+					DtoClassEmitter.returnFalseIfZero(method);
+				}
+				// Primitives are compared directly (floating points as the boxed
+				// values equals).
+				else {
+					final Label equal = new Label();
+					if (sort == Type.LONG) {
+						method.visitInsn(Opcodes.LCMP);
+						method.visitJumpInsn(Opcodes.IFEQ, equal);
+					}
+					else if ((sort == Type.FLOAT) || (sort == Type.DOUBLE)) {
+						final String wrapper = DtoClassEmitter.WRAPPERS.get(sort);
+						method.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "compare",
+								"(" + attributeType.descriptor() + attributeType.descriptor() + ")I", false);
+						method.visitJumpInsn(Opcodes.IFEQ, equal);
+					}
+					else {
+						method.visitJumpInsn(Opcodes.IF_ICMPEQ, equal);
+					}
+					method.visitInsn(Opcodes.ICONST_0);
+					method.visitInsn(Opcodes.IRETURN);
+					method.visitLabel(equal);
+				}
+			}
+		}
+		method.visitInsn(Opcodes.ICONST_1);
+		method.visitInsn(Opcodes.IRETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	/**
+	 * Emits a DTO class file.
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     The DTO class file, or <code>null</code> if the DTO cannot be
+	 *             emitted as a class file (see {@link #isSupported(DtoTypeMetadata)}).
+	 */
+	public byte[] emit(
+			final DtoTypeMetadata dto) {
+		// If the DTO cannot be emitted as a class file, returns.
+		if (!this.isSupported(dto)) {
+			return null;
+		}
+		// Tries to emit the class file.
+		try {
+			final String owner = this.getInternalName(dto.getQualifiedName());
+			final String superName = dto.isHasParentDto() ? this.getInternalName(dto.getParentDtoQualifiedName()) : DtoClassEmitter.OBJECT;
+			// Parses the attribute types.
+			final Map<String, JavaType> attributeTypes = new HashMap<>();
+			final Map<String, DtoAttributeMetadata> attributes = new HashMap<>();
+			for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+				attributeTypes.put(attribute.getName(), this.parseType(attribute.getType()));
+				attributes.put(attribute.getName(), attribute);
+			}
+			// Frames are computed without loading classes (the emitted code never
+			// merges different reference types).
+			final ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+
+				@Override
+				protected String getCommonSuperClass(
+						final String type1,
+						final String type2) {
+					return DtoClassEmitter.OBJECT;
+				}
+
+			};
+			// Emits the class declaration, fields and constructor.
+			this.emitClassDeclaration(dto, classWriter, owner, superName);
+			for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+				final JavaType attributeType = attributeTypes.get(attribute.getName());
+				final FieldVisitor field = classWriter.visitField(DtoClassEmitter.getFieldAccess(attribute), attribute.getName(), attributeType.descriptor(),
+						attributeType.getGenericSignature(), null);
+				field.visitEnd();
+			}
+			if (dto.isHashCodeCached()) {
+				classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_TRANSIENT, DtoClassEmitter.CACHED_HASH_CODE, "I", null, null).visitEnd();
+			}
+			DtoClassEmitter.emitConstructor(classWriter, superName);
+			// Emits the accessors.
+			final Set<String> readOnlyModifiers = Set.of("final");
+			for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+				final JavaType attributeType = attributeTypes.get(attribute.getName());
+				DtoClassEmitter.emitGetter(classWriter, owner, attribute, attributeType, attributeTypes, attributes);
+				if (!Boolean.TRUE.equals(attribute.getReadOnly())
+						&& ((attribute.getModifiers() == null) || attribute.getModifiers().stream().noneMatch(readOnlyModifiers::contains))) {
+					DtoClassEmitter.emitSetterAndWither(dto, classWriter, owner, attribute, attributeType);
+				}
+			}
+			// Emits the comparison methods.
+			DtoClassEmitter.emitHashCode(dto, classWriter, owner, superName, attributeTypes);
+			DtoClassEmitter.emitEquals(dto, classWriter, owner, superName, attributeTypes);
+			classWriter.visitEnd();
+			return classWriter.toByteArray();
+		}
+		// If the DTO cannot be emitted as a class file.
+		catch (final IllegalArgumentException exception) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package org.coldis.library.dto;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * DTO context filter (see {@link DtoGenerator#CONTEXTS_OPTION} and
+ * {@link DtoGenerator#EXCLUDE_CONTEXTS_OPTION}). Contexts are given as comma
+ * separated lists, where {@link #DEFAULT_CONTEXT} stands for the default
+ * (empty) context.
+ */
+public class DtoContextFilter {
+
+	/**
+	 * Name for the default (empty) context in the context lists.
+	 */
+	public static final String DEFAULT_CONTEXT = "default";
+
+	/**
+	 * Filter that accepts every context.
+	 */
+	public static final DtoContextFilter ALL = new DtoContextFilter(null, null);
+
+	/**
+	 * Included contexts (every context if <code>null</code>).
+	 */
+	private final Set<String> includedContexts;
+
+	/**
+	 * Excluded contexts.
+	 */
+	private final Set<String> excludedContexts;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param includedContexts Comma separated included contexts (every context if
+	 *                             blank).
+	 * @param excludedContexts Comma separated excluded contexts (none if blank).
+	 */
+	public DtoContextFilter(final String includedContexts, final String excludedContexts) {
+		super();
+		this.includedContexts = StringUtils.isBlank(includedContexts) ? null : DtoContextFilter.parseContexts(includedContexts);
+		this.excludedContexts = StringUtils.isBlank(excludedContexts) ? Set.of() : DtoContextFilter.parseContexts(excludedContexts);
+	}
+
+	/**
+	 * Parses a comma separated context list.
+	 *
+	 * @param  contexts Comma separated contexts.
+	 * @return          The contexts.
+	 */
+	private static Set<String> parseContexts(
+			final String contexts) {
+		return Arrays.stream(contexts.split(",")).map(String::trim).filter(StringUtils::isNotEmpty)
+				.map(context -> DtoContextFilter.DEFAULT_CONTEXT.equals(context) ? "" : context).collect(Collectors.toUnmodifiableSet());
+	}
+
+	/**
+	 * Checks if DTOs of a context should be generated.
+	 *
+	 * @param  context DTO context.
+	 * @return         If DTOs of the context should be generated.
+	 */
+	public boolean accepts(
+			final String context) {
+		return ((this.includedContexts == null) || this.includedContexts.contains(context)) && !this.excludedContexts.contains(context);
+	}
+
+}
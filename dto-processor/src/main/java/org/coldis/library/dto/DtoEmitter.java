@@ -0,0 +1,23 @@
+package org.coldis.library.dto;
+
+/**
+ * DTO generator emitter for DTOs using the default templates
+ * ({@link DtoType#DEFAULT_TEMPLATE_PATH} and
+ * {@link DtoType#IMMUTABLE_TEMPLATE_PATH}). DTOs with custom templates are
+ * always rendered with Velocity.
+ */
+public enum DtoEmitter {
+
+	/**
+	 * DTOs are rendered by merging the default template with Velocity.
+	 */
+	VELOCITY,
+
+	/**
+	 * DTOs are written by {@link DtoJavaEmitter} straight from their metadata,
+	 * with the same shape as the default (or immutable) template (and no
+	 * Velocity startup or merge).
+	 */
+	NATIVE;
+
+}
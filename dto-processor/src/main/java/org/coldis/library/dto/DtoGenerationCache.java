@@ -0,0 +1,440 @@
+package org.coldis.library.dto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Persistent DTO generation cache (see {@link DtoGenerator#CACHE_DIR_OPTION}).
+ * Generated DTOs are stored by a fingerprint of everything they are derived
+ * from, so a build can restore them without building their metadata or
+ * rendering them. The fingerprint covers:
+ * <ul>
+ * <li>the original type annotations (including {@link DtoType} and
+ * {@link DtoTypes});</li>
+ * <li>the annotations and method signatures (including {@link DtoAttribute} and
+ * {@link DtoAttributes}) of the original type and every supertype;</li>
+ * <li>the modifiers and constructors of the original type and every supertype
+ * (which decide if mappers can create the original type);</li>
+ * <li>the annotations, modifiers and constructors of the types referenced by
+ * those methods (which decide the referenced DTO types and their
+ * mappers);</li>
+ * <li>the template content, the processor and annotations artifacts (jars or
+ * class directories) and the generator settings affecting the output.</li>
+ * </ul>
+ * DTO mappers and JSON serializers are cached with their DTOs (see
+ * {@link #getMapperFingerprint(String)} and {@link #getJsonFingerprint(String)}).
+ * Entries are single files named after the fingerprint, written atomically,
+ * so the directory can be shared by CI cache save/restore steps. Entries are
+ * never removed, but their modification time is updated when used (so unused
+ * entries can be pruned by age).
+ */
+public class DtoGenerationCache {
+
+	/**
+	 * Cache format version (part of every fingerprint).
+	 */
+	private static final String FORMAT_VERSION = "1";
+
+	/**
+	 * Classes of the artifacts (jars or class directories) whose content is part
+	 * of every fingerprint: the processor and the annotations (with their
+	 * defaults).
+	 */
+	private static final List<Class<?>> GENERATOR_ARTIFACTS_CLASSES = List.of(DtoGenerator.class, DtoType.class);
+
+	/**
+	 * Rendered (source) entries extension.
+	 */
+	private static final String SOURCE_EXTENSION = ".dto";
+
+	/**
+	 * Class file entries extension.
+	 */
+	private static final String CLASS_EXTENSION = ".class";
+
+	/**
+	 * Mapper fingerprints suffix.
+	 */
+	private static final String MAPPER_SUFFIX = "-mapper";
+
+	/**
+	 * JSON serializers fingerprints suffix.
+	 */
+	private static final String JSON_SUFFIX = "-json";
+
+	/**
+	 * Cache directory.
+	 */
+	private final Path directory;
+
+	/**
+	 * Generator settings and classes hash.
+	 */
+	private final String generatorHash;
+
+	/**
+	 * Template hashes by template path.
+	 */
+	private final Map<String, String> templateHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param directory         Cache directory.
+	 * @param generatorSettings Generator settings affecting the output.
+	 */
+	public DtoGenerationCache(final Path directory, final String generatorSettings) {
+		super();
+		this.directory = directory;
+		// Hashes the generator settings and artifacts (once each, as they may be the
+		// same).
+		final MessageDigest generatorDigest = DtoGenerationCache.getDigest();
+		generatorDigest.update((DtoGenerationCache.FORMAT_VERSION + "\n" + generatorSettings + "\n").getBytes(StandardCharsets.UTF_8));
+		final Set<Path> generatorArtifacts = new LinkedHashSet<>();
+		for (final Class<?> generatorArtifactClass : DtoGenerationCache.GENERATOR_ARTIFACTS_CLASSES) {
+			generatorArtifacts.add(DtoGenerationCache.getArtifact(generatorArtifactClass));
+		}
+		for (final Path generatorArtifact : generatorArtifacts) {
+			DtoGenerationCache.updateDigest(generatorDigest, generatorArtifact);
+		}
+		this.generatorHash = HexFormat.of().formatHex(generatorDigest.digest());
+	}
+
+	/**
+	 * Gets a new SHA-256 digest.
+	 *
+	 * @return A new SHA-256 digest.
+	 */
+	private static MessageDigest getDigest() {
+		// Tries to get the digest.
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		// If the algorithm is not available.
+		catch (final NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256 is not available.", exception);
+		}
+	}
+
+	/**
+	 * Gets the artifact (jar or class directory) a class is loaded from.
+	 *
+	 * @param  artifactClass Class in the artifact.
+	 * @return               The artifact path.
+	 */
+	private static Path getArtifact(
+			final Class<?> artifactClass) {
+		// If the class has no code source, the artifact cannot be located.
+		final CodeSource codeSource = artifactClass.getProtectionDomain().getCodeSource();
+		if ((codeSource == null) || (codeSource.getLocation() == null)) {
+			throw new IllegalStateException("The artifact of '" + artifactClass.getName() + "' cannot be located.");
+		}
+		// Tries to get the artifact path.
+		try {
+			return Path.of(codeSource.getLocation().toURI());
+		}
+		// If the artifact cannot be located.
+		catch (final URISyntaxException | IllegalArgumentException | FileSystemNotFoundException exception) {
+			throw new IllegalStateException("The artifact of '" + artifactClass.getName() + "' cannot be located.", exception);
+		}
+	}
+
+	/**
+	 * Updates a digest with an artifact content (a jar, or every file in a class
+	 * directory, with their relative paths).
+	 *
+	 * @param digest   Digest.
+	 * @param artifact Artifact path.
+	 */
+	private static void updateDigest(
+			final MessageDigest digest,
+			final Path artifact) {
+		// Tries to read the artifact.
+		try {
+			if (Files.isDirectory(artifact)) {
+				try (final Stream<Path> artifactFiles = Files.walk(artifact)) {
+					for (final Path artifactFile : artifactFiles.filter(Files::isRegularFile).sorted().toList()) {
+						digest.update((artifact.relativize(artifactFile).toString() + "\n").getBytes(StandardCharsets.UTF_8));
+						digest.update(Files.readAllBytes(artifactFile));
+					}
+				}
+			}
+			else {
+				digest.update(Files.readAllBytes(artifact));
+			}
+		}
+		// If the artifact cannot be read.
+		catch (final IOException exception) {
+			throw new IllegalStateException("The artifact '" + artifact + "' cannot be read.", exception);
+		}
+	}
+
+	/**
+	 * Reads a resource from the generator class path.
+	 *
+	 * @param  resourcePath Resource path.
+	 * @return              The resource content.
+	 */
+	private static byte[] readResource(
+			final String resourcePath) {
+		// Tries to read the resource.
+		try (final InputStream resource = DtoGenerationCache.class.getClassLoader().getResourceAsStream(resourcePath)) {
+			if (resource == null) {
+				throw new IllegalStateException("The resource '" + resourcePath + "' cannot be found.");
+			}
+			return resource.readAllBytes();
+		}
+		// If the resource cannot be read.
+		catch (final IOException exception) {
+			throw new IllegalStateException("The resource '" + resourcePath + "' cannot be read.", exception);
+		}
+	}
+
+	/**
+	 * Gets a template hash.
+	 *
+	 * @param  templatePath Template path.
+	 * @return              The template hash.
+	 */
+	private String getTemplateHash(
+			final String templatePath) {
+		return this.templateHashes.computeIfAbsent(templatePath,
+				path -> HexFormat.of().formatHex(DtoGenerationCache.getDigest().digest(DtoGenerationCache.readResource(path))));
+	}
+
+	/**
+	 * Appends the annotations of the types referenced by a type (recursively
+	 * through type arguments, arrays and wildcards).
+	 *
+	 * @param fingerprint     Fingerprint.
+	 * @param type            Type.
+	 * @param referencedTypes Types already appended.
+	 */
+	private static void appendReferencedTypes(
+			final StringBuilder fingerprint,
+			final TypeMirror type,
+			final Set<String> referencedTypes) {
+		// Arrays reference their component type.
+		if (type instanceof final ArrayType arrayType) {
+			DtoGenerationCache.appendReferencedTypes(fingerprint, arrayType.getComponentType(), referencedTypes);
+		}
+		// Wildcards reference their bounds.
+		else if (type instanceof final WildcardType wildcardType) {
+			if (wildcardType.getExtendsBound() != null) {
+				DtoGenerationCache.appendReferencedTypes(fingerprint, wildcardType.getExtendsBound(), referencedTypes);
+			}
+			if (wildcardType.getSuperBound() != null) {
+				DtoGenerationCache.appendReferencedTypes(fingerprint, wildcardType.getSuperBound(), referencedTypes);
+			}
+		}
+		// Declared types reference themselves and their type arguments.
+		else if (type instanceof final DeclaredType declaredType) {
+			final TypeElement typeElement = (TypeElement) declaredType.asElement();
+			if (referencedTypes.add(typeElement.getQualifiedName().toString())) {
+				fingerprint.append("referenced ").append(typeElement.getQualifiedName()).append(' ').append(typeElement.getAnnotationMirrors()).append('\n');
+				DtoGenerationCache.appendConstructors(fingerprint, typeElement);
+			}
+			for (final TypeMirror typeArgument : declaredType.getTypeArguments()) {
+				DtoGenerationCache.appendReferencedTypes(fingerprint, typeArgument, referencedTypes);
+			}
+		}
+	}
+
+	/**
+	 * Appends a type modifiers and constructors.
+	 *
+	 * @param fingerprint Fingerprint.
+	 * @param type        Type.
+	 */
+	private static void appendConstructors(
+			final StringBuilder fingerprint,
+			final TypeElement type) {
+		fingerprint.append("modifiers ").append(type.getModifiers()).append(' ').append(type.getNestingKind()).append('\n');
+		for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			fingerprint.append("constructor ").append(constructor.getModifiers()).append(' ')
+					.append(constructor.getParameters().stream().map(parameter -> parameter.asType().toString()).toList()).append('\n');
+		}
+	}
+
+	/**
+	 * Appends a type (and its supertypes) declaration and methods.
+	 *
+	 * @param fingerprint     Fingerprint.
+	 * @param type            Type.
+	 * @param types           Types already appended.
+	 * @param referencedTypes Referenced types already appended.
+	 */
+	private static void appendType(
+			final StringBuilder fingerprint,
+			final TypeElement type,
+			final Set<String> types,
+			final Set<String> referencedTypes) {
+		// If the type has already been appended, returns.
+		if (!types.add(type.getQualifiedName().toString())) {
+			return;
+		}
+		// Appends the type declaration.
+		fingerprint.append("type ").append(type.getQualifiedName()).append(' ').append(type.getAnnotationMirrors()).append(' ').append(type.getSuperclass())
+				.append(' ').append(type.getInterfaces()).append('\n');
+		DtoGenerationCache.appendConstructors(fingerprint, type);
+		// Appends the type methods.
+		for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			fingerprint.append("method ").append(method.getModifiers()).append(' ').append(method.getAnnotationMirrors()).append(' ')
+					.append(method.getReturnType()).append(' ').append(method.getSimpleName()).append(method.getParameters().stream()
+							.map(parameter -> parameter.asType().toString()).toList())
+					.append('\n');
+			DtoGenerationCache.appendReferencedTypes(fingerprint, method.getReturnType(), referencedTypes);
+		}
+		// Appends the supertypes.
+		if (type.getSuperclass() instanceof final DeclaredType superclass) {
+			DtoGenerationCache.appendType(fingerprint, (TypeElement) superclass.asElement(), types, referencedTypes);
+		}
+		for (final TypeMirror interfaceType : type.getInterfaces()) {
+			if (interfaceType instanceof final DeclaredType declaredInterface) {
+				DtoGenerationCache.appendType(fingerprint, (TypeElement) declaredInterface.asElement(), types, referencedTypes);
+			}
+		}
+	}
+
+	/**
+	 * Gets the fingerprint of a DTO. Must run on the processing thread, as the
+	 * javax.lang.model API is not thread-safe.
+	 *
+	 * @param  originalType Original type generating the DTO.
+	 * @param  dtoTypeAnno  DTO type annotation.
+	 * @return              The DTO fingerprint.
+	 */
+	public String getFingerprint(
+			final TypeElement originalType,
+			final DtoType dtoTypeAnno) {
+		// Builds the fingerprint.
+		final StringBuilder fingerprint = new StringBuilder(4096);
+		fingerprint.append(this.generatorHash).append('\n');
+		fingerprint.append(this.getTemplateHash(DtoTypeMetadata.getTemplatePath(dtoTypeAnno))).append('\n');
+		fingerprint.append(originalType.getQualifiedName()).append('#').append(dtoTypeAnno.context()).append('\n');
+		DtoGenerationCache.appendType(fingerprint, originalType, new HashSet<>(), new HashSet<>());
+		// Returns its hash.
+		return HexFormat.of().formatHex(DtoGenerationCache.getDigest().digest(fingerprint.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Gets the fingerprint of a DTO mapper (cached next to the DTO, as it is
+	 * derived from the same inputs).
+	 *
+	 * @param  dtoFingerprint DTO fingerprint.
+	 * @return                The DTO mapper fingerprint.
+	 */
+	public static String getMapperFingerprint(
+			final String dtoFingerprint) {
+		return dtoFingerprint + DtoGenerationCache.MAPPER_SUFFIX;
+	}
+
+	/**
+	 * Gets the fingerprint of the DTO JSON serializers (cached next to the DTO,
+	 * empty if the DTO is not supported).
+	 *
+	 * @param  dtoFingerprint DTO fingerprint.
+	 * @return                The DTO JSON serializers fingerprint.
+	 */
+	public static String getJsonFingerprint(
+			final String dtoFingerprint) {
+		return dtoFingerprint + DtoGenerationCache.JSON_SUFFIX;
+	}
+
+	/**
+	 * Gets a cache entry file.
+	 *
+	 * @param  fingerprint DTO fingerprint.
+	 * @param  classFile   If the entry is a class file (or a rendered DTO).
+	 * @return             The cache entry file.
+	 */
+	private Path getEntry(
+			final String fingerprint,
+			final boolean classFile) {
+		return this.directory.resolve(fingerprint + (classFile ? DtoGenerationCache.CLASS_EXTENSION : DtoGenerationCache.SOURCE_EXTENSION));
+	}
+
+	/**
+	 * Gets a cached DTO.
+	 *
+	 * @param  fingerprint DTO fingerprint.
+	 * @param  classFile   If the DTO is a class file (or a rendered DTO).
+	 * @return             The cached DTO, or <code>null</code> if it is not
+	 *                     cached.
+	 */
+	public byte[] get(
+			final String fingerprint,
+			final boolean classFile) {
+		final Path entry = this.getEntry(fingerprint, classFile);
+		// Tries to read the entry.
+		try {
+			final byte[] content = Files.readAllBytes(entry);
+			Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+			return content;
+		}
+		// If the entry cannot be read, it is not cached.
+		catch (final IOException exception) {
+			return null;
+		}
+	}
+
+	/**
+	 * Caches a DTO.
+	 *
+	 * @param  fingerprint DTO fingerprint.
+	 * @param  classFile   If the DTO is a class file (or a rendered DTO).
+	 * @param  content     DTO content.
+	 * @throws IOException If the DTO cannot be cached.
+	 */
+	public void put(
+			final String fingerprint,
+			final boolean classFile,
+			final byte[] content) throws IOException {
+		// Writes the entry into a temporary file and then moves it, so concurrent
+		// builds never read partial entries.
+		Files.createDirectories(this.directory);
+		final Path temporaryEntry = Files.createTempFile(this.directory, fingerprint, ".tmp");
+		try {
+			Files.write(temporaryEntry, content);
+			try {
+				Files.move(temporaryEntry, this.getEntry(fingerprint, classFile), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			// If atomic moves are not supported, replaces the entry.
+			catch (final AtomicMoveNotSupportedException exception) {
+				Files.move(temporaryEntry, this.getEntry(fingerprint, classFile), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		// Makes sure the temporary file is removed.
+		finally {
+			Files.deleteIfExists(temporaryEntry);
+		}
+	}
+
+}
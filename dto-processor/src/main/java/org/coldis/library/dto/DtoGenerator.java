@@ -0,0 +1,1746 @@
+package org.coldis.library.dto;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.NoType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.coldis.library.helper.ReflectionHelper;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO generator.
+ *
+ * <p>Declared as a dynamic incremental processor (see
+ * <code>META-INF/gradle/incremental.annotation.processors</code> and
+ * {@link #getSupportedOptions()}). It is isolating with {@link DtoOutput#FILER}
+ * and {@link DtoOutput#CLASS}: each DTO is derived only from its original
+ * type, its supertypes and the {@link DtoType}-annotated types reachable from
+ * its attributes (see {@link #getDtoTypesInHierarchy(TypeMirror, String, Map)}),
+ * and is created with the original type as its single originating element.
+ * With {@link DtoOutput#FILE}, DTOs are written outside the filer, and with
+ * {@link #JSON_MODULE_OPTION} the JSON module depends on every DTO of the
+ * compilation, so it is aggregating.
+ */
+@SupportedSourceVersion(value = SourceVersion.RELEASE_21)
+@SupportedAnnotationTypes(value = { "org.coldis.library.dto.DtoType", "org.coldis.library.dto.DtoTypes" })
+@SupportedOptions(value = { DtoGenerator.PARALLELISM_OPTION, DtoGenerator.OUTPUT_OPTION, DtoGenerator.REPORT_OPTION, DtoGenerator.REPORT_SLOWEST_OPTION,
+		DtoGenerator.EMITTER_OPTION, DtoGenerator.CACHE_DIR_OPTION, DtoGenerator.CONTEXTS_OPTION, DtoGenerator.EXCLUDE_CONTEXTS_OPTION,
+		DtoGenerator.JSON_MODULE_OPTION })
+public class DtoGenerator extends AbstractProcessor {
+
+	/**
+	 * Rendering parallelism option (<code>-Adto.parallelism=N</code>). Metadata is
+	 * always collected serially; template merge and output writing fan out to N
+	 * workers. Defaults to 1 (serial); non-positive values use every available
+	 * processor.
+	 */
+	public static final String PARALLELISM_OPTION = "dto.parallelism";
+
+	/**
+	 * Output mode option (<code>-Adto.output=file|filer|class</code>). See
+	 * {@link DtoOutput}. Defaults to {@link DtoOutput#FILE}. With
+	 * {@link DtoOutput#CLASS}, only plain DTOs (default template, no copied
+	 * annotations and no default values) are emitted as class files. Any other
+	 * DTO is generated as source, and a note is logged for it.
+	 */
+	public static final String OUTPUT_OPTION = "dto.output";
+
+	/**
+	 * Report option (<code>-Adto.report=path</code>). When set, the time spent in
+	 * each generation phase and the generation counters are written as JSON to the
+	 * given path at the end of processing. See {@link DtoGeneratorReport}.
+	 */
+	public static final String REPORT_OPTION = "dto.report";
+
+	/**
+	 * Number of slowest DTOs listed in the report option
+	 * (<code>-Adto.report.slowest=N</code>). Defaults to 10.
+	 */
+	public static final String REPORT_SLOWEST_OPTION = "dto.report.slowest";
+
+	/**
+	 * Emitter option (<code>-Adto.emitter=velocity|native</code>) for DTOs using
+	 * the default template. See {@link DtoEmitter}. Defaults to
+	 * {@link DtoEmitter#VELOCITY}.
+	 */
+	public static final String EMITTER_OPTION = "dto.emitter";
+
+	/**
+	 * Generation cache directory option (<code>-Adto.cacheDir=path</code>). When
+	 * set, generated DTOs are stored by model fingerprint and restored in later
+	 * builds without building their metadata or rendering them. See
+	 * {@link DtoGenerationCache}.
+	 */
+	public static final String CACHE_DIR_OPTION = "dto.cacheDir";
+
+	/**
+	 * Included contexts option (<code>-Adto.contexts=api,event</code>). When set,
+	 * only DTOs of the given contexts are generated (use
+	 * {@link DtoContextFilter#DEFAULT_CONTEXT} for the default context). Other
+	 * DTOs are skipped before any metadata is built.
+	 */
+	public static final String CONTEXTS_OPTION = "dto.contexts";
+
+	/**
+	 * Excluded contexts option (<code>-Adto.excludeContexts=internal</code>). DTOs
+	 * of the given contexts are skipped before any metadata is built.
+	 */
+	public static final String EXCLUDE_CONTEXTS_OPTION = "dto.excludeContexts";
+
+	/**
+	 * JSON module option (<code>-Adto.jsonModule=org.acme.AcmeJsonDtoModule</code>).
+	 * When set, a Jackson module with the given qualified name (that should be
+	 * unique per artifact) registering the JSON serializers of every DTO of the
+	 * compilation (see {@link DtoType#jackson()}) is generated in the first
+	 * round without new DTOs (so it is compiled with the DTOs of every previous
+	 * round), and listed in the Jackson module services file. As the module
+	 * depends on every DTO of the compilation, the processor is then
+	 * aggregating. Disabled by default (the generated serializers must be
+	 * registered explicitly).
+	 */
+	public static final String JSON_MODULE_OPTION = "dto.jsonModule";
+
+	/**
+	 * Gradle isolating incremental processor option.
+	 */
+	private static final String GRADLE_ISOLATING_OPTION = "org.gradle.annotation.processing.isolating";
+
+	/**
+	 * Gradle aggregating incremental processor option.
+	 */
+	private static final String GRADLE_AGGREGATING_OPTION = "org.gradle.annotation.processing.aggregating";
+
+	/**
+	 * Jackson module services file (listing the generated JSON modules).
+	 */
+	private static final String JSON_MODULES_SERVICES_FILE = "META-INF/services/com.fasterxml.jackson.databind.Module";
+
+	/**
+	 * Logger.
+	 */
+	private static final Logger LOGGER = Logger.getLogger(DtoGenerator.class.getName());
+
+	/**
+	 * Velocity engine. Created on first use (so it is never started when every
+	 * DTO is written by the native emitter) and shared by every processing round.
+	 */
+	private volatile VelocityEngine velocityEngine;
+
+	/**
+	 * Emitter for DTOs using the default template.
+	 */
+	private DtoEmitter emitter = DtoEmitter.VELOCITY;
+
+	/**
+	 * Native emitter for the default template.
+	 */
+	private final DtoJavaEmitter javaEmitter = new DtoJavaEmitter();
+
+	/**
+	 * Mapper emitter (for DTOs with {@link DtoType#mapper()}).
+	 */
+	private final DtoMapperEmitter mapperEmitter = new DtoMapperEmitter();
+
+	/**
+	 * JSON serializers emitter (for DTOs with {@link DtoType#jackson()}).
+	 */
+	private final DtoJsonEmitter jsonEmitter = new DtoJsonEmitter();
+
+	/**
+	 * DTOs with JSON serializers written in the rounds so far (original type and
+	 * metadata), registered by the JSON module once the DTOs are generated.
+	 */
+	private final List<Entry<TypeElement, DtoTypeMetadata>> jsonDtos = new ArrayList<>();
+
+	/**
+	 * If the JSON module has been written.
+	 */
+	private boolean jsonModuleWritten;
+
+	/**
+	 * Class file emitter (for {@link DtoOutput#CLASS}).
+	 */
+	private DtoClassEmitter classEmitter;
+
+	/**
+	 * Generation cache (if enabled).
+	 */
+	private DtoGenerationCache generationCache;
+
+	/**
+	 * Fingerprints of the DTOs to be cached by DTO qualified name.
+	 */
+	private final Map<String, String> dtoFingerprints = new ConcurrentHashMap<>();
+
+	/**
+	 * Context filter.
+	 */
+	private DtoContextFilter contextFilter = DtoContextFilter.ALL;
+
+	/**
+	 * DTO hierarchy resolver (using the DTO type annotations cache).
+	 */
+	private DtoHierarchyResolver hierarchyResolver;
+
+	/**
+	 * Parsed templates by template path, shared by every processing round.
+	 */
+	private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * DTO type annotations by type qualified name and context.
+	 */
+	private final DtoResolutionCache<DtoType> dtoTypeAnnoCache = new DtoResolutionCache<>("DTO type annotations");
+
+	/**
+	 * DTO type metadata (without attributes) by type qualified name and context.
+	 */
+	private final DtoResolutionCache<DtoTypeMetadata> dtoTypeMetadataCache = new DtoResolutionCache<>("DTO type metadata");
+
+	/**
+	 * Original type scans by type qualified name.
+	 */
+	private final DtoResolutionCache<DtoTypeScan> typeScanCache = new DtoResolutionCache<>("Type scans");
+
+	/**
+	 * Reachable interface names by type qualified name.
+	 */
+	private final DtoResolutionCache<Set<String>> interfaceNamesCache = new DtoResolutionCache<>("Interface names");
+
+	/**
+	 * Annotation class members reader.
+	 */
+	private final DtoAnnotationValueReader annotationValueReader = new DtoAnnotationValueReader();
+
+	/**
+	 * DTOs written in the current round.
+	 */
+	private final AtomicInteger writtenDtos = new AtomicInteger();
+
+	/**
+	 * DTOs skipped in the current round because their content did not change.
+	 */
+	private final AtomicInteger skippedDtos = new AtomicInteger();
+
+	/**
+	 * Timing and counters report (disabled unless the report option is set).
+	 */
+	private DtoGeneratorReport report = new DtoGeneratorReport(false);
+
+	/**
+	 * @see javax.annotation.processing.AbstractProcessor#init(javax.annotation.processing.ProcessingEnvironment)
+	 */
+	@Override
+	public synchronized void init(
+			final ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		// Gets the emitter for the default template.
+		this.emitter = this.getEmitter();
+		// Creates the class file emitter (resolving binary names of known types).
+		this.classEmitter = new DtoClassEmitter(DtoClassEmitter.getClassVersion(processingEnv.getSourceVersion()), qualifiedName -> {
+			final TypeElement type = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+			return type == null ? null : processingEnv.getElementUtils().getBinaryName(type).toString();
+		});
+		// Gets the context filter.
+		this.contextFilter = new DtoContextFilter(processingEnv.getOptions().get(DtoGenerator.CONTEXTS_OPTION),
+				processingEnv.getOptions().get(DtoGenerator.EXCLUDE_CONTEXTS_OPTION));
+		this.hierarchyResolver = new DtoHierarchyResolver(this.contextFilter, this::getDtoTypeAnno);
+		// Enables the generation cache if requested (keyed by the settings affecting
+		// the output, as the source version setting the class files version).
+		final String cacheDir = StringUtils.trimToNull(processingEnv.getOptions().get(DtoGenerator.CACHE_DIR_OPTION));
+		if (cacheDir != null) {
+			this.generationCache = new DtoGenerationCache(Path.of(cacheDir), this.getOutput() + "," + this.emitter + "," + processingEnv.getSourceVersion());
+		}
+		// Enables the report if requested.
+		this.report = new DtoGeneratorReport(StringUtils.isNotBlank(processingEnv.getOptions().get(DtoGenerator.REPORT_OPTION)));
+	}
+
+	/**
+	 * Adds the Gradle incremental processor kind (aggregating unless every
+	 * generated file has a single originating element) to the supported options
+	 * (aggregating until the options are known).
+	 *
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedOptions()
+	 */
+	@Override
+	public Set<String> getSupportedOptions() {
+		final Set<String> supportedOptions = new HashSet<>(super.getSupportedOptions());
+		supportedOptions.add(this.isInitialized() && this.isIsolating() ? DtoGenerator.GRADLE_ISOLATING_OPTION : DtoGenerator.GRADLE_AGGREGATING_OPTION);
+		return supportedOptions;
+	}
+
+	/**
+	 * Gets if every generated file is derived only from its originating element
+	 * (the DTO original type).
+	 *
+	 * @return If the processor is isolating.
+	 */
+	private boolean isIsolating() {
+		return (this.getOutput() != DtoOutput.FILE) && (this.getJsonModule() == null);
+	}
+
+	/**
+	 * Gets the velocity engine, creating it on first use.
+	 *
+	 * @return The velocity engine.
+	 */
+	private VelocityEngine getVelocityEngine() {
+		// If the engine has not been created yet.
+		if (this.velocityEngine == null) {
+			synchronized (this) {
+				if (this.velocityEngine == null) {
+					// Creates the velocity engine.
+					final VelocityEngine velocityEngine = new VelocityEngine();
+					// Configures the resource loader to also look at the classpath.
+					velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
+					velocityEngine.setProperty("classpath.resource.loader.class", ClasspathResourceLoader.class.getName());
+					// Initializes the velocity engine.
+					velocityEngine.init();
+					this.velocityEngine = velocityEngine;
+				}
+			}
+		}
+		// Returns the engine.
+		return this.velocityEngine;
+	}
+
+	/**
+	 * Gets the parsed template for a template path, parsing it only on first use.
+	 *
+	 * @param  templatePath Template path.
+	 * @return              The parsed template.
+	 */
+	private Template getTemplate(
+			final String templatePath) {
+		return this.templates.computeIfAbsent(templatePath, path -> this.getVelocityEngine().getTemplate(path));
+	}
+
+	/**
+	 * Gets the DTO types in hierarchy recursively.
+	 *
+	 * @param  attributeOriginalType The type to get the DTOs type recursively.
+	 * @param  context               The DTO generation context.
+	 * @param  dtoTypesInHierarchy   The map with already found DTO types in
+	 *                                   hierarchy.
+	 * @return                       The DTO types in hierarchy recursively.
+	 */
+	public static Map<String, String> getDtoTypesInHierarchy(
+			final TypeMirror attributeOriginalType,
+			final String context,
+			final Map<String, String> dtoTypesInHierarchy) {
+		return DtoGenerator.getDtoTypesInHierarchy(attributeOriginalType, context, DtoContextFilter.ALL, dtoTypesInHierarchy);
+	}
+
+	/**
+	 * Gets the DTO types in hierarchy recursively, for the contexts accepted by a
+	 * filter.
+	 *
+	 * @param  attributeOriginalType The type to get the DTOs type recursively.
+	 * @param  context               The DTO generation context.
+	 * @param  contextFilter         The context filter (no DTO types are resolved
+	 *                                   for filtered out contexts).
+	 * @param  dtoTypesInHierarchy   The map with already found DTO types in
+	 *                                   hierarchy.
+	 * @return                       The DTO types in hierarchy recursively.
+	 */
+	public static Map<String, String> getDtoTypesInHierarchy(
+			final TypeMirror attributeOriginalType,
+			final String context,
+			final DtoContextFilter contextFilter,
+			final Map<String, String> dtoTypesInHierarchy) {
+		return new DtoHierarchyResolver(contextFilter).resolve(attributeOriginalType, context, dtoTypesInHierarchy);
+	}
+
+	/**
+	 * Checks if an annotation type is a Jackson annotation (meta-annotated as
+	 * one, or in the Jackson annotations package if the type cannot be found).
+	 *
+	 * @param  annotationTypeName Annotation type qualified name.
+	 * @return                    If the annotation type is a Jackson annotation.
+	 */
+	private boolean isJacksonAnnotation(
+			final String annotationTypeName) {
+		final TypeElement annotationType = this.processingEnv.getElementUtils().getTypeElement(annotationTypeName);
+		return (annotationType == null) ? annotationTypeName.startsWith(JacksonAnnotation.class.getPackageName() + ".")
+				: annotationType.getAnnotationMirrors().stream()
+						.map(annotation -> ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())
+						.anyMatch(annotation -> JacksonAnnotation.class.getName().equals(annotation) || JacksonAnnotationsInside.class.getName().equals(annotation));
+	}
+
+	/**
+	 * Gets the DTO attribute metadata.
+	 *
+	 * @param  context         The DTO context.
+	 * @param  attributeGetter The scanned attribute getter.
+	 * @return                 The DTO attribute metadata.
+	 */
+	private DtoAttributeMetadata getDtoAttributeMetadata(
+			final String context,
+			final DtoTypeScan.Getter attributeGetter) {
+		// Gets the default attribute metadata.
+		DtoAttributeMetadata dtoAttributeMetadata = null;
+		// Gets the DTO attribute metadata annotation.
+		final DtoAttribute dtoAttributeAnno = attributeGetter.getAttributeAnnotation(context);
+		// If the attribute should not be ignored.
+		if ((dtoAttributeAnno == null) || ((dtoAttributeAnno != null) && !dtoAttributeAnno.ignore())) {
+			// Gets the attribute original type (already unwrapped for Hibernate
+			// modified classes).
+			final TypeMirror attributeOriginalType = attributeGetter.getReturnType();
+			final String defaultAttrName = attributeGetter.getAttributeName();
+			// DTOs in attribute hierarchy.
+			final long hierarchyResolutionStart = this.report.start();
+			final Map<String, String> dtoTypesInAttrHier = this.hierarchyResolver.resolve(attributeOriginalType, context, new HashMap<>());
+			this.report.record(DtoGeneratorReport.Phase.HIERARCHY_RESOLUTION, hierarchyResolutionStart);
+			// Renders the attribute type, replacing original types by their DTO types.
+			final String attributeTypeName = new DtoTypeRenderer(dtoTypesInAttrHier).render(attributeOriginalType);
+			// Copied annotations.
+			final List<String> copiedAnnotationsTypesNames = ((dtoAttributeAnno == null) ? null
+					: this.readClassesValue(attributeGetter.getElement(), DtoAttribute.class, DtoAttributes.class, context,
+							"copiedAnnotations"));
+			final List<String> actualCopiedAnnotationsTypesNames = ((copiedAnnotationsTypesNames == null)
+					|| CollectionUtils.isEqualCollection(copiedAnnotationsTypesNames, List.of(void.class.getName().toString()))
+							? Arrays.stream(DtoAttribute.DEFAULT_COPIED_ANNOTATIONS).map(item -> item.getName().toString()).toList()
+							: copiedAnnotationsTypesNames);
+			final Set<String> copiedAnnotations = attributeGetter.getAnnotations().stream()
+					.filter(annotation -> actualCopiedAnnotationsTypesNames.contains(annotation.getKey())).map(Entry::getValue)
+					.collect(Collectors.toSet());
+			final String reducedCopiedAnnotations = copiedAnnotations.stream().reduce("", StringUtils::join);
+			// Gets the default attribute metadata.
+			dtoAttributeMetadata = new DtoAttributeMetadata(new ArrayList<>(), attributeTypeName, defaultAttrName, defaultAttrName, "", new String[] {}, false, false,
+					true, reducedCopiedAnnotations);
+			// Records if the copied annotations change the attribute JSON.
+			dtoAttributeMetadata.setJacksonAnnotated(attributeGetter.getAnnotations().stream().map(Entry::getKey)
+					.filter(actualCopiedAnnotationsTypesNames::contains).anyMatch(this::isJacksonAnnotation));
+			// If attribute is not required.
+			if (!dtoAttributeMetadata.getRequired()) {
+				// If there is a not null annotation.
+				if (attributeGetter.isNotNull()) {
+					// Sets the attribute as required.
+					dtoAttributeMetadata.setRequired(true);
+				}
+			}
+			// If the attribute metadata annotation is present.
+			if (dtoAttributeAnno != null) {
+				// Gets the attribute type value.
+				final String dtoAttributeTypeName = this.readClassValue(attributeGetter.getElement(), DtoAttribute.class, DtoAttributes.class,
+						context, "type");
+				// Updates the DTO attribute metadata from the annotation information.
+				dtoAttributeMetadata.setModifiers(Arrays.asList(dtoAttributeAnno.modifiers()));
+				// Explicit type names also have original types replaced by their DTO types.
+				dtoAttributeMetadata.setType(dtoAttributeAnno.typeName().isEmpty() ? dtoAttributeMetadata.getType()
+						: DtoTypeRenderer.replaceQualifiedNames(dtoAttributeAnno.typeName(), dtoTypesInAttrHier));
+				// Array class literals are ignored (the getter type is kept).
+				dtoAttributeMetadata.setType((dtoAttributeTypeName == null) || dtoAttributeTypeName.equals("void") || dtoAttributeTypeName.endsWith("[]")
+						? dtoAttributeMetadata.getType()
+						: DtoTypeRenderer.replaceQualifiedNames(dtoAttributeTypeName, dtoTypesInAttrHier));
+				dtoAttributeMetadata.setName(dtoAttributeAnno.name().isEmpty() ? dtoAttributeMetadata.getName() : dtoAttributeAnno.name());
+				dtoAttributeMetadata
+						.setDescription(dtoAttributeAnno.description().isEmpty() ? dtoAttributeMetadata.getDescription() : dtoAttributeAnno.description());
+				dtoAttributeMetadata.setDefaultValue(dtoAttributeAnno.defaultValue());
+				dtoAttributeMetadata.setValueFromOtherAttributes(dtoAttributeAnno.valueFromOtherAttributes());
+				dtoAttributeMetadata
+						.setRequired(dtoAttributeAnno.required() == org.coldis.library.dto.DtoAttribute.Bool.UNDEFINED ? dtoAttributeMetadata.getRequired()
+								: (dtoAttributeAnno.required() == org.coldis.library.dto.DtoAttribute.Bool.TRUE ? true : false));
+				dtoAttributeMetadata.setReadOnly(dtoAttributeAnno.readOnly());
+				dtoAttributeMetadata.setUsedInComparison(dtoAttributeAnno.usedInComparison());
+				
+			}
+		}
+		// Returns the attribute metadata.
+		return dtoAttributeMetadata;
+	}
+
+	/**
+	 * Gets the DTO type metadata from an original type and a context.
+	 *
+	 * @param  originalTypeElement Original type.
+	 * @param  context             DTO context.
+	 * @return                     The DTO type metadata from an original type and a
+	 *                             context.
+	 */
+	private DtoType getDtoTypeAnno(
+			final TypeElement originalTypeElement,
+			final String context) {
+		final long annotationLookupStart = this.report.start();
+		final DtoType dtoTypeAnno = this.dtoTypeAnnoCache.get(originalTypeElement.getQualifiedName() + "#" + context,
+				() -> DtoHierarchyResolver.findDtoTypeAnno(originalTypeElement, context));
+		this.report.record(DtoGeneratorReport.Phase.ANNOTATION_LOOKUP, annotationLookupStart);
+		return dtoTypeAnno;
+	}
+
+	/**
+	 * Reads a class annotation member (as a qualified name).
+	 *
+	 * @param  element        Annotated element.
+	 * @param  annotationType Annotation type.
+	 * @param  containerType  Repeated annotation container type.
+	 * @param  context        DTO context.
+	 * @param  member         Annotation member.
+	 * @return                The class qualified name.
+	 */
+	private String readClassValue(
+			final Element element,
+			final Class<? extends Annotation> annotationType,
+			final Class<? extends Annotation> containerType,
+			final String context,
+			final String member) {
+		final long annotationLookupStart = this.report.start();
+		final String classValue = this.annotationValueReader.getClassValue(element, annotationType, containerType, context, member);
+		this.report.record(DtoGeneratorReport.Phase.ANNOTATION_LOOKUP, annotationLookupStart);
+		return classValue;
+	}
+
+	/**
+	 * Reads a classes array annotation member (as qualified names).
+	 *
+	 * @param  element        Annotated element.
+	 * @param  annotationType Annotation type.
+	 * @param  containerType  Repeated annotation container type.
+	 * @param  context        DTO context.
+	 * @param  member         Annotation member.
+	 * @return                The classes qualified names.
+	 */
+	private List<String> readClassesValue(
+			final Element element,
+			final Class<? extends Annotation> annotationType,
+			final Class<? extends Annotation> containerType,
+			final String context,
+			final String member) {
+		final long annotationLookupStart = this.report.start();
+		final List<String> classesValue = this.annotationValueReader.getClassesValue(element, annotationType, containerType, context, member);
+		this.report.record(DtoGeneratorReport.Phase.ANNOTATION_LOOKUP, annotationLookupStart);
+		return classesValue;
+	}
+
+	/**
+	 * Gets the DTO type metadata.
+	 *
+	 * @param  originalType              The original type.
+	 * @param  dtoTypeAnno               The DTO type annotation.
+	 * @param  alsoGetAttributesMetadata If attributes metadata should also be
+	 *                                       retrieved.
+	 * @return                           The DTO type metadata.
+	 */
+	private DtoTypeMetadata getDtoTypeMetadata(
+			final TypeElement originalType,
+			final DtoType dtoTypeAnno,
+			final Boolean alsoGetAttributesMetadata) {
+		// Gets the default type metadata.
+		final DtoTypeMetadata dtoTypeMetadata = new DtoTypeMetadata(originalType.getQualifiedName().toString(), dtoTypeAnno);
+		// Honors @DtoType.dtoClass / dtoClassName: when the Model already has a hand-written DTO,
+		// skip generation and just record the mapping so child DTOs and runtime helpers can pair
+		// the Model with the existing class.
+		final String declaredDtoFromClass = this.readClassValue(originalType, DtoType.class, DtoTypes.class, dtoTypeAnno.context(), "dtoClass");
+		final String declaredDtoFromName = StringUtils.trimToNull(dtoTypeAnno.dtoClassName());
+		final String declaredDto = ((declaredDtoFromClass != null) && !void.class.getName().equals(declaredDtoFromClass)) ? declaredDtoFromClass
+				: declaredDtoFromName;
+		if (declaredDto != null) {
+			dtoTypeMetadata.setDeclaredDtoQualifiedName(declaredDto);
+		}
+		// Detects whether the original type's superclass also has a matching @DtoType so the
+		// generated DTO can mirror the Model's class hierarchy (parallel inheritance). When
+		// detected, only THIS class's enclosed getters are collected; parent attributes come from
+		// the parent DTO via super. Immutable DTOs are final, so they are always flat.
+		final TypeElement parentClass = (originalType.getSuperclass() instanceof DeclaredType)
+				? (TypeElement) ((DeclaredType) originalType.getSuperclass()).asElement()
+				: null;
+		final DtoType parentDtoTypeAnno = (parentClass == null) ? null : this.getDtoTypeAnno(parentClass, dtoTypeAnno.context());
+		final boolean mirrorHierarchy = (parentDtoTypeAnno != null) && Objects.equals(parentDtoTypeAnno.fileExtension(), dtoTypeAnno.fileExtension())
+				&& (dtoTypeAnno.style() != DtoStyle.IMMUTABLE) && (parentDtoTypeAnno.style() != DtoStyle.IMMUTABLE);
+		if (mirrorHierarchy) {
+			// If the parent declares an existing DTO class, child extends that directly. Otherwise
+			// we infer the parent DTO's qualified name from the parent's @DtoType (the legacy
+			// behavior).
+			final String parentDeclaredFromClass = this.readClassValue(parentClass, DtoType.class, DtoTypes.class, parentDtoTypeAnno.context(),
+					"dtoClass");
+			final String parentDeclaredFromName = StringUtils.trimToNull(parentDtoTypeAnno.dtoClassName());
+			final String parentDeclaredDto = ((parentDeclaredFromClass != null) && !void.class.getName().equals(parentDeclaredFromClass))
+					? parentDeclaredFromClass
+					: parentDeclaredFromName;
+			if (parentDeclaredDto != null) {
+				dtoTypeMetadata.setParentDtoQualifiedName(parentDeclaredDto);
+			}
+			else {
+				final DtoTypeMetadata parentMetadata = new DtoTypeMetadata(parentClass.getQualifiedName().toString(), parentDtoTypeAnno);
+				dtoTypeMetadata.setParentDtoQualifiedName(parentMetadata.getQualifiedName());
+				// The parent attributes are mapped by the parent mapper (if any).
+				if (parentMetadata.isHasMapper()) {
+					dtoTypeMetadata.setParentMapperQualifiedName(parentMetadata.getMapperQualifiedName());
+				}
+			}
+		}
+		// Resolves the list of candidate interfaces declared on the annotation (or the coldis
+		// defaults when the sentinel is in place), then intersects it with the interfaces the
+		// Model actually implements. Anything declared but not fulfilled by the Model is dropped
+		// so the generated DTO never claims to implement something it cannot.
+		final List<String> declaredInterfaces = this.readClassesValue(originalType, DtoType.class, DtoTypes.class, dtoTypeAnno.context(),
+				"interfaces");
+		final List<String> candidateInterfaces;
+		if ((declaredInterfaces == null) || CollectionUtils.isEqualCollection(declaredInterfaces, List.of(void.class.getName()))) {
+			candidateInterfaces = Arrays.stream(DtoType.DEFAULT_INTERFACES).map(Class::getName).toList();
+		}
+		else {
+			candidateInterfaces = declaredInterfaces;
+		}
+		if (!candidateInterfaces.isEmpty()) {
+			// When mirroring the parent hierarchy, only emit interfaces that this class itself
+			// (or its non-DTO ancestors) introduces — anything implemented by the parent Model is
+			// already on the parent DTO and re-declaring it would be redundant. Without mirroring,
+			// the DTO is flat, so every reachable interface from the Model graph is fair game.
+			final Set<String> originalInterfaces;
+			if (mirrorHierarchy) {
+				originalInterfaces = new HashSet<>();
+				for (final TypeMirror declaredInterface : originalType.getInterfaces()) {
+					if (declaredInterface instanceof DeclaredType) {
+						final TypeElement interfaceElement = (TypeElement) ((DeclaredType) declaredInterface).asElement();
+						originalInterfaces.add(interfaceElement.getQualifiedName().toString());
+						originalInterfaces.addAll(this.collectAllInterfaceNames(interfaceElement));
+					}
+				}
+			}
+			else {
+				originalInterfaces = this.collectAllInterfaceNames(originalType);
+			}
+			final List<String> applicableInterfaces = candidateInterfaces.stream().filter(originalInterfaces::contains).toList();
+			if (!applicableInterfaces.isEmpty()) {
+				dtoTypeMetadata.setImplementedInterfaceNames(new ArrayList<>(applicableInterfaces));
+			}
+		}
+		// Records if mappers can create the original type.
+		dtoTypeMetadata.setOriginalInstantiable(DtoGenerator.isInstantiable(originalType));
+		// If attributes metadata should also be retrieved.
+		if (alsoGetAttributesMetadata) {
+			// Gets the original type scan (shared by every context of the type).
+			final DtoTypeScan originalTypeScan = this.typeScanCache.get(originalType.getQualifiedName().toString(), () -> this.scanType(originalType));
+			// For each scanned getter.
+			for (final DtoTypeScan.Getter currentGetter : originalTypeScan.getGetters()) {
+				// When mirroring the parent DTO, only this class getters are used — parent
+				// attributes will be inherited from the parent DTO. Otherwise the whole hierarchy
+				// is used (legacy flat behavior, preserved for backward compatibility). If there
+				// is no parent mapper, the mapper still copies the parent attributes itself.
+				final boolean inheritedGetter = mirrorHierarchy && (currentGetter.getHierarchyLevel() > 0);
+				if (inheritedGetter && (!dtoTypeMetadata.isHasMapper() || (dtoTypeMetadata.getParentMapperQualifiedName() != null))) {
+					break;
+				}
+				// Gets the attribute metadata.
+				final DtoAttributeMetadata dtoAttributeMetadata = this.getDtoAttributeMetadata(dtoTypeMetadata.getContext(), currentGetter);
+				// If the attribute metadata is retrieved.
+				if (dtoAttributeMetadata != null) {
+					// Adds the DTO attribute for later conversion (or only for the mapper, if
+					// inherited).
+					(inheritedGetter ? dtoTypeMetadata.getInheritedMappedAttributes() : dtoTypeMetadata.getAttributes()).add(dtoAttributeMetadata);
+					// If the DTO has a mapper, resolves the attribute conversions.
+					if (dtoTypeMetadata.isHasMapper()) {
+						this.resolveAttributeMapping(originalType, dtoTypeMetadata, currentGetter, dtoAttributeMetadata);
+					}
+				}
+			}
+		}
+		// Returns the type metadata.
+		return dtoTypeMetadata;
+	}
+
+	/**
+	 * Checks if an original type can be created by mappers (it is a public
+	 * concrete class with a public no arguments constructor).
+	 *
+	 * @param  originalType Original type.
+	 * @return              If the original type can be created by mappers.
+	 */
+	private static boolean isInstantiable(
+			final TypeElement originalType) {
+		return (originalType.getKind() == ElementKind.CLASS) && originalType.getModifiers().contains(Modifier.PUBLIC)
+				&& !originalType.getModifiers().contains(Modifier.ABSTRACT)
+				&& ((originalType.getNestingKind() == NestingKind.TOP_LEVEL) || originalType.getModifiers().contains(Modifier.STATIC))
+				&& ElementFilter.constructorsIn(originalType.getEnclosedElements()).stream()
+						.anyMatch(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty());
+	}
+
+	/**
+	 * Finds the original type setter of an attribute (a public method with the
+	 * getter return type as its only parameter).
+	 *
+	 * @param  originalType Original type.
+	 * @param  getter       Attribute getter.
+	 * @return              The setter name, or {@code null} if there is no setter.
+	 */
+	private String findSetter(
+			final TypeElement originalType,
+			final DtoTypeScan.Getter getter) {
+		final String setterName = "set" + StringUtils.capitalize(getter.getAttributeName());
+		final TypeMirror attributeType = this.processingEnv.getTypeUtils().erasure(getter.getElement().getReturnType());
+		// For each type in the hierarchy.
+		for (TypeElement currentClass = originalType; currentClass != null; currentClass = currentClass.getSuperclass() instanceof DeclaredType
+				? (TypeElement) ((DeclaredType) currentClass.getSuperclass()).asElement()
+				: null) {
+			// If the type has the setter, returns it.
+			for (final ExecutableElement currentMethod : ElementFilter.methodsIn(currentClass.getEnclosedElements())) {
+				if (currentMethod.getSimpleName().contentEquals(setterName) && currentMethod.getModifiers().contains(Modifier.PUBLIC)
+						&& !currentMethod.getModifiers().contains(Modifier.STATIC) && (currentMethod.getParameters().size() == 1)
+						&& this.processingEnv.getTypeUtils().isSameType(attributeType,
+								this.processingEnv.getTypeUtils().erasure(currentMethod.getParameters().get(0).asType()))) {
+					return setterName;
+				}
+			}
+		}
+		// If there is no setter.
+		return null;
+	}
+
+	/**
+	 * Resolves the mapper conversions of an attribute (the expressions converting
+	 * the attribute to the DTO and back, and the conversion methods they need).
+	 *
+	 * @param originalType         Original type.
+	 * @param dtoTypeMetadata      DTO type metadata.
+	 * @param attributeGetter      The scanned attribute getter.
+	 * @param dtoAttributeMetadata DTO attribute metadata.
+	 */
+	private void resolveAttributeMapping(
+			final TypeElement originalType,
+			final DtoTypeMetadata dtoTypeMetadata,
+			final DtoTypeScan.Getter attributeGetter,
+			final DtoAttributeMetadata dtoAttributeMetadata) {
+		// Gets the original getter and setter.
+		final String context = dtoTypeMetadata.getContext();
+		dtoAttributeMetadata.setOriginalGetterName(attributeGetter.getElement().getSimpleName().toString());
+		dtoAttributeMetadata.setOriginalSetterName(this.findSetter(originalType, attributeGetter));
+		// Renders the conversions (nested DTOs metadata comes from the resolution
+		// cache).
+		final TypeMirror attributeOriginalType = attributeGetter.getReturnType();
+		final DtoMappingRenderer mappingRenderer = new DtoMappingRenderer(dtoAttributeMetadata.getName(),
+				this.hierarchyResolver.resolve(attributeOriginalType, context, new HashMap<>()), typeElement -> {
+					final DtoType typeDtoTypeAnno = this.getDtoTypeAnno(typeElement, context);
+					return (typeDtoTypeAnno == null) ? null
+							: this.dtoTypeMetadataCache.get(typeElement.getQualifiedName() + "#" + context,
+									() -> this.getDtoTypeMetadata(typeElement, typeDtoTypeAnno, false));
+				}, dtoTypeMetadata.getMapperMethods());
+		dtoAttributeMetadata.setToDtoExpression(mappingRenderer.render(attributeOriginalType, dtoAttributeMetadata.getType(),
+				"model." + dtoAttributeMetadata.getOriginalGetterName() + "()", true));
+		dtoAttributeMetadata.setToModelExpression(mappingRenderer.render(attributeOriginalType, dtoAttributeMetadata.getType(),
+				"dto.get" + dtoAttributeMetadata.getCapitalizedName() + "()", false));
+	}
+
+	/**
+	 * Gets the DTO attribute annotations of a getter by context. A direct
+	 * {@link DtoAttribute} wins over the ones in {@link DtoAttributes} (where the
+	 * last one for a context wins).
+	 *
+	 * @param  getter Getter.
+	 * @return        The DTO attribute annotations of the getter by context.
+	 */
+	private static Map<String, DtoAttribute> getDtoAttributeAnnos(
+			final Element getter) {
+		final Map<String, DtoAttribute> dtoAttributeAnnos = new HashMap<>();
+		// Gets DTO attributes metadata annotation.
+		final DtoAttributes dtoAttributesAnno = getter.getAnnotation(DtoAttributes.class);
+		if (dtoAttributesAnno != null) {
+			for (final DtoAttribute currentDtoAttributeAnno : dtoAttributesAnno.attributes()) {
+				dtoAttributeAnnos.put(currentDtoAttributeAnno.context(), currentDtoAttributeAnno);
+			}
+		}
+		// Gets DTO attribute metadata annotation.
+		final DtoAttribute dtoAttributeAnno = getter.getAnnotation(DtoAttribute.class);
+		if (dtoAttributeAnno != null) {
+			dtoAttributeAnnos.put(dtoAttributeAnno.context(), dtoAttributeAnno);
+		}
+		return dtoAttributeAnnos;
+	}
+
+	/**
+	 * Scans an original type getters (including the inherited ones) once, so the
+	 * DTO type metadata of each context can be derived from it.
+	 *
+	 * @param  originalType Original type.
+	 * @return              The original type scan.
+	 */
+	private DtoTypeScan scanType(
+			final TypeElement originalType) {
+		final DtoTypeScan originalTypeScan = new DtoTypeScan();
+		// Getters already scanned by signature, so overridden getters are only scanned for the most
+		// specific class.
+		final Set<DtoTypeScan.Signature> scannedGetters = new HashSet<>();
+		// Current type. Initially the given one, an then its super types.
+		TypeElement currentClass = originalType;
+		int currentHierarchyLevel = 0;
+		int visitedMethods = 0;
+		// For each type in the hierarchy.
+		while ((currentClass != null) && !(currentClass instanceof NoType)) {
+			// For each class method.
+			for (final ExecutableElement currentGetter : ElementFilter.methodsIn(currentClass.getEnclosedElements())) {
+				visitedMethods++;
+				// If the method is a public getter (no arguments) and not a bridge method.
+				if (currentGetter.getModifiers().contains(Modifier.PUBLIC) && (!currentGetter.getModifiers().contains(Modifier.STATIC))
+						&& (currentGetter.getSimpleName().toString().startsWith("get") || currentGetter.getSimpleName().toString().startsWith("is"))
+						&& currentGetter.getParameters().isEmpty()
+						&& !this.processingEnv.getElementUtils().isBridge(currentGetter)) {
+					// Gets the attribute name.
+					final String attributeName = ReflectionHelper.getAttributeName(currentGetter.getSimpleName().toString());
+					// If the attribute has not been added yet (for override attributes).
+					if ((!"class".equals(attributeName))
+							&& scannedGetters.add(new DtoTypeScan.Signature(originalTypeScan, currentGetter.getSimpleName().toString()))) {
+						// Gets the getter annotations.
+						final long annotationLookupStart = this.report.start();
+						final Map<String, DtoAttribute> dtoAttributeAnnos = DtoGenerator.getDtoAttributeAnnos(currentGetter);
+						final List<Entry<String, String>> getterAnnotations = currentGetter.getAnnotationMirrors().stream()
+								.map(annotation -> Map.entry(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString(),
+										annotation.toString()))
+								.toList();
+						final boolean notNull = currentGetter.getAnnotation(NotNull.class) != null;
+						this.report.record(DtoGeneratorReport.Phase.ANNOTATION_LOOKUP, annotationLookupStart);
+						// Scans the getter.
+						originalTypeScan.getGetters().add(new DtoTypeScan.Getter(currentGetter, attributeName, currentHierarchyLevel,
+								DtoTypeMirrorUnwrapper.unwrap(currentGetter.getReturnType()), dtoAttributeAnnos, getterAnnotations, notNull));
+					}
+				}
+			}
+			// The current class is the late class superclass.
+			currentClass = currentClass.getSuperclass() instanceof DeclaredType ? (TypeElement) ((DeclaredType) currentClass.getSuperclass()).asElement()
+					: null;
+			currentHierarchyLevel++;
+		}
+		// Counts and returns the scan.
+		this.report.countTypeScan(visitedMethods, originalTypeScan.getGetters().size(), originalTypeScan.getSignatureComparisons());
+		return originalTypeScan;
+	}
+
+	/**
+	 * Recursively collects the qualified names of every interface implemented (directly or
+	 * transitively) by the given type and its superclasses. Used to validate that interfaces
+	 * declared in {@link DtoType#interfaces()} are actually fulfilled by the Model. Results
+	 * are cached per type, so shared ancestors are only walked once.
+	 *
+	 * @param  type Type to inspect.
+	 * @return      Qualified names of all reachable interfaces.
+	 */
+	private Set<String> collectAllInterfaceNames(
+			final TypeElement type) {
+		return this.interfaceNamesCache.get(type.getQualifiedName().toString(), () -> {
+			final Set<String> interfaceNames = new HashSet<>();
+			for (final TypeMirror declaredInterface : type.getInterfaces()) {
+				if (declaredInterface instanceof DeclaredType) {
+					final TypeElement interfaceElement = (TypeElement) ((DeclaredType) declaredInterface).asElement();
+					interfaceNames.add(interfaceElement.getQualifiedName().toString());
+					interfaceNames.addAll(this.collectAllInterfaceNames(interfaceElement));
+				}
+			}
+			if (type.getSuperclass() instanceof DeclaredType) {
+				final TypeElement superElement = (TypeElement) ((DeclaredType) type.getSuperclass()).asElement();
+				interfaceNames.addAll(this.collectAllInterfaceNames(superElement));
+			}
+			return Collections.unmodifiableSet(interfaceNames);
+		});
+	}
+
+	/**
+	 * Gets the configured rendering parallelism.
+	 *
+	 * @return The configured rendering parallelism.
+	 */
+	private int getParallelism() {
+		// Gets the parallelism option.
+		final String parallelism = StringUtils.trimToNull(this.processingEnv.getOptions().get(DtoGenerator.PARALLELISM_OPTION));
+		// If the option is not set, renders serially.
+		if (parallelism == null) {
+			return 1;
+		}
+		// Tries to parse the option.
+		try {
+			final int parsedParallelism = Integer.parseInt(parallelism);
+			// Non-positive values use every available processor.
+			return parsedParallelism > 0 ? parsedParallelism : Runtime.getRuntime().availableProcessors();
+		}
+		// If the option is not a number.
+		catch (final NumberFormatException exception) {
+			DtoGenerator.LOGGER.warning("Invalid " + DtoGenerator.PARALLELISM_OPTION + " option '" + parallelism + "'. Rendering DTOs serially.");
+			return 1;
+		}
+	}
+
+	/**
+	 * Hashes content.
+	 *
+	 * @param  content Content.
+	 * @return         The content hash.
+	 */
+	private static byte[] hash(
+			final byte[] content) {
+		// Tries to hash the content.
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content);
+		}
+		// SHA-256 is required to be available in every JVM.
+		catch (final NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/**
+	 * Writes the DTO file only if its content has changed, so unchanged DTOs keep
+	 * their modification time and do not trigger downstream recompilation.
+	 *
+	 * @param  dtoFile     DTO file.
+	 * @param  dtoContent  Rendered DTO content.
+	 * @return             If the file has been written.
+	 * @throws IOException If the file cannot be read or written.
+	 */
+	private static boolean writeIfChanged(
+			final File dtoFile,
+			final String dtoContent) throws IOException {
+		// Gets the rendered content.
+		final byte[] dtoBytes = dtoContent.getBytes(StandardCharsets.UTF_8);
+		// If the existing file has the same content, skips it.
+		if (dtoFile.isFile() && (dtoFile.length() == dtoBytes.length)
+				&& MessageDigest.isEqual(DtoGenerator.hash(dtoBytes), DtoGenerator.hash(FileUtils.readFileToByteArray(dtoFile)))) {
+			return false;
+		}
+		// Otherwise, writes the file.
+		FileUtils.forceMkdir(dtoFile.getParentFile());
+		FileUtils.writeByteArrayToFile(dtoFile, dtoBytes);
+		return true;
+	}
+
+	/**
+	 * Gets the configured output mode.
+	 *
+	 * @return The configured output mode.
+	 */
+	private DtoOutput getOutput() {
+		// Gets the output option.
+		final String output = StringUtils.trimToNull(this.processingEnv.getOptions().get(DtoGenerator.OUTPUT_OPTION));
+		// Tries to parse the option (defaults to writing files directly).
+		try {
+			return output == null ? DtoOutput.FILE : DtoOutput.valueOf(output.toUpperCase());
+		}
+		// If the option is not valid.
+		catch (final IllegalArgumentException exception) {
+			DtoGenerator.LOGGER.warning("Invalid " + DtoGenerator.OUTPUT_OPTION + " option '" + output + "'. Writing DTOs directly to their target path.");
+			return DtoOutput.FILE;
+		}
+	}
+
+	/**
+	 * Gets the configured emitter for DTOs using the default template.
+	 *
+	 * @return The configured emitter.
+	 */
+	private DtoEmitter getEmitter() {
+		// Gets the emitter option.
+		final String emitter = StringUtils.trimToNull(this.processingEnv.getOptions().get(DtoGenerator.EMITTER_OPTION));
+		// Tries to parse the option (defaults to velocity).
+		try {
+			return emitter == null ? DtoEmitter.VELOCITY : DtoEmitter.valueOf(emitter.toUpperCase());
+		}
+		// If the option is not valid.
+		catch (final IllegalArgumentException exception) {
+			DtoGenerator.LOGGER.warning("Invalid " + DtoGenerator.EMITTER_OPTION + " option '" + emitter + "'. Rendering DTOs with velocity.");
+			return DtoEmitter.VELOCITY;
+		}
+	}
+
+	/**
+	 * Renders a DTO in memory.
+	 *
+	 * @param  dtoTypeMetadata DTO type metadata.
+	 * @return                 The rendered DTO.
+	 */
+	private String renderDto(
+			final DtoTypeMetadata dtoTypeMetadata) {
+		// If the DTO uses the default template (of its style) and the native emitter
+		// is enabled, emits it directly.
+		if ((this.emitter == DtoEmitter.NATIVE)
+				&& (dtoTypeMetadata.isImmutable() ? DtoType.IMMUTABLE_TEMPLATE_PATH : DtoType.DEFAULT_TEMPLATE_PATH).equals(dtoTypeMetadata.getTemplatePath())
+				&& "java".equals(dtoTypeMetadata.getFileExtension())) {
+			final long emitStart = this.report.start();
+			final String dtoContent = this.javaEmitter.emit(dtoTypeMetadata);
+			this.report.record(DtoGeneratorReport.Phase.TEMPLATE_MERGE, emitStart);
+			this.report.recordDto(dtoTypeMetadata.getQualifiedName(), emitStart);
+			return dtoContent;
+		}
+		// Creates a new velocity context and sets its variables.
+		final VelocityContext velocityContext = new VelocityContext();
+		velocityContext.put("dto", dtoTypeMetadata);
+		velocityContext.put("newLine", "\r\n");
+		velocityContext.put("tab", "\t");
+		velocityContext.put("h", "#");
+		// Gets the template for the DTO.
+		final long templateMergeStart = this.report.start();
+		final Template dtoTemplate = this.getTemplate(dtoTypeMetadata.getTemplatePath());
+		// Renders the generated class code in memory.
+		final StringWriter dtoWriter = new StringWriter();
+		dtoTemplate.merge(velocityContext, dtoWriter);
+		this.report.record(DtoGeneratorReport.Phase.TEMPLATE_MERGE, templateMergeStart);
+		this.report.recordDto(dtoTypeMetadata.getQualifiedName(), templateMergeStart);
+		return dtoWriter.toString();
+	}
+
+	/**
+	 * Writes a rendered DTO. When writing through the {@link Filer}, the original
+	 * type is the originating element of the generated file and the call must
+	 * happen on the processing thread.
+	 *
+	 * @param  originalType    Original type information.
+	 * @param  dtoTypeMetadata DTO type metadata.
+	 * @param  dtoContent      Rendered DTO content.
+	 * @param  output          Output mode.
+	 * @return                 If the DTO file has been written (or skipped because
+	 *                         its content did not change).
+	 * @throws IOException     If the DTO cannot be written.
+	 */
+	private boolean writeDto(
+			final TypeElement originalType,
+			final DtoTypeMetadata dtoTypeMetadata,
+			final String dtoContent,
+			final DtoOutput output) throws IOException {
+		final long fileWriteStart = this.report.start();
+		// Tries to write the DTO.
+		try {
+			return this.writeDtoFile(originalType, dtoTypeMetadata, dtoContent, output);
+		}
+		// Records the write time.
+		finally {
+			this.report.record(DtoGeneratorReport.Phase.FILE_WRITE, fileWriteStart);
+			this.report.recordDto(dtoTypeMetadata.getQualifiedName(), fileWriteStart);
+		}
+	}
+
+	/**
+	 * Writes a rendered DTO file (through the {@link Filer} or directly into the
+	 * target path).
+	 *
+	 * @param  originalType    Original type information.
+	 * @param  dtoTypeMetadata DTO type metadata.
+	 * @param  dtoContent      Rendered DTO content.
+	 * @param  output          Output mode.
+	 * @return                 If the DTO file has been written (or skipped because
+	 *                         its content did not change).
+	 * @throws IOException     If the DTO cannot be written.
+	 */
+	private boolean writeDtoFile(
+			final TypeElement originalType,
+			final DtoTypeMetadata dtoTypeMetadata,
+			final String dtoContent,
+			final DtoOutput output) throws IOException {
+		// If the DTO should be written through the filer.
+		if (output == DtoOutput.FILER) {
+			// Java DTOs are created as source files (so they are compiled in the same
+			// pass) and other DTOs as source output resources.
+			final Filer filer = this.processingEnv.getFiler();
+			final FileObject dtoFile = "java".equals(dtoTypeMetadata.getFileExtension())
+					? filer.createSourceFile(dtoTypeMetadata.getQualifiedName(), originalType)
+					: filer.createResource(StandardLocation.SOURCE_OUTPUT, dtoTypeMetadata.getNamespace(),
+							dtoTypeMetadata.getName() + "." + dtoTypeMetadata.getFileExtension(), originalType);
+			try (final Writer dtoWriter = dtoFile.openWriter()) {
+				dtoWriter.write(dtoContent);
+			}
+			return true;
+		}
+		// Otherwise, writes the DTO file into the target path if it has changed.
+		else {
+			final File dtoFile = new File(dtoTypeMetadata.getTargetPath() + File.separator + dtoTypeMetadata.getFileNamespace(),
+					dtoTypeMetadata.getName() + "." + dtoTypeMetadata.getFileExtension());
+			return DtoGenerator.writeIfChanged(dtoFile, dtoContent);
+		}
+	}
+
+	/**
+	 * Gets the metadata for a DTO to be generated. Must run on the processing
+	 * thread, as the javax.lang.model API is not thread-safe.
+	 *
+	 * @param  originalType Original type generating the DTO.
+	 * @param  dtoMetadata  DTO metadata.
+	 * @return              The DTO type metadata, or <code>null</code> if no DTO
+	 *                      should be generated.
+	 */
+	private DtoTypeMetadata getDtoTypeMetadata(
+			final TypeElement originalType,
+			final DtoType dtoMetadata) {
+		// Tries to get the DTO metadata.
+		final long metadataBuildingStart = this.report.start();
+		try {
+			// Gets the DTO metadata.
+			final DtoTypeMetadata dtoTypeMetadata = this.getDtoTypeMetadata(originalType, dtoMetadata, true);
+			this.report.record(DtoGeneratorReport.Phase.METADATA_BUILDING, metadataBuildingStart);
+			this.report.recordDto(dtoTypeMetadata.getQualifiedName(), metadataBuildingStart);
+			// When an explicit DTO class is declared via @DtoType.dtoClass / dtoClassName, the
+			// caller is reusing an existing hand-written class — emit nothing, the mapping is
+			// just recorded for children + runtime tooling.
+			if (dtoTypeMetadata.isHasDeclaredDto()) {
+				DtoGenerator.LOGGER.fine("Skipping DTO emission for " + originalType.getQualifiedName()
+						+ " — declared DTO is " + dtoTypeMetadata.getDeclaredDtoQualifiedName() + ".");
+				return null;
+			}
+			// Returns the metadata.
+			this.report.countDto(dtoTypeMetadata);
+			return dtoTypeMetadata;
+		}
+		// If there is a problem getting the DTO metadata.
+		catch (final Exception exception) {
+			// Logs it.
+			this.report.countFailedDto();
+			DtoGenerator.LOGGER.warning("DTO " + dtoMetadata.name() + " not created successfully:" + exception.getLocalizedMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a rendered DTO, logging any problem.
+	 *
+	 * @param originalType    Original type generating the DTO.
+	 * @param dtoTypeMetadata DTO type metadata.
+	 * @param dtoContent      Rendered DTO content.
+	 * @param output          Output mode.
+	 */
+	private void writeDtoSafely(
+			final TypeElement originalType,
+			final DtoTypeMetadata dtoTypeMetadata,
+			final String dtoContent,
+			final DtoOutput output) {
+		// Tries to write the DTO.
+		try {
+			final boolean written = this.writeDto(originalType, dtoTypeMetadata, dtoContent, output);
+			this.cacheDto(dtoTypeMetadata, false, dtoContent.getBytes(StandardCharsets.UTF_8));
+			if (written) {
+				this.writtenDtos.incrementAndGet();
+				this.report.countWrittenFile();
+				DtoGenerator.LOGGER.info("DTO " + dtoTypeMetadata.getName() + " created successfully.");
+			}
+			else {
+				this.skippedDtos.incrementAndGet();
+				this.report.countSkippedFile();
+				DtoGenerator.LOGGER.fine("DTO " + dtoTypeMetadata.getName() + " unchanged.");
+			}
+		}
+		// If there is a problem writing the DTO.
+		catch (final Exception exception) {
+			// Logs it.
+			this.report.countFailedDto();
+			DtoGenerator.LOGGER.warning("DTO " + dtoTypeMetadata.getName() + " not created successfully:" + exception.getLocalizedMessage());
+		}
+	}
+
+	/**
+	 * Generates the DTO from type and metadata. Does not touch the
+	 * javax.lang.model API, so it may run on a worker thread. DTOs written
+	 * through the {@link Filer} are only rendered, as the filer must be used
+	 * from the processing thread.
+	 *
+	 * @param  originalType    Original type generating the DTO.
+	 * @param  dtoTypeMetadata DTO type metadata.
+	 * @param  output          Output mode.
+	 * @return                 The rendered DTO if it still has to be written on
+	 *                         the processing thread, <code>null</code> otherwise.
+	 */
+	private String generateDtoSafely(
+			final TypeElement originalType,
+			final DtoTypeMetadata dtoTypeMetadata,
+			final DtoOutput output) {
+		// Tries to render the DTO.
+		try {
+			DtoGenerator.LOGGER.fine("Generating DTO " + dtoTypeMetadata.getName() + ".");
+			final String dtoContent = this.renderDto(dtoTypeMetadata);
+			// If the DTO must be written on the processing thread, returns it.
+			if (output == DtoOutput.FILER) {
+				return dtoContent;
+			}
+			// Otherwise, writes it right away.
+			this.writeDtoSafely(originalType, dtoTypeMetadata, dtoContent, output);
+		}
+		// If there is a problem generating the DTOs.
+		catch (final Exception exception) {
+			// Logs it.
+			this.report.countFailedDto();
+			DtoGenerator.LOGGER.warning("DTO " + dtoTypeMetadata.getName() + " not created successfully:" + exception.getLocalizedMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * Caches a generated DTO (if the generation cache is enabled and the DTO has
+	 * been fingerprinted).
+	 *
+	 * @param dtoTypeMetadata DTO type metadata.
+	 * @param classFile       If the DTO is a class file (or a rendered DTO).
+	 * @param dtoContent      DTO content.
+	 */
+	private void cacheDto(
+			final DtoTypeMetadata dtoTypeMetadata,
+			final boolean classFile,
+			final byte[] dtoContent) {
+		final String fingerprint = this.dtoFingerprints.remove(dtoTypeMetadata.getQualifiedName());
+		// If the DTO has been fingerprinted.
+		if (fingerprint != null) {
+			// Tries to cache the DTO.
+			try {
+				this.generationCache.put(fingerprint, classFile, dtoContent);
+			}
+			// If the DTO cannot be cached.
+			catch (final IOException exception) {
+				DtoGenerator.LOGGER.warning("DTO " + dtoTypeMetadata.getName() + " not cached:" + exception.getLocalizedMessage());
+			}
+		}
+	}
+
+	/**
+	 * Writes a DTO class file (on the processing thread, as the filer is used),
+	 * logging any problem.
+	 *
+	 * @param originalType    Original type generating the DTO.
+	 * @param dtoTypeMetadata DTO type metadata.
+	 * @param dtoClass        DTO class file.
+	 */
+	private void writeDtoClassSafely(
+			final TypeElement originalType,
+			final DtoTypeMetadata dtoTypeMetadata,
+			final byte[] dtoClass) {
+		// Tries to write the DTO class file.
+		try {
+			final long fileWriteStart = this.report.start();
+			try (final OutputStream dtoOutput = this.processingEnv.getFiler().createClassFile(dtoTypeMetadata.getQualifiedName(), originalType)
+					.openOutputStream()) {
+				dtoOutput.write(dtoClass);
+			}
+			this.report.record(DtoGeneratorReport.Phase.FILE_WRITE, fileWriteStart);
+			this.report.recordDto(dtoTypeMetadata.getQualifiedName(), fileWriteStart);
+			this.cacheDto(dtoTypeMetadata, true, dtoClass);
+			this.writtenDtos.incrementAndGet();
+			this.report.countWrittenFile();
+			DtoGenerator.LOGGER.info("DTO " + dtoTypeMetadata.getName() + " created successfully.");
+		}
+		// If there is a problem writing the DTO class file.
+		catch (final Exception exception) {
+			// Logs it.
+			this.report.countFailedDto();
+			DtoGenerator.LOGGER.warning("DTO " + dtoTypeMetadata.getName() + " not created successfully:" + exception.getLocalizedMessage());
+		}
+	}
+
+	/**
+	 * Writes the DTOs that can be emitted as class files (on the processing
+	 * thread, as the filer is used).
+	 *
+	 * @param  dtosToGenerate DTOs to generate (original type and metadata).
+	 * @return                The DTOs that cannot be emitted as class files (and
+	 *                        should be generated as sources).
+	 */
+	private List<Entry<TypeElement, DtoTypeMetadata>> writeDtoClasses(
+			final List<Entry<TypeElement, DtoTypeMetadata>> dtosToGenerate) {
+		final List<Entry<TypeElement, DtoTypeMetadata>> sourceDtos = new ArrayList<>();
+		for (final Entry<TypeElement, DtoTypeMetadata> dtoToGenerate : dtosToGenerate) {
+			final DtoTypeMetadata dtoTypeMetadata = dtoToGenerate.getValue();
+			// Emits the DTO class file.
+			final long emitStart = this.report.start();
+			final byte[] dtoClass = this.classEmitter.emit(dtoTypeMetadata);
+			this.report.record(DtoGeneratorReport.Phase.TEMPLATE_MERGE, emitStart);
+			this.report.recordDto(dtoTypeMetadata.getQualifiedName(), emitStart);
+			// If the DTO cannot be emitted as a class file, it is generated as source.
+			if (dtoClass == null) {
+				final String unsupportedReason = Objects.requireNonNullElse(this.classEmitter.getUnsupportedReason(dtoTypeMetadata), "unsupported types");
+				DtoGenerator.LOGGER.info("DTO " + dtoTypeMetadata.getName() + " cannot be emitted as a class file (" + unsupportedReason
+						+ "). Generating its source.");
+				sourceDtos.add(dtoToGenerate);
+			}
+			// Otherwise, writes the class file.
+			else {
+				this.writeDtoClassSafely(dtoToGenerate.getKey(), dtoTypeMetadata, dtoClass);
+			}
+		}
+		return sourceDtos;
+	}
+
+	/**
+	 * Restores a DTO from the generation cache (without building its metadata or
+	 * rendering it).
+	 *
+	 * @param  originalType Original type generating the DTO.
+	 * @param  dtoMetadata  DTO metadata.
+	 * @param  fingerprint  DTO fingerprint.
+	 * @return              If the DTO has been restored from the cache.
+	 */
+	private boolean restoreCachedDto(
+			final TypeElement originalType,
+			final DtoType dtoMetadata,
+			final String fingerprint) {
+		// Gets the cached DTO (class files are only cached for the class output).
+		final DtoOutput output = this.getOutput();
+		final byte[] cachedClass = (output == DtoOutput.CLASS) ? this.generationCache.get(fingerprint, true) : null;
+		final byte[] cachedContent = (cachedClass == null) ? this.generationCache.get(fingerprint, false) : null;
+		// Writes the cached DTO (the type metadata only locates the DTO file).
+		final DtoTypeMetadata dtoTypeMetadata = new DtoTypeMetadata(originalType.getQualifiedName().toString(), dtoMetadata);
+		// Gets the cached DTO mapper and JSON serializers (if the DTO has them).
+		final byte[] cachedMapper = dtoTypeMetadata.isHasMapper() ? this.generationCache.get(DtoGenerationCache.getMapperFingerprint(fingerprint), false)
+				: null;
+		final byte[] cachedJson = dtoTypeMetadata.isHasJackson() ? this.generationCache.get(DtoGenerationCache.getJsonFingerprint(fingerprint), false)
+				: null;
+		// If the DTO (or its companions) is not cached, returns.
+		if (((cachedClass == null) && (cachedContent == null)) || (dtoTypeMetadata.isHasMapper() && (cachedMapper == null))
+				|| (dtoTypeMetadata.isHasJackson() && (cachedJson == null))) {
+			return false;
+		}
+		DtoGenerator.LOGGER.fine("Restoring DTO " + dtoTypeMetadata.getName() + " from the generation cache.");
+		if (cachedClass != null) {
+			this.writeDtoClassSafely(originalType, dtoTypeMetadata, cachedClass);
+		}
+		else {
+			this.writeDtoSafely(originalType, dtoTypeMetadata, new String(cachedContent, StandardCharsets.UTF_8),
+					(output == DtoOutput.CLASS) ? DtoOutput.FILER : output);
+		}
+		if (cachedMapper != null) {
+			this.writeCompanionSafely(dtoTypeMetadata, dtoTypeMetadata.getNamespace(), "DTO mapper", dtoTypeMetadata.getMapperName(),
+					new String(cachedMapper, StandardCharsets.UTF_8), originalType);
+		}
+		// Unsupported JSON serializers are cached empty.
+		if ((cachedJson != null) && (cachedJson.length > 0)) {
+			this.writeJsonSafely(originalType, dtoTypeMetadata, new String(cachedJson, StandardCharsets.UTF_8));
+		}
+		this.report.countCachedDto();
+		return true;
+	}
+
+	/**
+	 * Collects a DTO to be generated in the round (unless it is restored from the
+	 * generation cache).
+	 *
+	 * @param originalType   Original type generating the DTO.
+	 * @param dtoMetadata    DTO metadata.
+	 * @param dtosToGenerate DTOs to generate (original type and metadata).
+	 */
+	private void collectDto(
+			final TypeElement originalType,
+			final DtoType dtoMetadata,
+			final List<Entry<TypeElement, DtoTypeMetadata>> dtosToGenerate) {
+		// If the DTO context is filtered out, skips it.
+		if (!this.contextFilter.accepts(dtoMetadata.context())) {
+			DtoGenerator.LOGGER.fine("Skipping DTO of " + originalType.getQualifiedName() + " in filtered out context '" + dtoMetadata.context() + "'.");
+			return;
+		}
+		// If the generation cache is enabled, tries to restore the DTO from it.
+		final String fingerprint = (this.generationCache == null) ? null : this.generationCache.getFingerprint(originalType, dtoMetadata);
+		if ((fingerprint != null) && this.restoreCachedDto(originalType, dtoMetadata, fingerprint)) {
+			return;
+		}
+		// Otherwise, collects the DTO metadata.
+		final DtoTypeMetadata dtoTypeMetadata = this.getDtoTypeMetadata(originalType, dtoMetadata);
+		if (dtoTypeMetadata != null) {
+			if (fingerprint != null) {
+				this.dtoFingerprints.put(dtoTypeMetadata.getQualifiedName(), fingerprint);
+			}
+			dtosToGenerate.add(Map.entry(originalType, dtoTypeMetadata));
+		}
+	}
+
+	/**
+	 * Generates the DTOs of a round, fanning rendering out to a bounded worker
+	 * pool when parallelism is enabled.
+	 *
+	 * @param allDtosToGenerate DTOs to generate (original type and metadata).
+	 */
+	private void generateDtos(
+			final List<Entry<TypeElement, DtoTypeMetadata>> allDtosToGenerate) {
+		// If there is nothing to generate in this round, returns.
+		if (allDtosToGenerate.isEmpty()) {
+			return;
+		}
+		// Class files are written first, and the remaining DTOs are generated as
+		// sources through the filer.
+		final boolean classOutput = (this.getOutput() == DtoOutput.CLASS);
+		final List<Entry<TypeElement, DtoTypeMetadata>> dtosToGenerate = classOutput ? this.writeDtoClasses(allDtosToGenerate) : allDtosToGenerate;
+		// Gets the output and parallelism for the round.
+		final DtoOutput output = classOutput ? DtoOutput.FILER : this.getOutput();
+		final int parallelism = Math.min(this.getParallelism(), dtosToGenerate.size());
+		// DTOs rendered but still to be written on the processing thread.
+		final String[] pendingDtos = new String[dtosToGenerate.size()];
+		// If rendering should be serial.
+		if (parallelism <= 1) {
+			// Generates each DTO on the processing thread.
+			for (int dtoIndex = 0; dtoIndex < dtosToGenerate.size(); dtoIndex++) {
+				final Entry<TypeElement, DtoTypeMetadata> dtoToGenerate = dtosToGenerate.get(dtoIndex);
+				pendingDtos[dtoIndex] = this.generateDtoSafely(dtoToGenerate.getKey(), dtoToGenerate.getValue(), output);
+			}
+		}
+		// If rendering should be parallel.
+		else {
+			// Generates the DTOs using the worker pool (closing it waits for every task).
+			DtoGenerator.LOGGER.fine("Rendering " + dtosToGenerate.size() + " DTOs with parallelism " + parallelism + ".");
+			try (final ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+				for (int dtoIndex = 0; dtoIndex < dtosToGenerate.size(); dtoIndex++) {
+					final int currentDtoIndex = dtoIndex;
+					final Entry<TypeElement, DtoTypeMetadata> dtoToGenerate = dtosToGenerate.get(dtoIndex);
+					executor.execute(() -> pendingDtos[currentDtoIndex] = this.generateDtoSafely(dtoToGenerate.getKey(), dtoToGenerate.getValue(), output));
+				}
+			}
+		}
+		// Writes the pending DTOs on the processing thread.
+		for (int dtoIndex = 0; dtoIndex < dtosToGenerate.size(); dtoIndex++) {
+			if (pendingDtos[dtoIndex] != null) {
+				final Entry<TypeElement, DtoTypeMetadata> dtoToGenerate = dtosToGenerate.get(dtoIndex);
+				this.writeDtoSafely(dtoToGenerate.getKey(), dtoToGenerate.getValue(), pendingDtos[dtoIndex], output);
+			}
+		}
+		// Logs the round summary.
+		DtoGenerator.LOGGER.info("DTOs generation round finished: " + this.writtenDtos.getAndSet(0) + " written, " + this.skippedDtos.getAndSet(0)
+				+ " unchanged (skipped).");
+	}
+
+	/**
+	 * Writes a DTO companion source (as mappers and JSON serializers) on the
+	 * processing thread (as the filer may be used), logging any problem.
+	 * Companions are always written as sources (also for the class output, so
+	 * they are compiled against the DTO class files).
+	 *
+	 * @param  dtoTypeMetadata     DTO type metadata (locating the file).
+	 * @param  namespace           Companion namespace.
+	 * @param  description         Companion description (for logging).
+	 * @param  name                Companion (simple) name.
+	 * @param  content             Rendered companion content.
+	 * @param  originatingElements Original types generating the companion.
+	 * @return                     If the companion has been written (or is
+	 *                                 unchanged).
+	 */
+	private boolean writeCompanionSafely(
+			final DtoTypeMetadata dtoTypeMetadata,
+			final String namespace,
+			final String description,
+			final String name,
+			final String content,
+			final TypeElement... originatingElements) {
+		// Tries to write the companion.
+		try {
+			final long fileWriteStart = this.report.start();
+			final boolean written;
+			// If the companion should be written through the filer.
+			if (this.getOutput() != DtoOutput.FILE) {
+				try (final Writer companionWriter = this.processingEnv.getFiler()
+						.createSourceFile(namespace.isEmpty() ? name : namespace + "." + name, originatingElements).openWriter()) {
+					companionWriter.write(content);
+				}
+				written = true;
+			}
+			// Otherwise, writes the companion file into the target path if it has changed.
+			else {
+				written = DtoGenerator.writeIfChanged(
+						new File(dtoTypeMetadata.getTargetPath() + File.separator + namespace.replace(".", File.separator), name + ".java"), content);
+			}
+			this.report.record(DtoGeneratorReport.Phase.FILE_WRITE, fileWriteStart);
+			if (originatingElements.length == 1) {
+				this.report.recordDto(dtoTypeMetadata.getQualifiedName(), fileWriteStart);
+			}
+			if (written) {
+				this.report.countWrittenFile();
+				DtoGenerator.LOGGER.info(description + " " + name + " created successfully.");
+			}
+			else {
+				this.report.countSkippedFile();
+				DtoGenerator.LOGGER.fine(description + " " + name + " unchanged.");
+			}
+			return true;
+		}
+		// If there is a problem writing the companion.
+		catch (final Exception exception) {
+			// Logs it.
+			DtoGenerator.LOGGER.warning(description + " " + name + " not created successfully:" + exception.getLocalizedMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Caches a DTO companion (if the DTO has been fingerprinted).
+	 *
+	 * @param dtoTypeMetadata DTO type metadata.
+	 * @param description     Companion description (for logging).
+	 * @param name            Companion (simple) name.
+	 * @param fingerprint     Companion fingerprint (or null if the DTO has not
+	 *                            been fingerprinted).
+	 * @param content         Rendered companion content.
+	 */
+	private void cacheCompanion(
+			final DtoTypeMetadata dtoTypeMetadata,
+			final String description,
+			final String name,
+			final String fingerprint,
+			final String content) {
+		// If the DTO has been fingerprinted.
+		if (fingerprint != null) {
+			// Tries to cache the companion.
+			try {
+				this.generationCache.put(fingerprint, false, content.getBytes(StandardCharsets.UTF_8));
+			}
+			// If the companion cannot be cached.
+			catch (final IOException exception) {
+				DtoGenerator.LOGGER.warning(description + " " + name + " not cached:" + exception.getLocalizedMessage());
+			}
+		}
+	}
+
+	/**
+	 * Writes the JSON serializers of a DTO (on the processing thread), adding
+	 * the DTO to the JSON module.
+	 *
+	 * @param originalType    Original type generating the DTO.
+	 * @param dtoTypeMetadata DTO type metadata.
+	 * @param jsonContent     Rendered JSON serializers content.
+	 */
+	private void writeJsonSafely(
+			final TypeElement originalType,
+			final DtoTypeMetadata dtoTypeMetadata,
+			final String jsonContent) {
+		if (this.writeCompanionSafely(dtoTypeMetadata, dtoTypeMetadata.getNamespace(), "DTO JSON serializers", dtoTypeMetadata.getJsonName(), jsonContent,
+				originalType)) {
+			this.jsonDtos.add(Map.entry(originalType, dtoTypeMetadata));
+		}
+	}
+
+	/**
+	 * Generates the companions (mappers and JSON serializers) of the DTOs of a
+	 * round (on the processing thread, as the filer may be used), caching them
+	 * with their DTOs.
+	 *
+	 * @param dtosToGenerate DTOs to generate (original type and metadata).
+	 */
+	private void generateCompanions(
+			final List<Entry<TypeElement, DtoTypeMetadata>> dtosToGenerate) {
+		// For each DTO.
+		for (final Entry<TypeElement, DtoTypeMetadata> dtoToGenerate : dtosToGenerate) {
+			final DtoTypeMetadata dtoTypeMetadata = dtoToGenerate.getValue();
+			final String fingerprint = this.dtoFingerprints.get(dtoTypeMetadata.getQualifiedName());
+			// If the DTO has a mapper.
+			if (dtoTypeMetadata.isHasMapper()) {
+				// Emits, writes and caches the mapper.
+				final long emitStart = this.report.start();
+				final String mapperContent = this.mapperEmitter.emit(dtoTypeMetadata);
+				this.report.record(DtoGeneratorReport.Phase.TEMPLATE_MERGE, emitStart);
+				this.writeCompanionSafely(dtoTypeMetadata, dtoTypeMetadata.getNamespace(), "DTO mapper", dtoTypeMetadata.getMapperName(), mapperContent,
+						dtoToGenerate.getKey());
+				this.cacheCompanion(dtoTypeMetadata, "DTO mapper", dtoTypeMetadata.getMapperName(),
+						fingerprint == null ? null : DtoGenerationCache.getMapperFingerprint(fingerprint), mapperContent);
+			}
+			// If the DTO has JSON serializers.
+			if (dtoTypeMetadata.isHasJackson()) {
+				// Emits and writes the serializers (if supported).
+				final long emitStart = this.report.start();
+				final String jsonContent = DtoJsonEmitter.isSupported(dtoTypeMetadata) ? this.jsonEmitter.emit(dtoTypeMetadata) : "";
+				this.report.record(DtoGeneratorReport.Phase.TEMPLATE_MERGE, emitStart);
+				if (jsonContent.isEmpty()) {
+					DtoGenerator.LOGGER.info("DTO JSON serializers " + dtoTypeMetadata.getJsonName()
+							+ " not generated: DTOs with parent DTOs, interfaces or Jackson annotated attributes keep the bean serializers.");
+				}
+				else {
+					this.writeJsonSafely(dtoToGenerate.getKey(), dtoTypeMetadata, jsonContent);
+				}
+				// Caches the serializers (empty if unsupported).
+				this.cacheCompanion(dtoTypeMetadata, "DTO JSON serializers", dtoTypeMetadata.getJsonName(),
+						fingerprint == null ? null : DtoGenerationCache.getJsonFingerprint(fingerprint), jsonContent);
+			}
+		}
+	}
+
+	/**
+	 * Gets the JSON module qualified name (see {@link #JSON_MODULE_OPTION}).
+	 *
+	 * @return The JSON module qualified name, or <code>null</code> if the JSON
+	 *         module should not be generated.
+	 */
+	private String getJsonModule() {
+		return StringUtils.trimToNull(this.processingEnv.getOptions().get(DtoGenerator.JSON_MODULE_OPTION));
+	}
+
+	/**
+	 * Generates the JSON module registering the JSON serializers of every round
+	 * so far (on the processing thread, as the filer may be used). The module
+	 * is written once: DTOs with JSON serializers from later rounds are not
+	 * registered by it.
+	 */
+	private void generateJsonModule() {
+		final String module = this.getJsonModule();
+		// If the JSON module should be generated and there are DTOs to register.
+		if ((module != null) && !this.jsonDtos.isEmpty()) {
+			// If the module has already been written in a previous round, the new
+			// DTOs are not registered.
+			if (this.jsonModuleWritten) {
+				DtoGenerator.LOGGER.warning("DTO JSON module " + module + " already generated in a previous round. " + this.jsonDtos.size()
+						+ " DTOs are not registered by it.");
+			}
+			// Otherwise, emits and writes the module (with the DTOs in name order).
+			else {
+				final int namespaceEnd = module.lastIndexOf('.');
+				final String moduleNamespace = namespaceEnd < 0 ? "" : module.substring(0, namespaceEnd);
+				final String moduleName = module.substring(namespaceEnd + 1);
+				final List<Entry<TypeElement, DtoTypeMetadata>> dtos = new ArrayList<>(this.jsonDtos);
+				dtos.sort(Comparator.comparing(dto -> dto.getValue().getQualifiedName()));
+				final long emitStart = this.report.start();
+				final String moduleContent = this.jsonEmitter.emitModule(moduleNamespace, moduleName, dtos.stream().map(Entry::getValue).toList());
+				this.report.record(DtoGeneratorReport.Phase.TEMPLATE_MERGE, emitStart);
+				this.jsonModuleWritten = this.writeCompanionSafely(dtos.get(0).getValue(), moduleNamespace, "DTO JSON module", moduleName, moduleContent,
+						dtos.stream().map(Entry::getKey).toArray(TypeElement[]::new));
+			}
+		}
+		this.jsonDtos.clear();
+	}
+
+	/**
+	 * Writes the Jackson module services file listing the generated JSON module
+	 * (at the end of processing). With {@link DtoOutput#FILE}, the module is only
+	 * listed if it is part of the compilation (as the generated sources are only
+	 * compiled by the next build).
+	 */
+	private void writeJsonModuleServices() {
+		final String module = this.getJsonModule();
+		// If the module has been written (and is compiled).
+		if (this.jsonModuleWritten && ((this.getOutput() != DtoOutput.FILE) || (this.processingEnv.getElementUtils().getTypeElement(module) != null))) {
+			// Tries to write the services file.
+			try {
+				final FileObject servicesFile = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+						DtoGenerator.JSON_MODULES_SERVICES_FILE);
+				try (final Writer servicesWriter = servicesFile.openWriter()) {
+					servicesWriter.write(module + "\n");
+				}
+				DtoGenerator.LOGGER.info("DTO JSON modules services file written with " + module + ".");
+			}
+			// If the services file cannot be written.
+			catch (final IOException exception) {
+				DtoGenerator.LOGGER.warning("DTO JSON modules services file not written:" + exception.getLocalizedMessage());
+			}
+		}
+	}
+
+	/**
+	 * Writes the timing and counters report (if enabled).
+	 */
+	private void writeReport() {
+		// If the report is enabled.
+		if (this.report.isEnabled()) {
+			// Gets the number of slowest DTOs to list.
+			final String slowestDtosOption = StringUtils.trimToNull(this.processingEnv.getOptions().get(DtoGenerator.REPORT_SLOWEST_OPTION));
+			int slowestDtos = 10;
+			try {
+				slowestDtos = slowestDtosOption == null ? slowestDtos : Integer.parseInt(slowestDtosOption);
+			}
+			// If the option is not a number.
+			catch (final NumberFormatException exception) {
+				DtoGenerator.LOGGER.warning("Invalid " + DtoGenerator.REPORT_SLOWEST_OPTION + " option '" + slowestDtosOption + "'. Listing " + slowestDtos
+						+ " slowest DTOs.");
+			}
+			// Tries to write the report.
+			final File reportFile = new File(this.processingEnv.getOptions().get(DtoGenerator.REPORT_OPTION).trim());
+			try {
+				this.report.write(reportFile, List.of(this.dtoTypeAnnoCache, this.dtoTypeMetadataCache, this.interfaceNamesCache, this.typeScanCache),
+						Math.max(0, slowestDtos));
+				DtoGenerator.LOGGER.info("DTO generator report written to " + reportFile.getAbsolutePath() + ".");
+			}
+			// If the report cannot be written.
+			catch (final IOException exception) {
+				DtoGenerator.LOGGER.warning("DTO generator report not written:" + exception.getLocalizedMessage());
+			}
+		}
+	}
+
+	/**
+	 * @see jakarta.annotation.processing.AbstractProcessor#process(java.util.Set,
+	 *      jakarta.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean process(
+			final Set<? extends TypeElement> annotations,
+			final RoundEnvironment roundEnv) {
+		DtoGenerator.LOGGER.fine("Initializing DTOs generation...");
+		// DTOs to generate in this round. Metadata is collected serially.
+		final List<Entry<TypeElement, DtoTypeMetadata>> dtosToGenerate = new ArrayList<>();
+		// For each type generating multiple DTOs.
+		for (final TypeElement originalType : (Set<TypeElement>) roundEnv.getElementsAnnotatedWith(DtoTypes.class)) {
+			// Gets the DTOs metadata.
+			final DtoTypes dtosMetadata = originalType.getAnnotation(DtoTypes.class);
+			// For each DTO metadata.
+			for (final DtoType dtoMetadata : dtosMetadata.types()) {
+				// Collects the DTO.
+				this.collectDto(originalType, dtoMetadata, dtosToGenerate);
+			}
+		}
+		// For each type generating a single DTO.
+		for (final TypeElement originalType : (Set<TypeElement>) roundEnv.getElementsAnnotatedWith(DtoType.class)) {
+			// Gets the DTO metadata.
+			final DtoType dtoMetadata = originalType.getAnnotation(DtoType.class);
+			// Collects the DTO.
+			this.collectDto(originalType, dtoMetadata, dtosToGenerate);
+		}
+		// Generates the DTOs companions (before the DTOs, as their fingerprints are
+		// released once the DTOs are cached) and the DTOs.
+		this.generateCompanions(dtosToGenerate);
+		this.generateDtos(dtosToGenerate);
+		// Generates the JSON module once a round has no new DTOs (as the generated
+		// DTOs and serializers of the previous rounds are compiled by then).
+		if (dtosToGenerate.isEmpty() || roundEnv.processingOver()) {
+			this.generateJsonModule();
+		}
+		// Logs the resolution caches statistics.
+		DtoGenerator.LOGGER.fine("DTO resolution caches: " + this.dtoTypeAnnoCache + "; " + this.dtoTypeMetadataCache + "; " + this.interfaceNamesCache + "; "
+				+ this.typeScanCache + ".");
+		// Writes the JSON module services file and the report at the end of
+		// processing.
+		if (roundEnv.processingOver()) {
+			this.writeJsonModuleServices();
+			this.writeReport();
+		}
+		// Mark that the message sources annotations have been processed.
+		DtoGenerator.LOGGER.fine("Finishing DtoGenerator...");
+		return true;
+	}
+
+}
@@ -0,0 +1,429 @@
+package org.coldis.library.dto;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.io.FileUtils;
+
+/**
+ * DTO generator timing and counters report. Records the time spent in each
+ * generation phase, the processed types, attributes and contexts, the resolution
+ * caches statistics and the written files, and writes them as JSON at the end of
+ * processing. Phases may be nested (an annotation lookup during metadata
+ * building, for instance), and each phase only records its self time (excluding
+ * its nested phases), so phase times add up. Disabled reports record nothing.
+ */
+public class DtoGeneratorReport {
+
+	/**
+	 * DTO generation phase.
+	 */
+	public enum Phase {
+
+		/**
+		 * DTO type and attribute annotations lookup.
+		 */
+		ANNOTATION_LOOKUP,
+
+		/**
+		 * DTO type metadata building (excluding the annotation lookup and
+		 * hierarchy resolution it triggers).
+		 */
+		METADATA_BUILDING,
+
+		/**
+		 * DTO types in attribute types hierarchy resolution (excluding the
+		 * annotation lookup it triggers).
+		 */
+		HIERARCHY_RESOLUTION,
+
+		/**
+		 * Template merge.
+		 */
+		TEMPLATE_MERGE,
+
+		/**
+		 * DTO file write (or comparison with the existing file).
+		 */
+		FILE_WRITE;
+
+	}
+
+	/**
+	 * If the report is enabled.
+	 */
+	private final boolean enabled;
+
+	/**
+	 * Clock (in nanoseconds).
+	 */
+	private final LongSupplier clock;
+
+	/**
+	 * Processing start time.
+	 */
+	private final long startTime;
+
+	/**
+	 * Self time by phase (summed across workers when rendering in parallel).
+	 */
+	private final Map<Phase, LongAdder> phaseTimes = new EnumMap<>(Phase.class);
+
+	/**
+	 * Open phases of the current thread, innermost first (each with its start time
+	 * and the time spent in its nested phases).
+	 */
+	private final ThreadLocal<Deque<long[]>> openPhases = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * Generation time by DTO qualified name.
+	 */
+	private final Map<String, LongAdder> dtoTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * Processed original types qualified names.
+	 */
+	private final Set<String> types = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Processed contexts.
+	 */
+	private final Set<String> contexts = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Processed DTOs.
+	 */
+	private final LongAdder dtos = new LongAdder();
+
+	/**
+	 * Processed attributes.
+	 */
+	private final LongAdder attributes = new LongAdder();
+
+	/**
+	 * Methods visited while scanning original types for getters.
+	 */
+	private final LongAdder visitedMethods = new LongAdder();
+
+	/**
+	 * Getters found while scanning original types.
+	 */
+	private final LongAdder scannedGetters = new LongAdder();
+
+	/**
+	 * Getter signature comparisons made while scanning original types (to find
+	 * overridden getters).
+	 */
+	private final LongAdder getterComparisons = new LongAdder();
+
+	/**
+	 * Written files.
+	 */
+	private final LongAdder writtenFiles = new LongAdder();
+
+	/**
+	 * Skipped (unchanged) files.
+	 */
+	private final LongAdder skippedFiles = new LongAdder();
+
+	/**
+	 * DTOs not generated because of errors.
+	 */
+	private final LongAdder failedDtos = new LongAdder();
+
+	/**
+	 * DTOs restored from the generation cache.
+	 */
+	private final LongAdder cachedDtos = new LongAdder();
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param enabled If the report is enabled.
+	 */
+	public DtoGeneratorReport(final boolean enabled) {
+		this(enabled, System::nanoTime);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param enabled If the report is enabled.
+	 * @param clock   Clock (in nanoseconds).
+	 */
+	public DtoGeneratorReport(
+			final boolean enabled,
+			final LongSupplier clock) {
+		super();
+		this.enabled = enabled;
+		this.clock = clock;
+		this.startTime = clock.getAsLong();
+		// Initializes the phase times.
+		for (final Phase phase : Phase.values()) {
+			this.phaseTimes.put(phase, new LongAdder());
+		}
+	}
+
+	/**
+	 * Gets if the report is enabled.
+	 *
+	 * @return If the report is enabled.
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Starts timing.
+	 *
+	 * @return The start time (0 if the report is disabled).
+	 */
+	public long start() {
+		// If the report is disabled, nothing is timed.
+		if (!this.enabled) {
+			return 0L;
+		}
+		// Opens the phase.
+		final long startTime = this.clock.getAsLong();
+		this.openPhases.get().push(new long[] { startTime, 0L });
+		return startTime;
+	}
+
+	/**
+	 * Records the self time spent in a phase (the time since it started, minus the
+	 * time recorded by the phases nested in it).
+	 *
+	 * @param phase     Phase.
+	 * @param startTime Start time (from {@link #start()}).
+	 */
+	public void record(
+			final Phase phase,
+			final long startTime) {
+		if (this.enabled) {
+			final long time = this.clock.getAsLong() - startTime;
+			// Closes the phase (and the nested phases left open by errors).
+			final Deque<long[]> openPhases = this.openPhases.get();
+			long nestedTime = 0L;
+			while (!openPhases.isEmpty()) {
+				final long[] openPhase = openPhases.pop();
+				if (openPhase[0] == startTime) {
+					nestedTime = openPhase[1];
+					break;
+				}
+			}
+			this.phaseTimes.get(phase).add(time - nestedTime);
+			// The phase time is not part of the enclosing phase self time.
+			if (!openPhases.isEmpty()) {
+				openPhases.peek()[1] += time;
+			}
+		}
+	}
+
+	/**
+	 * Records the time spent generating a DTO.
+	 *
+	 * @param dtoQualifiedName DTO qualified name.
+	 * @param startTime        Start time (from {@link #start()}).
+	 */
+	public void recordDto(
+			final String dtoQualifiedName,
+			final long startTime) {
+		if (this.enabled) {
+			this.dtoTimes.computeIfAbsent(dtoQualifiedName, name -> new LongAdder()).add(this.clock.getAsLong() - startTime);
+		}
+	}
+
+	/**
+	 * Counts a processed DTO.
+	 *
+	 * @param dtoTypeMetadata DTO type metadata.
+	 */
+	public void countDto(
+			final DtoTypeMetadata dtoTypeMetadata) {
+		if (this.enabled) {
+			this.dtos.increment();
+			this.types.add(dtoTypeMetadata.getOriginalClassName());
+			this.contexts.add(dtoTypeMetadata.getContext());
+			this.attributes.add(dtoTypeMetadata.getAttributes().size());
+		}
+	}
+
+	/**
+	 * Counts the methods visited, the getters found and the getter signature
+	 * comparisons made while scanning an original type (including its
+	 * superclasses).
+	 *
+	 * @param visitedMethods    Visited methods.
+	 * @param scannedGetters    Found getters.
+	 * @param getterComparisons Getter signature comparisons.
+	 */
+	public void countTypeScan(
+			final int visitedMethods,
+			final int scannedGetters,
+			final int getterComparisons) {
+		if (this.enabled) {
+			this.visitedMethods.add(visitedMethods);
+			this.scannedGetters.add(scannedGetters);
+			this.getterComparisons.add(getterComparisons);
+		}
+	}
+
+	/**
+	 * Counts a written file.
+	 */
+	public void countWrittenFile() {
+		this.writtenFiles.increment();
+	}
+
+	/**
+	 * Counts a skipped (unchanged) file.
+	 */
+	public void countSkippedFile() {
+		this.skippedFiles.increment();
+	}
+
+	/**
+	 * Counts a DTO not generated because of errors.
+	 */
+	public void countFailedDto() {
+		this.failedDtos.increment();
+	}
+
+	/**
+	 * Counts a DTO restored from the generation cache.
+	 */
+	public void countCachedDto() {
+		this.cachedDtos.increment();
+	}
+
+	/**
+	 * Converts nanoseconds to (fractional) milliseconds.
+	 *
+	 * @param  nanos Nanoseconds.
+	 * @return       Milliseconds.
+	 */
+	private static String toMillis(
+			final long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+	/**
+	 * Escapes a JSON string.
+	 *
+	 * @param  value Value.
+	 * @return       The quoted and escaped value.
+	 */
+	private static String quote(
+			final String value) {
+		final StringBuilder quoted = new StringBuilder("\"");
+		for (final char character : value.toCharArray()) {
+			switch (character) {
+				case '"' -> quoted.append("\\\"");
+				case '\\' -> quoted.append("\\\\");
+				case '\n' -> quoted.append("\\n");
+				case '\r' -> quoted.append("\\r");
+				case '\t' -> quoted.append("\\t");
+				default -> {
+					if (character < 0x20) {
+						quoted.append(String.format("\\u%04x", (int) character));
+					}
+					else {
+						quoted.append(character);
+					}
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+	/**
+	 * Converts the report to JSON.
+	 *
+	 * @param  caches      Resolution caches.
+	 * @param  slowestDtos Number of slowest DTOs to list.
+	 * @return             The report JSON.
+	 */
+	public String toJson(
+			final Collection<DtoResolutionCache<?>> caches,
+			final int slowestDtos) {
+		final StringBuilder json = new StringBuilder("{\n");
+		// Adds the total time and the phases times.
+		json.append("  \"totalMillis\": ").append(DtoGeneratorReport.toMillis(this.clock.getAsLong() - this.startTime)).append(",\n");
+		json.append("  \"phaseMillis\": {");
+		String separator = "\n";
+		for (final Entry<Phase, LongAdder> phaseTime : this.phaseTimes.entrySet()) {
+			json.append(separator).append("    ").append(DtoGeneratorReport.quote(phaseTime.getKey().name().toLowerCase()))
+					.append(": ").append(DtoGeneratorReport.toMillis(phaseTime.getValue().sum()));
+			separator = ",\n";
+		}
+		json.append("\n  },\n");
+		// Adds the counters.
+		json.append("  \"counters\": {\n");
+		json.append("    \"types\": ").append(this.types.size()).append(",\n");
+		json.append("    \"dtos\": ").append(this.dtos.sum()).append(",\n");
+		json.append("    \"attributes\": ").append(this.attributes.sum()).append(",\n");
+		json.append("    \"contexts\": ").append(this.contexts.size()).append(",\n");
+		json.append("    \"visitedMethods\": ").append(this.visitedMethods.sum()).append(",\n");
+		json.append("    \"scannedGetters\": ").append(this.scannedGetters.sum()).append(",\n");
+		json.append("    \"getterComparisons\": ").append(this.getterComparisons.sum()).append(",\n");
+		json.append("    \"filesWritten\": ").append(this.writtenFiles.sum()).append(",\n");
+		json.append("    \"filesSkipped\": ").append(this.skippedFiles.sum()).append(",\n");
+		json.append("    \"failedDtos\": ").append(this.failedDtos.sum()).append(",\n");
+		json.append("    \"cachedDtos\": ").append(this.cachedDtos.sum()).append("\n");
+		json.append("  },\n");
+		// Adds the caches statistics.
+		json.append("  \"caches\": [");
+		separator = "\n";
+		for (final DtoResolutionCache<?> cache : caches) {
+			json.append(separator).append("    { \"name\": ").append(DtoGeneratorReport.quote(cache.getName())).append(", \"hits\": ")
+					.append(cache.getHits()).append(", \"misses\": ").append(cache.getMisses()).append(" }");
+			separator = ",\n";
+		}
+		json.append("\n  ],\n");
+		// Adds the slowest DTOs.
+		json.append("  \"slowestDtos\": [");
+		separator = "\n";
+		final List<Entry<String, Long>> dtoTimes = this.dtoTimes.entrySet().stream().map(dtoTime -> Map.entry(dtoTime.getKey(), dtoTime.getValue().sum()))
+				.sorted(Comparator.comparing(Entry<String, Long>::getValue).reversed()).limit(slowestDtos).toList();
+		for (final Entry<String, Long> dtoTime : dtoTimes) {
+			json.append(separator).append("    { \"dto\": ").append(DtoGeneratorReport.quote(dtoTime.getKey())).append(", \"millis\": ")
+					.append(DtoGeneratorReport.toMillis(dtoTime.getValue())).append(" }");
+			separator = ",\n";
+		}
+		json.append("\n  ]\n}\n");
+		return json.toString();
+	}
+
+	/**
+	 * Writes the report (if enabled).
+	 *
+	 * @param  reportFile  Report file.
+	 * @param  caches      Resolution caches.
+	 * @param  slowestDtos Number of slowest DTOs to list.
+	 * @throws IOException If the report cannot be written.
+	 */
+	public void write(
+			final File reportFile,
+			final Collection<DtoResolutionCache<?>> caches,
+			final int slowestDtos) throws IOException {
+		if (this.enabled) {
+			FileUtils.writeStringToFile(reportFile, this.toJson(caches, slowestDtos), StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+package org.coldis.library.dto;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * DTO hierarchy resolver. Finds the DTO types of a type and of its type
+ * arguments (recursively). It keeps no state of its own: the DTO type
+ * annotations come from a lookup (cached by processors), and DTO qualified
+ * names only depend on the original type and its annotation.
+ */
+public class DtoHierarchyResolver {
+
+	/**
+	 * Context filter (no DTO types are resolved for filtered out contexts).
+	 */
+	private final DtoContextFilter contextFilter;
+
+	/**
+	 * DTO type annotation lookup (by original type and context).
+	 */
+	private final BiFunction<TypeElement, String, DtoType> dtoTypeAnnoLookup;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param contextFilter     Context filter.
+	 * @param dtoTypeAnnoLookup DTO type annotation lookup (by original type and
+	 *                              context).
+	 */
+	public DtoHierarchyResolver(final DtoContextFilter contextFilter, final BiFunction<TypeElement, String, DtoType> dtoTypeAnnoLookup) {
+		super();
+		this.contextFilter = contextFilter;
+		this.dtoTypeAnnoLookup = dtoTypeAnnoLookup;
+	}
+
+	/**
+	 * Constructor looking up the DTO type annotations directly.
+	 *
+	 * @param contextFilter Context filter.
+	 */
+	public DtoHierarchyResolver(final DtoContextFilter contextFilter) {
+		this(contextFilter, DtoHierarchyResolver::findDtoTypeAnno);
+	}
+
+	/**
+	 * Finds the DTO type annotation of an original type for a context (not
+	 * cached). A direct {@link DtoType} wins over the ones in {@link DtoTypes}
+	 * (where the last one for the context wins).
+	 *
+	 * @param  originalTypeElement Original type.
+	 * @param  context             DTO context.
+	 * @return                     The DTO type annotation, or <code>null</code>
+	 *                             if the type has no DTO for the context.
+	 */
+	public static DtoType findDtoTypeAnno(
+			final TypeElement originalTypeElement,
+			final String context) {
+		// Gets DTO attribute return type DTO metadata annotation.
+		DtoType dtoTypeAnno = originalTypeElement.getAnnotation(DtoType.class);
+		// If the DTO type annotation does not match the DTO context.
+		if ((dtoTypeAnno == null) || !dtoTypeAnno.context().equals(context)) {
+			// Re-sets the DTO type annotation.
+			dtoTypeAnno = null;
+			// Gets DTO types metadata annotation.
+			final DtoTypes dtoTypesAnno = originalTypeElement.getAnnotation(DtoTypes.class);
+			// If there is a DTO types annotation.
+			if (dtoTypesAnno != null) {
+				// For each DTO type metadata annotation.
+				for (final DtoType currentDtoTypeAnno : dtoTypesAnno.types()) {
+					// If the current DTO type annotation matches the DTO context.
+					if (currentDtoTypeAnno.context().equals(context)) {
+						// Updates the DTO type metadata annotation.
+						dtoTypeAnno = currentDtoTypeAnno;
+					}
+				}
+			}
+		}
+		// Returns the DTO type metadata.
+		return dtoTypeAnno;
+	}
+
+	/**
+	 * Gets the DTO types in hierarchy recursively.
+	 *
+	 * @param  attributeOriginalType The type to get the DTOs type recursively.
+	 * @param  context               The DTO generation context.
+	 * @param  dtoTypesInHierarchy   The map with already found DTO types in
+	 *                                   hierarchy.
+	 * @return                       The DTO types in hierarchy recursively.
+	 */
+	public Map<String, String> resolve(
+			final TypeMirror attributeOriginalType,
+			final String context,
+			final Map<String, String> dtoTypesInHierarchy) {
+		// If the context is filtered out, there is nothing to resolve.
+		if (!this.contextFilter.accepts(context)) {
+			return dtoTypesInHierarchy;
+		}
+		// If the type is a array of a declared type.
+		final boolean isDeclaredArrayType = (attributeOriginalType instanceof ArrayType)
+				&& (((ArrayType) attributeOriginalType).getComponentType() instanceof DeclaredType);
+		// Only if it is a declared type or an array of.
+		if ((attributeOriginalType instanceof DeclaredType) || isDeclaredArrayType) {
+			// Gets the declared type and type element.
+			final DeclaredType declaredType = isDeclaredArrayType ? ((DeclaredType) ((ArrayType) attributeOriginalType).getComponentType())
+					: ((DeclaredType) attributeOriginalType);
+			final TypeElement currentTypeElement = (TypeElement) declaredType.asElement();
+			// Gets the DTO type metadata for a given context.
+			final DtoType dtoAttributeTypeAnno = this.dtoTypeAnnoLookup.apply(currentTypeElement, context);
+			// If the attribute type should also be a DTO, adds the DTO type to the map.
+			if (dtoAttributeTypeAnno != null) {
+				final String originalQualifiedName = currentTypeElement.getQualifiedName().toString();
+				dtoTypesInHierarchy.put(originalQualifiedName, new DtoTypeMetadata(originalQualifiedName, dtoAttributeTypeAnno).getQualifiedName());
+			}
+			// For each type parameter of the current type.
+			if (declaredType.getTypeArguments() != null) {
+				for (final TypeMirror currentTypeArgument : declaredType.getTypeArguments()) {
+					// Gets the DTO types in hierarchy recursively.
+					this.resolve(currentTypeArgument, context, dtoTypesInHierarchy);
+				}
+			}
+		}
+		// Returns the updated DTO types in hierarchy.
+		return dtoTypesInHierarchy;
+	}
+
+}
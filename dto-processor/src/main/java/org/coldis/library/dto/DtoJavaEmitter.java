@@ -0,0 +1,458 @@
+package org.coldis.library.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Built-in emitter for the default templates
+ * ({@link DtoType#DEFAULT_TEMPLATE_PATH} and
+ * {@link DtoType#IMMUTABLE_TEMPLATE_PATH}). Writes the same DTO shape as the
+ * templates straight from the DTO type metadata into a pre-sized buffer,
+ * without Velocity introspection.
+ */
+public class DtoJavaEmitter {
+
+	/**
+	 * Line separator (the same used by the default template).
+	 */
+	private static final String NEW_LINE = "\n";
+
+	/**
+	 * Estimated size of the DTO class without attributes.
+	 */
+	private static final int BASE_SIZE = 2048;
+
+	/**
+	 * Estimated size of each DTO attribute (field, accessors and comparison).
+	 */
+	private static final int ATTRIBUTE_SIZE = 1024;
+
+	/**
+	 * Checks if an attribute has a modifier.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @param  modifier  Modifier.
+	 * @return           If the attribute has the modifier.
+	 */
+	private static boolean hasModifier(
+			final DtoAttributeMetadata attribute,
+			final String modifier) {
+		return (attribute.getModifiers() != null) && attribute.getModifiers().contains(modifier);
+	}
+
+	/**
+	 * Checks if an attribute is an array.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           If the attribute is an array.
+	 */
+	private static boolean isArray(
+			final DtoAttributeMetadata attribute) {
+		return attribute.getType().endsWith("[]");
+	}
+
+	/**
+	 * Checks if an attribute is set by the immutable DTO constructor.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           If the attribute is set by the immutable DTO constructor.
+	 */
+	private static boolean isConstructorAttribute(
+			final DtoAttributeMetadata attribute) {
+		return !DtoJavaEmitter.hasModifier(attribute, "static") && !DtoJavaEmitter.hasModifier(attribute, "final");
+	}
+
+	/**
+	 * Appends a default value (String values are quoted).
+	 *
+	 * @param attribute Attribute metadata.
+	 * @param source    DTO source.
+	 */
+	private static void appendDefaultValue(
+			final DtoAttributeMetadata attribute,
+			final StringBuilder source) {
+		final String quote = String.class.getName().equals(attribute.getType()) ? "\"" : "";
+		source.append(quote).append(attribute.getDefaultValue()).append(quote);
+	}
+
+	/**
+	 * Checks if an attribute has a default value.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           If the attribute has a default value.
+	 */
+	private static boolean hasDefaultValue(
+			final DtoAttributeMetadata attribute) {
+		return (attribute.getDefaultValue() != null) && !attribute.getDefaultValue().isEmpty();
+	}
+
+	/**
+	 * Appends the class declaration.
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source DTO source.
+	 */
+	private static void appendClassDeclaration(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		source.append("package ").append(dto.getNamespace()).append(';').append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+		if (dto.isImmutable()) {
+			source.append("import java.beans.ConstructorProperties;").append(DtoJavaEmitter.NEW_LINE);
+		}
+		source.append("import java.io.Serializable;").append(DtoJavaEmitter.NEW_LINE);
+		source.append("import java.util.Objects;").append(DtoJavaEmitter.NEW_LINE);
+		source.append("import java.util.Arrays;").append(DtoJavaEmitter.NEW_LINE);
+		source.append("import org.coldis.library.dto.DtoOrigin;").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+		source.append("/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append(" * ").append(dto.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+		source.append(" */").append(DtoJavaEmitter.NEW_LINE);
+		source.append("@DtoOrigin(originalClassName = \"").append(dto.getOriginalClassName()).append("\")").append(DtoJavaEmitter.NEW_LINE);
+		source.append(dto.isImmutable() ? "public final class " : "public class ").append(dto.getName());
+		// Hierarchical DTOs extend the parent DTO (which is serializable).
+		if (dto.isHasParentDto()) {
+			source.append(" extends ").append(dto.getParentDtoQualifiedName());
+			if (dto.isHasInterfaces()) {
+				source.append(" implements ").append(dto.getImplementsClause());
+			}
+		}
+		// Root DTOs are serializable.
+		else {
+			source.append(" implements Serializable");
+			if (dto.isHasInterfaces()) {
+				source.append(", ").append(dto.getImplementsClause());
+			}
+		}
+		source.append(" {").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * Serial.").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\tprivate static final long serialVersionUID = ").append(dto.getName().hashCode()).append("L;").append(DtoJavaEmitter.NEW_LINE)
+				.append(DtoJavaEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends an attribute field.
+	 *
+	 * @param dto       DTO type metadata.
+	 * @param attribute Attribute metadata.
+	 * @param source    DTO source.
+	 */
+	private static void appendField(
+			final DtoTypeMetadata dto,
+			final DtoAttributeMetadata attribute,
+			final StringBuilder source) {
+		source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+		// Immutable DTOs attributes are final and set by the constructor.
+		final boolean constructorAttribute = dto.isImmutable() && DtoJavaEmitter.isConstructorAttribute(attribute);
+		source.append(constructorAttribute ? "\tprivate final " : "\tprivate ");
+		if (attribute.getModifiers() != null) {
+			for (final String modifier : attribute.getModifiers()) {
+				source.append(modifier).append(' ');
+			}
+		}
+		source.append(attribute.getType()).append(' ').append(attribute.getName());
+		// Adds the default value.
+		if (!constructorAttribute && DtoJavaEmitter.hasDefaultValue(attribute)) {
+			source.append(" = ");
+			DtoJavaEmitter.appendDefaultValue(attribute, source);
+		}
+		source.append(';').append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the no arguments constructor.
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source DTO source.
+	 */
+	private static void appendConstructor(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * No arguments constructor.").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\tpublic ").append(dto.getName()).append("() {").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t\tsuper();").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the immutable DTO all attributes constructor (collections and
+	 * arrays are copied and default values are used for null arguments, boxing
+	 * primitive attributes with default values).
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source DTO source.
+	 */
+	private static void appendImmutableConstructor(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		final List<DtoAttributeMetadata> attributes = dto.getConstructorAttributes();
+		source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * All attributes constructor.").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t *").append(DtoJavaEmitter.NEW_LINE);
+		for (final DtoAttributeMetadata attribute : attributes) {
+			source.append("\t * @param ").append(attribute.getName()).append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t *            The ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+		}
+		source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t@ConstructorProperties({ ")
+				.append(attributes.stream().map(attribute -> "\"" + attribute.getName() + "\"").collect(Collectors.joining(", "))).append(" })")
+				.append(DtoJavaEmitter.NEW_LINE);
+		source.append("\tpublic ").append(dto.getName()).append('(')
+				.append(attributes.stream().map(attribute -> "final " + attribute.getConstructorType() + " " + attribute.getName()).collect(Collectors.joining(", ")))
+				.append(") {").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t\tsuper();").append(DtoJavaEmitter.NEW_LINE);
+		for (final DtoAttributeMetadata attribute : attributes) {
+			source.append("\t\tthis.").append(attribute.getName()).append(" = ");
+			// Null arguments are replaced by the default value.
+			if (DtoJavaEmitter.hasDefaultValue(attribute)) {
+				source.append('(').append(attribute.getName()).append(" == null) ? ");
+				DtoJavaEmitter.appendDefaultValue(attribute, source);
+				source.append(" : ");
+			}
+			source.append(attribute.getCopyExpression()).append(';').append(DtoJavaEmitter.NEW_LINE);
+		}
+		source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the attribute accessors (getter and, unless read only or final,
+	 * setter and wither).
+	 *
+	 * @param dto       DTO type metadata.
+	 * @param attribute Attribute metadata.
+	 * @param source    DTO source.
+	 */
+	private static void appendAccessors(
+			final DtoTypeMetadata dto,
+			final DtoAttributeMetadata attribute,
+			final StringBuilder source) {
+		final String staticModifier = DtoJavaEmitter.hasModifier(attribute, "static") ? " static" : "";
+		// Appends the getter.
+		source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * Gets the ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * @return The ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+		if ((attribute.getAnnotations() != null) && !attribute.getAnnotations().isEmpty()) {
+			source.append('\t').append(attribute.getAnnotations()).append(DtoJavaEmitter.NEW_LINE);
+		}
+		source.append("\tpublic").append(staticModifier).append(' ').append(attribute.getType()).append(" get").append(attribute.getCapitalizedName())
+				.append("() {").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t\treturn ");
+		// The value may come from the first non null other attribute.
+		if (attribute.hasValueFromOtherAttributes()) {
+			for (final String otherAttribute : attribute.getValueFromOtherAttributes()) {
+				source.append(otherAttribute).append(" != null ? ").append(otherAttribute).append(" : ");
+			}
+			source.append("null");
+		}
+		// Immutable DTOs arrays are copied.
+		else if (dto.isImmutable() && DtoJavaEmitter.isArray(attribute)) {
+			source.append(attribute.getCopyExpression());
+		}
+		else {
+			source.append(attribute.getName());
+		}
+		source.append(';').append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+		// Immutable DTOs withers return updated copies.
+		if (dto.isImmutable()) {
+			if (!Boolean.TRUE.equals(attribute.getReadOnly()) && DtoJavaEmitter.isConstructorAttribute(attribute)) {
+				source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t * Creates a copy of the object with the given ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t *").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t * @param ").append(attribute.getName()).append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t *            The ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t * @return The updated copy of the object.").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\tpublic ").append(dto.getName()).append(" with").append(attribute.getCapitalizedName()).append("(final ")
+						.append(attribute.getType()).append(' ').append(attribute.getName()).append(") {").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t\treturn new ").append(dto.getName()).append('(')
+						.append(dto.getConstructorAttributes().stream()
+								.map(otherAttribute -> otherAttribute.getName().equals(attribute.getName()) ? attribute.getName() : "this." + otherAttribute.getName())
+								.collect(Collectors.joining(", ")))
+						.append(");").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+			}
+		}
+		// If the attribute can be changed.
+		else if (!Boolean.TRUE.equals(attribute.getReadOnly()) && !DtoJavaEmitter.hasModifier(attribute, "final")) {
+			// Appends the setter.
+			source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t * Sets the ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t *").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t * @param ").append(attribute.getName()).append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t *            The ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\tpublic").append(staticModifier).append(" void set").append(attribute.getCapitalizedName()).append("(final ")
+					.append(attribute.getType()).append(' ').append(attribute.getName()).append(") {").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\tthis.").append(attribute.getName()).append(" = ").append(attribute.getName()).append(';').append(DtoJavaEmitter.NEW_LINE);
+			if (dto.isHashCodeCached() && staticModifier.isEmpty()) {
+				source.append("\t\tthis.cachedHashCode = 0;").append(DtoJavaEmitter.NEW_LINE);
+			}
+			source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+			// Appends the wither.
+			source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t * Sets the ").append(attribute.getDescription()).append(" and returns the updated object.").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t *").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t * @param ").append(attribute.getName()).append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t *            The ").append(attribute.getDescription()).append('.').append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t * @return The updated object.").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\tpublic ").append(dto.getName()).append(" with").append(attribute.getCapitalizedName()).append("(final ")
+					.append(attribute.getType()).append(' ').append(attribute.getName()).append(") {").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\tthis.set").append(attribute.getCapitalizedName()).append('(').append(attribute.getName()).append(");")
+					.append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\treturn this;").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+		}
+	}
+
+	/**
+	 * Appends the hash code method (the same values as the default template).
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source DTO source.
+	 */
+	private static void appendHashCode(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		final boolean cached = dto.isHashCodeCached();
+		final String indentation = cached ? "\t\t\t" : "\t\t";
+		// The own attributes hash code may be cached.
+		if (cached) {
+			source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t * Cached hash code of the own attributes (0 when not computed).").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\tprivate transient int cachedHashCode;").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+		}
+		source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * @see java.lang.Object#hashCode()").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t@Override").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\tpublic int hashCode() {").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t\tfinal int prime = 31;").append(DtoJavaEmitter.NEW_LINE);
+		// Cached hash codes hash the own attributes from the initial value.
+		final String attributesHash = cached ? "result" : "attributesHash";
+		if (cached) {
+			source.append("\t\tint result = this.cachedHashCode;").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\tif (result == 0) {").append(DtoJavaEmitter.NEW_LINE);
+			source.append(indentation).append("result = 1;").append(DtoJavaEmitter.NEW_LINE);
+		}
+		else {
+			source.append("\t\tint result = ").append(dto.isHasParentDto() ? "super.hashCode()" : "1").append(';').append(DtoJavaEmitter.NEW_LINE);
+			source.append(indentation).append("int attributesHash = 1;").append(DtoJavaEmitter.NEW_LINE);
+		}
+		// Non array attributes are hashed in sequence (the same values as
+		// Objects.hash).
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			if (Boolean.TRUE.equals(attribute.getUsedInComparison()) && !DtoJavaEmitter.isArray(attribute)) {
+				source.append(indentation).append(attributesHash).append(" = prime * ").append(attributesHash).append(" + ").append(attribute.getHashCodeExpression())
+						.append(';').append(DtoJavaEmitter.NEW_LINE);
+			}
+		}
+		if (!cached) {
+			source.append(indentation).append("result = prime * result + attributesHash;").append(DtoJavaEmitter.NEW_LINE);
+		}
+		// Array attributes are hashed by content.
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			if (Boolean.TRUE.equals(attribute.getUsedInComparison()) && DtoJavaEmitter.isArray(attribute)) {
+				source.append(indentation).append("result = prime * result + ").append(attribute.getHashCodeExpression()).append(';')
+						.append(DtoJavaEmitter.NEW_LINE);
+			}
+		}
+		// The cached hash code is combined with the parent (or initial) one.
+		if (cached) {
+			source.append(indentation).append("this.cachedHashCode = result;").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\t}").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\treturn ").append(dto.getHashCodeMultiplier()).append(dto.isHasParentDto() ? " * super.hashCode()" : "").append(" + result;")
+					.append(DtoJavaEmitter.NEW_LINE);
+		}
+		else {
+			source.append("\t\treturn result;").append(DtoJavaEmitter.NEW_LINE);
+		}
+		source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the equals method.
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source DTO source.
+	 */
+	private static void appendEquals(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		source.append("\t/**").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t * @see java.lang.Object#equals(java.lang.Object)").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t */").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t@Override").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\tpublic boolean equals(final Object obj) {").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t\tif (this == obj) {").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t\t\treturn true;").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t\t}").append(DtoJavaEmitter.NEW_LINE);
+		// Hierarchical DTOs compare the parent DTO first.
+		if (dto.isHasParentDto()) {
+			source.append("\t\tif (!super.equals(obj)) {").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\t\treturn false;").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\t}").append(DtoJavaEmitter.NEW_LINE);
+		}
+		// Root DTOs compare the classes.
+		else {
+			source.append("\t\tif (obj == null) {").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\t\treturn false;").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\t}").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\tif (getClass() != obj.getClass()) {").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\t\treturn false;").append(DtoJavaEmitter.NEW_LINE);
+			source.append("\t\t}").append(DtoJavaEmitter.NEW_LINE);
+		}
+		source.append("\t\tfinal ").append(dto.getName()).append(" other = (").append(dto.getName()).append(") obj;").append(DtoJavaEmitter.NEW_LINE);
+		// Compares each attribute.
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			if (Boolean.TRUE.equals(attribute.getUsedInComparison())) {
+				source.append("\t\tif (").append(attribute.getNotEqualsExpression()).append(") {").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t\t\treturn false;").append(DtoJavaEmitter.NEW_LINE);
+				source.append("\t\t}").append(DtoJavaEmitter.NEW_LINE);
+			}
+		}
+		source.append("\t\treturn true;").append(DtoJavaEmitter.NEW_LINE);
+		source.append("\t}").append(DtoJavaEmitter.NEW_LINE).append(DtoJavaEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Emits a DTO source.
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     The DTO source.
+	 */
+	public String emit(
+			final DtoTypeMetadata dto) {
+		// Pre-sizes the source buffer.
+		final StringBuilder source = new StringBuilder(DtoJavaEmitter.BASE_SIZE + (dto.getAttributes().size() * DtoJavaEmitter.ATTRIBUTE_SIZE));
+		// Appends the class declaration, fields and constructor.
+		DtoJavaEmitter.appendClassDeclaration(dto, source);
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			DtoJavaEmitter.appendField(dto, attribute, source);
+		}
+		if (dto.isImmutable()) {
+			DtoJavaEmitter.appendImmutableConstructor(dto, source);
+		}
+		else {
+			DtoJavaEmitter.appendConstructor(dto, source);
+		}
+		// Appends the accessors.
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			DtoJavaEmitter.appendAccessors(dto, attribute, source);
+		}
+		// Appends the comparison methods.
+		DtoJavaEmitter.appendHashCode(dto, source);
+		DtoJavaEmitter.appendEquals(dto, source);
+		source.append('}').append(DtoJavaEmitter.NEW_LINE);
+		// Returns the source.
+		return source.toString();
+	}
+
+}
@@ -0,0 +1,407 @@
+package org.coldis.library.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Emits the JSON serializer and deserializer of a DTO (see
+ * {@link DtoType#jackson()}), writing and reading each property with direct
+ * getter, setter and constructor calls, and the Jackson module registering
+ * the serializers of a compilation.
+ */
+public class DtoJsonEmitter {
+
+	/**
+	 * Serializers base class (referenced by name, as Jackson databind is not
+	 * available to the processor).
+	 */
+	private static final String SERIALIZER_BASE = "org.coldis.library.dto.DtoJsonSerializer";
+
+	/**
+	 * Deserializers base class.
+	 */
+	private static final String DESERIALIZER_BASE = "org.coldis.library.dto.DtoJsonDeserializer";
+
+	/**
+	 * Modules base class.
+	 */
+	private static final String MODULE_BASE = "org.coldis.library.dto.DtoJsonModule";
+
+	/**
+	 * Line separator.
+	 */
+	private static final String NEW_LINE = "\n";
+
+	/**
+	 * Estimated size of the serializers without attributes.
+	 */
+	private static final int BASE_SIZE = 4096;
+
+	/**
+	 * Estimated size of each attribute serialization.
+	 */
+	private static final int ATTRIBUTE_SIZE = 384;
+
+	/**
+	 * Checks if an attribute has a modifier.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @param  modifier  Modifier.
+	 * @return           If the attribute has the modifier.
+	 */
+	private static boolean hasModifier(
+			final DtoAttributeMetadata attribute,
+			final String modifier) {
+		return (attribute.getModifiers() != null) && attribute.getModifiers().contains(modifier);
+	}
+
+	/**
+	 * Gets the JSON property name of an attribute (the name bean serializers
+	 * derive from the getter, with the leading upper case characters in lower
+	 * case).
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           The JSON property name.
+	 */
+	private static String getJsonName(
+			final DtoAttributeMetadata attribute) {
+		final String name = attribute.getCapitalizedName();
+		final StringBuilder jsonName = new StringBuilder(name.length());
+		int index = 0;
+		while ((index < name.length()) && (Character.toLowerCase(name.charAt(index)) != name.charAt(index))) {
+			jsonName.append(Character.toLowerCase(name.charAt(index++)));
+		}
+		return jsonName.append(name, index, name.length()).toString();
+	}
+
+	/**
+	 * Gets the JSON properties, in the bean serializers order (static attributes
+	 * are not serialized, and immutable DTOs constructor attributes come first).
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     The JSON properties.
+	 */
+	public static List<DtoAttributeMetadata> getJsonAttributes(
+			final DtoTypeMetadata dto) {
+		final List<DtoAttributeMetadata> attributes = new ArrayList<>(dto.isImmutable() ? dto.getConstructorAttributes() : List.of());
+		for (final DtoAttributeMetadata attribute : dto.getAttributes()) {
+			if (!DtoJsonEmitter.hasModifier(attribute, "static") && !attributes.contains(attribute)) {
+				attributes.add(attribute);
+			}
+		}
+		return attributes;
+	}
+
+	/**
+	 * Checks if the serializers can be generated for a DTO: the DTO must have no
+	 * parent DTO or interfaces (which might add properties), and its attributes
+	 * must have no Jackson annotations and be named as bean serializers name
+	 * them.
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     If the serializers can be generated for the DTO.
+	 */
+	public static boolean isSupported(
+			final DtoTypeMetadata dto) {
+		final List<DtoAttributeMetadata> attributes = DtoJsonEmitter.getJsonAttributes(dto);
+		return dto.isHasJackson() && !dto.isHasParentDto() && !dto.isHasInterfaces() && !attributes.isEmpty()
+				&& attributes.stream().noneMatch(attribute -> Boolean.TRUE.equals(attribute.getJacksonAnnotated()))
+				&& attributes.stream().allMatch(attribute -> DtoJsonEmitter.getJsonName(attribute).equals(attribute.getName()));
+	}
+
+	/**
+	 * Checks if the deserializer can be generated for a DTO (every JSON property
+	 * must be set by a setter or by the immutable DTO constructor).
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     If the deserializer can be generated for the DTO.
+	 */
+	private static boolean isDeserializable(
+			final DtoTypeMetadata dto) {
+		return DtoJsonEmitter.getJsonAttributes(dto).stream().noneMatch(attribute -> DtoJsonEmitter.hasModifier(attribute, "final")
+				|| (!dto.isImmutable() && Boolean.TRUE.equals(attribute.getReadOnly())));
+	}
+
+	/**
+	 * Appends the class declaration and the property types (shared by the
+	 * serializer and the deserializer).
+	 *
+	 * @param dto        DTO type metadata.
+	 * @param attributes JSON properties.
+	 * @param source     Serializers source.
+	 */
+	private static void appendClassDeclaration(
+			final DtoTypeMetadata dto,
+			final List<DtoAttributeMetadata> attributes,
+			final StringBuilder source) {
+		source.append("package ").append(dto.getNamespace()).append(';').append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		source.append("/**").append(DtoJsonEmitter.NEW_LINE);
+		source.append(" * JSON serializer and deserializer of {@link ").append(dto.getName()).append("} (registered by the generated {@link ")
+				.append(DtoJsonEmitter.MODULE_BASE).append("}, if enabled).").append(DtoJsonEmitter.NEW_LINE);
+		source.append(" */").append(DtoJsonEmitter.NEW_LINE);
+		source.append("public final class ").append(dto.getJsonName()).append(" {").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * No instances.").append(DtoJsonEmitter.NEW_LINE).append("\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\tprivate ").append(dto.getJsonName()).append("() {").append(DtoJsonEmitter.NEW_LINE).append("\t\tsuper();")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		// Generic types are constructed from type references.
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * Gets the property types.").append(DtoJsonEmitter.NEW_LINE).append("\t *")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t * @param  typeFactory Type factory.").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t * @return             The property types.").append(DtoJsonEmitter.NEW_LINE).append("\t */").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\tstatic com.fasterxml.jackson.databind.JavaType[] getPropertyTypes(").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t\tfinal com.fasterxml.jackson.databind.type.TypeFactory typeFactory) {").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\treturn new com.fasterxml.jackson.databind.JavaType[] {");
+		for (int index = 0; index < attributes.size(); index++) {
+			final String type = attributes.get(index).getType();
+			source.append(index == 0 ? "" : ",").append(DtoJsonEmitter.NEW_LINE).append("\t\t\t\ttypeFactory.constructType(")
+					.append(type.contains("<") ? "new com.fasterxml.jackson.core.type.TypeReference<" + type + ">() {}" : type + ".class").append(')');
+		}
+		source.append(" };").append(DtoJsonEmitter.NEW_LINE).append("\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the serializer (and its factory method).
+	 *
+	 * @param dto        DTO type metadata.
+	 * @param attributes JSON properties.
+	 * @param source     Serializers source.
+	 */
+	private static void appendSerializer(
+			final DtoTypeMetadata dto,
+			final List<DtoAttributeMetadata> attributes,
+			final StringBuilder source) {
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * Creates the serializer.").append(DtoJsonEmitter.NEW_LINE).append("\t *")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t * @return The serializer.").append(DtoJsonEmitter.NEW_LINE).append("\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\tpublic static com.fasterxml.jackson.databind.JsonSerializer<").append(dto.getQualifiedName()).append("> serializer() {")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t\treturn new Serializer();").append(DtoJsonEmitter.NEW_LINE).append("\t}")
+				.append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * Serializer.").append(DtoJsonEmitter.NEW_LINE).append("\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\tpublic static final class Serializer extends ").append(DtoJsonEmitter.SERIALIZER_BASE).append('<')
+				.append(dto.getQualifiedName()).append("> {").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t\t * Serial.").append(DtoJsonEmitter.NEW_LINE).append("\t\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\tprivate static final long serialVersionUID = ").append((dto.getJsonQualifiedName() + ".Serializer").hashCode()).append("L;")
+				.append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		// The property names are given in the properties order.
+		source.append("\t\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t\t * Constructor.").append(DtoJsonEmitter.NEW_LINE).append("\t\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\tpublic Serializer() {").append(DtoJsonEmitter.NEW_LINE).append("\t\t\tsuper(").append(dto.getQualifiedName()).append(".class, ")
+				.append(attributes.stream().map(attribute -> "\"" + attribute.getName() + "\"").collect(Collectors.joining(", "))).append(");")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		DtoJsonEmitter.appendGetPropertyTypes(dto, source);
+		// Writes each property with the write method for its type.
+		source.append("\t\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t\t * @see ").append(DtoJsonEmitter.SERIALIZER_BASE)
+				.append("#writeProperties(Object, com.fasterxml.jackson.core.JsonGenerator,").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t *      com.fasterxml.jackson.databind.SerializerProvider)").append(DtoJsonEmitter.NEW_LINE).append("\t\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t@Override").append(DtoJsonEmitter.NEW_LINE).append("\t\tprotected void writeProperties(").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t\t\tfinal ").append(dto.getQualifiedName()).append(" dto,").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t\t\tfinal com.fasterxml.jackson.core.JsonGenerator generator,").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t\t\tfinal com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {")
+				.append(DtoJsonEmitter.NEW_LINE);
+		for (int index = 0; index < attributes.size(); index++) {
+			final DtoAttributeMetadata attribute = attributes.get(index);
+			final String getter = "dto.get" + attribute.getCapitalizedName() + "()";
+			source.append("\t\t\tthis.");
+			switch (attribute.getType()) {
+				case "int", "long", "float", "double", "boolean" -> source.append("write").append(StringUtils.capitalize(attribute.getType()))
+						.append("(generator, ").append(index).append(", ").append(getter);
+				case "java.lang.String" -> source.append("writeString(generator, provider, ").append(index).append(", ").append(getter);
+				default -> source.append("writeValue(generator, provider, ").append(index).append(", ").append(getter);
+			}
+			source.append(");").append(DtoJsonEmitter.NEW_LINE);
+		}
+		source.append("\t\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE).append("\t}").append(DtoJsonEmitter.NEW_LINE)
+				.append(DtoJsonEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the property types method (of the serializer or deserializer).
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source Serializers source.
+	 */
+	private static void appendGetPropertyTypes(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		source.append("\t\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t\t * @see ").append(dto.getJsonName())
+				.append("#getPropertyTypes(com.fasterxml.jackson.databind.type.TypeFactory)").append(DtoJsonEmitter.NEW_LINE).append("\t\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t@Override").append(DtoJsonEmitter.NEW_LINE).append("\t\tprotected com.fasterxml.jackson.databind.JavaType[] getPropertyTypes(")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t\t\t\tfinal com.fasterxml.jackson.databind.type.TypeFactory typeFactory) {")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t\treturn ").append(dto.getJsonName()).append(".getPropertyTypes(typeFactory);").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the deserializer factory method (and the deserializer, if it can
+	 * be generated).
+	 *
+	 * @param dto        DTO type metadata.
+	 * @param attributes JSON properties.
+	 * @param source     Serializers source.
+	 */
+	private static void appendDeserializer(
+			final DtoTypeMetadata dto,
+			final List<DtoAttributeMetadata> attributes,
+			final StringBuilder source) {
+		final boolean deserializable = DtoJsonEmitter.isDeserializable(dto);
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * Creates the deserializer.").append(DtoJsonEmitter.NEW_LINE).append("\t *")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t * @return The deserializer")
+				.append(deserializable ? "" : " (null, as not every property can be set, so the bean deserializer is used)").append('.')
+				.append(DtoJsonEmitter.NEW_LINE).append("\t */").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\tpublic static com.fasterxml.jackson.databind.JsonDeserializer<").append(dto.getQualifiedName()).append("> deserializer() {")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t\treturn ").append(deserializable ? "new Deserializer()" : "null").append(';')
+				.append(DtoJsonEmitter.NEW_LINE).append("\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		if (!deserializable) {
+			return;
+		}
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * Deserializer.").append(DtoJsonEmitter.NEW_LINE).append("\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\tpublic static final class Deserializer extends ").append(DtoJsonEmitter.DESERIALIZER_BASE).append('<')
+				.append(dto.getQualifiedName()).append("> {").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t\t * Serial.").append(DtoJsonEmitter.NEW_LINE).append("\t\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\tprivate static final long serialVersionUID = ").append((dto.getJsonQualifiedName() + ".Deserializer").hashCode()).append("L;")
+				.append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t\t * Constructor.").append(DtoJsonEmitter.NEW_LINE).append("\t\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\tpublic Deserializer() {").append(DtoJsonEmitter.NEW_LINE).append("\t\t\tsuper(").append(dto.getQualifiedName())
+				.append(".class);").append(DtoJsonEmitter.NEW_LINE).append("\t\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		DtoJsonEmitter.appendGetPropertyTypes(dto, source);
+		source.append("\t\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t\t * @see ").append(DtoJsonEmitter.DESERIALIZER_BASE)
+				.append("#readProperties(com.fasterxml.jackson.core.JsonParser,").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t *      com.fasterxml.jackson.databind.DeserializationContext)").append(DtoJsonEmitter.NEW_LINE).append("\t\t */")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t@Override").append(DtoJsonEmitter.NEW_LINE).append("\t\t@SuppressWarnings(\"unchecked\")").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\tprotected ").append(dto.getQualifiedName()).append(" readProperties(").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t\t\tfinal com.fasterxml.jackson.core.JsonParser parser,").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t\t\t\tfinal com.fasterxml.jackson.databind.DeserializationContext context) throws java.io.IOException {")
+				.append(DtoJsonEmitter.NEW_LINE);
+		// Bean DTOs are created first and set by each property, and immutable DTOs
+		// are created with the read properties (or their defaults).
+		if (dto.isImmutable()) {
+			for (int index = 0; index < attributes.size(); index++) {
+				final String primitiveDefault = DtoMappingRenderer.getPrimitiveDefault(attributes.get(index).getConstructorType());
+				source.append("\t\t\t").append(attributes.get(index).getConstructorType()).append(" value").append(index).append(" = ")
+						.append(primitiveDefault == null ? "null" : primitiveDefault).append(';').append(DtoJsonEmitter.NEW_LINE);
+			}
+		}
+		else {
+			source.append("\t\t\tfinal ").append(dto.getQualifiedName()).append(" dto = new ").append(dto.getQualifiedName()).append("();")
+					.append(DtoJsonEmitter.NEW_LINE);
+		}
+		// Dispatches each property by its name.
+		source.append("\t\t\tfor (com.fasterxml.jackson.core.JsonToken token = parser.currentToken(); token == com.fasterxml.jackson.core.JsonToken.FIELD_NAME;")
+				.append(" token = parser.nextToken()) {").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t\t\tfinal java.lang.String name = parser.currentName();").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t\t\tparser.nextToken();").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t\t\tswitch (name) {").append(DtoJsonEmitter.NEW_LINE);
+		for (int index = 0; index < attributes.size(); index++) {
+			final DtoAttributeMetadata attribute = attributes.get(index);
+			final String value = "(" + attribute.getType() + ") this.readValue(parser, context, " + index + ")";
+			source.append("\t\t\t\t\tcase \"").append(attribute.getName()).append("\" -> ")
+					.append(dto.isImmutable() ? "value" + index + " = " + value : "dto.set" + attribute.getCapitalizedName() + "(" + value + ")").append(';')
+					.append(DtoJsonEmitter.NEW_LINE);
+		}
+		source.append("\t\t\t\t\tdefault -> this.readUnknown(parser, context, ").append(dto.isImmutable() ? "null" : "dto").append(", name);")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\t\t\t}").append(DtoJsonEmitter.NEW_LINE).append("\t\t\t}").append(DtoJsonEmitter.NEW_LINE);
+		if (dto.isImmutable()) {
+			final List<DtoAttributeMetadata> constructorAttributes = dto.getConstructorAttributes();
+			source.append("\t\t\treturn new ").append(dto.getQualifiedName()).append('(')
+					.append(constructorAttributes.stream().map(attribute -> "value" + attributes.indexOf(attribute)).collect(Collectors.joining(", ")))
+					.append(");").append(DtoJsonEmitter.NEW_LINE);
+		}
+		else {
+			source.append("\t\t\treturn dto;").append(DtoJsonEmitter.NEW_LINE);
+		}
+		source.append("\t\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE).append("\t}").append(DtoJsonEmitter.NEW_LINE)
+				.append(DtoJsonEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Emits the serializers source of a DTO (that must be supported, see
+	 * {@link #isSupported(DtoTypeMetadata)}).
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     The serializers source.
+	 */
+	public String emit(
+			final DtoTypeMetadata dto) {
+		final List<DtoAttributeMetadata> attributes = DtoJsonEmitter.getJsonAttributes(dto);
+		final StringBuilder source = new StringBuilder(DtoJsonEmitter.BASE_SIZE + (DtoJsonEmitter.ATTRIBUTE_SIZE * attributes.size()));
+		DtoJsonEmitter.appendClassDeclaration(dto, attributes, source);
+		DtoJsonEmitter.appendSerializer(dto, attributes, source);
+		DtoJsonEmitter.appendDeserializer(dto, attributes, source);
+		source.append('}').append(DtoJsonEmitter.NEW_LINE);
+		return source.toString();
+	}
+
+	/**
+	 * Appends a module factory method (dispatching the DTO types by name).
+	 *
+	 * @param dtos    DTOs with serializers (type metadata).
+	 * @param source  Module source.
+	 * @param kind    Serializer kind (<code>Serializer</code> or
+	 *                    <code>Deserializer</code>).
+	 * @param factory Serializers factory method.
+	 */
+	private static void appendModuleFactory(
+			final List<DtoTypeMetadata> dtos,
+			final StringBuilder source,
+			final String kind,
+			final String factory) {
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * @see ").append(DtoJsonEmitter.MODULE_BASE).append("#create").append(kind)
+				.append("(java.lang.Class)").append(DtoJsonEmitter.NEW_LINE).append("\t */").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t@Override").append(DtoJsonEmitter.NEW_LINE).append("\tprotected com.fasterxml.jackson.databind.Json").append(kind)
+				.append("<?> create").append(kind).append('(').append(DtoJsonEmitter.NEW_LINE).append("\t\t\tfinal java.lang.Class<?> type) {")
+				.append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t\treturn switch (type.getName()) {").append(DtoJsonEmitter.NEW_LINE);
+		for (final DtoTypeMetadata dto : dtos) {
+			source.append("\t\t\tcase \"").append(dto.getQualifiedName()).append("\" -> type == ").append(dto.getQualifiedName()).append(".class ? ")
+					.append(dto.getJsonQualifiedName()).append('.').append(factory).append("() : null;").append(DtoJsonEmitter.NEW_LINE);
+		}
+		source.append("\t\t\tdefault -> null;").append(DtoJsonEmitter.NEW_LINE).append("\t\t};").append(DtoJsonEmitter.NEW_LINE).append("\t}")
+				.append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Emits the module source of a compilation.
+	 *
+	 * @param  namespace Module namespace (empty for the default package).
+	 * @param  name      Module (simple) name.
+	 * @param  dtos      DTOs with serializers in the compilation (type
+	 *                       metadata).
+	 * @return           The module source.
+	 */
+	public String emitModule(
+			final String namespace,
+			final String name,
+			final List<DtoTypeMetadata> dtos) {
+		final StringBuilder source = new StringBuilder(DtoJsonEmitter.BASE_SIZE + (DtoJsonEmitter.ATTRIBUTE_SIZE * dtos.size()));
+		if (!namespace.isEmpty()) {
+			source.append("package ").append(namespace).append(';').append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		}
+		source.append("/**").append(DtoJsonEmitter.NEW_LINE);
+		source.append(" * Registers the JSON serializers and deserializers of the compilation DTOs.").append(DtoJsonEmitter.NEW_LINE);
+		source.append(" */").append(DtoJsonEmitter.NEW_LINE);
+		source.append("public final class ").append(name).append(" extends ").append(DtoJsonEmitter.MODULE_BASE).append(" {")
+				.append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		source.append("\t/**").append(DtoJsonEmitter.NEW_LINE).append("\t * Constructor (also used by the service loader).").append(DtoJsonEmitter.NEW_LINE)
+				.append("\t */").append(DtoJsonEmitter.NEW_LINE);
+		source.append("\tpublic ").append(name).append("() {").append(DtoJsonEmitter.NEW_LINE).append("\t\tsuper();")
+				.append(DtoJsonEmitter.NEW_LINE).append("\t}").append(DtoJsonEmitter.NEW_LINE).append(DtoJsonEmitter.NEW_LINE);
+		DtoJsonEmitter.appendModuleFactory(dtos, source, "Serializer", "serializer");
+		DtoJsonEmitter.appendModuleFactory(dtos, source, "Deserializer", "deserializer");
+		source.append('}').append(DtoJsonEmitter.NEW_LINE);
+		return source.toString();
+	}
+
+}
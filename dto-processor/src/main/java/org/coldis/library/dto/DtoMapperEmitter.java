@@ -0,0 +1,341 @@
+package org.coldis.library.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Emits the mapper of a DTO (see {@link DtoType#mapper()}), converting the
+ * original objects to DTOs and back with direct getter and setter calls (the
+ * conversion expressions are resolved with the DTO type metadata).
+ */
+public class DtoMapperEmitter {
+
+	/**
+	 * Line separator.
+	 */
+	private static final String NEW_LINE = "\n";
+
+	/**
+	 * Estimated size of the mapper without attributes.
+	 */
+	private static final int BASE_SIZE = 2048;
+
+	/**
+	 * Estimated size of each attribute conversion.
+	 */
+	private static final int ATTRIBUTE_SIZE = 256;
+
+	/**
+	 * Checks if an attribute has a modifier.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @param  modifier  Modifier.
+	 * @return           If the attribute has the modifier.
+	 */
+	private static boolean hasModifier(
+			final DtoAttributeMetadata attribute,
+			final String modifier) {
+		return (attribute.getModifiers() != null) && attribute.getModifiers().contains(modifier);
+	}
+
+	/**
+	 * Checks if an attribute is set in the DTO by the mapper.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           If the attribute is set in the DTO by the mapper.
+	 */
+	private static boolean isMappedToDto(
+			final DtoAttributeMetadata attribute) {
+		return (attribute.getToDtoExpression() != null) && !DtoMapperEmitter.hasModifier(attribute, "static")
+				&& !DtoMapperEmitter.hasModifier(attribute, "final");
+	}
+
+	/**
+	 * Checks if an attribute is set in a (bean) DTO with a direct field write (as
+	 * read only attributes have no setter).
+	 *
+	 * @param  dto       DTO type metadata.
+	 * @param  attribute Attribute metadata.
+	 * @return           If the attribute is set with a direct field write.
+	 */
+	private static boolean isFieldMappedToDto(
+			final DtoTypeMetadata dto,
+			final DtoAttributeMetadata attribute) {
+		return !dto.isImmutable() && Boolean.TRUE.equals(attribute.getReadOnly()) && DtoMapperEmitter.isMappedToDto(attribute);
+	}
+
+	/**
+	 * Gets the name of the field handle constant of a read only attribute.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           The field handle constant name.
+	 */
+	private static String getFieldHandleName(
+			final DtoAttributeMetadata attribute) {
+		return attribute.getName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_FIELD";
+	}
+
+	/**
+	 * Checks if an attribute is set in the original object by the mapper.
+	 *
+	 * @param  attribute Attribute metadata.
+	 * @return           If the attribute is set in the original object by the
+	 *                   mapper.
+	 */
+	private static boolean isMappedToModel(
+			final DtoAttributeMetadata attribute) {
+		return (attribute.getToModelExpression() != null) && (attribute.getOriginalSetterName() != null)
+				&& !DtoMapperEmitter.hasModifier(attribute, "static");
+	}
+
+	/**
+	 * Gets the attributes copied by the mapper (the inherited ones it copies
+	 * itself, when there is no parent mapper, and the DTO ones).
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     The attributes copied by the mapper.
+	 */
+	private static List<DtoAttributeMetadata> getCopiedAttributes(
+			final DtoTypeMetadata dto) {
+		return Stream.concat(dto.getInheritedMappedAttributes().stream(), dto.getAttributes().stream()).toList();
+	}
+
+	/**
+	 * Appends the class declaration (and its documentation).
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source Mapper source.
+	 */
+	private static void appendClassDeclaration(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		source.append("package ").append(dto.getNamespace()).append(';').append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		source.append("/**").append(DtoMapperEmitter.NEW_LINE);
+		source.append(" * Converts {@link ").append(dto.getOriginalClassName()).append("} objects to {@link ").append(dto.getName())
+				.append("} and back.").append(DtoMapperEmitter.NEW_LINE);
+		// Lists the attributes that are not converted in one of the directions.
+		final List<DtoAttributeMetadata> notMappedAttributes = DtoMapperEmitter.getCopiedAttributes(dto).stream()
+				.filter(attribute -> !DtoMapperEmitter.hasModifier(attribute, "static")
+						&& (!DtoMapperEmitter.isMappedToDto(attribute) || !DtoMapperEmitter.isMappedToModel(attribute)))
+				.toList();
+		if (!notMappedAttributes.isEmpty()) {
+			source.append(" * Attributes not mapped in (at least) one direction: ")
+					.append(notMappedAttributes.stream().map(attribute -> "<code>" + attribute.getName() + "</code>").collect(Collectors.joining(", ")))
+					.append('.').append(DtoMapperEmitter.NEW_LINE);
+		}
+		source.append(" */").append(DtoMapperEmitter.NEW_LINE);
+		source.append("public final class ").append(dto.getMapperName()).append(" {").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * No instances.").append(DtoMapperEmitter.NEW_LINE).append("\t */")
+				.append(DtoMapperEmitter.NEW_LINE);
+		source.append("\tprivate ").append(dto.getMapperName()).append("() {").append(DtoMapperEmitter.NEW_LINE).append("\t\tsuper();")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		// Declares the field handles of the read only attributes.
+		for (final DtoAttributeMetadata attribute : DtoMapperEmitter.getCopiedAttributes(dto)) {
+			if (DtoMapperEmitter.isFieldMappedToDto(dto, attribute)) {
+				source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * <code>").append(attribute.getName())
+						.append("</code> field (read only, so written directly).").append(DtoMapperEmitter.NEW_LINE).append("\t */")
+						.append(DtoMapperEmitter.NEW_LINE);
+				source.append("\tprivate static final java.lang.invoke.VarHandle ").append(DtoMapperEmitter.getFieldHandleName(attribute)).append(" = ")
+						.append(DtoFieldWriter.class.getName()).append(".find(java.lang.invoke.MethodHandles.lookup(), ").append(dto.getName())
+						.append(".class, \"").append(attribute.getName()).append("\");").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+			}
+		}
+	}
+
+	/**
+	 * Appends the conversion to the DTO.
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source Mapper source.
+	 */
+	private static void appendToDto(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		// Bean DTOs are filled by a copy method (so child mappers can reuse it).
+		if (!dto.isImmutable()) {
+			source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Copies the original object attributes to a DTO.")
+					.append(DtoMapperEmitter.NEW_LINE).append("\t *").append(DtoMapperEmitter.NEW_LINE).append("\t * @param model Original object.")
+					.append(DtoMapperEmitter.NEW_LINE).append("\t * @param dto   DTO.").append(DtoMapperEmitter.NEW_LINE).append("\t */")
+					.append(DtoMapperEmitter.NEW_LINE);
+			source.append("\tpublic static void copyToDto(").append(DtoMapperEmitter.NEW_LINE).append("\t\t\tfinal ").append(dto.getOriginalClassName())
+					.append(" model,").append(DtoMapperEmitter.NEW_LINE).append("\t\t\tfinal ").append(dto.getName()).append(" dto) {")
+					.append(DtoMapperEmitter.NEW_LINE);
+			if (dto.getParentMapperQualifiedName() != null) {
+				source.append("\t\t").append(dto.getParentMapperQualifiedName()).append(".copyToDto(model, dto);").append(DtoMapperEmitter.NEW_LINE);
+			}
+			// Read only attributes are written first (as the setters also reset the
+			// cached hash code).
+			for (final DtoAttributeMetadata attribute : DtoMapperEmitter.getCopiedAttributes(dto)) {
+				if (DtoMapperEmitter.isFieldMappedToDto(dto, attribute)) {
+					source.append("\t\t").append(dto.getMapperName()).append('.').append(DtoMapperEmitter.getFieldHandleName(attribute)).append(".set(dto, ")
+							.append(attribute.getToDtoExpression()).append(");").append(DtoMapperEmitter.NEW_LINE);
+				}
+			}
+			for (final DtoAttributeMetadata attribute : DtoMapperEmitter.getCopiedAttributes(dto)) {
+				if (DtoMapperEmitter.isMappedToDto(attribute) && !DtoMapperEmitter.isFieldMappedToDto(dto, attribute)) {
+					source.append("\t\tdto.set").append(attribute.getCapitalizedName()).append('(').append(attribute.getToDtoExpression()).append(");")
+							.append(DtoMapperEmitter.NEW_LINE);
+				}
+			}
+			source.append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		}
+		// Converts the original object.
+		source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Converts an original object to a DTO.").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t *").append(DtoMapperEmitter.NEW_LINE).append("\t * @param  model Original object.").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @return       The DTO (or null for null objects).").append(DtoMapperEmitter.NEW_LINE).append("\t */")
+				.append(DtoMapperEmitter.NEW_LINE);
+		source.append("\tpublic static ").append(dto.getName()).append(" toDto(").append(DtoMapperEmitter.NEW_LINE).append("\t\t\tfinal ")
+				.append(dto.getOriginalClassName()).append(" model) {").append(DtoMapperEmitter.NEW_LINE);
+		source.append("\t\tif (model == null) {").append(DtoMapperEmitter.NEW_LINE).append("\t\t\treturn null;").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t\t}").append(DtoMapperEmitter.NEW_LINE);
+		// Immutable DTOs are created with every attribute (not mapped ones are
+		// null, or their default value).
+		if (dto.isImmutable()) {
+			source.append("\t\treturn new ").append(dto.getName()).append('(').append(dto.getConstructorAttributes().stream().map(attribute -> {
+				final String primitiveDefault = DtoMappingRenderer.getPrimitiveDefault(attribute.getConstructorType());
+				return DtoMapperEmitter.isMappedToDto(attribute) ? attribute.getToDtoExpression() : (primitiveDefault == null ? "null" : primitiveDefault);
+			}).collect(Collectors.joining(", "))).append(");").append(DtoMapperEmitter.NEW_LINE);
+		}
+		else {
+			source.append("\t\tfinal ").append(dto.getName()).append(" dto = new ").append(dto.getName()).append("();").append(DtoMapperEmitter.NEW_LINE);
+			source.append("\t\t").append(dto.getMapperName()).append(".copyToDto(model, dto);").append(DtoMapperEmitter.NEW_LINE);
+			source.append("\t\treturn dto;").append(DtoMapperEmitter.NEW_LINE);
+		}
+		source.append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		DtoMapperEmitter.appendBulkConversions(dto, source, "toDto", dto.getOriginalClassName(), dto.getName(), "DTOs");
+	}
+
+	/**
+	 * Appends the bulk conversions (of lists, arrays and map values, see
+	 * {@link DtoBulkMapper}, and of streams, see {@link DtoStreamMapper})
+	 * delegating to an element conversion.
+	 *
+	 * @param dto         DTO type metadata.
+	 * @param source      Mapper source.
+	 * @param conversion  Element conversion method name.
+	 * @param sourceType  Element source type.
+	 * @param targetType  Element target type.
+	 * @param description Target description.
+	 */
+	private static void appendBulkConversions(
+			final DtoTypeMetadata dto,
+			final StringBuilder source,
+			final String conversion,
+			final String sourceType,
+			final String targetType,
+			final String description) {
+		final String bulkMapper = DtoBulkMapper.class.getName();
+		final String methodReference = dto.getMapperName() + "::" + conversion;
+		// Converts lists.
+		source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Converts a list to ").append(description)
+				.append(" (in parallel above the bulk threshold, if enabled).").append(DtoMapperEmitter.NEW_LINE).append("\t *").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @param  sources Sources.").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @return         The converted list, in the same order (or null for null sources).").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t */").append(DtoMapperEmitter.NEW_LINE);
+		source.append("\tpublic static java.util.List<").append(targetType).append("> ").append(conversion).append("s(").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t\t\tfinal java.util.List<? extends ").append(sourceType).append("> sources) {").append(DtoMapperEmitter.NEW_LINE);
+		source.append("\t\treturn ").append(bulkMapper).append(".convertList(sources, ").append(methodReference).append(");")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		// Converts arrays.
+		source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Converts an array to ").append(description)
+				.append(" (in parallel above the bulk threshold, if enabled).").append(DtoMapperEmitter.NEW_LINE).append("\t *").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @param  sources Sources.").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @return         The converted array, in the same order (or null for null sources).").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t */").append(DtoMapperEmitter.NEW_LINE);
+		source.append("\tpublic static ").append(targetType).append("[] ").append(conversion).append("s(").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t\t\tfinal ").append(sourceType).append("[] sources) {").append(DtoMapperEmitter.NEW_LINE);
+		source.append("\t\treturn ").append(bulkMapper).append(".convertArray(sources, ").append(methodReference).append(", ").append(targetType)
+				.append("[]::new);").append(DtoMapperEmitter.NEW_LINE).append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		// Converts map values.
+		source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Converts the values of a map to ").append(description)
+				.append(" (in parallel above the bulk threshold, if enabled).").append(DtoMapperEmitter.NEW_LINE).append("\t *").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @param  <Key>   Key type.").append(DtoMapperEmitter.NEW_LINE).append("\t * @param  sources Sources.")
+				.append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @return         The map with the converted values, in the same order (or null for null sources).")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t */").append(DtoMapperEmitter.NEW_LINE);
+		source.append("\tpublic static <Key> java.util.Map<Key, ").append(targetType).append("> ").append(conversion).append("s(")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t\t\tfinal java.util.Map<Key, ? extends ").append(sourceType).append("> sources) {")
+				.append(DtoMapperEmitter.NEW_LINE);
+		source.append("\t\treturn ").append(bulkMapper).append(".convertValues(sources, ").append(methodReference).append(");")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		// Converts streams (lazily).
+		source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Converts a stream to ").append(description)
+				.append(" lazily (in batches, as the stream is consumed).").append(DtoMapperEmitter.NEW_LINE).append("\t *").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @param  sources Sources.").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t * @return         The converted stream, in the same order (or null for null sources).").append(DtoMapperEmitter.NEW_LINE)
+				.append("\t */").append(DtoMapperEmitter.NEW_LINE);
+		source.append("\tpublic static java.util.stream.Stream<").append(targetType).append("> ").append(conversion).append("s(")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t\t\tfinal java.util.stream.Stream<? extends ").append(sourceType).append("> sources) {")
+				.append(DtoMapperEmitter.NEW_LINE);
+		source.append("\t\treturn ").append(DtoStreamMapper.class.getName()).append(".convert(sources, ").append(methodReference).append(");")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+	}
+
+	/**
+	 * Appends the conversion to the original object.
+	 *
+	 * @param dto    DTO type metadata.
+	 * @param source Mapper source.
+	 */
+	private static void appendToModel(
+			final DtoTypeMetadata dto,
+			final StringBuilder source) {
+		// Copies the DTO attributes.
+		source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Copies the DTO attributes to an original object.")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t *").append(DtoMapperEmitter.NEW_LINE).append("\t * @param dto   DTO.")
+				.append(DtoMapperEmitter.NEW_LINE).append("\t * @param model Original object.").append(DtoMapperEmitter.NEW_LINE).append("\t */")
+				.append(DtoMapperEmitter.NEW_LINE);
+		source.append("\tpublic static void copyToModel(").append(DtoMapperEmitter.NEW_LINE).append("\t\t\tfinal ").append(dto.getName())
+				.append(" dto,").append(DtoMapperEmitter.NEW_LINE).append("\t\t\tfinal ").append(dto.getOriginalClassName()).append(" model) {")
+				.append(DtoMapperEmitter.NEW_LINE);
+		if (dto.getParentMapperQualifiedName() != null) {
+			source.append("\t\t").append(dto.getParentMapperQualifiedName()).append(".copyToModel(dto, model);").append(DtoMapperEmitter.NEW_LINE);
+		}
+		for (final DtoAttributeMetadata attribute : DtoMapperEmitter.getCopiedAttributes(dto)) {
+			if (DtoMapperEmitter.isMappedToModel(attribute)) {
+				source.append("\t\tmodel.").append(attribute.getOriginalSetterName()).append('(').append(attribute.getToModelExpression()).append(");")
+						.append(DtoMapperEmitter.NEW_LINE);
+			}
+		}
+		source.append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+		// Converts the DTO (if the original object can be created).
+		if (Boolean.TRUE.equals(dto.getOriginalInstantiable())) {
+			source.append("\t/**").append(DtoMapperEmitter.NEW_LINE).append("\t * Converts a DTO to an original object.").append(DtoMapperEmitter.NEW_LINE)
+					.append("\t *").append(DtoMapperEmitter.NEW_LINE).append("\t * @param  dto DTO.").append(DtoMapperEmitter.NEW_LINE)
+					.append("\t * @return     The original object (or null for null DTOs).").append(DtoMapperEmitter.NEW_LINE).append("\t */")
+					.append(DtoMapperEmitter.NEW_LINE);
+			source.append("\tpublic static ").append(dto.getOriginalClassName()).append(" toModel(").append(DtoMapperEmitter.NEW_LINE)
+					.append("\t\t\tfinal ").append(dto.getName()).append(" dto) {").append(DtoMapperEmitter.NEW_LINE);
+			source.append("\t\tif (dto == null) {").append(DtoMapperEmitter.NEW_LINE).append("\t\t\treturn null;").append(DtoMapperEmitter.NEW_LINE)
+					.append("\t\t}").append(DtoMapperEmitter.NEW_LINE);
+			source.append("\t\tfinal ").append(dto.getOriginalClassName()).append(" model = new ").append(dto.getOriginalClassName()).append("();")
+					.append(DtoMapperEmitter.NEW_LINE);
+			source.append("\t\t").append(dto.getMapperName()).append(".copyToModel(dto, model);").append(DtoMapperEmitter.NEW_LINE);
+			source.append("\t\treturn model;").append(DtoMapperEmitter.NEW_LINE);
+			source.append("\t}").append(DtoMapperEmitter.NEW_LINE).append(DtoMapperEmitter.NEW_LINE);
+			DtoMapperEmitter.appendBulkConversions(dto, source, "toModel", dto.getName(), dto.getOriginalClassName(), "original objects");
+		}
+	}
+
+	/**
+	 * Emits the mapper source.
+	 *
+	 * @param  dto DTO type metadata.
+	 * @return     The mapper source.
+	 */
+	public String emit(
+			final DtoTypeMetadata dto) {
+		final StringBuilder source = new StringBuilder(DtoMapperEmitter.BASE_SIZE + (DtoMapperEmitter.ATTRIBUTE_SIZE * dto.getAttributes().size()));
+		DtoMapperEmitter.appendClassDeclaration(dto, source);
+		DtoMapperEmitter.appendToDto(dto, source);
+		DtoMapperEmitter.appendToModel(dto, source);
+		// Appends the conversion methods.
+		for (final String mapperMethod : dto.getMapperMethods()) {
+			source.append(mapperMethod).append(DtoMapperEmitter.NEW_LINE);
+		}
+		source.append('}').append(DtoMapperEmitter.NEW_LINE);
+		return source.toString();
+	}
+
+}
@@ -0,0 +1,355 @@
+package org.coldis.library.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+
+/**
+ * Renders the expressions converting an original attribute value to its DTO
+ * type (and back) for generated mappers. Nested DTO types are converted by
+ * their own mappers, and arrays, lists, sets and maps of them by conversion
+ * methods added to the mapper (one loop per level, with pre-sized outputs).
+ */
+public class DtoMappingRenderer {
+
+	/**
+	 * Wrapper class qualified name by primitive type.
+	 */
+	private static final Map<String, String> PRIMITIVE_WRAPPERS = Map.of("boolean", "java.lang.Boolean", "byte", "java.lang.Byte", "char",
+			"java.lang.Character", "short", "java.lang.Short", "int", "java.lang.Integer", "long", "java.lang.Long", "float", "java.lang.Float", "double",
+			"java.lang.Double");
+
+	/**
+	 * Default value literal by primitive type.
+	 */
+	private static final Map<String, String> PRIMITIVE_DEFAULTS = Map.of("boolean", "false", "byte", "(byte) 0", "char", "(char) 0", "short",
+			"(short) 0", "int", "0", "long", "0L", "float", "0F", "double", "0D");
+
+	/**
+	 * Collection implementation (created with an expected size) by collection
+	 * interface.
+	 */
+	private static final Map<String, String> COLLECTION_IMPLEMENTATIONS = Map.of("java.util.Collection", "java.util.ArrayList", "java.util.List",
+			"java.util.ArrayList", "java.util.Set", "java.util.LinkedHashSet", "java.util.Map", "java.util.LinkedHashMap");
+
+	/**
+	 * Attribute name (used to name the conversion methods).
+	 */
+	private final String attributeName;
+
+	/**
+	 * Original types renderer.
+	 */
+	private final DtoTypeRenderer originalTypeRenderer;
+
+	/**
+	 * DTO types renderer.
+	 */
+	private final DtoTypeRenderer dtoTypeRenderer;
+
+	/**
+	 * DTO types qualified names by original types qualified names.
+	 */
+	private final Map<String, String> dtoTypes;
+
+	/**
+	 * Gets the DTO type metadata of an original type (or {@code null} if the type
+	 * has no DTO).
+	 */
+	private final Function<TypeElement, DtoTypeMetadata> dtoTypeMetadataResolver;
+
+	/**
+	 * Mapper conversion methods (where new methods are added).
+	 */
+	private final List<String> mapperMethods;
+
+	/**
+	 * Number of conversion methods created for the attribute (to the DTO type).
+	 */
+	private int toDtoMethodsCount;
+
+	/**
+	 * Number of conversion methods created for the attribute (to the original
+	 * type).
+	 */
+	private int toModelMethodsCount;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param attributeName           Attribute name (used to name the conversion
+	 *                                    methods).
+	 * @param dtoTypes                DTO types qualified names by original types
+	 *                                    qualified names.
+	 * @param dtoTypeMetadataResolver Gets the DTO type metadata of an original
+	 *                                    type (or {@code null} if the type has no
+	 *                                    DTO).
+	 * @param mapperMethods           Mapper conversion methods (where new methods
+	 *                                    are added).
+	 */
+	public DtoMappingRenderer(
+			final String attributeName,
+			final Map<String, String> dtoTypes,
+			final Function<TypeElement, DtoTypeMetadata> dtoTypeMetadataResolver,
+			final List<String> mapperMethods) {
+		super();
+		this.attributeName = attributeName;
+		this.originalTypeRenderer = new DtoTypeRenderer(Map.of());
+		this.dtoTypeRenderer = new DtoTypeRenderer(dtoTypes);
+		this.dtoTypes = dtoTypes;
+		this.dtoTypeMetadataResolver = dtoTypeMetadataResolver;
+		this.mapperMethods = mapperMethods;
+	}
+
+	/**
+	 * Gets the default value literal of a primitive type.
+	 *
+	 * @param  type Type.
+	 * @return      The default value literal (or {@code null} if the type is not
+	 *              primitive).
+	 */
+	public static String getPrimitiveDefault(
+			final String type) {
+		return DtoMappingRenderer.PRIMITIVE_DEFAULTS.get(type);
+	}
+
+	/**
+	 * Renders the expression converting an attribute value.
+	 *
+	 * @param  originalType Original attribute type.
+	 * @param  dtoType      DTO attribute type.
+	 * @param  value        Value expression (of the original type when converting
+	 *                          to the DTO, of the DTO type otherwise).
+	 * @param  toDto        If the value is converted to the DTO (or back to the
+	 *                          original type).
+	 * @return              The conversion expression, or {@code null} if the
+	 *                      value cannot be converted.
+	 */
+	public String render(
+			final TypeMirror originalType,
+			final String dtoType,
+			final String value,
+			final boolean toDto) {
+		// If the DTO type is derived from the original type, converts it
+		// structurally.
+		if (dtoType.equals(this.dtoTypeRenderer.render(originalType))) {
+			return this.convert(originalType, value, toDto);
+		}
+		// Otherwise, only boxing conversions are supported.
+		return this.box(this.originalTypeRenderer.render(originalType), dtoType, value, toDto);
+	}
+
+	/**
+	 * Renders a boxing conversion (between primitive types and their wrappers, or
+	 * between arrays of them).
+	 *
+	 * @param  originalType Original type.
+	 * @param  dtoType      DTO type.
+	 * @param  value        Value expression.
+	 * @param  toDto        If the value is converted to the DTO.
+	 * @return              The conversion expression, or {@code null} if the types
+	 *                      are not a primitive and its wrapper.
+	 */
+	private String box(
+			final String originalType,
+			final String dtoType,
+			final String value,
+			final boolean toDto) {
+		final String sourceType = toDto ? originalType : dtoType;
+		final String targetType = toDto ? dtoType : originalType;
+		// Primitive values are boxed and null wrappers are unboxed to the default
+		// value.
+		if (sourceType.equals(DtoMappingRenderer.PRIMITIVE_WRAPPERS.get(targetType))) {
+			return "java.util.Objects.requireNonNullElse(" + value + ", " + DtoMappingRenderer.PRIMITIVE_DEFAULTS.get(targetType) + ")";
+		}
+		if (targetType.equals(DtoMappingRenderer.PRIMITIVE_WRAPPERS.get(sourceType))) {
+			return value;
+		}
+		// Arrays are boxed element by element.
+		if (sourceType.endsWith("[]") && targetType.endsWith("[]")) {
+			final String sourceComponentType = sourceType.substring(0, sourceType.length() - 2);
+			final String targetComponentType = targetType.substring(0, targetType.length() - 2);
+			final String elementConversion = this.box(sourceComponentType, targetComponentType, "value[index]", true);
+			if ((elementConversion != null) && (DtoMappingRenderer.PRIMITIVE_WRAPPERS.containsKey(sourceComponentType)
+					|| DtoMappingRenderer.PRIMITIVE_WRAPPERS.containsKey(targetComponentType))) {
+				return this.addArrayMethod(sourceType, targetType, elementConversion, value, toDto);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Renders a structural conversion (nested DTOs, and arrays and collections of
+	 * them).
+	 *
+	 * @param  originalType Original type.
+	 * @param  value        Value expression.
+	 * @param  toDto        If the value is converted to the DTO.
+	 * @return              The conversion expression, or {@code null} if the value
+	 *                      cannot be converted.
+	 */
+	private String convert(
+			final TypeMirror originalType,
+			final String value,
+			final boolean toDto) {
+		// If there is no DTO type in the type, the value is used as is.
+		if (this.originalTypeRenderer.render(originalType).equals(this.dtoTypeRenderer.render(originalType))) {
+			return value;
+		}
+		// If the type is an array, converts each element.
+		if (originalType instanceof ArrayType) {
+			final TypeMirror componentType = ((ArrayType) originalType).getComponentType();
+			final String elementConversion = this.convert(componentType, "value[index]", toDto);
+			// Arrays of parameterized types cannot be created.
+			if ((elementConversion == null) || this.renderType(componentType, !toDto).contains("<")) {
+				return null;
+			}
+			return this.addArrayMethod(this.renderType(originalType, toDto), this.renderType(originalType, !toDto), elementConversion, value, toDto);
+		}
+		// If the type is declared.
+		if (originalType instanceof DeclaredType) {
+			final DeclaredType declaredType = (DeclaredType) originalType;
+			final TypeElement typeElement = (TypeElement) declaredType.asElement();
+			final String qualifiedName = typeElement.getQualifiedName().toString();
+			// If the type has a DTO, uses its mapper.
+			if (this.dtoTypes.containsKey(qualifiedName)) {
+				final DtoTypeMetadata dtoTypeMetadata = this.dtoTypeMetadataResolver.apply(typeElement);
+				return (dtoTypeMetadata == null) || !dtoTypeMetadata.isHasMapper() || !declaredType.getTypeArguments().isEmpty()
+						|| (!toDto && !Boolean.TRUE.equals(dtoTypeMetadata.getOriginalInstantiable())) ? null
+								: dtoTypeMetadata.getMapperQualifiedName() + (toDto ? ".toDto(" : ".toModel(") + value + ")";
+			}
+			// If the type is a supported collection, converts each element.
+			if (DtoMappingRenderer.COLLECTION_IMPLEMENTATIONS.containsKey(qualifiedName)) {
+				return this.convertCollection(declaredType, qualifiedName, value, toDto);
+			}
+		}
+		// Other types cannot be converted.
+		return null;
+	}
+
+	/**
+	 * Renders a collection conversion.
+	 *
+	 * @param  collectionType Collection type.
+	 * @param  qualifiedName  Collection interface qualified name.
+	 * @param  value          Value expression.
+	 * @param  toDto          If the value is converted to the DTO.
+	 * @return                The conversion expression, or {@code null} if the
+	 *                        collection cannot be converted.
+	 */
+	private String convertCollection(
+			final DeclaredType collectionType,
+			final String qualifiedName,
+			final String value,
+			final boolean toDto) {
+		// Gets the elements types (wildcards are converted by their upper bounds).
+		final boolean map = "java.util.Map".equals(qualifiedName);
+		final List<? extends TypeMirror> typeArguments = collectionType.getTypeArguments();
+		if (typeArguments.size() != (map ? 2 : 1)) {
+			return null;
+		}
+		final TypeMirror[] elementTypes = new TypeMirror[typeArguments.size()];
+		for (int typeArgumentIndex = 0; typeArgumentIndex < typeArguments.size(); typeArgumentIndex++) {
+			final TypeMirror typeArgument = typeArguments.get(typeArgumentIndex);
+			elementTypes[typeArgumentIndex] = (typeArgument instanceof WildcardType) ? ((WildcardType) typeArgument).getExtendsBound() : typeArgument;
+			if (elementTypes[typeArgumentIndex] == null) {
+				return null;
+			}
+		}
+		// Gets the elements conversions.
+		final String elementConversion = this.convert(elementTypes[0], map ? "entry.getKey()" : "element", toDto);
+		final String valueConversion = map ? this.convert(elementTypes[1], "entry.getValue()", toDto) : null;
+		if ((elementConversion == null) || (map && (valueConversion == null))) {
+			return null;
+		}
+		// Adds the conversion method.
+		final String implementation = DtoMappingRenderer.COLLECTION_IMPLEMENTATIONS.get(qualifiedName);
+		final String convertedType = qualifiedName + "<" + this.renderType(elementTypes[0], !toDto) + (map ? ", " + this.renderType(elementTypes[1], !toDto) : "")
+				+ ">";
+		final String convertedInstance = switch (implementation) {
+			case "java.util.LinkedHashSet" -> "java.util.LinkedHashSet.newLinkedHashSet(value.size())";
+			case "java.util.LinkedHashMap" -> "java.util.LinkedHashMap.newLinkedHashMap(value.size())";
+			default -> "new java.util.ArrayList<>(value.size())";
+		};
+		final String loop = map
+				? "for (final java.util.Map.Entry<" + this.renderType(typeArguments.get(0), toDto) + ", " + this.renderType(typeArguments.get(1), toDto)
+						+ "> entry : value.entrySet()) {\n\t\t\tconverted.put(" + elementConversion + ", " + valueConversion + ");\n\t\t}"
+				: "for (final " + this.renderType(elementTypes[0], toDto) + " element : value) {\n\t\t\tconverted.add(" + elementConversion + ");\n\t\t}";
+		return this.addMethod(this.renderType(collectionType, toDto), this.renderType(collectionType, !toDto),
+				"final " + convertedType + " converted = " + convertedInstance + ";\n\t\t" + loop, value, toDto);
+	}
+
+	/**
+	 * Renders a type as the original or the DTO type.
+	 *
+	 * @param  type     Type.
+	 * @param  original If the type should be rendered as the original type (or
+	 *                      as the DTO type).
+	 * @return          The rendered type.
+	 */
+	private String renderType(
+			final TypeMirror type,
+			final boolean original) {
+		return (original ? this.originalTypeRenderer : this.dtoTypeRenderer).render(type);
+	}
+
+	/**
+	 * Adds an array conversion method.
+	 *
+	 * @param  sourceType        Source array type.
+	 * @param  targetType        Target array type.
+	 * @param  elementConversion Element conversion expression (of
+	 *                               <code>value[index]</code>).
+	 * @param  value             Value expression.
+	 * @param  toDto             If the value is converted to the DTO.
+	 * @return                   The expression calling the conversion method.
+	 */
+	private String addArrayMethod(
+			final String sourceType,
+			final String targetType,
+			final String elementConversion,
+			final String value,
+			final boolean toDto) {
+		// Arrays of arrays are created with their first dimension only.
+		final String componentType = targetType.substring(0, targetType.length() - 2);
+		final int dimensionsIndex = componentType.contains("[") ? componentType.indexOf('[') : componentType.length();
+		final String convertedInstance = "new " + componentType.substring(0, dimensionsIndex) + "[value.length]" + componentType.substring(dimensionsIndex);
+		return this.addMethod(sourceType, targetType, "final " + targetType + " converted = " + convertedInstance
+				+ ";\n\t\tfor (int index = 0; index < value.length; index++) {\n\t\t\tconverted[index] = " + elementConversion + ";\n\t\t}", value, toDto);
+	}
+
+	/**
+	 * Adds a conversion method (returning null for null values).
+	 *
+	 * @param  sourceType Source type.
+	 * @param  targetType Target type.
+	 * @param  body       Body creating and filling the <code>converted</code>
+	 *                        variable from the <code>value</code> parameter.
+	 * @param  value      Value expression.
+	 * @param  toDto      If the value is converted to the DTO.
+	 * @return            The expression calling the conversion method.
+	 */
+	private String addMethod(
+			final String sourceType,
+			final String targetType,
+			final String body,
+			final String value,
+			final boolean toDto) {
+		// Names the method after the attribute.
+		final int methodsCount = toDto ? ++this.toDtoMethodsCount : ++this.toModelMethodsCount;
+		final String methodName = this.attributeName + (toDto ? "ToDto" : "ToModel") + (methodsCount == 1 ? "" : methodsCount);
+		// Adds the method.
+		this.mapperMethods.add("\t/**\n\t * Converts the " + this.attributeName + " " + (toDto ? "to the DTO" : "to the original") + " type.\n\t *\n"
+				+ "\t * @param  value Value.\n\t * @return       The converted value.\n\t */\n\tprivate static " + targetType + " " + methodName
+				+ "(\n\t\t\tfinal " + sourceType + " value) {\n\t\tif (value == null) {\n\t\t\treturn null;\n\t\t}\n\t\t" + body
+				+ "\n\t\treturn converted;\n\t}\n");
+		return methodName + "(" + value + ")";
+	}
+
+}
@@ -0,0 +1,35 @@
+package org.coldis.library.dto;
+
+import javax.annotation.processing.Filer;
+
+/**
+ * DTO generator output mode.
+ */
+public enum DtoOutput {
+
+	/**
+	 * DTOs are written directly into {@link DtoType#targetPath()} (only when their
+	 * content changes). Generated DTOs are compiled in the next build.
+	 */
+	FILE,
+
+	/**
+	 * DTOs are created through the processing environment {@link Filer}, with the
+	 * original type as originating element. {@link DtoType#targetPath()} is
+	 * ignored, generated DTOs are compiled in the same pass and build tools can
+	 * track which original type produced which DTO. Required for incremental
+	 * annotation processing.
+	 */
+	FILER,
+
+	/**
+	 * DTOs using the default template are emitted directly as class files
+	 * through the processing environment {@link Filer} (see
+	 * {@link DtoClassEmitter}), so they do not have to be compiled. DTOs that
+	 * cannot be emitted as class files (custom templates, copied annotations,
+	 * default values or unsupported types) fall back to {@link #FILER}, and a
+	 * note with the reason is logged for each of them.
+	 */
+	CLASS;
+
+}
@@ -0,0 +1,109 @@
+package org.coldis.library.dto;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes values resolved by the DTO generator (keyed, for instance, by type
+ * qualified name and context), counting cache hits and misses.
+ *
+ * @param <Value> Cached value type.
+ */
+public class DtoResolutionCache<Value> {
+
+	/**
+	 * Cache name (used in statistics).
+	 */
+	private final String name;
+
+	/**
+	 * Cached values (empty when the resolved value is <code>null</code>).
+	 */
+	private final Map<String, Optional<Value>> values = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache hits.
+	 */
+	private final AtomicLong hits = new AtomicLong();
+
+	/**
+	 * Cache misses.
+	 */
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param name Cache name (used in statistics).
+	 */
+	public DtoResolutionCache(final String name) {
+		super();
+		this.name = name;
+	}
+
+	/**
+	 * Gets a cached value, resolving it on the first request. Resolvers may use
+	 * the cache recursively.
+	 *
+	 * @param  key      Key.
+	 * @param  resolver Value resolver (may resolve <code>null</code>).
+	 * @return          The cached value.
+	 */
+	public Value get(
+			final String key,
+			final Supplier<Value> resolver) {
+		// Gets the cached value.
+		Optional<Value> value = this.values.get(key);
+		// If the value is cached.
+		if (value != null) {
+			this.hits.incrementAndGet();
+		}
+		// If the value is not cached, resolves and caches it.
+		else {
+			this.misses.incrementAndGet();
+			value = Optional.ofNullable(resolver.get());
+			this.values.put(key, value);
+		}
+		// Returns the value.
+		return value.orElse(null);
+	}
+
+	/**
+	 * Gets the cache name.
+	 *
+	 * @return The cache name.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Gets the cache hits.
+	 *
+	 * @return The cache hits.
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Gets the cache misses.
+	 *
+	 * @return The cache misses.
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return this.name + ": " + this.getHits() + " hits, " + this.getMisses() + " misses";
+	}
+
+}
@@ -83,7 +83,50 @@ public class DtoTypeMetadata implements Serializable {
 	 * tooling treats this class as the Model's DTO equivalent.
 	 */
 	private String declaredDtoQualifiedName;
-	
+
+	/**
+	 * If the DTO hash code should be cached (see {@link DtoType#cacheHashCode()}).
+	 */
+	private Boolean cacheHashCode;
+
+	/**
+	 * DTO style.
+	 */
+	private DtoStyle style;
+
+	/**
+	 * If a mapper should be generated for the DTO (see {@link DtoType#mapper()}).
+	 */
+	private Boolean mapper;
+
+	/**
+	 * If JSON serializers should be generated for the DTO (see
+	 * {@link DtoType#jackson()}).
+	 */
+	private Boolean jackson;
+
+	/**
+	 * If the original type can be instantiated by the mapper (it has a public no
+	 * arguments constructor).
+	 */
+	private Boolean originalInstantiable;
+
+	/**
+	 * Fully-qualified name of the parent DTO mapper (when the parent DTO is
+	 * generated with a mapper). {@code null} otherwise.
+	 */
+	private String parentMapperQualifiedName;
+
+	/**
+	 * Attributes inherited from the parent DTO that the mapper copies itself
+	 * (when there is no parent mapper to copy them).
+	 */
+	private List<DtoAttributeMetadata> inheritedMappedAttributes;
+
+	/**
+	 * Conversion methods used by the mapper (for arrays and collections).
+	 */
+	private List<String> mapperMethods;
 
 	/**
 	 * Default constructor.
@@ -103,11 +146,29 @@ public class DtoTypeMetadata implements Serializable {
 		this.originalClassName = originalClassName;
 		this.context = annotation.context();
 		this.targetPath = annotation.targetPath();
-		this.templatePath = annotation.templatePath();
+		this.templatePath = DtoTypeMetadata.getTemplatePath(annotation);
 		this.fileExtension = annotation.fileExtension();
 		this.namespace = annotation.namespace();
 		this.name = StringUtils.isBlank(annotation.name()) ? (List.of(originalClassName.split("\\.")).getLast() + "Dto") : annotation.name();
 		this.description = annotation.description();
+		this.cacheHashCode = annotation.cacheHashCode();
+		this.style = annotation.style();
+		this.mapper = annotation.mapper();
+		this.jackson = annotation.jackson();
+	}
+
+	/**
+	 * Gets the template path of a DTO type (immutable DTOs using the default
+	 * template use the immutable template).
+	 *
+	 * @param  annotation DTO type annotation.
+	 * @return            The template path.
+	 */
+	public static String getTemplatePath(
+			final DtoType annotation) {
+		return (annotation.style() == DtoStyle.IMMUTABLE) && DtoType.DEFAULT_TEMPLATE_PATH.equals(annotation.templatePath())
+				? DtoType.IMMUTABLE_TEMPLATE_PATH
+				: annotation.templatePath();
 	}
 
 	/**
@@ -404,6 +465,280 @@ public class DtoTypeMetadata implements Serializable {
 		return StringUtils.isNotBlank(this.declaredDtoQualifiedName);
 	}
 
+	/**
+	 * Gets if the DTO hash code should be cached.
+	 *
+	 * @return If the DTO hash code should be cached.
+	 */
+	public Boolean getCacheHashCode() {
+		return this.cacheHashCode;
+	}
+
+	/**
+	 * Sets if the DTO hash code should be cached.
+	 *
+	 * @param cacheHashCode If the DTO hash code should be cached.
+	 */
+	public void setCacheHashCode(
+			final Boolean cacheHashCode) {
+		this.cacheHashCode = cacheHashCode;
+	}
+
+	/**
+	 * Gets the style.
+	 *
+	 * @return The style.
+	 */
+	public DtoStyle getStyle() {
+		return this.style;
+	}
+
+	/**
+	 * Sets the style.
+	 *
+	 * @param style New style.
+	 */
+	public void setStyle(
+			final DtoStyle style) {
+		this.style = style;
+	}
+
+	/**
+	 * Gets if a mapper should be generated for the DTO.
+	 *
+	 * @return If a mapper should be generated for the DTO.
+	 */
+	public Boolean getMapper() {
+		return this.mapper;
+	}
+
+	/**
+	 * Sets if a mapper should be generated for the DTO.
+	 *
+	 * @param mapper If a mapper should be generated for the DTO.
+	 */
+	public void setMapper(
+			final Boolean mapper) {
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Indicates whether a mapper is generated for the DTO (only Java DTOs that
+	 * are not declared have mappers).
+	 *
+	 * @return True when a mapper is generated for the DTO.
+	 */
+	public boolean isHasMapper() {
+		return Boolean.TRUE.equals(this.mapper) && "java".equals(this.getFileExtension()) && !this.isHasDeclaredDto();
+	}
+
+	/**
+	 * Gets the mapper name.
+	 *
+	 * @return The mapper name.
+	 */
+	public String getMapperName() {
+		return this.getName() + "Mapper";
+	}
+
+	/**
+	 * Gets the mapper qualified name.
+	 *
+	 * @return The mapper qualified name.
+	 */
+	public String getMapperQualifiedName() {
+		return this.getQualifiedName() + "Mapper";
+	}
+
+	/**
+	 * Gets if JSON serializers should be generated for the DTO.
+	 *
+	 * @return If JSON serializers should be generated for the DTO.
+	 */
+	public Boolean getJackson() {
+		return this.jackson;
+	}
+
+	/**
+	 * Sets if JSON serializers should be generated for the DTO.
+	 *
+	 * @param jackson If JSON serializers should be generated for the DTO.
+	 */
+	public void setJackson(
+			final Boolean jackson) {
+		this.jackson = jackson;
+	}
+
+	/**
+	 * Indicates whether JSON serializers are requested for the DTO (only Java
+	 * DTOs that are not declared have them, and only if supported, see
+	 * {@link DtoJsonEmitter#isSupported(DtoTypeMetadata)}).
+	 *
+	 * @return True when JSON serializers are requested for the DTO.
+	 */
+	public boolean isHasJackson() {
+		return Boolean.TRUE.equals(this.jackson) && "java".equals(this.getFileExtension()) && !this.isHasDeclaredDto();
+	}
+
+	/**
+	 * Gets the JSON serializers class name.
+	 *
+	 * @return The JSON serializers class name.
+	 */
+	public String getJsonName() {
+		return this.getName() + "Json";
+	}
+
+	/**
+	 * Gets the JSON serializers class qualified name.
+	 *
+	 * @return The JSON serializers class qualified name.
+	 */
+	public String getJsonQualifiedName() {
+		return this.getQualifiedName() + "Json";
+	}
+
+	/**
+	 * Gets if the original type can be instantiated by the mapper.
+	 *
+	 * @return If the original type can be instantiated by the mapper.
+	 */
+	public Boolean getOriginalInstantiable() {
+		return this.originalInstantiable;
+	}
+
+	/**
+	 * Sets if the original type can be instantiated by the mapper.
+	 *
+	 * @param originalInstantiable If the original type can be instantiated by the
+	 *                                 mapper.
+	 */
+	public void setOriginalInstantiable(
+			final Boolean originalInstantiable) {
+		this.originalInstantiable = originalInstantiable;
+	}
+
+	/**
+	 * Gets the parent DTO mapper qualified name.
+	 *
+	 * @return The parent DTO mapper qualified name.
+	 */
+	public String getParentMapperQualifiedName() {
+		return this.parentMapperQualifiedName;
+	}
+
+	/**
+	 * Sets the parent DTO mapper qualified name.
+	 *
+	 * @param parentMapperQualifiedName New parent DTO mapper qualified name.
+	 */
+	public void setParentMapperQualifiedName(
+			final String parentMapperQualifiedName) {
+		this.parentMapperQualifiedName = parentMapperQualifiedName;
+	}
+
+	/**
+	 * Gets the attributes inherited from the parent DTO that the mapper copies
+	 * itself (when there is no parent mapper to copy them).
+	 *
+	 * @return The inherited attributes copied by the mapper.
+	 */
+	public List<DtoAttributeMetadata> getInheritedMappedAttributes() {
+		// If list is not initialized.
+		if (this.inheritedMappedAttributes == null) {
+			// Initializes it as an empty list.
+			this.inheritedMappedAttributes = new ArrayList<>();
+		}
+		// Returns the list.
+		return this.inheritedMappedAttributes;
+	}
+
+	/**
+	 * Sets the attributes inherited from the parent DTO that the mapper copies
+	 * itself.
+	 *
+	 * @param inheritedMappedAttributes New inherited attributes copied by the
+	 *                                      mapper.
+	 */
+	public void setInheritedMappedAttributes(
+			final List<DtoAttributeMetadata> inheritedMappedAttributes) {
+		this.inheritedMappedAttributes = inheritedMappedAttributes;
+	}
+
+	/**
+	 * Gets the mapper conversion methods.
+	 *
+	 * @return The mapper conversion methods.
+	 */
+	public List<String> getMapperMethods() {
+		// If list is not initialized.
+		if (this.mapperMethods == null) {
+			// Initializes it as an empty list.
+			this.mapperMethods = new ArrayList<>();
+		}
+		// Returns the list.
+		return this.mapperMethods;
+	}
+
+	/**
+	 * Sets the mapper conversion methods.
+	 *
+	 * @param mapperMethods New mapper conversion methods.
+	 */
+	public void setMapperMethods(
+			final List<String> mapperMethods) {
+		this.mapperMethods = mapperMethods;
+	}
+
+	/**
+	 * Indicates whether the generated DTO is immutable.
+	 *
+	 * @return True when the DTO is immutable.
+	 */
+	public boolean isImmutable() {
+		return this.style == DtoStyle.IMMUTABLE;
+	}
+
+	/**
+	 * Gets the attributes set by the immutable DTO constructor (static and final
+	 * attributes are not).
+	 *
+	 * @return The constructor attributes.
+	 */
+	public List<DtoAttributeMetadata> getConstructorAttributes() {
+		return this.getAttributes().stream()
+				.filter(attribute -> !attribute.getModifiers().contains("static") && !attribute.getModifiers().contains("final")).toList();
+	}
+
+	/**
+	 * Indicates whether the generated DTO caches its hash code (static attributes
+	 * used in comparison cannot reset instance caches, so they disable it).
+	 *
+	 * @return True when the hash code is cached.
+	 */
+	public boolean isHashCodeCached() {
+		return Boolean.TRUE.equals(this.cacheHashCode) && this.getAttributes().stream()
+				.noneMatch(attribute -> Boolean.TRUE.equals(attribute.getUsedInComparison()) && attribute.getModifiers().contains("static"));
+	}
+
+	/**
+	 * Gets the multiplier applied to the parent (or initial) hash code when the
+	 * own attributes hash code is cached: the hash code adds the own attributes
+	 * hash and then each array attribute hash, each step multiplying the previous
+	 * result by 31.
+	 *
+	 * @return The hash code multiplier.
+	 */
+	public int getHashCodeMultiplier() {
+		int multiplier = 31;
+		for (final DtoAttributeMetadata attribute : this.getAttributes()) {
+			if (Boolean.TRUE.equals(attribute.getUsedInComparison()) && attribute.getType().endsWith("[]")) {
+				multiplier *= 31;
+			}
+		}
+		return multiplier;
+	}
+
 	/**
 	 * @see java.lang.Object#hashCode()
 	 */
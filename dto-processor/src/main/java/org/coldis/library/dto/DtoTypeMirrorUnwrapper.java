@@ -0,0 +1,84 @@
+package org.coldis.library.dto;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Unwraps type mirrors wrapped by enhanced classes (such as Hibernate modified
+ * classes), whose actual type mirror is held by a <code>this*</code> field.
+ * Whether a type mirror implementation class needs unwrapping (and how) is
+ * resolved once per class.
+ */
+public class DtoTypeMirrorUnwrapper {
+
+	/**
+	 * Logger.
+	 */
+	private static final Logger LOGGER = Logger.getLogger(DtoTypeMirrorUnwrapper.class.getName());
+
+	/**
+	 * Wrapped type mirror getters by type mirror implementation class (empty when
+	 * no unwrapping is needed).
+	 */
+	private static final ClassValue<Optional<MethodHandle>> WRAPPED_TYPE_GETTERS = new ClassValue<>() {
+
+		@Override
+		protected Optional<MethodHandle> computeValue(
+				final Class<?> typeMirrorClass) {
+			// For each declared field of the class.
+			for (final Field field : typeMirrorClass.getDeclaredFields()) {
+				// If it is the field holding the wrapped type mirror.
+				if (field.getName().startsWith("this") && !Modifier.isStatic(field.getModifiers())) {
+					// Tries to get a getter for it.
+					try {
+						field.setAccessible(true);
+						return Optional.of(MethodHandles.lookup().unreflectGetter(field));
+					}
+					// If the field cannot be accessed, type mirrors of this class are not unwrapped.
+					catch (final Exception error) {
+						DtoTypeMirrorUnwrapper.LOGGER.warning("Error getting attributeOriginalTypeThisField: " + error.getLocalizedMessage());
+						return Optional.empty();
+					}
+				}
+			}
+			// If there is no such field, no unwrapping is needed.
+			return Optional.empty();
+		}
+
+	};
+
+	/**
+	 * Unwraps a type mirror, if needed.
+	 *
+	 * @param  typeMirror Type mirror.
+	 * @return            The unwrapped type mirror (or the type mirror itself if no
+	 *                    unwrapping is needed).
+	 */
+	public static TypeMirror unwrap(
+			final TypeMirror typeMirror) {
+		// Gets the wrapped type mirror getter for the type mirror class.
+		final Optional<MethodHandle> wrappedTypeGetter = DtoTypeMirrorUnwrapper.WRAPPED_TYPE_GETTERS.get(typeMirror.getClass());
+		// If the type mirror is wrapped.
+		if (wrappedTypeGetter.isPresent()) {
+			// Tries to unwrap it.
+			try {
+				if (wrappedTypeGetter.get().invoke(typeMirror) instanceof final TypeMirror wrappedTypeMirror) {
+					return wrappedTypeMirror;
+				}
+			}
+			// If the type mirror cannot be unwrapped.
+			catch (final Throwable error) {
+				DtoTypeMirrorUnwrapper.LOGGER.warning("Error getting attributeOriginalTypeThisField: " + error.getLocalizedMessage());
+			}
+		}
+		// Returns the type mirror itself.
+		return typeMirror;
+	}
+
+}
@@ -0,0 +1,225 @@
+package org.coldis.library.dto;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.NoType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.SimpleTypeVisitor14;
+
+/**
+ * Renders a type as source code, replacing original types by their DTO types
+ * in a single walk over the type structure (declared types, arrays, wildcards
+ * and type arguments). Type annotations are not rendered.
+ */
+public class DtoTypeRenderer extends SimpleTypeVisitor14<StringBuilder, StringBuilder> {
+
+	/**
+	 * DTO types qualified names by original types qualified names.
+	 */
+	private final Map<String, String> dtoTypes;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param dtoTypes DTO types qualified names by original types qualified names.
+	 */
+	public DtoTypeRenderer(final Map<String, String> dtoTypes) {
+		super();
+		this.dtoTypes = dtoTypes;
+	}
+
+	/**
+	 * Renders a type.
+	 *
+	 * @param  type Type.
+	 * @return      The rendered type.
+	 */
+	public String render(
+			final TypeMirror type) {
+		return type.accept(this, new StringBuilder()).toString();
+	}
+
+	/**
+	 * Replaces original types qualified names by their DTO types in a type name
+	 * (for instance, one given in {@link DtoAttribute#typeName()}). Only whole
+	 * qualified names are replaced (<code>Foo</code> does not match
+	 * <code>FooBar</code>), in a single pass.
+	 *
+	 * @param  typeName Type name.
+	 * @param  dtoTypes DTO types qualified names by original types qualified
+	 *                      names.
+	 * @return          The type name with DTO types.
+	 */
+	public static String replaceQualifiedNames(
+			final String typeName,
+			final Map<String, String> dtoTypes) {
+		// If there is nothing to replace, returns the type name.
+		if ((typeName == null) || dtoTypes.isEmpty()) {
+			return typeName;
+		}
+		// For each qualified name in the type name.
+		final StringBuilder replacedTypeName = new StringBuilder(typeName.length());
+		int currentIndex = 0;
+		while (currentIndex < typeName.length()) {
+			// If the current character does not start a name, copies it.
+			if (!Character.isJavaIdentifierStart(typeName.charAt(currentIndex))) {
+				replacedTypeName.append(typeName.charAt(currentIndex));
+				currentIndex++;
+			}
+			// Otherwise, replaces the qualified name if there is a DTO for it.
+			else {
+				final int nameStart = currentIndex;
+				while ((currentIndex < typeName.length())
+						&& (Character.isJavaIdentifierPart(typeName.charAt(currentIndex)) || (typeName.charAt(currentIndex) == '.'))) {
+					currentIndex++;
+				}
+				final String qualifiedName = typeName.substring(nameStart, currentIndex);
+				replacedTypeName.append(dtoTypes.getOrDefault(qualifiedName, qualifiedName));
+			}
+		}
+		// Returns the replaced type name.
+		return replacedTypeName.toString();
+	}
+
+	/**
+	 * Renders a list of types with a separator.
+	 *
+	 * @param  types     Types.
+	 * @param  separator Separator.
+	 * @param  builder   Builder.
+	 * @return           The builder.
+	 */
+	private StringBuilder visitAll(
+			final List<? extends TypeMirror> types,
+			final String separator,
+			final StringBuilder builder) {
+		for (final Iterator<? extends TypeMirror> typeIterator = types.iterator(); typeIterator.hasNext();) {
+			typeIterator.next().accept(this, builder);
+			if (typeIterator.hasNext()) {
+				builder.append(separator);
+			}
+		}
+		return builder;
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor6#defaultAction(javax.lang.model.type.TypeMirror,
+	 *      java.lang.Object)
+	 */
+	@Override
+	protected StringBuilder defaultAction(
+			final TypeMirror type,
+			final StringBuilder builder) {
+		return builder.append(type.toString());
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor6#visitPrimitive(javax.lang.model.type.PrimitiveType,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public StringBuilder visitPrimitive(
+			final PrimitiveType type,
+			final StringBuilder builder) {
+		return builder.append(type.getKind().name().toLowerCase());
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor6#visitNoType(javax.lang.model.type.NoType,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public StringBuilder visitNoType(
+			final NoType type,
+			final StringBuilder builder) {
+		return builder.append(type.getKind() == TypeKind.VOID ? "void" : type.toString());
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor6#visitArray(javax.lang.model.type.ArrayType,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public StringBuilder visitArray(
+			final ArrayType type,
+			final StringBuilder builder) {
+		return type.getComponentType().accept(this, builder).append("[]");
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor6#visitDeclared(javax.lang.model.type.DeclaredType,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public StringBuilder visitDeclared(
+			final DeclaredType type,
+			final StringBuilder builder) {
+		final TypeElement typeElement = (TypeElement) type.asElement();
+		// Inner classes of parameterized types are rendered from their enclosing
+		// type.
+		if ((type.getEnclosingType() instanceof DeclaredType) && !((DeclaredType) type.getEnclosingType()).getTypeArguments().isEmpty()) {
+			type.getEnclosingType().accept(this, builder).append('.').append(typeElement.getSimpleName());
+		}
+		// Other types are rendered by their qualified name (or their DTO's).
+		else {
+			final String qualifiedName = typeElement.getQualifiedName().toString();
+			builder.append(this.dtoTypes.getOrDefault(qualifiedName, qualifiedName));
+		}
+		// Renders the type arguments.
+		if (!type.getTypeArguments().isEmpty()) {
+			this.visitAll(type.getTypeArguments(), ",", builder.append('<')).append('>');
+		}
+		return builder;
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor6#visitWildcard(javax.lang.model.type.WildcardType,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public StringBuilder visitWildcard(
+			final WildcardType type,
+			final StringBuilder builder) {
+		builder.append('?');
+		if (type.getExtendsBound() != null) {
+			type.getExtendsBound().accept(this, builder.append(" extends "));
+		}
+		else if (type.getSuperBound() != null) {
+			type.getSuperBound().accept(this, builder.append(" super "));
+		}
+		return builder;
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor6#visitTypeVariable(javax.lang.model.type.TypeVariable,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public StringBuilder visitTypeVariable(
+			final TypeVariable type,
+			final StringBuilder builder) {
+		return builder.append(type.asElement().getSimpleName());
+	}
+
+	/**
+	 * @see javax.lang.model.util.SimpleTypeVisitor8#visitIntersection(javax.lang.model.type.IntersectionType,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public StringBuilder visitIntersection(
+			final IntersectionType type,
+			final StringBuilder builder) {
+		return this.visitAll(type.getBounds(), " & ", builder);
+	}
+
+}
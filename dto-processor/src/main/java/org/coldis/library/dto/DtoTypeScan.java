@@ -0,0 +1,240 @@
+package org.coldis.library.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Context-independent information scanned once from an original type (its
+ * getters, their annotations and types, including the ones inherited from
+ * superclasses). The DTO type metadata for each context is derived from it,
+ * so types with several {@link DtoType} contexts are only scanned once.
+ */
+public class DtoTypeScan {
+
+	/**
+	 * Scanned getter.
+	 */
+	public static class Getter {
+
+		/**
+		 * Getter element.
+		 */
+		private final ExecutableElement element;
+
+		/**
+		 * Attribute name.
+		 */
+		private final String attributeName;
+
+		/**
+		 * Hierarchy level of the class declaring the getter (0 for the scanned type
+		 * itself, 1 for its superclass and so on).
+		 */
+		private final int hierarchyLevel;
+
+		/**
+		 * Getter return type.
+		 */
+		private final TypeMirror returnType;
+
+		/**
+		 * DTO attribute annotations by context.
+		 */
+		private final Map<String, DtoAttribute> attributeAnnotations;
+
+		/**
+		 * Getter annotations (annotation type qualified name and annotation source).
+		 */
+		private final List<Entry<String, String>> annotations;
+
+		/**
+		 * If the getter is annotated as not null.
+		 */
+		private final boolean notNull;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param element              Getter element.
+		 * @param attributeName        Attribute name.
+		 * @param hierarchyLevel       Hierarchy level of the class declaring the
+		 *                                 getter.
+		 * @param returnType           Getter return type.
+		 * @param attributeAnnotations DTO attribute annotations by context.
+		 * @param annotations          Getter annotations (annotation type qualified
+		 *                                 name and annotation source).
+		 * @param notNull              If the getter is annotated as not null.
+		 */
+		public Getter(
+				final ExecutableElement element,
+				final String attributeName,
+				final int hierarchyLevel,
+				final TypeMirror returnType,
+				final Map<String, DtoAttribute> attributeAnnotations,
+				final List<Entry<String, String>> annotations,
+				final boolean notNull) {
+			super();
+			this.element = element;
+			this.attributeName = attributeName;
+			this.hierarchyLevel = hierarchyLevel;
+			this.returnType = returnType;
+			this.attributeAnnotations = attributeAnnotations;
+			this.annotations = annotations;
+			this.notNull = notNull;
+		}
+
+		/**
+		 * Gets the getter element.
+		 *
+		 * @return The getter element.
+		 */
+		public ExecutableElement getElement() {
+			return this.element;
+		}
+
+		/**
+		 * Gets the attribute name.
+		 *
+		 * @return The attribute name.
+		 */
+		public String getAttributeName() {
+			return this.attributeName;
+		}
+
+		/**
+		 * Gets the hierarchy level of the class declaring the getter.
+		 *
+		 * @return The hierarchy level of the class declaring the getter.
+		 */
+		public int getHierarchyLevel() {
+			return this.hierarchyLevel;
+		}
+
+		/**
+		 * Gets the getter return type.
+		 *
+		 * @return The getter return type.
+		 */
+		public TypeMirror getReturnType() {
+			return this.returnType;
+		}
+
+		/**
+		 * Gets the DTO attribute annotation for a context.
+		 *
+		 * @param  context DTO context.
+		 * @return         The DTO attribute annotation for the context (or
+		 *                 <code>null</code> if there is none).
+		 */
+		public DtoAttribute getAttributeAnnotation(
+				final String context) {
+			return this.attributeAnnotations.get(context);
+		}
+
+		/**
+		 * Gets the getter annotations (annotation type qualified name and annotation
+		 * source).
+		 *
+		 * @return The getter annotations.
+		 */
+		public List<Entry<String, String>> getAnnotations() {
+			return this.annotations;
+		}
+
+		/**
+		 * Gets if the getter is annotated as not null.
+		 *
+		 * @return If the getter is annotated as not null.
+		 */
+		public boolean isNotNull() {
+			return this.notNull;
+		}
+
+	}
+
+	/**
+	 * Getter signature (getters have no parameters, so the name is the
+	 * signature), used to find overridden getters. Its equality comparisons are
+	 * counted by the scan (the work of finding overridden getters).
+	 */
+	public static class Signature {
+
+		/**
+		 * Scan counting the comparisons.
+		 */
+		private final DtoTypeScan scan;
+
+		/**
+		 * Getter name.
+		 */
+		private final String name;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param scan Scan counting the comparisons.
+		 * @param name Getter name.
+		 */
+		public Signature(
+				final DtoTypeScan scan,
+				final String name) {
+			super();
+			this.scan = scan;
+			this.name = name;
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return this.name.hashCode();
+		}
+
+		/**
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(
+				final Object obj) {
+			this.scan.signatureComparisons++;
+			return (obj instanceof Signature) && this.name.equals(((Signature) obj).name);
+		}
+
+	}
+
+	/**
+	 * Scanned getters, from the scanned type up its superclasses (overridden
+	 * getters only appear once, for the most specific class).
+	 */
+	private final List<Getter> getters = new ArrayList<>();
+
+	/**
+	 * Getter signature comparisons made while scanning.
+	 */
+	private int signatureComparisons;
+
+	/**
+	 * Gets the scanned getters, from the scanned type up its superclasses.
+	 *
+	 * @return The scanned getters.
+	 */
+	public List<Getter> getGetters() {
+		return this.getters;
+	}
+
+	/**
+	 * Gets the getter signature comparisons made while scanning.
+	 *
+	 * @return The getter signature comparisons.
+	 */
+	public int getSignatureComparisons() {
+		return this.signatureComparisons;
+	}
+
+}
@@ -50,6 +50,9 @@ public class ${dto.name} #{if}(${dto.hasParentDto})extends ${dto.parentDtoQualif
 	 */
 	public#{if}(${attribute.modifiers.contains("static")}) static#{end} void set${attribute.capitalizedName}(final ${attribute.type} ${attribute.name}) {
 		this.${attribute.name} = ${attribute.name};
+#{if}(${dto.hashCodeCached} && !${attribute.modifiers.contains("static")})
+		this.cachedHashCode = 0;
+#{end}
 	}
 	
 	/**
@@ -66,6 +69,33 @@ public class ${dto.name} #{if}(${dto.hasParentDto})extends ${dto.parentDtoQualif
 #{end}
 #{end}
 
+#{if}(${dto.hashCodeCached})
+	/**
+	 * Cached hash code of the own attributes (0 when not computed).
+	 */
+	private transient int cachedHashCode;
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = this.cachedHashCode;
+		if (result == 0) {
+			result = 1;
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && !${attribute.type.endsWith("[]")})
+			result = prime * result + ${attribute.hashCodeExpression};
+#{end}#{end}
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && ${attribute.type.endsWith("[]")})
+			result = prime * result + ${attribute.hashCodeExpression};
+#{end}#{end}
+			this.cachedHashCode = result;
+		}
+		return #{if}(${dto.hasParentDto})${dto.hashCodeMultiplier} * super.hashCode()#{else}${dto.hashCodeMultiplier}#{end} + result;
+	}
+	
+#{else}
 	/**
 	 * @see java.lang.Object#hashCode()
 	 */
@@ -73,20 +103,18 @@ public class ${dto.name} #{if}(${dto.hasParentDto})extends ${dto.parentDtoQualif
 	public int hashCode() {
 		final int prime = 31;
 		int result = #{if}(${dto.hasParentDto})super.hashCode()#{else}1#{end};
-		result = prime * result + Objects.hash(
-				#{set}($currentItemIdx = 0)#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && !${attribute.type.endsWith("[]")})
-#{if}(${currentItemIdx} > 0),
-				#{end}${attribute.name}#{set}($currentItemIdx = $currentItemIdx + 1)
-#{end}
-#{end}
-
-			);
+		int attributesHash = 1;
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && !${attribute.type.endsWith("[]")})
+		attributesHash = prime * attributesHash + ${attribute.hashCodeExpression};
+#{end}#{end}
+		result = prime * result + attributesHash;
 #{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && ${attribute.type.endsWith("[]")})
-		result = prime * result + Arrays.hashCode(${attribute.name});
+		result = prime * result + ${attribute.hashCodeExpression};
 #{end}#{end}
 		return result;
 	}
 	
+#{end}
 	/**
 	 * @see java.lang.Object#[[#]]#equals(java.lang.Object)
 	 */
@@ -109,7 +137,7 @@ public class ${dto.name} #{if}(${dto.hasParentDto})extends ${dto.parentDtoQualif
 #{end}
 		final ${dto.name} other = (${dto.name}) obj;
 #{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison})
-		if (!#{if}(${attribute.type.endsWith("[]")}) Arrays#{else} Objects#{end}.equals(${attribute.name}, other.${attribute.name})) {
+		if (${attribute.notEqualsExpression}) {
 			return false;
 		}
 #{end}#{end}
@@ -0,0 +1,142 @@
+package ${dto.namespace};
+
+import java.beans.ConstructorProperties;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Arrays;
+import org.coldis.library.dto.DtoOrigin;
+
+/**
+ * ${dto.description}.
+ */
+@DtoOrigin(originalClassName = "${dto.originalClassName}")
+public final class ${dto.name} implements Serializable#{if}(${dto.hasInterfaces}), ${dto.implementsClause}#{end} {
+
+	/**
+	 * Serial.
+	 */
+	private static final long serialVersionUID = ${dto.name.hashCode()}L;
+
+#{foreach}(${attribute} in ${dto.attributes})
+	/**
+	 * ${attribute.description}.
+	 */
+#{if}(${attribute.modifiers.contains("static")} || ${attribute.modifiers.contains("final")})
+	private #{foreach}(${modifier} in ${attribute.modifiers})${modifier} #{end}${attribute.type} ${attribute.name}#{if}("$!attribute.defaultValue" != "") = #{if}(${attribute.type.equals("java.lang.String")})"#{end}${attribute.defaultValue}#{if}(${attribute.type.equals("java.lang.String")})"#{end}#{end};
+#{else}
+	private final #{foreach}(${modifier} in ${attribute.modifiers})${modifier} #{end}${attribute.type} ${attribute.name};
+#{end}
+
+#{end}
+
+	/**
+	 * All attributes constructor.
+	 *
+#{foreach}(${attribute} in ${dto.constructorAttributes})
+	 * @param ${attribute.name}
+	 *            The ${attribute.description}.
+#{end}
+	 */
+	@ConstructorProperties({ #{foreach}(${attribute} in ${dto.constructorAttributes})"${attribute.name}"#{if}($foreach.hasNext), #{end}#{end} })
+	public ${dto.name}(#{foreach}(${attribute} in ${dto.constructorAttributes})final ${attribute.constructorType} ${attribute.name}#{if}($foreach.hasNext), #{end}#{end}) {
+		super();
+#{foreach}(${attribute} in ${dto.constructorAttributes})
+		this.${attribute.name} = #{if}("$!attribute.defaultValue" != "")(${attribute.name} == null) ? #{if}(${attribute.type.equals("java.lang.String")})"#{end}${attribute.defaultValue}#{if}(${attribute.type.equals("java.lang.String")})"#{end} : #{end}${attribute.copyExpression};
+#{end}
+	}
+
+#{foreach}( ${attribute} in ${dto.attributes} )
+	/**
+	 * Gets the ${attribute.description}.
+	 * @return The ${attribute.description}.
+	 */
+	${attribute.annotations}
+	public#{if}(${attribute.modifiers.contains("static")}) static#{end} ${attribute.type} get${attribute.capitalizedName}() {
+		return #{if}(${attribute.hasValueFromOtherAttributes()}) #{foreach} (${otherAttribute} in ${attribute.valueFromOtherAttributes}) ${otherAttribute} != null ? ${otherAttribute} : #{end} null #{elseif}(${attribute.type.endsWith("[]")}) ${attribute.copyExpression} #{else} ${attribute.name} #{end};
+	}
+
+#{if}(!${attribute.readOnly} && !${attribute.modifiers.contains("static")} && !${attribute.modifiers.contains("final")})
+	/**
+	 * Creates a copy of the object with the given ${attribute.description}.
+	 *
+	 * @param ${attribute.name}
+	 *            The ${attribute.description}.
+	 * @return The updated copy of the object.
+	 */
+	public ${dto.name} with${attribute.capitalizedName}(final ${attribute.type} ${attribute.name}) {
+		return new ${dto.name}(#{foreach}(${otherAttribute} in ${dto.constructorAttributes})#{if}(${otherAttribute.name} == ${attribute.name})${attribute.name}#{else}this.${otherAttribute.name}#{end}#{if}($foreach.hasNext), #{end}#{end});
+	}
+
+#{end}
+#{end}
+
+#{if}(${dto.hashCodeCached})
+	/**
+	 * Cached hash code of the own attributes (0 when not computed).
+	 */
+	private transient int cachedHashCode;
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = this.cachedHashCode;
+		if (result == 0) {
+			result = 1;
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && !${attribute.type.endsWith("[]")})
+			result = prime * result + ${attribute.hashCodeExpression};
+#{end}#{end}
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && ${attribute.type.endsWith("[]")})
+			result = prime * result + ${attribute.hashCodeExpression};
+#{end}#{end}
+			this.cachedHashCode = result;
+		}
+		return ${dto.hashCodeMultiplier} + result;
+	}
+
+#{else}
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		int attributesHash = 1;
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && !${attribute.type.endsWith("[]")})
+		attributesHash = prime * attributesHash + ${attribute.hashCodeExpression};
+#{end}#{end}
+		result = prime * result + attributesHash;
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison} && ${attribute.type.endsWith("[]")})
+		result = prime * result + ${attribute.hashCodeExpression};
+#{end}#{end}
+		return result;
+	}
+
+#{end}
+	/**
+	 * @see java.lang.Object#[[#]]#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		final ${dto.name} other = (${dto.name}) obj;
+#{foreach}(${attribute} in ${dto.attributes})#{if}(${attribute.usedInComparison})
+		if (${attribute.notEqualsExpression}) {
+			return false;
+		}
+#{end}#{end}
+		return true;
+	}
+
+}
@@ -0,0 +1,169 @@
+package org.coldis.library.test.dto;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.dto.DtoOrigin;
+import org.coldis.library.dto.DtoOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO class file emitter test.
+ */
+@SuppressWarnings("deprecation")
+public class DtoClassEmitterTest {
+
+	/**
+	 * Model with primitive, array and generic attributes.
+	 */
+	private static final InMemoryDtoGenerator.Source CLASS_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.ClassModel", """
+			package org.coldis.library.test.dto;
+
+			import java.util.Arrays;
+			import java.util.List;
+			import java.util.Map;
+			import java.util.Objects;
+
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto")
+			public class ClassModel {
+
+				public int getCount() { return 0; }
+
+				public boolean isActive() { return false; }
+
+				public long[] getValues() { return null; }
+
+				public String[] getNames() { return null; }
+
+				public List<String> getTags() { return null; }
+
+				public Map<String, List<? extends Number>> getNumbers() { return null; }
+
+			}
+			""");
+
+	/**
+	 * Class loader for the generated class files (looked up before the parent
+	 * class loader, as the test DTOs are also compiled from source).
+	 */
+	static class GeneratedClassLoader extends ClassLoader {
+
+		/**
+		 * Generated class files by class name.
+		 */
+		private final Map<String, byte[]> classes;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param classes Generated class files by class name.
+		 */
+		GeneratedClassLoader(final Map<String, byte[]> classes) {
+			super(DtoClassEmitterTest.class.getClassLoader());
+			this.classes = classes;
+		}
+
+		/**
+		 * @see java.lang.ClassLoader#loadClass(java.lang.String, boolean)
+		 */
+		@Override
+		protected Class<?> loadClass(
+				final String name,
+				final boolean resolve) throws ClassNotFoundException {
+			synchronized (this.getClassLoadingLock(name)) {
+				final byte[] generatedClass = this.classes.get(name);
+				if (generatedClass == null) {
+					return super.loadClass(name, resolve);
+				}
+				final Class<?> loadedClass = this.findLoadedClass(name);
+				return loadedClass == null ? this.defineClass(name, generatedClass, 0, generatedClass.length) : loadedClass;
+			}
+		}
+
+	}
+
+	/**
+	 * Tests that DTOs are emitted as class files (and that DTOs that cannot be
+	 * emitted as class files are generated as sources).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testClassOutput() throws Exception {
+		// Generates the test DTOs as class files.
+		final Map<String, byte[]> dtos = InMemoryDtoGenerator.generateFiles(
+				Stream.of(DtoTestObject.class, HierarchyParentModel.class, HierarchyChildModel.class).map(InMemoryDtoGenerator.Source::read).toList(),
+				"-A" + DtoGenerator.OUTPUT_OPTION + "=" + DtoOutput.CLASS.name().toLowerCase());
+		// DTOs with copied annotations are generated as sources.
+		Assertions.assertTrue(new String(dtos.get("org.coldis.library.test.dto.dto.DtoTestObjectDto")).contains("public class DtoTestObjectDto"));
+		// Hierarchical DTOs are loaded from the class files.
+		final ClassLoader classLoader = new GeneratedClassLoader(dtos);
+		final Class<?> childDtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.HierarchyChildModelDto");
+		final Class<?> parentDtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.HierarchyParentModelDto");
+		Assertions.assertEquals(classLoader, childDtoClass.getClassLoader());
+		Assertions.assertEquals(parentDtoClass, childDtoClass.getSuperclass());
+		Assertions.assertEquals(HierarchyChildModel.class.getName(), childDtoClass.getAnnotation(DtoOrigin.class).originalClassName());
+		// The class file DTOs behave as the source DTOs.
+		final Object childDto = childDtoClass.getConstructor().newInstance();
+		childDtoClass.getMethod("withId", Long.class).invoke(childDto, 10L);
+		childDtoClass.getMethod("withName", String.class).invoke(childDto, "name");
+		childDtoClass.getMethod("setChildField", String.class).invoke(childDto, "child");
+		final org.coldis.library.test.dto.dto.HierarchyChildModelDto sourceChildDto = new org.coldis.library.test.dto.dto.HierarchyChildModelDto();
+		sourceChildDto.withId(10L).setParentField(null);
+		sourceChildDto.withName("name").setChildField("child");
+		Assertions.assertEquals("child", childDtoClass.getMethod("getChildField").invoke(childDto));
+		Assertions.assertEquals(sourceChildDto.hashCode(), childDto.hashCode());
+		final Object otherChildDto = childDtoClass.getConstructor().newInstance();
+		Assertions.assertNotEquals(childDto, otherChildDto);
+		childDtoClass.getMethod("withId", Long.class).invoke(otherChildDto, 10L);
+		childDtoClass.getMethod("withName", String.class).invoke(otherChildDto, "name");
+		childDtoClass.getMethod("withChildField", String.class).invoke(otherChildDto, "child");
+		Assertions.assertEquals(childDto, otherChildDto);
+		Assertions.assertEquals(childDto.hashCode(), otherChildDto.hashCode());
+	}
+
+	/**
+	 * Tests primitive, array and generic attributes in class files.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testClassOutputTypes() throws Exception {
+		// Generates the DTO as a class file.
+		final Map<String, byte[]> dtos = InMemoryDtoGenerator.generateFiles(List.of(DtoClassEmitterTest.CLASS_MODEL),
+				"-A" + DtoGenerator.OUTPUT_OPTION + "=" + DtoOutput.CLASS.name().toLowerCase());
+		final Class<?> dtoClass = new GeneratedClassLoader(dtos).loadClass("org.coldis.library.test.dto.dto.ClassModelDto");
+		// Generic signatures are kept.
+		Assertions.assertEquals(String.class, ((ParameterizedType) dtoClass.getMethod("getTags").getGenericReturnType()).getActualTypeArguments()[0]);
+		Assertions.assertEquals("java.util.Map<java.lang.String, java.util.List<? extends java.lang.Number>>",
+				dtoClass.getMethod("getNumbers").getGenericReturnType().getTypeName());
+		// Attributes are compared by value (and arrays by content).
+		final Object dto = dtoClass.getConstructor().newInstance();
+		final Object otherDto = dtoClass.getConstructor().newInstance();
+		for (final Object currentDto : List.of(dto, otherDto)) {
+			dtoClass.getMethod("withCount", int.class).invoke(currentDto, 3);
+			dtoClass.getMethod("withActive", boolean.class).invoke(currentDto, true);
+			dtoClass.getMethod("withValues", long[].class).invoke(currentDto, new long[] { 1, 2 });
+			dtoClass.getMethod("withNames", String[].class).invoke(currentDto, (Object) new String[] { "a", "b" });
+			dtoClass.getMethod("withTags", List.class).invoke(currentDto, List.of("tag"));
+		}
+		Assertions.assertEquals(3, dtoClass.getMethod("getCount").invoke(dto));
+		Assertions.assertEquals(true, dtoClass.getMethod("getActive").invoke(dto));
+		Assertions.assertEquals(dto, otherDto);
+		Assertions.assertEquals(dto.hashCode(), otherDto.hashCode());
+		// Hash codes are the same as hashing the boxed attributes together.
+		Assertions.assertEquals(31 * (31 * (31 * 1 + Objects.hash(3, true, List.of("tag"), null)) + Arrays.hashCode(new long[] { 1, 2 })) + Arrays.hashCode(new String[] { "a", "b" }),
+				dto.hashCode());
+		dtoClass.getMethod("setValues", long[].class).invoke(otherDto, new long[] { 1, 3 });
+		Assertions.assertNotEquals(dto, otherDto);
+	}
+
+}
@@ -0,0 +1,69 @@
+package org.coldis.library.test.dto;
+
+import java.util.List;
+import java.util.Set;
+
+import org.coldis.library.dto.DtoContextFilter;
+import org.coldis.library.dto.DtoGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO context filter test.
+ */
+public class DtoContextFilterTest {
+
+	/**
+	 * Model with DTOs in the default, api and event contexts.
+	 */
+	private static final InMemoryDtoGenerator.Source CONTEXTS_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.ContextsModel", """
+			package org.coldis.library.test.dto;
+
+			import org.coldis.library.dto.DtoType;
+			import org.coldis.library.dto.DtoTypes;
+
+			@DtoTypes(types = {
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto"),
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", context = "api", name = "ContextsModelApiDto"),
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", context = "event", name = "ContextsModelEventDto") })
+			public class ContextsModel {
+
+				public Long getId() { return null; }
+
+			}
+			""");
+
+	/**
+	 * Generates the DTOs of the contexts model.
+	 *
+	 * @param  options Additional processor options.
+	 * @return         The generated DTOs simple names.
+	 */
+	private static Set<String> generate(
+			final String... options) {
+		return Set.copyOf(InMemoryDtoGenerator.generate(List.of(DtoContextFilterTest.CONTEXTS_MODEL), options).keySet().stream()
+				.map(name -> name.substring(name.lastIndexOf('.') + 1)).toList());
+	}
+
+	/**
+	 * Tests that only the DTOs of the filtered contexts are generated.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testContextFilter() throws Exception {
+		// Every context is generated by default.
+		Assertions.assertEquals(Set.of("ContextsModelDto", "ContextsModelApiDto", "ContextsModelEventDto"), DtoContextFilterTest.generate());
+		// Included contexts.
+		Assertions.assertEquals(Set.of("ContextsModelApiDto", "ContextsModelEventDto"),
+				DtoContextFilterTest.generate("-A" + DtoGenerator.CONTEXTS_OPTION + "=api, event"));
+		Assertions.assertEquals(Set.of("ContextsModelDto"),
+				DtoContextFilterTest.generate("-A" + DtoGenerator.CONTEXTS_OPTION + "=" + DtoContextFilter.DEFAULT_CONTEXT));
+		// Excluded contexts.
+		Assertions.assertEquals(Set.of("ContextsModelDto", "ContextsModelApiDto"),
+				DtoContextFilterTest.generate("-A" + DtoGenerator.EXCLUDE_CONTEXTS_OPTION + "=event"));
+		Assertions.assertEquals(Set.of("ContextsModelApiDto"),
+				DtoContextFilterTest.generate("-A" + DtoGenerator.CONTEXTS_OPTION + "=api,event", "-A" + DtoGenerator.EXCLUDE_CONTEXTS_OPTION + "=event"));
+	}
+
+}
@@ -0,0 +1,141 @@
+package org.coldis.library.test.dto;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.dto.DtoOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO generation cache test.
+ */
+public class DtoGenerationCacheTest {
+
+	/**
+	 * Generates the DTOs with the generation cache, reporting it.
+	 *
+	 * @param  sources    Sources.
+	 * @param  cacheDir   Cache directory.
+	 * @param  reportFile Report file.
+	 * @return            The generated files content by class name.
+	 */
+	private static Map<String, String> generate(
+			final List<InMemoryDtoGenerator.Source> sources,
+			final Path cacheDir,
+			final Path reportFile) {
+		return InMemoryDtoGenerator.generate(sources, "-A" + DtoGenerator.CACHE_DIR_OPTION + "=" + cacheDir,
+				"-A" + DtoGenerator.REPORT_OPTION + "=" + reportFile);
+	}
+
+	/**
+	 * Tests that unchanged DTOs are restored from the generation cache and changed
+	 * ones are generated again.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testGenerationCache() throws Exception {
+		final Path cacheDir = Files.createTempDirectory("dto-cache");
+		final Path reportFile = Files.createTempFile("dto-report", ".json");
+		final List<InMemoryDtoGenerator.Source> sources = Stream.of(HierarchyParentModel.class, HierarchyChildModel.class)
+				.map(InMemoryDtoGenerator.Source::read).toList();
+		// The first build generates and caches the DTOs (and their mappers).
+		final Map<String, String> generatedDtos = DtoGenerationCacheTest.generate(sources, cacheDir, reportFile);
+		String report = Files.readString(reportFile);
+		Assertions.assertTrue(report.contains("\"dtos\": 2,"), report);
+		Assertions.assertTrue(report.contains("\"cachedDtos\": 0"), report);
+		try (Stream<Path> cacheEntries = Files.list(cacheDir)) {
+			Assertions.assertEquals(4, cacheEntries.count());
+		}
+		// The second build restores the same DTOs without building their metadata.
+		Assertions.assertEquals(generatedDtos, DtoGenerationCacheTest.generate(sources, cacheDir, reportFile));
+		report = Files.readString(reportFile);
+		Assertions.assertTrue(report.contains("\"dtos\": 0,"), report);
+		Assertions.assertTrue(report.contains("\"cachedDtos\": 2"), report);
+		// A changed model generates its DTO again.
+		final InMemoryDtoGenerator.Source changedChildSource = new InMemoryDtoGenerator.Source(HierarchyChildModel.class.getName(),
+				sources.get(1).getCharContent(true).toString().replace("public String getChildField()", "public String getOtherChildField() {\n"
+						+ "\t\treturn this.childField;\n\t}\n\n\tpublic String getChildField()"));
+		final Map<String, String> changedDtos = DtoGenerationCacheTest.generate(List.of(sources.get(0), changedChildSource), cacheDir, reportFile);
+		report = Files.readString(reportFile);
+		Assertions.assertTrue(report.contains("\"dtos\": 1,"), report);
+		Assertions.assertTrue(report.contains("\"cachedDtos\": 1"), report);
+		Assertions.assertEquals(generatedDtos.keySet(), changedDtos.keySet());
+		FileUtils.deleteDirectory(cacheDir.toFile());
+		Files.delete(reportFile);
+	}
+
+	/**
+	 * Tests that DTOs cached for another source version (which sets the class
+	 * files version) are generated again.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testGenerationCacheSourceVersion() throws Exception {
+		final Path cacheDir = Files.createTempDirectory("dto-cache");
+		final Path reportFile = Files.createTempFile("dto-report", ".json");
+		try {
+			final List<InMemoryDtoGenerator.Source> sources = Stream.of(HierarchyParentModel.class, HierarchyChildModel.class)
+					.map(InMemoryDtoGenerator.Source::read).toList();
+			final String[] options = { "-A" + DtoGenerator.CACHE_DIR_OPTION + "=" + cacheDir, "-A" + DtoGenerator.REPORT_OPTION + "=" + reportFile,
+					"-A" + DtoGenerator.OUTPUT_OPTION + "=" + DtoOutput.CLASS.name().toLowerCase() };
+			// Caches the DTOs for the current source version.
+			InMemoryDtoGenerator.generate(sources, options);
+			// Another source version does not restore them.
+			InMemoryDtoGenerator.generate(sources, ArrayUtils.addAll(options, "-source", "17"));
+			String report = Files.readString(reportFile);
+			Assertions.assertTrue(report.contains("\"dtos\": 2,"), report);
+			Assertions.assertTrue(report.contains("\"cachedDtos\": 0"), report);
+			// The same source version restores them.
+			InMemoryDtoGenerator.generate(sources, ArrayUtils.addAll(options, "-source", "17"));
+			report = Files.readString(reportFile);
+			Assertions.assertTrue(report.contains("\"cachedDtos\": 2"), report);
+		}
+		finally {
+			FileUtils.deleteDirectory(cacheDir.toFile());
+			Files.deleteIfExists(reportFile);
+		}
+	}
+
+	/**
+	 * Tests that DTOs are not fingerprinted when their template cannot be read
+	 * (instead of fingerprinting an empty template).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testGenerationCacheMissingTemplate() throws Exception {
+		final Path cacheDir = Files.createTempDirectory("dto-cache");
+		final Path reportFile = Files.createTempFile("dto-report", ".json");
+		final InMemoryDtoGenerator.Source missingTemplateSource = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.MissingTemplateModel", """
+				package org.coldis.library.test.dto;
+
+				import org.coldis.library.dto.DtoType;
+
+				@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", templatePath = "dto/template/MissingDto.java")
+				public class MissingTemplateModel {
+
+					public Long getId() { return null; }
+
+				}
+				""");
+		// The generation should fail.
+		final RuntimeException exception = Assertions.assertThrows(RuntimeException.class,
+				() -> DtoGenerationCacheTest.generate(List.of(missingTemplateSource), cacheDir, reportFile));
+		Assertions.assertTrue(String.valueOf(exception.getCause()).contains("dto/template/MissingDto.java"), String.valueOf(exception));
+		try (Stream<Path> cacheEntries = Files.list(cacheDir)) {
+			Assertions.assertEquals(0, cacheEntries.count());
+		}
+		FileUtils.deleteDirectory(cacheDir.toFile());
+		Files.delete(reportFile);
+	}
+
+}
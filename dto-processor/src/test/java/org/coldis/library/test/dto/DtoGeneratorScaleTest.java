@@ -0,0 +1,191 @@
+package org.coldis.library.test.dto;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.dto.DtoGeneratorReport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO generator scale test. Generates DTOs for a synthetic wide and deep model
+ * hierarchy, compiling it in memory.
+ */
+public class DtoGeneratorScaleTest {
+
+	/**
+	 * Synthetic models namespace.
+	 */
+	private static final String NAMESPACE = "org.coldis.library.test.dto.scale";
+
+	/**
+	 * Hierarchy levels.
+	 */
+	private static final int LEVELS = 10;
+
+	/**
+	 * Getters overridden by each level from its superclass.
+	 */
+	private static final int OVERRIDES_PER_LEVEL = 10;
+
+	/**
+	 * Generated getter pattern.
+	 */
+	private static final Pattern GETTER_PATTERN = Pattern.compile("public\\s+\\S+\\s+get(\\w+)\\(\\)");
+
+	/**
+	 * Creates the sources for a synthetic model hierarchy. Each level declares its
+	 * own getters and overrides some of its superclass getters.
+	 *
+	 * @param  gettersPerLevel Getters declared by each level.
+	 * @return                 The synthetic model sources.
+	 */
+	private static List<InMemoryDtoGenerator.Source> createModelSources(
+			final int gettersPerLevel) {
+		final List<InMemoryDtoGenerator.Source> sources = new ArrayList<>();
+		// For each level.
+		for (int level = 0; level < DtoGeneratorScaleTest.LEVELS; level++) {
+			final StringBuilder source = new StringBuilder("package " + DtoGeneratorScaleTest.NAMESPACE + ";\n\n");
+			// The last level is the model.
+			final boolean model = (level == (DtoGeneratorScaleTest.LEVELS - 1));
+			if (model) {
+				source.append("@org.coldis.library.dto.DtoType(namespace = \"" + DtoGeneratorScaleTest.NAMESPACE + ".dto\")\n");
+			}
+			source.append("public class Level" + level + (level == 0 ? "" : " extends Level" + (level - 1)) + " {\n");
+			// Declares the level getters.
+			for (int getter = 0; getter < gettersPerLevel; getter++) {
+				source.append("public String getAttribute" + level + "x" + getter + "() { return null; }\n");
+			}
+			// Overrides some of the superclass getters.
+			for (int getter = 0; (level > 0) && (getter < DtoGeneratorScaleTest.OVERRIDES_PER_LEVEL); getter++) {
+				source.append("@Override public String getAttribute" + (level - 1) + "x" + getter + "() { return \"" + level + "\"; }\n");
+			}
+			source.append("}\n");
+			sources.add(new InMemoryDtoGenerator.Source(DtoGeneratorScaleTest.NAMESPACE + ".Level" + level, source.toString()));
+		}
+		return sources;
+	}
+
+	/**
+	 * Gets a counter from the report of the DTO generation for a synthetic model
+	 * hierarchy.
+	 *
+	 * @param  gettersPerLevel Getters declared by each level.
+	 * @param  counter         Counter name.
+	 * @return                 The counter value.
+	 * @throws Exception       If the report cannot be read.
+	 */
+	private static long getReportCounter(
+			final int gettersPerLevel,
+			final String counter) throws Exception {
+		final Path reportFile = Files.createTempFile("dto-report", ".json");
+		try {
+			InMemoryDtoGenerator.generate(DtoGeneratorScaleTest.createModelSources(gettersPerLevel), "-A" + DtoGenerator.REPORT_OPTION + "=" + reportFile);
+			final Matcher counterMatcher = Pattern.compile("\"" + counter + "\": (\\d+)").matcher(Files.readString(reportFile));
+			Assertions.assertTrue(counterMatcher.find(), "The report should have the " + counter + " counter");
+			return Long.parseLong(counterMatcher.group(1));
+		}
+		finally {
+			Files.delete(reportFile);
+		}
+	}
+
+	/**
+	 * Tests that every getter of a 1,000 getters hierarchy (with overrides) is
+	 * discovered exactly once, and that finding the overridden getters does not
+	 * depend on the number of getters.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testGetterDiscoveryScale() throws Exception {
+		// Generates the DTO for a hierarchy with 1,000 getters.
+		final Map<String, String> generated = InMemoryDtoGenerator.generate(DtoGeneratorScaleTest.createModelSources(100));
+		final String dto = generated.get(DtoGeneratorScaleTest.NAMESPACE + ".dto.Level" + (DtoGeneratorScaleTest.LEVELS - 1) + "Dto");
+		Assertions.assertNotNull(dto, "The DTO should be generated");
+		// Every getter should be present exactly once (overridden ones included).
+		final List<String> getters = new ArrayList<>();
+		final Matcher getterMatcher = DtoGeneratorScaleTest.GETTER_PATTERN.matcher(dto);
+		while (getterMatcher.find()) {
+			getters.add(getterMatcher.group(1));
+		}
+		Assertions.assertEquals(1000, getters.size());
+		Assertions.assertEquals(1000, new HashSet<>(getters).size());
+
+		// Compares the overridden getters discovery work for 4 times more getters. It
+		// should not grow with the getters, as only each overridden getter is
+		// compared to its override (comparing each getter to the ones already
+		// scanned would make about 500,000 comparisons for 1,000 getters).
+		Assertions.assertEquals(1000, DtoGeneratorScaleTest.getReportCounter(100, "scannedGetters"));
+		final int overriddenGetters = (DtoGeneratorScaleTest.LEVELS - 1) * DtoGeneratorScaleTest.OVERRIDES_PER_LEVEL;
+		Assertions.assertEquals(overriddenGetters, DtoGeneratorScaleTest.getReportCounter(25, "getterComparisons"));
+		Assertions.assertEquals(overriddenGetters, DtoGeneratorScaleTest.getReportCounter(100, "getterComparisons"));
+	}
+
+	/**
+	 * Tests the timing and counters report.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testReport() throws Exception {
+		// Generates the DTO for a hierarchy with 100 getters, reporting it.
+		final Path reportFile = Files.createTempFile("dto-report", ".json");
+		final String report;
+		try {
+			InMemoryDtoGenerator.generate(DtoGeneratorScaleTest.createModelSources(10), "-A" + DtoGenerator.REPORT_OPTION + "=" + reportFile,
+					"-A" + DtoGenerator.REPORT_SLOWEST_OPTION + "=1");
+			report = Files.readString(reportFile);
+		}
+		finally {
+			Files.delete(reportFile);
+		}
+		// The report should have every phase and counter.
+		for (final DtoGeneratorReport.Phase phase : DtoGeneratorReport.Phase.values()) {
+			Assertions.assertTrue(report.contains("\"" + phase.name().toLowerCase() + "\": "), report);
+		}
+		Assertions.assertTrue(report.contains("\"types\": 1,"), report);
+		Assertions.assertTrue(report.contains("\"dtos\": 1,"), report);
+		Assertions.assertTrue(report.contains("\"attributes\": 100,"), report);
+		Assertions.assertTrue(report.contains("\"contexts\": 1,"), report);
+		Assertions.assertTrue(report.contains("\"scannedGetters\": 100,"), report);
+		Assertions.assertTrue(report.contains("\"filesWritten\": 1,"), report);
+		Assertions.assertTrue(report.contains("\"failedDtos\": 0"), report);
+		Assertions.assertTrue(report.contains("{ \"dto\": \"" + DtoGeneratorScaleTest.NAMESPACE + ".dto.Level" + (DtoGeneratorScaleTest.LEVELS - 1) + "Dto\""),
+				report);
+	}
+
+	/**
+	 * Tests that nested phases are only recorded for themselves (not for the
+	 * phases they are nested in).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testReportNestedPhases() throws Exception {
+		// Records an annotation lookup (from 10 to 110 ms) nested in a metadata
+		// building (from 0 to 120 ms), with a clock returning the given times.
+		final PrimitiveIterator.OfLong times = LongStream.of(0, 0, 10, 110, 120, 120).map(TimeUnit.MILLISECONDS::toNanos).iterator();
+		final DtoGeneratorReport report = new DtoGeneratorReport(true, times::nextLong);
+		final long metadataBuildingStart = report.start();
+		final long annotationLookupStart = report.start();
+		report.record(DtoGeneratorReport.Phase.ANNOTATION_LOOKUP, annotationLookupStart);
+		report.record(DtoGeneratorReport.Phase.METADATA_BUILDING, metadataBuildingStart);
+		// Only the annotation lookup should have the nested time.
+		final String json = report.toJson(List.of(), 0);
+		Assertions.assertTrue(json.contains("\"annotation_lookup\": 100.000,"), json);
+		Assertions.assertTrue(json.contains("\"metadata_building\": 20.000,"), json);
+		Assertions.assertTrue(json.contains("\"totalMillis\": 120.000,"), json);
+	}
+
+}
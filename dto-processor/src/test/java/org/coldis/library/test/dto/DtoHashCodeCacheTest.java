@@ -0,0 +1,137 @@
+package org.coldis.library.test.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import org.coldis.library.dto.DtoEmitter;
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.dto.DtoOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO cached hash code test.
+ */
+public class DtoHashCodeCacheTest {
+
+	/**
+	 * Parent model with plain and cached hash code DTOs.
+	 */
+	private static final InMemoryDtoGenerator.Source PARENT_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.HashParentModel", """
+			package org.coldis.library.test.dto;
+
+			import org.coldis.library.dto.DtoType;
+			import org.coldis.library.dto.DtoTypes;
+
+			@DtoTypes(types = {
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto"),
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", context = "cached", name = "HashParentModelCachedDto",
+							cacheHashCode = true) })
+			public class HashParentModel {
+
+				public Long getId() { return null; }
+
+			}
+			""");
+
+	/**
+	 * Child model with plain and cached hash code DTOs.
+	 */
+	private static final InMemoryDtoGenerator.Source CHILD_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.HashChildModel", """
+			package org.coldis.library.test.dto;
+
+			import org.coldis.library.dto.DtoType;
+			import org.coldis.library.dto.DtoTypes;
+
+			@DtoTypes(types = {
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto"),
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", context = "cached", name = "HashChildModelCachedDto",
+							cacheHashCode = true) })
+			public class HashChildModel extends HashParentModel {
+
+				public String getName() { return null; }
+
+				public int[] getValues() { return null; }
+
+			}
+			""");
+
+	/**
+	 * Sets the DTO attributes.
+	 *
+	 * @param  dto       DTO.
+	 * @param  id        Identifier.
+	 * @param  name      Name.
+	 * @param  values    Values.
+	 * @throws Exception If the attributes cannot be set.
+	 */
+	private static void setAttributes(
+			final Object dto,
+			final Long id,
+			final String name,
+			final int[] values) throws Exception {
+		dto.getClass().getMethod("setId", Long.class).invoke(dto, id);
+		dto.getClass().getMethod("setName", String.class).invoke(dto, name);
+		dto.getClass().getMethod("setValues", int[].class).invoke(dto, values);
+	}
+
+	/**
+	 * Tests that cached hash codes are the same as the computed ones (and are
+	 * reset when attributes change).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testCachedHashCode() throws Exception {
+		// Generates the DTOs as class files.
+		final Map<String, byte[]> dtos = InMemoryDtoGenerator.generateFiles(List.of(DtoHashCodeCacheTest.PARENT_MODEL, DtoHashCodeCacheTest.CHILD_MODEL),
+				"-A" + DtoGenerator.OUTPUT_OPTION + "=" + DtoOutput.CLASS.name().toLowerCase());
+		final ClassLoader classLoader = new DtoClassEmitterTest.GeneratedClassLoader(dtos);
+		final Object dto = classLoader.loadClass("org.coldis.library.test.dto.dto.HashChildModelDto").getConstructor().newInstance();
+		final Object cachedDto = classLoader.loadClass("org.coldis.library.test.dto.dto.HashChildModelCachedDto").getConstructor().newInstance();
+		final Object otherCachedDto = classLoader.loadClass("org.coldis.library.test.dto.dto.HashChildModelCachedDto").getConstructor().newInstance();
+		// Empty DTOs have the same hash code.
+		Assertions.assertEquals(dto.hashCode(), cachedDto.hashCode());
+		// Cached hash codes are the computed ones.
+		for (final Object currentDto : List.of(dto, cachedDto, otherCachedDto)) {
+			DtoHashCodeCacheTest.setAttributes(currentDto, 10L, "name", new int[] { 1, 2 });
+		}
+		Assertions.assertEquals(dto.hashCode(), cachedDto.hashCode());
+		Assertions.assertEquals(dto.hashCode(), cachedDto.hashCode());
+		Assertions.assertEquals(cachedDto, otherCachedDto);
+		Assertions.assertEquals(cachedDto.hashCode(), otherCachedDto.hashCode());
+		// Cached hash codes are reset when the attributes (or the parent attributes)
+		// change.
+		final int previousHashCode = cachedDto.hashCode();
+		dto.getClass().getMethod("setName", String.class).invoke(dto, "other");
+		cachedDto.getClass().getMethod("setName", String.class).invoke(cachedDto, "other");
+		Assertions.assertNotEquals(previousHashCode, cachedDto.hashCode());
+		Assertions.assertEquals(dto.hashCode(), cachedDto.hashCode());
+		dto.getClass().getMethod("setId", Long.class).invoke(dto, 20L);
+		cachedDto.getClass().getMethod("setId", Long.class).invoke(cachedDto, 20L);
+		Assertions.assertEquals(dto.hashCode(), cachedDto.hashCode());
+		Assertions.assertNotEquals(cachedDto, otherCachedDto);
+	}
+
+	/**
+	 * Tests that the native emitter writes the same cached hash code DTOs as the
+	 * default template (apart from whitespace).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testCachedHashCodeNativeEmitter() throws Exception {
+		// Generates the DTOs with both emitters.
+		final List<InMemoryDtoGenerator.Source> sources = List.of(DtoHashCodeCacheTest.PARENT_MODEL, DtoHashCodeCacheTest.CHILD_MODEL);
+		final Map<String, String> velocityDtos = InMemoryDtoGenerator.generate(sources);
+		final Map<String, String> nativeDtos = InMemoryDtoGenerator.generate(sources,
+				"-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase());
+		// The same DTOs should be generated.
+		Assertions.assertEquals(4, velocityDtos.size());
+		Assertions.assertTrue(velocityDtos.get("org.coldis.library.test.dto.dto.HashChildModelCachedDto").contains("cachedHashCode"));
+		for (final String dtoName : velocityDtos.keySet()) {
+			Assertions.assertEquals(velocityDtos.get(dtoName).replaceAll("\\s+", ""), nativeDtos.get(dtoName).replaceAll("\\s+", ""), dtoName);
+		}
+	}
+
+}
@@ -0,0 +1,154 @@
+package org.coldis.library.test.dto;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.coldis.library.dto.DtoEmitter;
+import org.coldis.library.dto.DtoGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Immutable DTO test.
+ */
+public class DtoImmutableTest {
+
+	/**
+	 * Immutable parent model.
+	 */
+	private static final InMemoryDtoGenerator.Source PARENT_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.ImmutableParentModel", """
+			package org.coldis.library.test.dto;
+
+			import org.coldis.library.dto.DtoStyle;
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", style = DtoStyle.IMMUTABLE)
+			public class ImmutableParentModel {
+
+				public Long getId() { return null; }
+
+			}
+			""");
+
+	/**
+	 * Immutable child model.
+	 */
+	private static final InMemoryDtoGenerator.Source CHILD_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.ImmutableChildModel", """
+			package org.coldis.library.test.dto;
+
+			import java.util.List;
+
+			import org.coldis.library.dto.DtoAttribute;
+			import org.coldis.library.dto.DtoStyle;
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", style = DtoStyle.IMMUTABLE)
+			public class ImmutableChildModel extends ImmutableParentModel {
+
+				@DtoAttribute(defaultValue = "unnamed")
+				public String getName() { return null; }
+
+				@DtoAttribute(readOnly = true)
+				public String getCode() { return null; }
+
+				@DtoAttribute(valueFromOtherAttributes = { "code", "name" })
+				public String getLabel() { return null; }
+
+				public int getCount() { return 0; }
+
+				public List<String> getTags() { return null; }
+
+				public long[] getValues() { return null; }
+
+				@DtoAttribute(defaultValue = "5")
+				public int getSize() { return 0; }
+
+				public List<String>[] getGroups() { return null; }
+
+			}
+			""");
+
+	/**
+	 * Tests that the native emitter writes the same immutable DTOs as the
+	 * immutable template (apart from whitespace).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testImmutableNativeEmitter() throws Exception {
+		// Generates the DTOs with both emitters.
+		final List<InMemoryDtoGenerator.Source> sources = List.of(DtoImmutableTest.PARENT_MODEL, DtoImmutableTest.CHILD_MODEL);
+		final Map<String, String> velocityDtos = InMemoryDtoGenerator.generate(sources);
+		final Map<String, String> nativeDtos = InMemoryDtoGenerator.generate(sources,
+				"-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase());
+		// The same DTOs should be generated.
+		Assertions.assertEquals(2, velocityDtos.size());
+		Assertions.assertTrue(velocityDtos.get("org.coldis.library.test.dto.dto.ImmutableChildModelDto").contains("public final class"));
+		for (final String dtoName : velocityDtos.keySet()) {
+			Assertions.assertEquals(velocityDtos.get(dtoName).replaceAll("\\s+", ""), nativeDtos.get(dtoName).replaceAll("\\s+", ""), dtoName);
+		}
+	}
+
+	/**
+	 * Tests that immutable DTOs cannot be changed.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testImmutableDto() throws Exception {
+		// Compiles the DTOs.
+		final Map<String, byte[]> classes = InMemoryDtoGenerator.compile(List.of(DtoImmutableTest.PARENT_MODEL, DtoImmutableTest.CHILD_MODEL),
+				"-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase());
+		final Class<?> dtoClass = new DtoClassEmitterTest.GeneratedClassLoader(classes).loadClass("org.coldis.library.test.dto.dto.ImmutableChildModelDto");
+		// The DTO is final, flat and has final attributes only.
+		Assertions.assertTrue(Modifier.isFinal(dtoClass.getModifiers()));
+		Assertions.assertEquals(Object.class, dtoClass.getSuperclass());
+		Assertions.assertTrue(Arrays.stream(dtoClass.getDeclaredFields()).filter(field -> !Modifier.isTransient(field.getModifiers()))
+				.allMatch(field -> Modifier.isFinal(field.getModifiers())));
+		Assertions.assertTrue(Arrays.stream(dtoClass.getMethods()).noneMatch(method -> method.getName().startsWith("set")));
+		Assertions.assertTrue(Arrays.stream(dtoClass.getMethods()).noneMatch(method -> method.getName().equals("withCode")));
+		// The constructor takes every attribute (and names them for deserialization).
+		final Constructor<?> constructor = dtoClass.getConstructors()[0];
+		Assertions.assertArrayEquals(new String[] { "name", "code", "label", "count", "tags", "values", "size", "groups", "id" },
+				constructor.getAnnotation(ConstructorProperties.class).value());
+		final List<String> tags = new ArrayList<>(List.of("tag"));
+		final long[] values = { 1, 2 };
+		final List<?>[] groups = { List.of("group") };
+		final Object dto = constructor.newInstance(null, "code", null, 3, tags, values, null, groups, 10L);
+		// Default values are used for null arguments (primitive attributes with
+		// default values are boxed in the constructor) and values can come from
+		// other attributes.
+		Assertions.assertEquals(Integer.class, constructor.getParameterTypes()[6]);
+		Assertions.assertEquals(int.class, dtoClass.getMethod("getSize").getReturnType());
+		Assertions.assertEquals(5, dtoClass.getMethod("getSize").invoke(dto));
+		Assertions.assertEquals(6, dtoClass.getMethod("getSize").invoke(constructor.newInstance(null, "code", null, 3, tags, values, 6, groups, 10L)));
+		Assertions.assertEquals("unnamed", dtoClass.getMethod("getName").invoke(dto));
+		Assertions.assertEquals("code", dtoClass.getMethod("getLabel").invoke(dto));
+		Assertions.assertEquals(10L, dtoClass.getMethod("getId").invoke(dto));
+		// Collections and arrays are copied.
+		tags.add("other");
+		values[0] = 5;
+		Assertions.assertEquals(List.of("tag"), dtoClass.getMethod("getTags").invoke(dto));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> ((List<String>) dtoClass.getMethod("getTags").invoke(dto)).add("other"));
+		((long[]) dtoClass.getMethod("getValues").invoke(dto))[0] = 5;
+		Assertions.assertArrayEquals(new long[] { 1, 2 }, (long[]) dtoClass.getMethod("getValues").invoke(dto));
+		groups[0] = null;
+		Assertions.assertEquals(List.of("group"), ((List<?>[]) dtoClass.getMethod("getGroups").invoke(dto))[0]);
+		// Withers return updated copies.
+		final Object updatedDto = dtoClass.getMethod("withCount", int.class).invoke(dto, 4);
+		Assertions.assertNotSame(dto, updatedDto);
+		Assertions.assertEquals(3, dtoClass.getMethod("getCount").invoke(dto));
+		Assertions.assertEquals(4, dtoClass.getMethod("getCount").invoke(updatedDto));
+		Assertions.assertEquals("code", dtoClass.getMethod("getCode").invoke(updatedDto));
+		Assertions.assertNotEquals(dto, updatedDto);
+		Assertions.assertEquals(dto, dtoClass.getMethod("withCount", int.class).invoke(updatedDto, 3));
+		Assertions.assertEquals(dto.hashCode(), dtoClass.getMethod("withCount", int.class).invoke(updatedDto, 3).hashCode());
+	}
+
+}
@@ -0,0 +1,52 @@
+package org.coldis.library.test.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.coldis.library.dto.DtoEmitter;
+import org.coldis.library.dto.DtoGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Native DTO emitter test.
+ */
+public class DtoJavaEmitterTest {
+
+	/**
+	 * Removes the whitespace from a source.
+	 *
+	 * @param  source Source.
+	 * @return        The source without whitespace.
+	 */
+	private static String removeWhitespace(
+			final String source) {
+		return source.replaceAll("\\s+", "");
+	}
+
+	/**
+	 * Tests that the native emitter writes the same DTOs as the default template
+	 * (apart from whitespace).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testNativeEmitter() throws Exception {
+		// Generates the test DTOs with both emitters.
+		final List<InMemoryDtoGenerator.Source> sources = Stream
+				.of(DtoTestObject.class, DtoTestObject2.class, HierarchyParentModel.class, HierarchyChildModel.class).map(InMemoryDtoGenerator.Source::read)
+				.toList();
+		final Map<String, String> velocityDtos = InMemoryDtoGenerator.generate(sources);
+		final Map<String, String> nativeDtos = InMemoryDtoGenerator.generate(sources,
+				"-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase());
+		// The same DTOs should be generated.
+		Assertions.assertEquals(4, velocityDtos.size());
+		Assertions.assertEquals(velocityDtos.keySet(), nativeDtos.keySet());
+		for (final String dtoName : velocityDtos.keySet()) {
+			Assertions.assertEquals(DtoJavaEmitterTest.removeWhitespace(velocityDtos.get(dtoName)),
+					DtoJavaEmitterTest.removeWhitespace(nativeDtos.get(dtoName)), dtoName);
+		}
+	}
+
+}
@@ -0,0 +1,332 @@
+package org.coldis.library.test.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.coldis.library.dto.DtoEmitter;
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.dto.DtoJsonSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+
+/**
+ * DTO JSON serializers test.
+ */
+public class DtoJsonTest {
+
+	/**
+	 * Native emitter option.
+	 */
+	private static final String NATIVE_EMITTER = "-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase();
+
+	/**
+	 * JSON module (in another namespace than the DTOs).
+	 */
+	private static final String JSON_MODULE = "org.coldis.library.test.dto.TestJsonDtoModule";
+
+	/**
+	 * JSON module option.
+	 */
+	private static final String JSON_MODULE_OPTION = "-A" + DtoGenerator.JSON_MODULE_OPTION + "=" + DtoJsonTest.JSON_MODULE;
+
+	/**
+	 * JSON item model.
+	 */
+	private static final InMemoryDtoGenerator.Source ITEM_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.JsonItemModel", """
+			package org.coldis.library.test.dto;
+
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", jackson = true)
+			public class JsonItemModel {
+
+				private String name;
+
+				public String getName() { return this.name; }
+
+				public void setName(final String name) { this.name = name; }
+
+			}
+			""");
+
+	/**
+	 * JSON model.
+	 */
+	private static final InMemoryDtoGenerator.Source MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.JsonModel", """
+			package org.coldis.library.test.dto;
+
+			import java.util.List;
+			import java.util.Map;
+
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", jackson = true)
+			public class JsonModel {
+
+				private String name;
+
+				private int count;
+
+				private long total;
+
+				private double ratio;
+
+				private float weight;
+
+				private boolean active;
+
+				private Integer boxed;
+
+				private JsonItemModel item;
+
+				private List<JsonItemModel> items;
+
+				private Map<String, Integer> scores;
+
+				private String[] tags;
+
+				public String getName() { return this.name; }
+
+				public void setName(final String name) { this.name = name; }
+
+				public int getCount() { return this.count; }
+
+				public void setCount(final int count) { this.count = count; }
+
+				public long getTotal() { return this.total; }
+
+				public void setTotal(final long total) { this.total = total; }
+
+				public double getRatio() { return this.ratio; }
+
+				public void setRatio(final double ratio) { this.ratio = ratio; }
+
+				public float getWeight() { return this.weight; }
+
+				public void setWeight(final float weight) { this.weight = weight; }
+
+				public boolean getActive() { return this.active; }
+
+				public void setActive(final boolean active) { this.active = active; }
+
+				public Integer getBoxed() { return this.boxed; }
+
+				public void setBoxed(final Integer boxed) { this.boxed = boxed; }
+
+				public JsonItemModel getItem() { return this.item; }
+
+				public void setItem(final JsonItemModel item) { this.item = item; }
+
+				public List<JsonItemModel> getItems() { return this.items; }
+
+				public void setItems(final List<JsonItemModel> items) { this.items = items; }
+
+				public Map<String, Integer> getScores() { return this.scores; }
+
+				public void setScores(final Map<String, Integer> scores) { this.scores = scores; }
+
+				public String[] getTags() { return this.tags; }
+
+				public void setTags(final String[] tags) { this.tags = tags; }
+
+			}
+			""");
+
+	/**
+	 * Immutable JSON model.
+	 */
+	private static final InMemoryDtoGenerator.Source IMMUTABLE_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.JsonImmutableModel",
+			"""
+					package org.coldis.library.test.dto;
+
+					import java.util.List;
+
+					import org.coldis.library.dto.DtoStyle;
+					import org.coldis.library.dto.DtoType;
+
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", style = DtoStyle.IMMUTABLE, jackson = true)
+					public class JsonImmutableModel {
+
+						private String name;
+
+						private int count;
+
+						private List<JsonItemModel> items;
+
+						public String getName() { return this.name; }
+
+						public void setName(final String name) { this.name = name; }
+
+						public int getCount() { return this.count; }
+
+						public void setCount(final int count) { this.count = count; }
+
+						public List<JsonItemModel> getItems() { return this.items; }
+
+						public void setItems(final List<JsonItemModel> items) { this.items = items; }
+
+					}
+					""");
+
+	/**
+	 * JSON child model (not supported, as its DTO has a parent DTO).
+	 */
+	private static final InMemoryDtoGenerator.Source CHILD_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.JsonChildModel", """
+			package org.coldis.library.test.dto;
+
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", jackson = true)
+			public class JsonChildModel extends JsonItemModel {
+
+				private String code;
+
+				public String getCode() { return this.code; }
+
+				public void setCode(final String code) { this.code = code; }
+
+			}
+			""");
+
+	/**
+	 * Full JSON of the model DTO.
+	 */
+	private static final String MODEL_JSON = """
+			{"name":"model","count":3,"total":9000000000,"ratio":0.5,"weight":1.25,"active":true,"boxed":null,"item":{"name":"a"},
+			"items":[{"name":"b"},null],"scores":{"c":1},"tags":["d","e"]}""".replace("\n", "");
+
+	/**
+	 * Compiles the models, DTOs and JSON serializers.
+	 *
+	 * @return The generated classes loader.
+	 */
+	private static ClassLoader compile() {
+		return new DtoClassEmitterTest.GeneratedClassLoader(
+				InMemoryDtoGenerator.compile(List.of(DtoJsonTest.ITEM_MODEL, DtoJsonTest.MODEL, DtoJsonTest.IMMUTABLE_MODEL, DtoJsonTest.CHILD_MODEL),
+						DtoJsonTest.NATIVE_EMITTER, DtoJsonTest.JSON_MODULE_OPTION));
+	}
+
+	/**
+	 * Creates an object mapper with the generated JSON module.
+	 *
+	 * @param  classLoader Generated classes loader.
+	 * @return             The object mapper.
+	 * @throws Exception   If the module cannot be created.
+	 */
+	private static ObjectMapper createMapper(
+			final ClassLoader classLoader) throws Exception {
+		return new ObjectMapper()
+				.registerModule((Module) classLoader.loadClass(DtoJsonTest.JSON_MODULE).getConstructor().newInstance());
+	}
+
+	/**
+	 * Tests that the generated serializers write and read the same JSON as the
+	 * bean serializers.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testJsonSerializers() throws Exception {
+		final ClassLoader classLoader = DtoJsonTest.compile();
+		final Class<?> dtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.JsonModelDto");
+		final ObjectMapper beanMapper = new ObjectMapper();
+		final ObjectMapper jsonMapper = DtoJsonTest.createMapper(classLoader);
+		// The generated serializer is used for the DTO.
+		Assertions.assertTrue(jsonMapper.getSerializerProviderInstance().findValueSerializer(dtoClass) instanceof DtoJsonSerializer);
+		Assertions.assertFalse(beanMapper.getSerializerProviderInstance().findValueSerializer(dtoClass) instanceof DtoJsonSerializer);
+		// The DTO is written and read as by the bean serializers.
+		final Object dto = beanMapper.readValue(DtoJsonTest.MODEL_JSON, dtoClass);
+		Assertions.assertEquals(beanMapper.writeValueAsString(dto), jsonMapper.writeValueAsString(dto));
+		Assertions.assertEquals(dto, jsonMapper.readValue(DtoJsonTest.MODEL_JSON, dtoClass));
+		Assertions.assertEquals(dto, jsonMapper.readValue(jsonMapper.writeValueAsBytes(dto), dtoClass));
+		// Empty objects and nulls are read as by the bean serializers.
+		Assertions.assertEquals(beanMapper.readValue("{}", dtoClass), jsonMapper.readValue("{}", dtoClass));
+		Assertions.assertNull(jsonMapper.readValue("null", dtoClass));
+		// Null values are skipped with the non null inclusion.
+		final Object emptyDto = beanMapper.readValue("{}", dtoClass);
+		beanMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		jsonMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		Assertions.assertEquals(beanMapper.writeValueAsString(emptyDto), jsonMapper.writeValueAsString(emptyDto));
+		Assertions.assertEquals(beanMapper.writeValueAsString(dto), jsonMapper.writeValueAsString(dto));
+		// Empty values are skipped with the non empty inclusion.
+		beanMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+		jsonMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+		final Object emptyValuesDto = beanMapper.readValue("{\"name\":\"\",\"items\":[],\"tags\":[]}", dtoClass);
+		Assertions.assertEquals(beanMapper.writeValueAsString(emptyValuesDto), jsonMapper.writeValueAsString(emptyValuesDto));
+	}
+
+	/**
+	 * Tests the generated serializers of immutable DTOs.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testImmutableJsonSerializers() throws Exception {
+		final ClassLoader classLoader = DtoJsonTest.compile();
+		final Class<?> dtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.JsonImmutableModelDto");
+		final ObjectMapper beanMapper = new ObjectMapper();
+		final ObjectMapper jsonMapper = DtoJsonTest.createMapper(classLoader);
+		// The DTO is created with the read properties (in any order).
+		final String json = "{\"items\":[{\"name\":\"a\"}],\"count\":2,\"name\":\"model\"}";
+		final Object dto = beanMapper.readValue(json, dtoClass);
+		Assertions.assertEquals(dto, jsonMapper.readValue(json, dtoClass));
+		Assertions.assertEquals(beanMapper.writeValueAsString(dto), jsonMapper.writeValueAsString(dto));
+		// Missing properties are created with the default values.
+		Assertions.assertEquals(beanMapper.readValue("{}", dtoClass), jsonMapper.readValue("{}", dtoClass));
+	}
+
+	/**
+	 * Tests unknown properties and the configurations keeping the bean
+	 * serializers.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testJsonSerializersFallback() throws Exception {
+		final ClassLoader classLoader = DtoJsonTest.compile();
+		final Class<?> dtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.JsonModelDto");
+		final Class<?> childDtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.JsonChildModelDto");
+		// Unknown properties fail (unless disabled), as with the bean serializers.
+		final String unknownJson = "{\"unknown\":{\"name\":\"a\"},\"count\":3}";
+		Assertions.assertThrows(UnrecognizedPropertyException.class, () -> DtoJsonTest.createMapper(classLoader).readValue(unknownJson, dtoClass));
+		final Object dto = DtoJsonTest.createMapper(classLoader).disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).readValue(unknownJson,
+				dtoClass);
+		Assertions.assertEquals(3, dtoClass.getMethod("getCount").invoke(dto));
+		// Naming strategies keep the bean serializers.
+		final ObjectMapper snakeCaseMapper = DtoJsonTest.createMapper(classLoader).setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+		Assertions.assertFalse(snakeCaseMapper.getSerializerProviderInstance().findValueSerializer(dtoClass) instanceof DtoJsonSerializer);
+		// Unsupported DTOs (with parent DTOs) keep the bean serializers.
+		Assertions.assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("org.coldis.library.test.dto.dto.JsonChildModelDtoJson"));
+		final ObjectMapper jsonMapper = DtoJsonTest.createMapper(classLoader);
+		final Object childDto = jsonMapper.readValue("{\"name\":\"a\",\"code\":\"b\"}", childDtoClass);
+		Assertions.assertEquals(new ObjectMapper().writeValueAsString(childDto), jsonMapper.writeValueAsString(childDto));
+	}
+
+	/**
+	 * Tests that the generated module is listed as a Jackson module service, and
+	 * that no module is generated by default.
+	 */
+	@Test
+	public void testJsonModuleService() {
+		final Map<String, byte[]> resources = InMemoryDtoGenerator.compileResources(List.of(DtoJsonTest.ITEM_MODEL, DtoJsonTest.CHILD_MODEL),
+				DtoJsonTest.NATIVE_EMITTER, DtoJsonTest.JSON_MODULE_OPTION);
+		Assertions.assertEquals(DtoJsonTest.JSON_MODULE + "\n",
+				new String(resources.get("/META-INF/services/com.fasterxml.jackson.databind.Module"), StandardCharsets.UTF_8));
+		// Without the option, the serializers are generated without a module.
+		final Map<String, String> generated = InMemoryDtoGenerator.generate(List.of(DtoJsonTest.ITEM_MODEL, DtoJsonTest.CHILD_MODEL),
+				DtoJsonTest.NATIVE_EMITTER);
+		Assertions.assertTrue(generated.containsKey("org.coldis.library.test.dto.dto.JsonItemModelDtoJson"));
+		Assertions.assertFalse(generated.containsKey(DtoJsonTest.JSON_MODULE));
+		Assertions.assertNull(InMemoryDtoGenerator.compileResources(List.of(DtoJsonTest.ITEM_MODEL, DtoJsonTest.CHILD_MODEL), DtoJsonTest.NATIVE_EMITTER)
+				.get("/META-INF/services/com.fasterxml.jackson.databind.Module"));
+	}
+
+}
@@ -0,0 +1,416 @@
+package org.coldis.library.test.dto;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.coldis.library.dto.DtoEmitter;
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.test.dto.dto.DtoTestObject2Dto;
+import org.coldis.library.test.dto.dto.DtoTestObjectDto;
+import org.coldis.library.test.dto.dto.DtoTestObjectDtoMapper;
+import org.coldis.library.test.dto.dto.HierarchyChildModelDto;
+import org.coldis.library.test.dto.dto.HierarchyChildModelDtoMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO mapper test.
+ */
+public class DtoMapperTest {
+
+	/**
+	 * Mapped item model.
+	 */
+	private static final InMemoryDtoGenerator.Source ITEM_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.MappedItemModel", """
+			package org.coldis.library.test.dto;
+
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", mapper = true)
+			public class MappedItemModel {
+
+				private String name;
+
+				public String getName() { return this.name; }
+
+				public void setName(final String name) { this.name = name; }
+
+				public static MappedItemModel of(final String name) {
+					final MappedItemModel item = new MappedItemModel();
+					item.setName(name);
+					return item;
+				}
+
+			}
+			""");
+
+	/**
+	 * Mapped model.
+	 */
+	private static final InMemoryDtoGenerator.Source MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.MappedModel", """
+			package org.coldis.library.test.dto;
+
+			import java.util.LinkedHashMap;
+			import java.util.LinkedHashSet;
+			import java.util.List;
+			import java.util.Map;
+			import java.util.Set;
+
+			import org.coldis.library.dto.DtoAttribute;
+			import org.coldis.library.dto.DtoType;
+
+			@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", mapper = true)
+			public class MappedModel {
+
+				private Set<MappedItemModel> itemSet;
+
+				private Map<String, MappedItemModel> itemMap;
+
+				private List<List<MappedItemModel>> itemLists;
+
+				private List<MappedItemModel[]> itemArrays;
+
+				private String code;
+
+				private long total;
+
+				public Set<MappedItemModel> getItemSet() { return this.itemSet; }
+
+				public void setItemSet(final Set<MappedItemModel> itemSet) { this.itemSet = itemSet; }
+
+				public Map<String, MappedItemModel> getItemMap() { return this.itemMap; }
+
+				public void setItemMap(final Map<String, MappedItemModel> itemMap) { this.itemMap = itemMap; }
+
+				public List<List<MappedItemModel>> getItemLists() { return this.itemLists; }
+
+				public void setItemLists(final List<List<MappedItemModel>> itemLists) { this.itemLists = itemLists; }
+
+				public List<MappedItemModel[]> getItemArrays() { return this.itemArrays; }
+
+				public void setItemArrays(final List<MappedItemModel[]> itemArrays) { this.itemArrays = itemArrays; }
+
+				@DtoAttribute(readOnly = true)
+				public String getCode() { return this.code; }
+
+				public void setCode(final String code) { this.code = code; }
+
+				@DtoAttribute(type = Long.class)
+				public long getTotal() { return this.total; }
+
+				public void setTotal(final long total) { this.total = total; }
+
+				public static MappedModel sample() {
+					final MappedModel model = new MappedModel();
+					model.setItemSet(new LinkedHashSet<>(List.of(MappedItemModel.of("b"), MappedItemModel.of("a"))));
+					final Map<String, MappedItemModel> itemMap = new LinkedHashMap<>();
+					itemMap.put("c", MappedItemModel.of("c"));
+					model.setItemMap(itemMap);
+					model.setItemLists(List.of(List.of(MappedItemModel.of("d")), List.of()));
+					model.setItemArrays(java.util.Arrays.asList(new MappedItemModel[] { MappedItemModel.of("e"), null }, null));
+					model.setCode("code");
+					model.setTotal(7);
+					return model;
+				}
+
+			}
+			""");
+
+	/**
+	 * Abstract mapped model.
+	 */
+	private static final InMemoryDtoGenerator.Source ABSTRACT_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.AbstractMappedModel",
+			"""
+					package org.coldis.library.test.dto;
+
+					import org.coldis.library.dto.DtoType;
+
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", mapper = true)
+					public abstract class AbstractMappedModel {
+
+						public abstract MappedItemModel getItem();
+
+					}
+					""");
+
+	/**
+	 * Immutable mapped model.
+	 */
+	private static final InMemoryDtoGenerator.Source IMMUTABLE_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.MappedImmutableModel",
+			"""
+					package org.coldis.library.test.dto;
+
+					import java.util.List;
+
+					import org.coldis.library.dto.DtoStyle;
+					import org.coldis.library.dto.DtoType;
+
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", style = DtoStyle.IMMUTABLE, mapper = true)
+					public class MappedImmutableModel {
+
+						private MappedItemModel item;
+
+						private List<MappedItemModel> items;
+
+						private int count;
+
+						public MappedItemModel getItem() { return this.item; }
+
+						public void setItem(final MappedItemModel item) { this.item = item; }
+
+						public List<MappedItemModel> getItems() { return this.items; }
+
+						public void setItems(final List<MappedItemModel> items) { this.items = items; }
+
+						public int getCount() { return this.count; }
+
+						public void setCount(final int count) { this.count = count; }
+
+						public static MappedImmutableModel sample() {
+							final MappedImmutableModel model = new MappedImmutableModel();
+							model.setItem(MappedItemModel.of("a"));
+							model.setItems(List.of(MappedItemModel.of("b")));
+							model.setCount(3);
+							return model;
+						}
+
+					}
+					""");
+
+	/**
+	 * Parent model without a mapper.
+	 */
+	private static final InMemoryDtoGenerator.Source UNMAPPED_PARENT_MODEL = new InMemoryDtoGenerator.Source(
+			"org.coldis.library.test.dto.UnmappedParentModel", """
+					package org.coldis.library.test.dto;
+
+					import org.coldis.library.dto.DtoType;
+
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto")
+					public class UnmappedParentModel {
+
+						private Long id;
+
+						private MappedItemModel parentItem;
+
+						public Long getId() { return this.id; }
+
+						public void setId(final Long id) { this.id = id; }
+
+						public MappedItemModel getParentItem() { return this.parentItem; }
+
+						public void setParentItem(final MappedItemModel parentItem) { this.parentItem = parentItem; }
+
+					}
+					""");
+
+	/**
+	 * Mapped model extending a parent model without a mapper.
+	 */
+	private static final InMemoryDtoGenerator.Source MAPPED_CHILD_MODEL = new InMemoryDtoGenerator.Source("org.coldis.library.test.dto.MappedChildModel",
+			"""
+					package org.coldis.library.test.dto;
+
+					import org.coldis.library.dto.DtoType;
+
+					@DtoType(targetPath = "src/test/java", namespace = "org.coldis.library.test.dto.dto", mapper = true)
+					public class MappedChildModel extends UnmappedParentModel {
+
+						private String childField;
+
+						public String getChildField() { return this.childField; }
+
+						public void setChildField(final String childField) { this.childField = childField; }
+
+						public static MappedChildModel sample() {
+							final MappedChildModel model = new MappedChildModel();
+							model.setId(1L);
+							model.setParentItem(MappedItemModel.of("a"));
+							model.setChildField("child");
+							return model;
+						}
+
+					}
+					""");
+
+	/**
+	 * Tests the mapper conversions (nested DTOs, collections, arrays and boxing).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testMapper() throws Exception {
+		// Compiles the models, DTOs and mappers.
+		final ClassLoader classLoader = new DtoClassEmitterTest.GeneratedClassLoader(
+				InMemoryDtoGenerator.compile(List.of(DtoMapperTest.ITEM_MODEL, DtoMapperTest.MODEL, DtoMapperTest.ABSTRACT_MODEL),
+						"-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase()));
+		final Class<?> modelClass = classLoader.loadClass("org.coldis.library.test.dto.MappedModel");
+		final Class<?> dtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.MappedModelDto");
+		final Class<?> itemDtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.MappedItemModelDto");
+		final Class<?> mapperClass = classLoader.loadClass("org.coldis.library.test.dto.dto.MappedModelDtoMapper");
+		// Converts a model to a DTO.
+		final Object model = modelClass.getMethod("sample").invoke(null);
+		final Object dto = mapperClass.getMethod("toDto", modelClass).invoke(null, model);
+		// Nested models are converted to DTOs (keeping the collections order).
+		final List<?> itemSet = List.copyOf((Set<?>) dtoClass.getMethod("getItemSet").invoke(dto));
+		Assertions.assertEquals(itemDtoClass, itemSet.get(0).getClass());
+		Assertions.assertEquals("b", DtoMapperTest.getName(itemSet.get(0)));
+		Assertions.assertEquals("a", DtoMapperTest.getName(itemSet.get(1)));
+		Assertions.assertEquals("c", DtoMapperTest.getName(((Map<?, ?>) dtoClass.getMethod("getItemMap").invoke(dto)).get("c")));
+		final List<?> itemLists = (List<?>) dtoClass.getMethod("getItemLists").invoke(dto);
+		Assertions.assertEquals("d", DtoMapperTest.getName(((List<?>) itemLists.get(0)).get(0)));
+		Assertions.assertEquals(List.of(), itemLists.get(1));
+		final List<?> itemArrays = (List<?>) dtoClass.getMethod("getItemArrays").invoke(dto);
+		Assertions.assertEquals(itemDtoClass, itemArrays.get(0).getClass().getComponentType());
+		Assertions.assertEquals("e", DtoMapperTest.getName(((Object[]) itemArrays.get(0))[0]));
+		Assertions.assertNull(((Object[]) itemArrays.get(0))[1]);
+		Assertions.assertNull(itemArrays.get(1));
+		// Primitives are boxed and read only attributes are set (without a setter).
+		Assertions.assertEquals(7L, dtoClass.getMethod("getTotal").invoke(dto));
+		Assertions.assertEquals("code", dtoClass.getMethod("getCode").invoke(dto));
+		Assertions.assertThrows(NoSuchMethodException.class, () -> dtoClass.getMethod("setCode", String.class));
+		// The DTO is converted back to an equal model (lists of arrays are compared
+		// by content, as their equals compares the arrays references).
+		final Object reconvertedModel = mapperClass.getMethod("toModel", dtoClass).invoke(null, dto);
+		final Object reconvertedDto = mapperClass.getMethod("toDto", modelClass).invoke(null, reconvertedModel);
+		Assertions.assertTrue(Arrays.deepEquals(itemArrays.toArray(), ((List<?>) dtoClass.getMethod("getItemArrays").invoke(reconvertedDto)).toArray()));
+		dtoClass.getMethod("setItemArrays", List.class).invoke(reconvertedDto, itemArrays);
+		Assertions.assertEquals(dto, reconvertedDto);
+		// Null wrappers are unboxed to the default value.
+		dtoClass.getMethod("setTotal", Long.class).invoke(dto, (Object) null);
+		Assertions.assertEquals(0L, modelClass.getMethod("getTotal").invoke(mapperClass.getMethod("toModel", dtoClass).invoke(null, dto)));
+		// Null values are converted to null.
+		Assertions.assertNull(mapperClass.getMethod("toDto", modelClass).invoke(null, (Object) null));
+		Assertions.assertNull(mapperClass.getMethod("toModel", dtoClass).invoke(null, (Object) null));
+		// Lists, arrays and map values are converted in bulk (without arrays
+		// attributes, as they are compared by reference).
+		modelClass.getMethod("setItemArrays", List.class).invoke(model, (Object) null);
+		final Object expectedDto = mapperClass.getMethod("toDto", modelClass).invoke(null, model);
+		Assertions.assertEquals(Arrays.asList(expectedDto, null), mapperClass.getMethod("toDtos", List.class).invoke(null, Arrays.asList(model, null)));
+		final Object modelArray = Array.newInstance(modelClass, 1);
+		Array.set(modelArray, 0, model);
+		final Object[] dtoArray = (Object[]) mapperClass.getMethod("toDtos", modelArray.getClass()).invoke(null, modelArray);
+		Assertions.assertEquals(dtoClass, dtoArray.getClass().getComponentType());
+		Assertions.assertEquals(expectedDto, dtoArray[0]);
+		Assertions.assertEquals(Map.of("a", expectedDto), mapperClass.getMethod("toDtos", Map.class).invoke(null, Map.of("a", model)));
+		Assertions.assertEquals(Map.of("a", expectedDto),
+				mapperClass.getMethod("toDtos", Map.class).invoke(null, mapperClass.getMethod("toModels", Map.class).invoke(null, Map.of("a", expectedDto))));
+		Assertions.assertEquals(List.of(expectedDto),
+				((Stream<?>) mapperClass.getMethod("toDtos", Stream.class).invoke(null, Stream.of(model))).toList());
+		// Models that cannot be created are only converted to DTOs.
+		final Class<?> abstractMapperClass = classLoader.loadClass("org.coldis.library.test.dto.dto.AbstractMappedModelDtoMapper");
+		Assertions.assertTrue(Arrays.stream(abstractMapperClass.getMethods()).anyMatch(method -> method.getName().equals("toDto")));
+		Assertions.assertTrue(Arrays.stream(abstractMapperClass.getMethods()).noneMatch(method -> method.getName().equals("toModel")));
+	}
+
+	/**
+	 * Tests the mapper of immutable DTOs.
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testImmutableMapper() throws Exception {
+		// Compiles the models, DTOs and mappers.
+		final ClassLoader classLoader = new DtoClassEmitterTest.GeneratedClassLoader(
+				InMemoryDtoGenerator.compile(List.of(DtoMapperTest.ITEM_MODEL, DtoMapperTest.IMMUTABLE_MODEL),
+						"-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase()));
+		final Class<?> modelClass = classLoader.loadClass("org.coldis.library.test.dto.MappedImmutableModel");
+		final Class<?> dtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.MappedImmutableModelDto");
+		final Class<?> mapperClass = classLoader.loadClass("org.coldis.library.test.dto.dto.MappedImmutableModelDtoMapper");
+		// The immutable DTO is created with the converted attributes.
+		final Object dto = mapperClass.getMethod("toDto", modelClass).invoke(null, modelClass.getMethod("sample").invoke(null));
+		Assertions.assertEquals("a", DtoMapperTest.getName(dtoClass.getMethod("getItem").invoke(dto)));
+		Assertions.assertEquals("b", DtoMapperTest.getName(((List<?>) dtoClass.getMethod("getItems").invoke(dto)).get(0)));
+		Assertions.assertEquals(3, dtoClass.getMethod("getCount").invoke(dto));
+		// The DTO is converted back to an equal model.
+		final Object reconvertedModel = mapperClass.getMethod("toModel", dtoClass).invoke(null, dto);
+		Assertions.assertEquals(dto, mapperClass.getMethod("toDto", modelClass).invoke(null, reconvertedModel));
+	}
+
+	/**
+	 * Tests the generated test object mappers (the attribute with an explicit type
+	 * not derived from the original type is not mapped, nested DTOs are copied and
+	 * arrays are copied).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testTestObjectMapper() throws Exception {
+		final DtoTestObjectDto originalDto = new DtoTestObjectDto().withId(10L).withTest1(new DtoTestObject2Dto().withId(1L).withTest("test1"))
+				.withTest2(List.of(new DtoTestObject2Dto().withId(2L).withTest("test2"), new DtoTestObject2Dto().withId(3L).withTest("test3")))
+				.withTest4(Map.of("id", 4L, "test", "test4"))
+				.withTest6(new DtoTestObject2Dto[] { new DtoTestObject2Dto().withId(5L).withTest("test5"), new DtoTestObject2Dto().withId(6L).withTest("test6") })
+				.withTest7(7).withTest88(new int[] { 2, 3, 4 }).withTest9(9).withTest11(11);
+		// Converts the DTO to the original object and back.
+		final DtoTestObject originalObject = DtoTestObjectDtoMapper.toModel(originalDto);
+		final DtoTestObjectDto reconvertedDto = DtoTestObjectDtoMapper.toDto(originalObject);
+		Assertions.assertNull(originalObject.getTest4());
+		Assertions.assertNull(reconvertedDto.getTest4());
+		Assertions.assertArrayEquals(new int[] { 2, 3, 4 }, originalObject.getTest8());
+		Assertions.assertNotSame(originalDto.getTest1(), reconvertedDto.getTest1());
+		// The DTO should remain the same (but for the not mapped attribute).
+		reconvertedDto.setTest4(originalDto.getTest4());
+		Assertions.assertEquals(originalDto, reconvertedDto);
+		// Read only attributes are copied to the DTO.
+		originalObject.setTest10(10);
+		Assertions.assertEquals(Integer.valueOf(10), DtoTestObjectDtoMapper.toDto(originalObject).getTest10());
+		// The hierarchy mappers convert the attributes of both layers.
+		final HierarchyChildModelDto childDto = new HierarchyChildModelDto();
+		childDto.setId(42L);
+		childDto.setParentField("from-parent");
+		childDto.setChildField("from-child");
+		final HierarchyChildModel childModel = HierarchyChildModelDtoMapper.toModel(childDto);
+		Assertions.assertEquals(42L, childModel.getId());
+		Assertions.assertEquals("from-parent", childModel.getParentField());
+		Assertions.assertEquals("from-child", childModel.getChildField());
+		Assertions.assertEquals(childDto, HierarchyChildModelDtoMapper.toDto(childModel));
+	}
+
+	/**
+	 * Tests the mapper of a DTO whose parent DTO has no mapper (the inherited
+	 * attributes are copied by the child mapper itself).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testMapperWithUnmappedParent() throws Exception {
+		// Compiles the models, DTOs and mappers.
+		final ClassLoader classLoader = new DtoClassEmitterTest.GeneratedClassLoader(
+				InMemoryDtoGenerator.compile(List.of(DtoMapperTest.ITEM_MODEL, DtoMapperTest.UNMAPPED_PARENT_MODEL, DtoMapperTest.MAPPED_CHILD_MODEL),
+						"-A" + DtoGenerator.EMITTER_OPTION + "=" + DtoEmitter.NATIVE.name().toLowerCase()));
+		final Class<?> modelClass = classLoader.loadClass("org.coldis.library.test.dto.MappedChildModel");
+		final Class<?> parentDtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.UnmappedParentModelDto");
+		final Class<?> dtoClass = classLoader.loadClass("org.coldis.library.test.dto.dto.MappedChildModelDto");
+		final Class<?> mapperClass = classLoader.loadClass("org.coldis.library.test.dto.dto.MappedChildModelDtoMapper");
+		// The child DTO still mirrors the parent DTO.
+		Assertions.assertEquals(parentDtoClass, dtoClass.getSuperclass());
+		Assertions.assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("org.coldis.library.test.dto.dto.UnmappedParentModelDtoMapper"));
+		// The inherited attributes are converted to the DTO.
+		final Object dto = mapperClass.getMethod("toDto", modelClass).invoke(null, modelClass.getMethod("sample").invoke(null));
+		Assertions.assertEquals(1L, dtoClass.getMethod("getId").invoke(dto));
+		Assertions.assertEquals("a", DtoMapperTest.getName(dtoClass.getMethod("getParentItem").invoke(dto)));
+		Assertions.assertEquals("child", dtoClass.getMethod("getChildField").invoke(dto));
+		// And back to the original object.
+		final Object reconvertedModel = mapperClass.getMethod("toModel", dtoClass).invoke(null, dto);
+		Assertions.assertEquals(1L, modelClass.getMethod("getId").invoke(reconvertedModel));
+		Assertions.assertEquals("a", DtoMapperTest.getName(modelClass.getMethod("getParentItem").invoke(reconvertedModel)));
+		Assertions.assertEquals(dto, mapperClass.getMethod("toDto", modelClass).invoke(null, reconvertedModel));
+	}
+
+	/**
+	 * Gets the name of an item DTO.
+	 *
+	 * @param  item Item DTO.
+	 * @return      The item name.
+	 * @throws Exception If the name cannot be read.
+	 */
+	private static String getName(
+			final Object item) throws Exception {
+		return (String) item.getClass().getMethod("getName").invoke(item);
+	}
+
+}
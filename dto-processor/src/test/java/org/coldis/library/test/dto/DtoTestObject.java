@@ -17,7 +17,8 @@ import jakarta.validation.constraints.NotNull;
  */
 @DtoType(
 		targetPath = "src/test/java",
-		namespace = "org.coldis.library.test.dto.dto"
+		namespace = "org.coldis.library.test.dto.dto",
+		mapper = true
 )
 public class DtoTestObject implements Identifiable {
 
@@ -8,7 +8,8 @@ import org.coldis.library.model.Identifiable;
  */
 @DtoType(
 		targetPath = "src/test/java",
-		namespace = "org.coldis.library.test.dto.dto"
+		namespace = "org.coldis.library.test.dto.dto",
+		mapper = true
 )
 public class DtoTestObject2 implements Identifiable {
 
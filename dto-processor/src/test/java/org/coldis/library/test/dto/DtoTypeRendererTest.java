@@ -0,0 +1,41 @@
+package org.coldis.library.test.dto;
+
+import java.util.Map;
+
+import org.coldis.library.dto.DtoTypeRenderer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DTO type renderer test.
+ */
+public class DtoTypeRendererTest {
+
+	/**
+	 * Tests that only whole qualified names are replaced (names prefixing others
+	 * are not).
+	 *
+	 * @throws Exception If the test does not succeed.
+	 */
+	@Test
+	public void testReplaceQualifiedNamesPrefix() throws Exception {
+		// Simple names.
+		final Map<String, String> simpleDtoTypes = Map.of("Foo", "FooDto");
+		Assertions.assertEquals("FooDto", DtoTypeRenderer.replaceQualifiedNames("Foo", simpleDtoTypes));
+		Assertions.assertEquals("FooBar", DtoTypeRenderer.replaceQualifiedNames("FooBar", simpleDtoTypes));
+		Assertions.assertEquals("java.util.Map<FooBar, FooDto>", DtoTypeRenderer.replaceQualifiedNames("java.util.Map<FooBar, Foo>", simpleDtoTypes));
+		// Qualified names.
+		final Map<String, String> qualifiedDtoTypes = Map.of("a.b.Foo", "a.b.dto.FooDto", "a.b.FooBar", "a.b.dto.FooBarDto");
+		Assertions.assertEquals("a.b.dto.FooDto", DtoTypeRenderer.replaceQualifiedNames("a.b.Foo", qualifiedDtoTypes));
+		Assertions.assertEquals("a.b.dto.FooBarDto", DtoTypeRenderer.replaceQualifiedNames("a.b.FooBar", qualifiedDtoTypes));
+		Assertions.assertEquals("a.b.FooBaz", DtoTypeRenderer.replaceQualifiedNames("a.b.FooBaz", qualifiedDtoTypes));
+		Assertions.assertEquals("x.a.b.Foo", DtoTypeRenderer.replaceQualifiedNames("x.a.b.Foo", qualifiedDtoTypes));
+		Assertions.assertEquals("java.util.List<a.b.dto.FooBarDto>[]", DtoTypeRenderer.replaceQualifiedNames("java.util.List<a.b.FooBar>[]", qualifiedDtoTypes));
+		Assertions.assertEquals("java.util.Map<a.b.dto.FooDto, a.b.dto.FooBarDto>",
+				DtoTypeRenderer.replaceQualifiedNames("java.util.Map<a.b.Foo, a.b.FooBar>", qualifiedDtoTypes));
+		// Nothing to replace.
+		Assertions.assertEquals("a.b.Foo", DtoTypeRenderer.replaceQualifiedNames("a.b.Foo", Map.of()));
+		Assertions.assertNull(DtoTypeRenderer.replaceQualifiedNames(null, qualifiedDtoTypes));
+	}
+
+}
@@ -12,7 +12,8 @@ import org.coldis.library.model.Nameable;
 @DtoType(
 		targetPath = "src/test/java",
 		namespace = "org.coldis.library.test.dto.dto",
-		interfaces = { Nameable.class }
+		interfaces = { Nameable.class },
+		mapper = true
 )
 public class HierarchyChildModel extends HierarchyParentModel implements Nameable {
 
@@ -12,7 +12,8 @@ import org.coldis.library.model.Identifiable;
 @DtoType(
 		targetPath = "src/test/java",
 		namespace = "org.coldis.library.test.dto.dto",
-		interfaces = { Identifiable.class }
+		interfaces = { Identifiable.class },
+		mapper = true
 )
 public class HierarchyParentModel implements Identifiable {
 
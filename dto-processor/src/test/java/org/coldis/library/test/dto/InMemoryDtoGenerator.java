@@ -0,0 +1,258 @@
+package org.coldis.library.test.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.lang3.StringUtils;
+import org.coldis.library.dto.DtoGenerator;
+import org.coldis.library.dto.DtoOutput;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Runs the DTO generator over in memory sources, keeping the generated DTOs in
+ * memory.
+ */
+public class InMemoryDtoGenerator {
+
+	/**
+	 * In memory source file.
+	 */
+	public static class Source extends SimpleJavaFileObject {
+
+		/**
+		 * Source content.
+		 */
+		private final String content;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param qualifiedName Class qualified name.
+		 * @param content       Source content.
+		 */
+		public Source(final String qualifiedName, final String content) {
+			super(URI.create("memory:///" + qualifiedName.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.content = content;
+		}
+
+		/**
+		 * Reads a test class source (from the test sources directory).
+		 *
+		 * @param  type Test class.
+		 * @return      The test class source.
+		 */
+		public static Source read(
+				final Class<?> type) {
+			// Tries to read the source.
+			try {
+				return new Source(type.getName(),
+						Files.readString(Path.of("src", "test", "java").resolve(type.getName().replace('.', File.separatorChar) + Kind.SOURCE.extension)));
+			}
+			// If the source cannot be read.
+			catch (final IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#getCharContent(boolean)
+		 */
+		@Override
+		public CharSequence getCharContent(
+				final boolean ignoreEncodingErrors) {
+			return this.content;
+		}
+
+	}
+
+	/**
+	 * In memory generated file.
+	 */
+	private static class Output extends SimpleJavaFileObject {
+
+		/**
+		 * Generated content.
+		 */
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param name File name.
+		 * @param kind File kind.
+		 */
+		Output(final String name, final Kind kind) {
+			super(URI.create("memory:///output/" + name), kind);
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#openOutputStream()
+		 */
+		@Override
+		public OutputStream openOutputStream() {
+			return this.content;
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#openInputStream()
+		 */
+		@Override
+		public InputStream openInputStream() {
+			return new ByteArrayInputStream(this.content.toByteArray());
+		}
+
+		/**
+		 * @see javax.tools.SimpleJavaFileObject#getCharContent(boolean)
+		 */
+		@Override
+		public CharSequence getCharContent(
+				final boolean ignoreEncodingErrors) {
+			return this.content.toString(StandardCharsets.UTF_8);
+		}
+
+	}
+
+	/**
+	 * Runs the DTO generator (writing through the filer) over sources in memory.
+	 *
+	 * @param  sources Sources.
+	 * @param  options Additional processor options.
+	 * @return         The generated files content by class name.
+	 */
+	public static Map<String, String> generate(
+			final List<? extends JavaFileObject> sources,
+			final String... options) {
+		final Map<String, String> generated = new HashMap<>();
+		InMemoryDtoGenerator.generateFiles(sources, options).forEach((name, content) -> generated.put(name, new String(content, StandardCharsets.UTF_8)));
+		return generated;
+	}
+
+	/**
+	 * Runs the compiler with the DTO generator (writing through the filer) over
+	 * sources in memory.
+	 *
+	 * @param  sources         Sources.
+	 * @param  processingMode  Annotation processing mode (<code>-proc</code>
+	 *                             option).
+	 * @param  options         Additional processor options.
+	 * @return                 The generated files by class name and kind
+	 *                         extension (or by resource name).
+	 */
+	private static Map<String, Output> run(
+			final List<? extends JavaFileObject> sources,
+			final String processingMode,
+			final String... options) {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final Map<String, Output> outputs = new HashMap<>();
+		final StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+		final JavaFileManager fileManager = new ForwardingJavaFileManager<>(standardFileManager) {
+
+			@Override
+			public JavaFileObject getJavaFileForOutput(
+					final Location location,
+					final String className,
+					final JavaFileObject.Kind kind,
+					final FileObject sibling) {
+				return outputs.computeIfAbsent(className + kind.extension, name -> new Output(className.replace('.', '/') + kind.extension, kind));
+			}
+
+			@Override
+			public FileObject getFileForOutput(
+					final Location location,
+					final String packageName,
+					final String relativeName,
+					final FileObject sibling) {
+				return outputs.computeIfAbsent(packageName + "/" + relativeName, name -> new Output(name, JavaFileObject.Kind.OTHER));
+			}
+
+		};
+		final List<String> compilerOptions = new ArrayList<>(List.of("-proc:" + processingMode, "-processor", DtoGenerator.class.getName(),
+				"-A" + DtoGenerator.OUTPUT_OPTION + "=" + DtoOutput.FILER.name().toLowerCase(), "-classpath", System.getProperty("java.class.path")));
+		compilerOptions.addAll(List.of(options));
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		final Boolean compiled = compiler.getTask(null, fileManager, diagnostics, compilerOptions, null, sources).call();
+		Assertions.assertTrue(compiled, "Sources should be processed: " + diagnostics.getDiagnostics());
+		return outputs;
+	}
+
+	/**
+	 * Runs the DTO generator (writing through the filer) over sources in memory.
+	 *
+	 * @param  sources Sources.
+	 * @param  options Additional processor options.
+	 * @return         The generated files (sources, resources or class files) by
+	 *                 class name.
+	 */
+	public static Map<String, byte[]> generateFiles(
+			final List<? extends JavaFileObject> sources,
+			final String... options) {
+		final Map<String, byte[]> generated = new HashMap<>();
+		InMemoryDtoGenerator.run(sources, "only", options)
+				.forEach((name, output) -> generated.put(StringUtils.removeEnd(name, output.getKind().extension), output.content.toByteArray()));
+		return generated;
+	}
+
+	/**
+	 * Runs the DTO generator over sources in memory and compiles the sources and
+	 * the generated DTOs.
+	 *
+	 * @param  sources Sources.
+	 * @param  options Additional processor options.
+	 * @return         The compiled class files by class name.
+	 */
+	public static Map<String, byte[]> compile(
+			final List<? extends JavaFileObject> sources,
+			final String... options) {
+		final Map<String, byte[]> compiled = new HashMap<>();
+		InMemoryDtoGenerator.run(sources, "full", options).forEach((name, output) -> {
+			if (output.getKind() == JavaFileObject.Kind.CLASS) {
+				compiled.put(StringUtils.removeEnd(name, JavaFileObject.Kind.CLASS.extension), output.content.toByteArray());
+			}
+		});
+		return compiled;
+	}
+
+	/**
+	 * Runs the DTO generator over sources in memory, compiles the sources and
+	 * the generated DTOs, and gets the generated resources.
+	 *
+	 * @param  sources Sources.
+	 * @param  options Additional processor options.
+	 * @return         The generated resources by resource name.
+	 */
+	public static Map<String, byte[]> compileResources(
+			final List<? extends JavaFileObject> sources,
+			final String... options) {
+		final Map<String, byte[]> resources = new HashMap<>();
+		InMemoryDtoGenerator.run(sources, "full", options).forEach((name, output) -> {
+			if (output.getKind() == JavaFileObject.Kind.OTHER) {
+				resources.put(name, output.content.toByteArray());
+			}
+		});
+		return resources;
+	}
+
+}
@@ -102,15 +102,10 @@ public class DtoTestObject2Dto implements Serializable {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + Objects.hash(
-id
-
-,
-test
-
-
-
-			);
+		int attributesHash = 1;
+		attributesHash = prime * attributesHash + Objects.hashCode(id);
+		attributesHash = prime * attributesHash + Objects.hashCode(test);
+		result = prime * result + attributesHash;
 		return result;
 	}
 	
@@ -129,10 +124,10 @@ test
 			return false;
 		}
 		final DtoTestObject2Dto other = (DtoTestObject2Dto) obj;
-		if (! Objects.equals(id, other.id)) {
+		if (!Objects.equals(id, other.id)) {
 			return false;
 		}
-		if (! Objects.equals(test, other.test)) {
+		if (!Objects.equals(test, other.test)) {
 			return false;
 		}
 		return true;
@@ -0,0 +1,163 @@
+package org.coldis.library.test.dto.dto;
+
+/**
+ * Converts {@link org.coldis.library.test.dto.DtoTestObject2} objects to {@link DtoTestObject2Dto} and back.
+ */
+public final class DtoTestObject2DtoMapper {
+
+	/**
+	 * No instances.
+	 */
+	private DtoTestObject2DtoMapper() {
+		super();
+	}
+
+	/**
+	 * Copies the original object attributes to a DTO.
+	 *
+	 * @param model Original object.
+	 * @param dto   DTO.
+	 */
+	public static void copyToDto(
+			final org.coldis.library.test.dto.DtoTestObject2 model,
+			final DtoTestObject2Dto dto) {
+		dto.setId(model.getId());
+		dto.setTest(model.getTest());
+	}
+
+	/**
+	 * Converts an original object to a DTO.
+	 *
+	 * @param  model Original object.
+	 * @return       The DTO (or null for null objects).
+	 */
+	public static DtoTestObject2Dto toDto(
+			final org.coldis.library.test.dto.DtoTestObject2 model) {
+		if (model == null) {
+			return null;
+		}
+		final DtoTestObject2Dto dto = new DtoTestObject2Dto();
+		DtoTestObject2DtoMapper.copyToDto(model, dto);
+		return dto;
+	}
+
+	/**
+	 * Converts a list to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<DtoTestObject2Dto> toDtos(
+			final java.util.List<? extends org.coldis.library.test.dto.DtoTestObject2> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, DtoTestObject2DtoMapper::toDto);
+	}
+
+	/**
+	 * Converts an array to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static DtoTestObject2Dto[] toDtos(
+			final org.coldis.library.test.dto.DtoTestObject2[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, DtoTestObject2DtoMapper::toDto, DtoTestObject2Dto[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, DtoTestObject2Dto> toDtos(
+			final java.util.Map<Key, ? extends org.coldis.library.test.dto.DtoTestObject2> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, DtoTestObject2DtoMapper::toDto);
+	}
+
+	/**
+	 * Converts a stream to DTOs lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<DtoTestObject2Dto> toDtos(
+			final java.util.stream.Stream<? extends org.coldis.library.test.dto.DtoTestObject2> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, DtoTestObject2DtoMapper::toDto);
+	}
+
+	/**
+	 * Copies the DTO attributes to an original object.
+	 *
+	 * @param dto   DTO.
+	 * @param model Original object.
+	 */
+	public static void copyToModel(
+			final DtoTestObject2Dto dto,
+			final org.coldis.library.test.dto.DtoTestObject2 model) {
+		model.setId(dto.getId());
+		model.setTest(dto.getTest());
+	}
+
+	/**
+	 * Converts a DTO to an original object.
+	 *
+	 * @param  dto DTO.
+	 * @return     The original object (or null for null DTOs).
+	 */
+	public static org.coldis.library.test.dto.DtoTestObject2 toModel(
+			final DtoTestObject2Dto dto) {
+		if (dto == null) {
+			return null;
+		}
+		final org.coldis.library.test.dto.DtoTestObject2 model = new org.coldis.library.test.dto.DtoTestObject2();
+		DtoTestObject2DtoMapper.copyToModel(dto, model);
+		return model;
+	}
+
+	/**
+	 * Converts a list to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<org.coldis.library.test.dto.DtoTestObject2> toModels(
+			final java.util.List<? extends DtoTestObject2Dto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, DtoTestObject2DtoMapper::toModel);
+	}
+
+	/**
+	 * Converts an array to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static org.coldis.library.test.dto.DtoTestObject2[] toModels(
+			final DtoTestObject2Dto[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, DtoTestObject2DtoMapper::toModel, org.coldis.library.test.dto.DtoTestObject2[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, org.coldis.library.test.dto.DtoTestObject2> toModels(
+			final java.util.Map<Key, ? extends DtoTestObject2Dto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, DtoTestObject2DtoMapper::toModel);
+	}
+
+	/**
+	 * Converts a stream to original objects lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<org.coldis.library.test.dto.DtoTestObject2> toModels(
+			final java.util.stream.Stream<? extends DtoTestObject2Dto> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, DtoTestObject2DtoMapper::toModel);
+	}
+
+}
@@ -445,40 +445,17 @@ public class DtoTestObjectDto implements Serializable {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + Objects.hash(
-id
-
-,
-test1
-
-,
-test2
-
-,
-test3
-
-,
-test4
-
-,
-test5
-
-
-,
-test7
-
-
-
-,
-test10
-
-,
-test11
-
-
-
-
-			);
+		int attributesHash = 1;
+		attributesHash = prime * attributesHash + Objects.hashCode(id);
+		attributesHash = prime * attributesHash + Objects.hashCode(test1);
+		attributesHash = prime * attributesHash + Objects.hashCode(test2);
+		attributesHash = prime * attributesHash + Objects.hashCode(test3);
+		attributesHash = prime * attributesHash + Objects.hashCode(test4);
+		attributesHash = prime * attributesHash + Objects.hashCode(test5);
+		attributesHash = prime * attributesHash + Integer.hashCode(test7);
+		attributesHash = prime * attributesHash + Objects.hashCode(test10);
+		attributesHash = prime * attributesHash + Objects.hashCode(test11);
+		result = prime * result + attributesHash;
 		result = prime * result + Arrays.hashCode(test6);
 		result = prime * result + Arrays.hashCode(test88);
 		return result;
@@ -499,37 +476,37 @@ test11
 			return false;
 		}
 		final DtoTestObjectDto other = (DtoTestObjectDto) obj;
-		if (! Objects.equals(id, other.id)) {
+		if (!Objects.equals(id, other.id)) {
 			return false;
 		}
-		if (! Objects.equals(test1, other.test1)) {
+		if (!Objects.equals(test1, other.test1)) {
 			return false;
 		}
-		if (! Objects.equals(test2, other.test2)) {
+		if (!Objects.equals(test2, other.test2)) {
 			return false;
 		}
-		if (! Objects.equals(test3, other.test3)) {
+		if (!Objects.equals(test3, other.test3)) {
 			return false;
 		}
-		if (! Objects.equals(test4, other.test4)) {
+		if (!Objects.equals(test4, other.test4)) {
 			return false;
 		}
-		if (! Objects.equals(test5, other.test5)) {
+		if (!Objects.equals(test5, other.test5)) {
 			return false;
 		}
-		if (! Arrays.equals(test6, other.test6)) {
+		if (!Arrays.equals(test6, other.test6)) {
 			return false;
 		}
-		if (! Objects.equals(test7, other.test7)) {
+		if (test7 != other.test7) {
 			return false;
 		}
-		if (! Arrays.equals(test88, other.test88)) {
+		if (!Arrays.equals(test88, other.test88)) {
 			return false;
 		}
-		if (! Objects.equals(test10, other.test10)) {
+		if (!Objects.equals(test10, other.test10)) {
 			return false;
 		}
-		if (! Objects.equals(test11, other.test11)) {
+		if (!Objects.equals(test11, other.test11)) {
 			return false;
 		}
 		return true;
@@ -0,0 +1,259 @@
+package org.coldis.library.test.dto.dto;
+
+/**
+ * Converts {@link org.coldis.library.test.dto.DtoTestObject} objects to {@link DtoTestObjectDto} and back.
+ * Attributes not mapped in (at least) one direction: <code>test4</code>.
+ */
+public final class DtoTestObjectDtoMapper {
+
+	/**
+	 * No instances.
+	 */
+	private DtoTestObjectDtoMapper() {
+		super();
+	}
+
+	/**
+	 * <code>test10</code> field (read only, so written directly).
+	 */
+	private static final java.lang.invoke.VarHandle TEST10_FIELD = org.coldis.library.dto.DtoFieldWriter.find(java.lang.invoke.MethodHandles.lookup(), DtoTestObjectDto.class, "test10");
+
+	/**
+	 * Copies the original object attributes to a DTO.
+	 *
+	 * @param model Original object.
+	 * @param dto   DTO.
+	 */
+	public static void copyToDto(
+			final org.coldis.library.test.dto.DtoTestObject model,
+			final DtoTestObjectDto dto) {
+		DtoTestObjectDtoMapper.TEST10_FIELD.set(dto, model.getTest10());
+		dto.setId(model.getId());
+		dto.setTest1(org.coldis.library.test.dto.dto.DtoTestObject2DtoMapper.toDto(model.getTest1()));
+		dto.setTest2(test2ToDto(model.getTest2()));
+		dto.setTest3(model.getTest3());
+		dto.setTest6(test6ToDto(model.getTest6()));
+		dto.setTest7(model.getTest7());
+		dto.setTest88(model.getTest8());
+		dto.setTest9(model.getTest9());
+		dto.setTest11(model.getTest11());
+		dto.setTest12(model.getTest12());
+	}
+
+	/**
+	 * Converts an original object to a DTO.
+	 *
+	 * @param  model Original object.
+	 * @return       The DTO (or null for null objects).
+	 */
+	public static DtoTestObjectDto toDto(
+			final org.coldis.library.test.dto.DtoTestObject model) {
+		if (model == null) {
+			return null;
+		}
+		final DtoTestObjectDto dto = new DtoTestObjectDto();
+		DtoTestObjectDtoMapper.copyToDto(model, dto);
+		return dto;
+	}
+
+	/**
+	 * Converts a list to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<DtoTestObjectDto> toDtos(
+			final java.util.List<? extends org.coldis.library.test.dto.DtoTestObject> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, DtoTestObjectDtoMapper::toDto);
+	}
+
+	/**
+	 * Converts an array to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static DtoTestObjectDto[] toDtos(
+			final org.coldis.library.test.dto.DtoTestObject[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, DtoTestObjectDtoMapper::toDto, DtoTestObjectDto[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, DtoTestObjectDto> toDtos(
+			final java.util.Map<Key, ? extends org.coldis.library.test.dto.DtoTestObject> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, DtoTestObjectDtoMapper::toDto);
+	}
+
+	/**
+	 * Converts a stream to DTOs lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<DtoTestObjectDto> toDtos(
+			final java.util.stream.Stream<? extends org.coldis.library.test.dto.DtoTestObject> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, DtoTestObjectDtoMapper::toDto);
+	}
+
+	/**
+	 * Copies the DTO attributes to an original object.
+	 *
+	 * @param dto   DTO.
+	 * @param model Original object.
+	 */
+	public static void copyToModel(
+			final DtoTestObjectDto dto,
+			final org.coldis.library.test.dto.DtoTestObject model) {
+		model.setId(dto.getId());
+		model.setTest1(org.coldis.library.test.dto.dto.DtoTestObject2DtoMapper.toModel(dto.getTest1()));
+		model.setTest2(test2ToModel(dto.getTest2()));
+		model.setTest3(dto.getTest3());
+		model.setTest6(test6ToModel(dto.getTest6()));
+		model.setTest7(dto.getTest7());
+		model.setTest8(dto.getTest88());
+		model.setTest9(dto.getTest9());
+		model.setTest10(dto.getTest10());
+		model.setTest11(dto.getTest11());
+		model.setTest12(dto.getTest12());
+	}
+
+	/**
+	 * Converts a DTO to an original object.
+	 *
+	 * @param  dto DTO.
+	 * @return     The original object (or null for null DTOs).
+	 */
+	public static org.coldis.library.test.dto.DtoTestObject toModel(
+			final DtoTestObjectDto dto) {
+		if (dto == null) {
+			return null;
+		}
+		final org.coldis.library.test.dto.DtoTestObject model = new org.coldis.library.test.dto.DtoTestObject();
+		DtoTestObjectDtoMapper.copyToModel(dto, model);
+		return model;
+	}
+
+	/**
+	 * Converts a list to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<org.coldis.library.test.dto.DtoTestObject> toModels(
+			final java.util.List<? extends DtoTestObjectDto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, DtoTestObjectDtoMapper::toModel);
+	}
+
+	/**
+	 * Converts an array to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static org.coldis.library.test.dto.DtoTestObject[] toModels(
+			final DtoTestObjectDto[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, DtoTestObjectDtoMapper::toModel, org.coldis.library.test.dto.DtoTestObject[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, org.coldis.library.test.dto.DtoTestObject> toModels(
+			final java.util.Map<Key, ? extends DtoTestObjectDto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, DtoTestObjectDtoMapper::toModel);
+	}
+
+	/**
+	 * Converts a stream to original objects lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<org.coldis.library.test.dto.DtoTestObject> toModels(
+			final java.util.stream.Stream<? extends DtoTestObjectDto> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, DtoTestObjectDtoMapper::toModel);
+	}
+
+	/**
+	 * Converts the test2 to the DTO type.
+	 *
+	 * @param  value Value.
+	 * @return       The converted value.
+	 */
+	private static java.util.List<org.coldis.library.test.dto.dto.DtoTestObject2Dto> test2ToDto(
+			final java.util.List<org.coldis.library.test.dto.DtoTestObject2> value) {
+		if (value == null) {
+			return null;
+		}
+		final java.util.List<org.coldis.library.test.dto.dto.DtoTestObject2Dto> converted = new java.util.ArrayList<>(value.size());
+		for (final org.coldis.library.test.dto.DtoTestObject2 element : value) {
+			converted.add(org.coldis.library.test.dto.dto.DtoTestObject2DtoMapper.toDto(element));
+		}
+		return converted;
+	}
+
+	/**
+	 * Converts the test2 to the original type.
+	 *
+	 * @param  value Value.
+	 * @return       The converted value.
+	 */
+	private static java.util.List<org.coldis.library.test.dto.DtoTestObject2> test2ToModel(
+			final java.util.List<org.coldis.library.test.dto.dto.DtoTestObject2Dto> value) {
+		if (value == null) {
+			return null;
+		}
+		final java.util.List<org.coldis.library.test.dto.DtoTestObject2> converted = new java.util.ArrayList<>(value.size());
+		for (final org.coldis.library.test.dto.dto.DtoTestObject2Dto element : value) {
+			converted.add(org.coldis.library.test.dto.dto.DtoTestObject2DtoMapper.toModel(element));
+		}
+		return converted;
+	}
+
+	/**
+	 * Converts the test6 to the DTO type.
+	 *
+	 * @param  value Value.
+	 * @return       The converted value.
+	 */
+	private static org.coldis.library.test.dto.dto.DtoTestObject2Dto[] test6ToDto(
+			final org.coldis.library.test.dto.DtoTestObject2[] value) {
+		if (value == null) {
+			return null;
+		}
+		final org.coldis.library.test.dto.dto.DtoTestObject2Dto[] converted = new org.coldis.library.test.dto.dto.DtoTestObject2Dto[value.length];
+		for (int index = 0; index < value.length; index++) {
+			converted[index] = org.coldis.library.test.dto.dto.DtoTestObject2DtoMapper.toDto(value[index]);
+		}
+		return converted;
+	}
+
+	/**
+	 * Converts the test6 to the original type.
+	 *
+	 * @param  value Value.
+	 * @return       The converted value.
+	 */
+	private static org.coldis.library.test.dto.DtoTestObject2[] test6ToModel(
+			final org.coldis.library.test.dto.dto.DtoTestObject2Dto[] value) {
+		if (value == null) {
+			return null;
+		}
+		final org.coldis.library.test.dto.DtoTestObject2[] converted = new org.coldis.library.test.dto.DtoTestObject2[value.length];
+		for (int index = 0; index < value.length; index++) {
+			converted[index] = org.coldis.library.test.dto.dto.DtoTestObject2DtoMapper.toModel(value[index]);
+		}
+		return converted;
+	}
+
+}
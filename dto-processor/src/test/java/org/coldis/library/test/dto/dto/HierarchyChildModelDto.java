@@ -102,15 +102,10 @@ public class HierarchyChildModelDto extends org.coldis.library.test.dto.dto.Hier
 	public int hashCode() {
 		final int prime = 31;
 		int result = super.hashCode();
-		result = prime * result + Objects.hash(
-name
-
-,
-childField
-
-
-
-			);
+		int attributesHash = 1;
+		attributesHash = prime * attributesHash + Objects.hashCode(name);
+		attributesHash = prime * attributesHash + Objects.hashCode(childField);
+		result = prime * result + attributesHash;
 		return result;
 	}
 	
@@ -126,10 +121,10 @@ childField
 			return false;
 		}
 		final HierarchyChildModelDto other = (HierarchyChildModelDto) obj;
-		if (! Objects.equals(name, other.name)) {
+		if (!Objects.equals(name, other.name)) {
 			return false;
 		}
-		if (! Objects.equals(childField, other.childField)) {
+		if (!Objects.equals(childField, other.childField)) {
 			return false;
 		}
 		return true;
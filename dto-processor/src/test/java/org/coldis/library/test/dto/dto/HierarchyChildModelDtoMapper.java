@@ -0,0 +1,165 @@
+package org.coldis.library.test.dto.dto;
+
+/**
+ * Converts {@link org.coldis.library.test.dto.HierarchyChildModel} objects to {@link HierarchyChildModelDto} and back.
+ */
+public final class HierarchyChildModelDtoMapper {
+
+	/**
+	 * No instances.
+	 */
+	private HierarchyChildModelDtoMapper() {
+		super();
+	}
+
+	/**
+	 * Copies the original object attributes to a DTO.
+	 *
+	 * @param model Original object.
+	 * @param dto   DTO.
+	 */
+	public static void copyToDto(
+			final org.coldis.library.test.dto.HierarchyChildModel model,
+			final HierarchyChildModelDto dto) {
+		org.coldis.library.test.dto.dto.HierarchyParentModelDtoMapper.copyToDto(model, dto);
+		dto.setName(model.getName());
+		dto.setChildField(model.getChildField());
+	}
+
+	/**
+	 * Converts an original object to a DTO.
+	 *
+	 * @param  model Original object.
+	 * @return       The DTO (or null for null objects).
+	 */
+	public static HierarchyChildModelDto toDto(
+			final org.coldis.library.test.dto.HierarchyChildModel model) {
+		if (model == null) {
+			return null;
+		}
+		final HierarchyChildModelDto dto = new HierarchyChildModelDto();
+		HierarchyChildModelDtoMapper.copyToDto(model, dto);
+		return dto;
+	}
+
+	/**
+	 * Converts a list to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<HierarchyChildModelDto> toDtos(
+			final java.util.List<? extends org.coldis.library.test.dto.HierarchyChildModel> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, HierarchyChildModelDtoMapper::toDto);
+	}
+
+	/**
+	 * Converts an array to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static HierarchyChildModelDto[] toDtos(
+			final org.coldis.library.test.dto.HierarchyChildModel[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, HierarchyChildModelDtoMapper::toDto, HierarchyChildModelDto[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, HierarchyChildModelDto> toDtos(
+			final java.util.Map<Key, ? extends org.coldis.library.test.dto.HierarchyChildModel> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, HierarchyChildModelDtoMapper::toDto);
+	}
+
+	/**
+	 * Converts a stream to DTOs lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<HierarchyChildModelDto> toDtos(
+			final java.util.stream.Stream<? extends org.coldis.library.test.dto.HierarchyChildModel> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, HierarchyChildModelDtoMapper::toDto);
+	}
+
+	/**
+	 * Copies the DTO attributes to an original object.
+	 *
+	 * @param dto   DTO.
+	 * @param model Original object.
+	 */
+	public static void copyToModel(
+			final HierarchyChildModelDto dto,
+			final org.coldis.library.test.dto.HierarchyChildModel model) {
+		org.coldis.library.test.dto.dto.HierarchyParentModelDtoMapper.copyToModel(dto, model);
+		model.setName(dto.getName());
+		model.setChildField(dto.getChildField());
+	}
+
+	/**
+	 * Converts a DTO to an original object.
+	 *
+	 * @param  dto DTO.
+	 * @return     The original object (or null for null DTOs).
+	 */
+	public static org.coldis.library.test.dto.HierarchyChildModel toModel(
+			final HierarchyChildModelDto dto) {
+		if (dto == null) {
+			return null;
+		}
+		final org.coldis.library.test.dto.HierarchyChildModel model = new org.coldis.library.test.dto.HierarchyChildModel();
+		HierarchyChildModelDtoMapper.copyToModel(dto, model);
+		return model;
+	}
+
+	/**
+	 * Converts a list to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<org.coldis.library.test.dto.HierarchyChildModel> toModels(
+			final java.util.List<? extends HierarchyChildModelDto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, HierarchyChildModelDtoMapper::toModel);
+	}
+
+	/**
+	 * Converts an array to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static org.coldis.library.test.dto.HierarchyChildModel[] toModels(
+			final HierarchyChildModelDto[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, HierarchyChildModelDtoMapper::toModel, org.coldis.library.test.dto.HierarchyChildModel[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, org.coldis.library.test.dto.HierarchyChildModel> toModels(
+			final java.util.Map<Key, ? extends HierarchyChildModelDto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, HierarchyChildModelDtoMapper::toModel);
+	}
+
+	/**
+	 * Converts a stream to original objects lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<org.coldis.library.test.dto.HierarchyChildModel> toModels(
+			final java.util.stream.Stream<? extends HierarchyChildModelDto> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, HierarchyChildModelDtoMapper::toModel);
+	}
+
+}
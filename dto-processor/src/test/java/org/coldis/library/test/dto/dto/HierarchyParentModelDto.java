@@ -102,15 +102,10 @@ public class HierarchyParentModelDto implements Serializable, org.coldis.library
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + Objects.hash(
-id
-
-,
-parentField
-
-
-
-			);
+		int attributesHash = 1;
+		attributesHash = prime * attributesHash + Objects.hashCode(id);
+		attributesHash = prime * attributesHash + Objects.hashCode(parentField);
+		result = prime * result + attributesHash;
 		return result;
 	}
 	
@@ -129,10 +124,10 @@ parentField
 			return false;
 		}
 		final HierarchyParentModelDto other = (HierarchyParentModelDto) obj;
-		if (! Objects.equals(id, other.id)) {
+		if (!Objects.equals(id, other.id)) {
 			return false;
 		}
-		if (! Objects.equals(parentField, other.parentField)) {
+		if (!Objects.equals(parentField, other.parentField)) {
 			return false;
 		}
 		return true;
@@ -0,0 +1,163 @@
+package org.coldis.library.test.dto.dto;
+
+/**
+ * Converts {@link org.coldis.library.test.dto.HierarchyParentModel} objects to {@link HierarchyParentModelDto} and back.
+ */
+public final class HierarchyParentModelDtoMapper {
+
+	/**
+	 * No instances.
+	 */
+	private HierarchyParentModelDtoMapper() {
+		super();
+	}
+
+	/**
+	 * Copies the original object attributes to a DTO.
+	 *
+	 * @param model Original object.
+	 * @param dto   DTO.
+	 */
+	public static void copyToDto(
+			final org.coldis.library.test.dto.HierarchyParentModel model,
+			final HierarchyParentModelDto dto) {
+		dto.setId(model.getId());
+		dto.setParentField(model.getParentField());
+	}
+
+	/**
+	 * Converts an original object to a DTO.
+	 *
+	 * @param  model Original object.
+	 * @return       The DTO (or null for null objects).
+	 */
+	public static HierarchyParentModelDto toDto(
+			final org.coldis.library.test.dto.HierarchyParentModel model) {
+		if (model == null) {
+			return null;
+		}
+		final HierarchyParentModelDto dto = new HierarchyParentModelDto();
+		HierarchyParentModelDtoMapper.copyToDto(model, dto);
+		return dto;
+	}
+
+	/**
+	 * Converts a list to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<HierarchyParentModelDto> toDtos(
+			final java.util.List<? extends org.coldis.library.test.dto.HierarchyParentModel> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, HierarchyParentModelDtoMapper::toDto);
+	}
+
+	/**
+	 * Converts an array to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static HierarchyParentModelDto[] toDtos(
+			final org.coldis.library.test.dto.HierarchyParentModel[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, HierarchyParentModelDtoMapper::toDto, HierarchyParentModelDto[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to DTOs (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, HierarchyParentModelDto> toDtos(
+			final java.util.Map<Key, ? extends org.coldis.library.test.dto.HierarchyParentModel> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, HierarchyParentModelDtoMapper::toDto);
+	}
+
+	/**
+	 * Converts a stream to DTOs lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<HierarchyParentModelDto> toDtos(
+			final java.util.stream.Stream<? extends org.coldis.library.test.dto.HierarchyParentModel> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, HierarchyParentModelDtoMapper::toDto);
+	}
+
+	/**
+	 * Copies the DTO attributes to an original object.
+	 *
+	 * @param dto   DTO.
+	 * @param model Original object.
+	 */
+	public static void copyToModel(
+			final HierarchyParentModelDto dto,
+			final org.coldis.library.test.dto.HierarchyParentModel model) {
+		model.setId(dto.getId());
+		model.setParentField(dto.getParentField());
+	}
+
+	/**
+	 * Converts a DTO to an original object.
+	 *
+	 * @param  dto DTO.
+	 * @return     The original object (or null for null DTOs).
+	 */
+	public static org.coldis.library.test.dto.HierarchyParentModel toModel(
+			final HierarchyParentModelDto dto) {
+		if (dto == null) {
+			return null;
+		}
+		final org.coldis.library.test.dto.HierarchyParentModel model = new org.coldis.library.test.dto.HierarchyParentModel();
+		HierarchyParentModelDtoMapper.copyToModel(dto, model);
+		return model;
+	}
+
+	/**
+	 * Converts a list to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted list, in the same order (or null for null sources).
+	 */
+	public static java.util.List<org.coldis.library.test.dto.HierarchyParentModel> toModels(
+			final java.util.List<? extends HierarchyParentModelDto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertList(sources, HierarchyParentModelDtoMapper::toModel);
+	}
+
+	/**
+	 * Converts an array to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted array, in the same order (or null for null sources).
+	 */
+	public static org.coldis.library.test.dto.HierarchyParentModel[] toModels(
+			final HierarchyParentModelDto[] sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertArray(sources, HierarchyParentModelDtoMapper::toModel, org.coldis.library.test.dto.HierarchyParentModel[]::new);
+	}
+
+	/**
+	 * Converts the values of a map to original objects (in parallel above the bulk threshold, if enabled).
+	 *
+	 * @param  <Key>   Key type.
+	 * @param  sources Sources.
+	 * @return         The map with the converted values, in the same order (or null for null sources).
+	 */
+	public static <Key> java.util.Map<Key, org.coldis.library.test.dto.HierarchyParentModel> toModels(
+			final java.util.Map<Key, ? extends HierarchyParentModelDto> sources) {
+		return org.coldis.library.dto.DtoBulkMapper.convertValues(sources, HierarchyParentModelDtoMapper::toModel);
+	}
+
+	/**
+	 * Converts a stream to original objects lazily (in batches, as the stream is consumed).
+	 *
+	 * @param  sources Sources.
+	 * @return         The converted stream, in the same order (or null for null sources).
+	 */
+	public static java.util.stream.Stream<org.coldis.library.test.dto.HierarchyParentModel> toModels(
+			final java.util.stream.Stream<? extends HierarchyParentModelDto> sources) {
+		return org.coldis.library.dto.DtoStreamMapper.convert(sources, HierarchyParentModelDtoMapper::toModel);
+	}
+
+}